@@ -16,7 +16,6 @@ import java.net.http.HttpClient;
 import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.net.http.HttpResponse.BodyHandlers;
 import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.sql.Timestamp;
@@ -71,6 +70,8 @@ public class JsonToArrowStream implements Closeable
     private final Map<String, String> authHeaders;
     private final String acceptHeader;
     private final PaginationConfig paginationConfig;
+    private final int partitionIndex;
+    private final int partitionCount;
     private final ObjectMapper objectMapper;
 
     /**
@@ -91,6 +92,37 @@ public class JsonToArrowStream implements Closeable
      */
     public JsonToArrowStream(String url, String dataPath, List<RestFieldDefinition> fieldDefs,
             Map<String, String> authHeaders, PaginationConfig paginationConfig, String acceptHeader)
+    {
+        this(url, dataPath, fieldDefs, authHeaders, paginationConfig, acceptHeader, 0, 1);
+    }
+
+    /**
+     * Creates a streaming instance that reads one partition of the pages.
+     *
+     * <p>For offset and page pagination, partition {@code partitionIndex} of {@code partitionCount}
+     * reads every {@code partitionCount}-th page, starting with page {@code partitionIndex}, so
+     * the partitions read disjoint pages. Other pagination types read all pages.
+     *
+     * @param url
+     *            the base URL to fetch
+     * @param dataPath
+     *            optional JSON path to the data array (may be null)
+     * @param fieldDefs
+     *            the field definitions
+     * @param authHeaders
+     *            optional authentication headers (may be null)
+     * @param paginationConfig
+     *            optional pagination configuration (may be null for non-paginated APIs)
+     * @param acceptHeader
+     *            value for the HTTP {@code Accept} header (e.g. {@code "application/json"})
+     * @param partitionIndex
+     *            the index of the partition to read, from 0
+     * @param partitionCount
+     *            the number of partitions
+     */
+    public JsonToArrowStream(String url, String dataPath, List<RestFieldDefinition> fieldDefs,
+            Map<String, String> authHeaders, PaginationConfig paginationConfig, String acceptHeader,
+            int partitionIndex, int partitionCount)
     {
         this.baseUrl = url;
         this.dataPath = dataPath;
@@ -98,6 +130,8 @@ public class JsonToArrowStream implements Closeable
         this.authHeaders = authHeaders;
         this.acceptHeader = acceptHeader;
         this.paginationConfig = paginationConfig;
+        this.partitionIndex = partitionIndex;
+        this.partitionCount = Math.max(partitionCount, 1);
         this.objectMapper = new ObjectMapper();
     }
 
@@ -121,9 +155,10 @@ public class JsonToArrowStream implements Closeable
     @SuppressWarnings("PMD.CloseResource")
     public void streamTo(RowWriter writer) throws IOException, InterruptedException
     {
-        // Pagination state
-        int currentOffset = paginationConfig != null ? paginationConfig.getInitialOffset() : 0;
-        int currentPage = paginationConfig != null ? paginationConfig.getInitialPage() : 1;
+        // Pagination state, starting at the first page of the partition
+        int currentOffset = paginationConfig != null
+                ? paginationConfig.getInitialOffset() + partitionIndex * paginationConfig.getPageSize() : 0;
+        int currentPage = paginationConfig != null ? paginationConfig.getInitialPage() + partitionIndex : 1;
         String nextCursor = null;
         String nextPageUrl = null;
         int totalPagesFetched = 0;
@@ -140,13 +175,14 @@ public class JsonToArrowStream implements Closeable
             }
 
             final HttpRequest request = buildRequest(url);
-            final HttpResponse<InputStream> response = HTTP_CLIENT.send(request, BodyHandlers.ofInputStream());
+            final HttpResponse<InputStream> response = RestConnectorUtils.send(HTTP_CLIENT, request);
 
             if (response.statusCode() / 100 != HTTP_STATUS_2XX) {
                 throw new IOException("HTTP request failed with status " + response.statusCode());
             }
 
             final HttpHeaders headers = response.headers();
+            final InputStream body = RestConnectorUtils.decodeResponseBody(response);
 
             // For link_header pagination, extract next URL from response headers
             if (paginationConfig != null && "link_header".equals(paginationConfig.getType())) {
@@ -160,7 +196,7 @@ public class JsonToArrowStream implements Closeable
             if (paginationConfig != null &&
                 ("cursor".equals(paginationConfig.getType()) || "next_url".equals(paginationConfig.getType()))) {
 
-                final JsonNode rootNode = objectMapper.readTree(response.body());
+                final JsonNode rootNode = objectMapper.readTree(body);
 
                 if ("cursor".equals(paginationConfig.getType())) {
                     final JsonNode cursorNode = extractJsonPath(rootNode, paginationConfig.getNextCursorPath());
@@ -183,17 +219,17 @@ public class JsonToArrowStream implements Closeable
             } else {
                 // Streaming parse for offset/page/link_header/no-pagination
                 final JsonFactory factory = new JsonFactory();
-                try (JsonParser jsonParser = factory.createParser(response.body())) {
+                try (JsonParser jsonParser = factory.createParser(body)) {
                     recordsInPage = streamParserToWriter(jsonParser, writer);
                 }
             }
 
-            // Advance pagination state
+            // Advance pagination state to the next page of the partition
             if (paginationConfig != null) {
                 if ("offset".equals(paginationConfig.getType())) {
-                    currentOffset += paginationConfig.getPageSize();
+                    currentOffset += partitionCount * paginationConfig.getPageSize();
                 } else if ("page".equals(paginationConfig.getType())) {
-                    currentPage++;
+                    currentPage += partitionCount;
                 }
             }
 
@@ -402,6 +438,7 @@ public class JsonToArrowStream implements Closeable
                 .uri(URI.create(url))
                 .timeout(Duration.ofSeconds(HTTP_TIMEOUT_SECONDS))
                 .header("Accept", acceptHeader)
+                .header("Accept-Encoding", RestConnectorUtils.ACCEPT_ENCODING)
                 .header("User-Agent", "CP4D-REST-Connector/1.0")
                 .GET();
         if (authHeaders != null) {
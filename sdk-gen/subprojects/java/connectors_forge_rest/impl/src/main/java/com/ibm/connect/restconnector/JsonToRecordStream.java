@@ -16,7 +16,6 @@ import java.net.http.HttpClient;
 import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.net.http.HttpResponse.BodyHandlers;
 import java.sql.Date;
 import java.sql.Timestamp;
 import java.time.Duration;
@@ -213,6 +212,7 @@ public class JsonToRecordStream implements Iterator<Record>, Closeable
                 .uri(URI.create(currentUrl))
                 .timeout(Duration.ofSeconds(HTTP_TIMEOUT_SECONDS))
                 .header("Accept", acceptHeader)
+                .header("Accept-Encoding", RestConnectorUtils.ACCEPT_ENCODING)
                 .header("User-Agent", "CP4D-REST-Connector/1.0");
 
         // Add authentication headers if provided
@@ -225,7 +225,7 @@ public class JsonToRecordStream implements Iterator<Record>, Closeable
 
         final HttpRequest request = requestBuilder.GET().build();
 
-        final HttpResponse<InputStream> response = httpClient.send(request, BodyHandlers.ofInputStream());
+        final HttpResponse<InputStream> response = RestConnectorUtils.send(httpClient, request);
 
         if (response.statusCode() != HTTP_OK) {
             throw new IOException("HTTP request failed with status " + response.statusCode());
@@ -239,7 +239,7 @@ public class JsonToRecordStream implements Iterator<Record>, Closeable
             nextPageUrl = extractLinkHeader(lastResponseHeaders);
         }
 
-        responseStream = response.body();
+        responseStream = RestConnectorUtils.decodeResponseBody(response);
         totalPagesFetched++;
         
         // For cursor and next_url pagination, we need to parse the full response to extract metadata
@@ -436,6 +436,7 @@ public class JsonToRecordStream implements Iterator<Record>, Closeable
                 .uri(URI.create(nextUrl))
                 .timeout(Duration.ofSeconds(HTTP_TIMEOUT_SECONDS))
                 .header("Accept", acceptHeader)
+                .header("Accept-Encoding", RestConnectorUtils.ACCEPT_ENCODING)
                 .header("User-Agent", "CP4D-REST-Connector/1.0")
                 .GET();
 
@@ -447,7 +448,7 @@ public class JsonToRecordStream implements Iterator<Record>, Closeable
         }
 
         final HttpRequest request = requestBuilder.build();
-        final HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        final HttpResponse<InputStream> response = RestConnectorUtils.send(httpClient, request);
 
         if (response.statusCode() != HTTP_OK) {
             throw new IOException("HTTP request failed with status code: " + response.statusCode());
@@ -463,7 +464,7 @@ public class JsonToRecordStream implements Iterator<Record>, Closeable
         }
 
         // Open new stream
-        responseStream = response.body();
+        responseStream = RestConnectorUtils.decodeResponseBody(response);
 
         // Increment page counter
         totalPagesFetched++;
@@ -5,8 +5,22 @@
 /* *************************************************** */
 package com.ibm.connect.restconnector;
 
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
 import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.slf4j.Logger;
 
+import com.ibm.connect.sdk.util.HostRateLimiter;
+import com.ibm.connect.sdk.util.RetryBackoff;
 import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
 
 /**
@@ -14,6 +28,17 @@ import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
  */
 public final class RestConnectorUtils
 {
+    /**
+     * Value of the {@code Accept-Encoding} request header for the content codings {@link #decodeResponseBody} decodes.
+     */
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private static final Logger LOGGER = getLogger(RestConnectorUtils.class);
+
+    private static final int DECODE_BUFFER_SIZE = 8192;
+
+    private static final RetryBackoff RETRY_BACKOFF = RetryBackoff.DEFAULT;
+
     private RestConnectorUtils()
     {
         // Prevent instantiation
@@ -90,6 +115,80 @@ public final class RestConnectorUtils
         throw new IllegalArgumentException("Cannot determine table name from path=" + path + ", name=" + name);
     }
 
+    /**
+     * Returns the body of a response, decompressed while it is read if the server compressed it.
+     *
+     * @param response
+     *            the response, with its body as a stream
+     * @return the decoded body
+     * @throws IOException if the content coding is not supported
+     */
+    public static InputStream decodeResponseBody(HttpResponse<InputStream> response) throws IOException
+    {
+        final String contentEncoding = response.headers().firstValue("Content-Encoding").orElse("identity")
+                .trim().toLowerCase(Locale.ENGLISH);
+        switch (contentEncoding) {
+        case "gzip":
+        case "x-gzip":
+            return new GZIPInputStream(response.body(), DECODE_BUFFER_SIZE);
+        case "deflate":
+            return new InflaterInputStream(response.body());
+        case "identity":
+        case "":
+            return response.body();
+        default:
+            response.body().close();
+            throw new IOException("Unsupported Content-Encoding: " + contentEncoding);
+        }
+    }
+
+    /**
+     * Sends a request within the limits of its host, see {@link HostRateLimiter}. A GET or HEAD request which the
+     * server throttled or could not serve for a while (429, 502, 503, 504) is sent again after a delay, the one
+     * given by {@code Retry-After} if any; the last response is returned whatever its status.
+     *
+     * <p>The request only counts against the concurrency of the host until its response headers arrive,
+     * so that reading a large body does not hold back other requests.
+     *
+     * @param httpClient
+     *            the client sending the request
+     * @param request
+     *            the request
+     * @return the response, with its body as a stream
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws InterruptedException
+     *             if interrupted while waiting or sending the request
+     */
+    public static HttpResponse<InputStream> send(HttpClient httpClient, HttpRequest request) throws IOException, InterruptedException
+    {
+        final HostRateLimiter rateLimiter = HostRateLimiter.forHost(request.uri().getRawAuthority());
+        final boolean idempotent = "GET".equals(request.method()) || "HEAD".equals(request.method());
+        for (int retry = 0;; retry++) {
+            final HostRateLimiter.Permit permit = rateLimiter.acquire();
+            final HttpResponse<InputStream> response;
+            boolean throttled = false;
+            try {
+                response = httpClient.send(request, BodyHandlers.ofInputStream());
+                throttled = RetryBackoff.isRetryableStatus(response.statusCode());
+            }
+            finally {
+                permit.release(throttled);
+            }
+            if (!throttled || !idempotent || retry >= RETRY_BACKOFF.getMaxRetries()) {
+                return response;
+            }
+            response.body().close();
+            final Long retryAfterMillis = RetryBackoff.parseRetryAfter(response.headers().firstValue("Retry-After").orElse(null));
+            final long delay = RETRY_BACKOFF.delayMillis(retry, retryAfterMillis);
+            if (retryAfterMillis != null) {
+                rateLimiter.pauseFor(delay);
+            }
+            LOGGER.warn("{} {} returned status {}, retrying in {} ms", request.method(), request.uri(), response.statusCode(), delay);
+            Thread.sleep(delay);
+        }
+    }
+
 }
 
 // Made with Bob
\ No newline at end of file
@@ -10,6 +10,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
@@ -51,6 +52,8 @@ public class RestInputInteraction implements SdkInputInteraction
     private final String tableName;
     private final RestTableDefinition tableDef;
     private final Map<String, Object> connectionProperties;
+    private final int partitionCount;
+    private final TicketInfo ticketInfo;
 
     /**
      * Creates a REST input interaction.
@@ -85,8 +88,9 @@ public class RestInputInteraction implements SdkInputInteraction
                     + "Available tables: " + apiMapping.getTables().keySet());
         }
 
-        if (ticket != null) {
-            final TicketInfo ticketInfo = modelMapper.fromBytes(ticket.getBytes(), TicketInfo.class);
+        partitionCount = asset.getPartitionCount() != null ? asset.getPartitionCount() : 1;
+        ticketInfo = (ticket != null) ? modelMapper.fromBytes(ticket.getBytes(), TicketInfo.class) : null;
+        if (ticketInfo != null) {
             LOGGER.debug("Ticket info: {}", ticketInfo);
         }
     }
@@ -103,11 +107,32 @@ public class RestInputInteraction implements SdkInputInteraction
     public List<Ticket> getTickets() throws Exception
     {
         final String requestId = UUID.randomUUID().toString();
-        final TicketInfo ticketInfo = new TicketInfo()
-                .requestId(requestId)
-                .partitionIndex(0);
-        final byte[] ticketBytes = modelMapper.toBytes(ticketInfo);
-        return Collections.singletonList(new Ticket(ticketBytes));
+        if (!isPartitioningSupported()) {
+            final TicketInfo singleTicketInfo = new TicketInfo()
+                    .requestId(requestId)
+                    .partitionIndex(0);
+            final byte[] ticketBytes = modelMapper.toBytes(singleTicketInfo);
+            return Collections.singletonList(new Ticket(ticketBytes));
+        }
+        final List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < partitionCount; i++) {
+            tickets.add(new Ticket(modelMapper.toBytes(new TicketInfo().requestId(requestId).partitionIndex(i))));
+        }
+        return tickets;
+    }
+
+    /**
+     * Returns true if the table is read in partitions. Each partition reads every N-th page,
+     * which requires offset or page pagination where any page can be requested directly.
+     *
+     * @return true if the interaction supports partitioning
+     */
+    private boolean isPartitioningSupported()
+    {
+        final PaginationConfig paginationConfig = tableDef.getPaginationConfig();
+        return partitionCount > 1 && paginationConfig != null
+                && (paginationConfig.getTypeEnum() == PaginationType.OFFSET
+                        || paginationConfig.getTypeEnum() == PaginationType.PAGE);
     }
 
     /**
@@ -125,13 +150,17 @@ public class RestInputInteraction implements SdkInputInteraction
         final Map<String, String> authHeaders = buildAuthHeaders();
         final String acceptHeader = connector.getApiMapping().getAcceptHeader();
 
+        final boolean partitioned = ticketInfo != null && isPartitioningSupported();
+        final int partitionIndex = partitioned && ticketInfo.getPartitionIndex() != null ? ticketInfo.getPartitionIndex() : 0;
         final JsonToArrowStream jsonStream = new JsonToArrowStream(
                 url,
                 tableDef.getDataPath(),
                 tableDef.getFields(),
                 authHeaders,
                 tableDef.getPaginationConfig(),
-                acceptHeader);
+                acceptHeader,
+                partitionIndex,
+                partitioned ? partitionCount : 1);
 
         try {
             jsonStream.streamTo(writer);
@@ -0,0 +1,110 @@
+/* *************************************************** */
+
+/* (C) Copyright IBM Corp. 2026                        */
+
+/* *************************************************** */
+package com.ibm.connect.restconnector;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.wdp.connect.sdk.connector.RowWriter;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests that compressed responses are requested and decompressed while they are streamed.
+ */
+public class TestCompressedResponse
+{
+    private static final String BODY = "[{\"id\":1},{\"id\":2},{\"id\":3}]";
+
+    private HttpServer server;
+    private final List<String> acceptEncodings = new ArrayList<>();
+
+    @Before
+    public void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/gzip", exchange -> {
+            acceptEncodings.add(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody())) {
+                out.write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.createContext("/deflate", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Content-Encoding", "deflate");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = new DeflaterOutputStream(exchange.getResponseBody())) {
+                out.write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void stopServer()
+    {
+        server.stop(0);
+    }
+
+    @Test
+    public void testGzipResponse() throws Exception
+    {
+        assertEquals(List.of(1L, 2L, 3L), read("/gzip"));
+        assertEquals(List.of(RestConnectorUtils.ACCEPT_ENCODING), acceptEncodings);
+    }
+
+    @Test
+    public void testDeflateResponse() throws Exception
+    {
+        assertEquals(List.of(1L, 2L, 3L), read("/deflate"));
+    }
+
+    private List<Long> read(String path) throws Exception
+    {
+        final String url = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + path;
+        final List<Long> ids = new ArrayList<>();
+        final RowWriter writer = new RowWriter()
+        {
+            @Override
+            public void startRow()
+            {
+                // Nothing to prepare
+            }
+
+            @Override
+            public void set(String fieldName, Object value)
+            {
+                ids.add((Long) value);
+            }
+
+            @Override
+            public void endRow()
+            {
+                // Nothing to complete
+            }
+        };
+        try (JsonToArrowStream stream = new JsonToArrowStream(url, null,
+                List.of(new RestFieldDefinition("id", "BIGINT", true, true)), null, null, "application/json")) {
+            stream.streamTo(writer);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,139 @@
+/* *************************************************** */
+
+/* (C) Copyright IBM Corp. 2026                        */
+
+/* *************************************************** */
+package com.ibm.connect.restconnector;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.wdp.connect.sdk.connector.RowWriter;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests that the partitions of a paginated table read disjoint pages which together cover all rows.
+ */
+public class TestPartitionedRead
+{
+    private static final int ROW_COUNT = 10;
+    private static final int PAGE_SIZE = 3;
+
+    private HttpServer server;
+    private final List<String> requestedQueries = Collections.synchronizedList(new ArrayList<>());
+
+    @Before
+    public void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/items", exchange -> {
+            final String query = exchange.getRequestURI().getQuery();
+            requestedQueries.add(query);
+            final Map<String, String> params = new TreeMap<>();
+            for (final String param : query.split("&")) {
+                final String[] nameValue = param.split("=", 2);
+                params.put(nameValue[0], nameValue[1]);
+            }
+            final int first = params.containsKey("offset")
+                    ? Integer.parseInt(params.get("offset"))
+                    : (Integer.parseInt(params.get("page")) - 1) * PAGE_SIZE;
+            final StringBuilder body = new StringBuilder("[");
+            for (int id = first; id < Math.min(first + PAGE_SIZE, ROW_COUNT); id++) {
+                body.append(id > first ? "," : "").append("{\"id\":").append(id).append('}');
+            }
+            final byte[] bytes = body.append(']').toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void stopServer()
+    {
+        server.stop(0);
+    }
+
+    /**
+     * Offset pagination: partition 0 of 2 reads offsets 0 and 6, partition 1 reads offsets 3 and 9.
+     * Partition 0 only stops at offset 12, as its last page is full.
+     */
+    @Test
+    public void testOffsetPartitions() throws Exception
+    {
+        final PaginationConfig pagination = new PaginationConfig(PaginationType.OFFSET, "offset", null, "limit",
+                PAGE_SIZE, 0, 1, null, null, null);
+        assertEquals(List.of(0L, 1L, 2L, 6L, 7L, 8L), readPartition(pagination, 0, 2));
+        assertEquals(List.of(3L, 4L, 5L, 9L), readPartition(pagination, 1, 2));
+        assertEquals(List.of("offset=0&limit=3", "offset=6&limit=3", "offset=12&limit=3",
+                "offset=3&limit=3", "offset=9&limit=3"), requestedQueries);
+    }
+
+    /**
+     * Page pagination: each of 3 partitions reads every third page.
+     */
+    @Test
+    public void testPagePartitions() throws Exception
+    {
+        final PaginationConfig pagination = new PaginationConfig(PaginationType.PAGE, null, "page", "per_page",
+                PAGE_SIZE, 0, 1, null, null, null);
+        final List<Long> ids = new ArrayList<>();
+        for (int partition = 0; partition < 3; partition++) {
+            ids.addAll(readPartition(pagination, partition, 3));
+        }
+        Collections.sort(ids);
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), ids);
+        // Pages 1 and 4, 2 and 5, 3 and 6
+        assertEquals(6, requestedQueries.size());
+    }
+
+    private List<Long> readPartition(PaginationConfig pagination, int partitionIndex, int partitionCount)
+            throws Exception
+    {
+        final String url = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/items";
+        final List<Long> ids = new ArrayList<>();
+        final RowWriter writer = new RowWriter()
+        {
+            @Override
+            public void startRow()
+            {
+                // Nothing to prepare
+            }
+
+            @Override
+            public void set(String fieldName, Object value)
+            {
+                ids.add((Long) value);
+            }
+
+            @Override
+            public void endRow()
+            {
+                // Nothing to complete
+            }
+        };
+        try (JsonToArrowStream stream = new JsonToArrowStream(url, null,
+                List.of(new RestFieldDefinition("id", "BIGINT", true, true)), null, pagination, "application/json",
+                partitionIndex, partitionCount)) {
+            stream.streamTo(writer);
+        }
+        return ids;
+    }
+}
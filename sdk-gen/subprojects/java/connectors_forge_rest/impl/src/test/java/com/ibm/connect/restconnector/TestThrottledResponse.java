@@ -0,0 +1,89 @@
+/* *************************************************** */
+
+/* (C) Copyright IBM Corp. 2026                        */
+
+/* *************************************************** */
+package com.ibm.connect.restconnector;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests that throttled requests are sent again, and only when they are idempotent.
+ */
+public class TestThrottledResponse
+{
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private HttpServer server;
+    private String baseUrl;
+
+    @Before
+    public void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        // Throttles the first two requests
+        server.createContext("/throttled", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (requestCount.incrementAndGet() <= 2) {
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                exchange.sendResponseHeaders(429, -1);
+                exchange.close();
+                return;
+            }
+            final byte[] bytes = "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @After
+    public void stopServer()
+    {
+        server.stop(0);
+    }
+
+    @Test
+    public void testThrottledGetRetried() throws Exception
+    {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/throttled")).GET().build();
+        final HttpResponse<InputStream> response = RestConnectorUtils.send(httpClient, request);
+        try (InputStream body = response.body()) {
+            assertEquals(200, response.statusCode());
+            assertEquals("[{\"id\":1}]", new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(3, requestCount.get());
+    }
+
+    @Test
+    public void testThrottledPostNotRetried() throws Exception
+    {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/throttled"))
+                .POST(HttpRequest.BodyPublishers.ofString("{}")).build();
+        final HttpResponse<InputStream> response = RestConnectorUtils.send(httpClient, request);
+        response.body().close();
+        assertEquals(429, response.statusCode());
+        assertEquals(1, requestCount.get());
+    }
+}
@@ -8,33 +8,43 @@ package com.ibm.connect.sdk.file.github;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.arrow.flight.Ticket;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
-import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.entity.ContentType;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.ibm.connect.sdk.file.FileCompression;
 import com.ibm.connect.sdk.file.FileConnector;
 import com.ibm.connect.sdk.file.FileMsgs;
+import com.ibm.connect.sdk.file.FileSample;
 import com.ibm.connect.sdk.file.FileSourceInteraction;
 import com.ibm.connect.sdk.file.FileTargetInteraction;
 import com.ibm.connect.sdk.file.FileUtils;
-import com.ibm.connect.sdk.util.SSLUtils;
 import com.ibm.wdp.connect.common.sdk.api.models.ConnectionActionConfiguration;
 import com.ibm.wdp.connect.common.sdk.api.models.ConnectionActionResponse;
 import com.ibm.wdp.connect.common.sdk.api.models.ConnectionProperties;
@@ -51,20 +61,69 @@ public class GitHubConnector extends FileConnector
 {
     private static final Logger LOGGER = getLogger(GitHubConnector.class);
 
-    private static final int HTTP_CONNECTION_SOCKET_TIMEOUT = 50 * 1000;
-    private static final int HTTP_CONNECTION_READ_TIMEOUT = 50 * 1000;
-
     private static final String HTTPS_PREFIX = "https://";
     private static final String API_HOST_PREFIX = "api.";
     private static final String REPOS_ENDPOINT = "/repos/";
     private static final String TOPICS_ENDPOINT = "/topics";
     private static final String BRANCHES_ENDPOINT = "/branches";
     private static final String CONTENTS_ENDPOINT = "/contents";
+    private static final String TREES_ENDPOINT = "/git/trees/";
     private static final String BEARER_PREFIX = "Bearer ";
 
+    private static final String TREE_LISTING_PROP = "tree_listing";
+    private static final String LISTING_CONCURRENCY_PROP = "listing_concurrency";
+
+    /**
+     * Default number of subtrees that are listed in parallel when the tree of a
+     * commit is too large to be listed at once.
+     */
+    private static final int DEFAULT_LISTING_CONCURRENCY = 8;
+
+    private static final int MAX_CACHED_TREES = 20;
+    private static final long TREE_EXPIRE_AFTER_ACCESS_MINUTES = 30;
+
+    /**
+     * The trees of recently listed commits, keyed by repository and commit SHA.
+     * A commit never changes, so a tree stays valid until the branch moves to
+     * another commit.
+     */
+    private static final Cache<String, GitHubTree> TREE_CACHE = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_TREES)
+            .expireAfterAccess(TREE_EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES).build();
+
+    private static final long MAX_CACHED_RESPONSE_CHARS = 16L * 1024 * 1024;
+    private static final long RESPONSE_EXPIRE_AFTER_ACCESS_MINUTES = 30;
+
+    /**
+     * Recent API responses and their entity tags, keyed by credentials and URL.
+     * A response is revalidated with a conditional request, which GitHub answers
+     * with 304 Not Modified, without counting it against the rate limit, if the
+     * response has not changed.
+     */
+    private static final Cache<String, CachedResponse> RESPONSE_CACHE = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_CACHED_RESPONSE_CHARS).<String, CachedResponse> weigher((k, v) -> k.length() + v.body.length())
+            .expireAfterAccess(RESPONSE_EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES).build();
+
+    private static final GitHubContentCache CONTENT_CACHE = GitHubContentCache.getInstance();
+
+    private static final class CachedResponse
+    {
+        private final String etag;
+        private final String body;
+
+        private CachedResponse(String etag, String body)
+        {
+            this.etag = etag;
+            this.body = body;
+        }
+    }
+
     private final String baseUrl;
     private final String authHeader;
-    private CloseableHttpClient httpClient;
+    private final String tokenKey;
+    private final GitHubRequestScheduler scheduler;
+    private final boolean treeListing;
+    private final int listingConcurrency;
+    private boolean connected;
 
     /**
      * Creates a GitHub connector.
@@ -103,6 +162,13 @@ public class GitHubConnector extends FileConnector
         // Build the authorization header.
         final String accessToken = connectionProperties.getProperty("access_token");
         authHeader = accessToken != null ? BEARER_PREFIX + accessToken : null;
+        // Requests made with the same token share its rate limits. Anonymous
+        // requests share the rate limit of the host.
+        tokenKey = authHeader != null ? Hashing.sha256().hashString(authHeader, StandardCharsets.UTF_8).toString() : "";
+        scheduler = GitHubRequestScheduler.forToken(tokenKey);
+
+        treeListing = Boolean.parseBoolean(connectionProperties.getProperty(TREE_LISTING_PROP));
+        listingConcurrency = getPositiveIntegerProperty(LISTING_CONCURRENCY_PROP, DEFAULT_LISTING_CONCURRENCY);
     }
 
     /**
@@ -111,41 +177,53 @@ public class GitHubConnector extends FileConnector
     @Override
     public void connect() throws Exception
     {
-        // If the client is not null, then we're reusing a pooled connection.
-        if (httpClient == null) {
-            httpClient = createHttpClient();
+        // If already connected, then we're reusing a pooled connection.
+        if (!connected) {
             executeHttpGet(baseUrl + TOPICS_ENDPOINT);
+            connected = true;
         }
     }
 
-    private CloseableHttpClient createHttpClient() throws Exception
-    {
-        final HttpClientBuilder builder = HttpClientBuilder.create().useSystemProperties();
-        builder.setSSLContext(SSLUtils.buildSSLContext(null));
-        builder.setDefaultRequestConfig(RequestConfig.custom().setNormalizeUri(false).setConnectTimeout(HTTP_CONNECTION_SOCKET_TIMEOUT)
-                .setSocketTimeout(HTTP_CONNECTION_READ_TIMEOUT).build());
-        return builder.build();
-    }
-
-    private String executeHttpGet(String endpoint) throws Exception
+    /**
+     * Sends a GET request to the GitHub API, revalidating a cached response if
+     * there is one.
+     *
+     * @param endpoint
+     *            the request URL
+     * @return the response body, or null if there is none
+     * @throws Exception
+     */
+    String executeHttpGet(String endpoint) throws Exception
     {
         final HttpGet request = new HttpGet(endpoint);
         request.addHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.toString());
         if (authHeader != null) {
             request.addHeader(HttpHeaders.AUTHORIZATION, authHeader);
         }
-        LOGGER.info("Executing HTTP request " + request);
-        try (CloseableHttpResponse response = httpClient.execute(request)) {
+        final String responseKey = tokenKey + '@' + endpoint;
+        final CachedResponse cachedResponse = RESPONSE_CACHE.getIfPresent(responseKey);
+        if (cachedResponse != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, cachedResponse.etag);
+        }
+        try (CloseableHttpResponse response = scheduler.execute(request)) {
+            final int statusCode = response.getStatusLine().getStatusCode();
+            if (statusCode == HttpStatus.SC_NOT_MODIFIED && cachedResponse != null) {
+                EntityUtils.consume(response.getEntity());
+                return cachedResponse.body;
+            }
             final HttpEntity entity = response.getEntity();
             if (entity == null) {
                 return null;
             }
             final String responseString = EntityUtils.toString(entity);
             EntityUtils.consume(entity);
-            final int statusCode = response.getStatusLine().getStatusCode();
             if (statusCode != HttpStatus.SC_OK) {
                 throw new Exception(responseString != null ? responseString : response.toString());
             }
+            final Header etagHeader = response.getFirstHeader(HttpHeaders.ETAG);
+            if (etagHeader != null) {
+                RESPONSE_CACHE.put(responseKey, new CachedResponse(etagHeader.getValue(), responseString));
+            }
             return responseString;
         }
     }
@@ -157,10 +235,10 @@ public class GitHubConnector extends FileConnector
         if (authHeader != null) {
             request.addHeader(HttpHeaders.AUTHORIZATION, authHeader);
         }
-        LOGGER.info("Executing HTTP request " + request);
-        final CloseableHttpResponse response = httpClient.execute(request);
+        final CloseableHttpResponse response = scheduler.execute(request);
         final int statusCode = response.getStatusLine().getStatusCode();
         if (statusCode != HttpStatus.SC_OK) {
+            response.close();
             throw new Exception(response.toString());
         }
         return response;
@@ -236,6 +314,25 @@ public class GitHubConnector extends FileConnector
     private List<CustomFlightAssetDescriptor> listFiles(CustomFlightAssetsCriteria criteria, String branch, String filePath)
             throws Exception
     {
+        // Folders are listed from the tree of the branch; a file still needs the
+        // contents API for its download URL.
+        if (treeListing) {
+            final String folder = filePath != null && filePath.endsWith("/") ? filePath.substring(0, filePath.length() - 1) : filePath;
+            final List<JsonObject> entries = getTree(branch).list(folder);
+            if (entries != null) {
+                final List<CustomFlightAssetDescriptor> descriptors = new ArrayList<>();
+                final int offset = criteria.getOffset() == null || criteria.getOffset() < 0 ? 0 : criteria.getOffset();
+                final int limit = criteria.getLimit() == null || criteria.getLimit() < 0 ? entries.size() : criteria.getLimit();
+                final int endIndex = offset + limit > entries.size() ? entries.size() : offset + limit;
+                for (int i = offset; i < endIndex; i++) {
+                    final CustomFlightAssetDescriptor asset = createAssetDescriptor(branch, entries.get(i), false);
+                    if (asset != null) {
+                        descriptors.add(asset);
+                    }
+                }
+                return descriptors;
+            }
+        }
         final JsonElement contentElement = getRepositoryContent(branch, filePath);
         final List<CustomFlightAssetDescriptor> descriptors = new ArrayList<>();
         if (contentElement.isJsonArray()) {
@@ -276,6 +373,94 @@ public class GitHubConnector extends FileConnector
         return new Gson().fromJson(responseString, JsonElement.class);
     }
 
+    /**
+     * Returns the tree of the commit at the head of a branch, listing it with the
+     * Git Trees API unless it is cached.
+     */
+    private GitHubTree getTree(String branch) throws Exception
+    {
+        final String branchString = executeHttpGet(baseUrl + BRANCHES_ENDPOINT + '/' + branch);
+        final JsonObject commit = new Gson().fromJson(branchString, JsonObject.class).getAsJsonObject("commit");
+        final String commitSha = commit.get("sha").getAsString();
+        final String treeSha = commit.getAsJsonObject("commit").getAsJsonObject("tree").get("sha").getAsString();
+        final String cacheKey = baseUrl + '@' + commitSha;
+        GitHubTree tree = TREE_CACHE.getIfPresent(cacheKey);
+        if (tree == null) {
+            tree = listTree(treeSha);
+            TREE_CACHE.put(cacheKey, tree);
+        }
+        return tree;
+    }
+
+    /**
+     * Lists a tree recursively. GitHub truncates large recursive listings, in
+     * which case the folder is listed without recursion and each of its subtrees
+     * is listed in turn, a bounded number at a time.
+     */
+    private GitHubTree listTree(String treeSha) throws Exception
+    {
+        final GitHubTree tree = new GitHubTree();
+        List<String[]> subtrees = listSubtree(tree, treeSha, "");
+        if (subtrees.isEmpty()) {
+            return tree;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(listingConcurrency,
+                new ThreadFactoryBuilder().setNameFormat("github-tree-%d").setDaemon(true).build());
+        try {
+            while (!subtrees.isEmpty()) {
+                final List<Future<List<String[]>>> listings = new ArrayList<>();
+                for (final String[] subtree : subtrees) {
+                    listings.add(executor.submit(() -> listSubtree(tree, subtree[0], subtree[1])));
+                }
+                subtrees = new ArrayList<>();
+                for (final Future<List<String[]>> listing : listings) {
+                    try {
+                        subtrees.addAll(listing.get());
+                    }
+                    catch (ExecutionException e) {
+                        if (e.getCause() instanceof Exception) {
+                            throw (Exception) e.getCause();
+                        }
+                        throw e;
+                    }
+                }
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        return tree;
+    }
+
+    /**
+     * Adds the entries of a subtree to a tree.
+     *
+     * @return the SHA and path of each folder of the subtree that still has to be
+     *         listed, which is none unless the recursive listing was truncated
+     */
+    private List<String[]> listSubtree(GitHubTree tree, String treeSha, String folder) throws Exception
+    {
+        final JsonObject recursive = new Gson().fromJson(executeHttpGet(baseUrl + TREES_ENDPOINT + treeSha + "?recursive=1"),
+                JsonObject.class);
+        if (!recursive.get("truncated").getAsBoolean()) {
+            tree.addEntries(recursive.getAsJsonArray("tree"), folder);
+            return Collections.emptyList();
+        }
+        LOGGER.info("Tree listing of " + (folder.isEmpty() ? "/" : folder) + " was truncated, listing its folders separately");
+        final JsonArray entries = new Gson().fromJson(executeHttpGet(baseUrl + TREES_ENDPOINT + treeSha), JsonObject.class)
+                .getAsJsonArray("tree");
+        tree.addEntries(entries, folder);
+        final List<String[]> subtrees = new ArrayList<>();
+        for (final JsonElement element : entries) {
+            final JsonObject entry = element.getAsJsonObject();
+            if ("tree".equals(entry.get("type").getAsString())) {
+                final String path = entry.get("path").getAsString();
+                subtrees.add(new String[] { entry.get("sha").getAsString(), folder.isEmpty() ? path : folder + '/' + path });
+            }
+        }
+        return subtrees;
+    }
+
     private CustomFlightAssetDescriptor createAssetDescriptor(String branch, JsonObject fileObject, boolean describeInteraction)
             throws Exception
     {
@@ -318,6 +503,33 @@ public class GitHubConnector extends FileConnector
         return new DiscoveredAssetType().type("file").dataset(true).datasetContainer(false);
     }
 
+    /**
+     * Returns a local copy of a file. The copy is taken from the content cache if
+     * the blob has been downloaded before and is otherwise downloaded.
+     *
+     * @param fileObject
+     *            the file as returned by the contents API
+     * @param fileFormat
+     *            the file format, which determines the filename extension of the
+     *            copy
+     * @return a lease on the local copy, which must be closed when no longer read
+     * @throws Exception
+     */
+    GitHubContentCache.Lease fetchFile(JsonObject fileObject, String fileFormat) throws Exception
+    {
+        final String sha = fileObject.get("sha").getAsString();
+        final String extension = FileUtils.getFilenameExtension(fileFormat);
+        final GitHubContentCache.Lease cached = CONTENT_CACHE.acquire(sha, extension);
+        if (cached != null) {
+            LOGGER.info("Reading cached content of blob " + sha);
+            return cached;
+        }
+        try (CloseableHttpResponse response = downloadFile(fileObject.get("download_url").getAsString());
+                InputStream downloadStream = response.getEntity().getContent()) {
+            return CONTENT_CACHE.store(sha, extension, FileCompression.decompress(downloadStream));
+        }
+    }
+
     protected void addObjectDetails(CustomFlightAssetDescriptor asset, JsonObject fileObject)
     {
         final long fileSize = fileObject.get("size").getAsLong();
@@ -328,39 +540,29 @@ public class GitHubConnector extends FileConnector
 
     protected void addFileDetails(CustomFlightAssetDescriptor asset, JsonObject fileObject) throws Exception
     {
-        // Download the file to detect mime_type and file_format.
+        // Download the file to detect mime_type and file_format. The blob SHA
+        // identifies the version of the content.
         final String fileName = fileObject.get("name").getAsString();
         final String downloadUrl = fileObject.get("download_url").getAsString();
-        try (CloseableHttpResponse response = downloadFile(downloadUrl)) {
-            if (response.getEntity() != null) {
-                try (InputStream downloadStream = FileUtils.ensureMarkSupported(response.getEntity().getContent())) {
-                    // Detect mime type.
-                    final String mimeType = FileUtils.detectMimeType(downloadStream, fileName);
-                    if (mimeType != null) {
-                        asset.getDetails().put("mime_type", mimeType);
-                    }
-
-                    // Detect file format.
-                    final String detectedFileFormat = FileUtils.detectFileFormat(mimeType, fileName, downloadStream);
-                    final String fileFormat = detectedFileFormat != null ? detectedFileFormat : FileUtils.FILE_FORMAT_DELIMITED;
-                    asset.getInteractionProperties().put("file_format", fileFormat);
-
-                    // Detect delimited file properties.
-                    if (FileUtils.FILE_FORMAT_CSV.equals(fileFormat) || FileUtils.FILE_FORMAT_DELIMITED.equals(fileFormat)) {
-                        FileUtils.detectDelimitedProperties(downloadStream, asset.getInteractionProperties());
-                    }
-
-                    // Describe fields.
-                    final String tempFilename = FileUtils.createTempFile(downloadStream, fileName, fileFormat);
-                    try {
-                        addAssetFields(asset, tempFilename);
-                    }
-                    finally {
-                        FileUtils.deleteTempFile(tempFilename);
+        final String sha = fileObject.get("sha").getAsString();
+        addCachedFileDetails(asset, downloadUrl, fileObject.get("size").getAsLong(), sha, () -> {
+            try (CloseableHttpResponse response = downloadFile(downloadUrl)) {
+                if (response.getEntity() != null) {
+                    try (InputStream downloadStream = response.getEntity().getContent()) {
+                        // Detect mime type, file format and delimited file properties.
+                        final FileSample sample = FileUtils.readSample(downloadStream);
+                        final String fileFormat = FileUtils.detectFileDetails(sample, fileName, asset);
+
+                        // Describe fields. The copy is cached for when the file
+                        // is read.
+                        try (GitHubContentCache.Lease lease = CONTENT_CACHE.store(sha, FileUtils.getFilenameExtension(fileFormat),
+                                FileCompression.decompress(sample.openContent()))) {
+                            addAssetFields(asset, lease.getPath().toString());
+                        }
                     }
                 }
             }
-        }
+        });
     }
 
     /**
@@ -407,13 +609,6 @@ public class GitHubConnector extends FileConnector
     public void close() throws Exception
     {
         super.close();
-        try {
-            if (httpClient != null) {
-                httpClient.close();
-            }
-        }
-        finally {
-            httpClient = null;
-        }
+        connected = false;
     }
 }
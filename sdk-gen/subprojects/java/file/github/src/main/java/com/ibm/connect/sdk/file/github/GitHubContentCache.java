@@ -0,0 +1,261 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.github;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+
+import com.ibm.connect.sdk.file.FileUtils;
+import com.ibm.connect.sdk.util.Utils;
+
+/**
+ * A local copy of downloaded GitHub files, keyed by blob SHA. Since a blob SHA
+ * identifies the content of a file, a cached copy never needs to be checked
+ * against GitHub.
+ *
+ * <p>
+ * The total size of the copies is bounded and the least recently used copies
+ * are deleted first, except while they are leased to a reader. The bound is
+ * set by the environment variable {@value #ENVVAR_CACHE_SIZE} with the syntax
+ * of a byte limit, such as {@code 512MB}; a bound of 0 disables the cache.
+ */
+final class GitHubContentCache
+{
+    private static final Logger LOGGER = getLogger(GitHubContentCache.class);
+
+    private static final String ENVVAR_CACHE_SIZE = "GITHUB_CONTENT_CACHE_SIZE";
+    private static final long DEFAULT_CACHE_SIZE = 512L * 1024 * 1024;
+
+    private static final GitHubContentCache INSTANCE = new GitHubContentCache(cacheSize());
+
+    /**
+     * A local copy of a file, which must be closed when no longer read.
+     */
+    interface Lease extends Closeable
+    {
+        /**
+         * Returns the path of the local copy.
+         *
+         * @return the path of the local copy
+         */
+        Path getPath();
+    }
+
+    private static final class Entry
+    {
+        private final Path path;
+        private final long size;
+        private int leases;
+
+        private Entry(Path path, long size)
+        {
+            this.path = path;
+            this.size = size;
+        }
+    }
+
+    private final long maxSize;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private Path directory;
+    private long size;
+
+    GitHubContentCache(long maxSize)
+    {
+        this.maxSize = maxSize;
+    }
+
+    private static long cacheSize()
+    {
+        final String cacheSizeStr = System.getenv(ENVVAR_CACHE_SIZE);
+        return cacheSizeStr != null ? Utils.parseByteLimit(cacheSizeStr) : DEFAULT_CACHE_SIZE;
+    }
+
+    /**
+     * Returns the cache shared by all GitHub connections.
+     *
+     * @return the content cache
+     */
+    static GitHubContentCache getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Leases the cached copy of a blob.
+     *
+     * @param sha
+     *            the blob SHA
+     * @param extension
+     *            the filename extension of the copy
+     * @return a lease on the cached copy, or null if the blob is not cached
+     */
+    synchronized Lease acquire(String sha, String extension)
+    {
+        final String key = sha + extension;
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!Files.isRegularFile(entry.path)) {
+            entries.remove(key);
+            size -= entry.size;
+            return null;
+        }
+        entry.leases++;
+        return new CachedLease(key, entry);
+    }
+
+    /**
+     * Copies the content of a blob to a local file, which is cached if the number
+     * of bytes copied fits in the cache. The content may be decompressed and
+     * therefore larger than the blob.
+     *
+     * @param sha
+     *            the blob SHA
+     * @param extension
+     *            the filename extension of the copy
+     * @param content
+     *            the content of the blob
+     * @return a lease on the local copy
+     * @throws IOException
+     */
+    Lease store(String sha, String extension, InputStream content) throws IOException
+    {
+        if (maxSize <= 0) {
+            final Path tempPath = Files.createTempFile(sha, extension).toAbsolutePath();
+            try {
+                Files.copy(content, tempPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (final IOException e) {
+                Files.deleteIfExists(tempPath);
+                throw e;
+            }
+            return new TempLease(tempPath);
+        }
+        final Path downloadPath = Files.createTempFile(getDirectory(), sha, ".download");
+        final long copied;
+        try {
+            copied = Files.copy(content, downloadPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (final IOException e) {
+            Files.deleteIfExists(downloadPath);
+            throw e;
+        }
+        if (copied > maxSize) {
+            // Too large to cache, the copy is deleted when it is no longer read.
+            return new TempLease(downloadPath);
+        }
+        synchronized (this) {
+            final Lease cached = acquire(sha, extension);
+            if (cached != null) {
+                // Another reader downloaded the same blob meanwhile.
+                Files.deleteIfExists(downloadPath);
+                return cached;
+            }
+            final String key = sha + extension;
+            final Path path = Files.move(downloadPath, getDirectory().resolve(key), StandardCopyOption.REPLACE_EXISTING);
+            final Entry entry = new Entry(path, copied);
+            entries.put(key, entry);
+            size += copied;
+            entry.leases++;
+            evict();
+            return new CachedLease(key, entry);
+        }
+    }
+
+    private synchronized Path getDirectory() throws IOException
+    {
+        if (directory == null) {
+            directory = Files.createTempDirectory("GitHubContentCache").toAbsolutePath();
+            LOGGER.info("Created content cache directory " + directory);
+        }
+        return directory;
+    }
+
+    /**
+     * Deletes the least recently used copies that are not leased until the cache
+     * is within its bound.
+     */
+    private synchronized void evict()
+    {
+        final Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            final Entry entry = iterator.next().getValue();
+            if (entry.leases == 0) {
+                iterator.remove();
+                size -= entry.size;
+                FileUtils.deleteTempFile(entry.path.toString());
+            }
+        }
+    }
+
+    private synchronized void release(Entry entry)
+    {
+        entry.leases--;
+        evict();
+    }
+
+    private final class CachedLease implements Lease
+    {
+        private final String key;
+        private Entry entry;
+
+        private CachedLease(String key, Entry entry)
+        {
+            this.key = key;
+            this.entry = entry;
+        }
+
+        @Override
+        public Path getPath()
+        {
+            return entry.path;
+        }
+
+        @Override
+        public void close()
+        {
+            if (entry != null) {
+                LOGGER.debug("Releasing cached content " + key);
+                release(entry);
+                entry = null;
+            }
+        }
+    }
+
+    private static final class TempLease implements Lease
+    {
+        private final Path path;
+
+        private TempLease(Path path)
+        {
+            this.path = path;
+        }
+
+        @Override
+        public Path getPath()
+        {
+            return path;
+        }
+
+        @Override
+        public void close()
+        {
+            FileUtils.deleteTempFile(path.toString());
+        }
+    }
+}
@@ -68,6 +68,12 @@ public class GitHubDatasourceType extends CustomFlightDatasourceType
                 new CustomDatasourceTypeProperty().name("access_token").label(GitHubLabels.CONNECTION_ACCESS_TOKEN_LABEL.format())
                         .description(GitHubLabels.CONNECTION_ACCESS_TOKEN_DESCRIPTION.format()).type(TypeEnum.STRING).required(false)
                         .masked(true).group("credentials"));
+        properties.addConnectionItem(
+                new CustomDatasourceTypeProperty().name("tree_listing").label(GitHubLabels.CONNECTION_TREE_LISTING_LABEL.format())
+                        .description(GitHubLabels.CONNECTION_TREE_LISTING_DESCRIPTION.format()).type(TypeEnum.BOOLEAN).required(false));
+        properties.addConnectionItem(new CustomDatasourceTypeProperty().name("listing_concurrency")
+                .label(GitHubLabels.CONNECTION_LISTING_CONCURRENCY_LABEL.format())
+                .description(GitHubLabels.CONNECTION_LISTING_CONCURRENCY_DESCRIPTION.format()).type(TypeEnum.INTEGER).required(false));
 
         // Define the source interaction properties.
         properties
@@ -96,6 +102,8 @@ public class GitHubDatasourceType extends CustomFlightDatasourceType
                 .description(FileLabels.SOURCE_ROW_LIMIT_DESCRIPTION.format()).type(TypeEnum.INTEGER).required(false));
         properties.addSourceItem(new CustomDatasourceTypeProperty().name("byte_limit").label(FileLabels.SOURCE_BYTE_LIMIT_LABEL.format())
                 .description(FileLabels.SOURCE_BYTE_LIMIT_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
+        properties.addSourceItem(new CustomDatasourceTypeProperty().name("row_filter").label(FileLabels.SOURCE_ROW_FILTER_LABEL.format())
+                .description(FileLabels.SOURCE_ROW_FILTER_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
         // CSV and delimited options
         properties.addSourceItem(new CustomDatasourceTypeProperty().name("comment_character_value")
                 .label(FileLabels.SOURCE_COMMENT_CHARACTER_VALUE_LABEL.format())
@@ -7,12 +7,22 @@ package com.ibm.connect.sdk.file.github;
 
 import com.ibm.connect.sdk.api.ConnectorFactory;
 import com.ibm.connect.sdk.api.ConnectorFlightProducer;
+import com.ibm.connect.sdk.file.FileSparkRuntime;
 
 /**
  * A flight producer for GitHub.
  */
 public class GitHubFlightProducer extends ConnectorFlightProducer
 {
+    /**
+     * Constructs a flight producer for GitHub and starts Spark in the background.
+     */
+    public GitHubFlightProducer()
+    {
+        super();
+        FileSparkRuntime.warmUp();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -72,6 +72,26 @@ public enum GitHubLabels implements ResourceBundleHelper.MessageFormatter<GitHub
      */
     CONNECTION_ACCESS_TOKEN_DESCRIPTION,
 
+    /**
+     * Label for connection property tree_listing.
+     */
+    CONNECTION_TREE_LISTING_LABEL,
+
+    /**
+     * Description for connection property tree_listing.
+     */
+    CONNECTION_TREE_LISTING_DESCRIPTION,
+
+    /**
+     * Label for connection property listing_concurrency.
+     */
+    CONNECTION_LISTING_CONCURRENCY_LABEL,
+
+    /**
+     * Description for connection property listing_concurrency.
+     */
+    CONNECTION_LISTING_CONCURRENCY_DESCRIPTION,
+
     /**
      * Label for source property branch_name.
      */
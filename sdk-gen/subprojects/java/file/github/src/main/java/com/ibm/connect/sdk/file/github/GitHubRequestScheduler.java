@@ -0,0 +1,301 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.github;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+
+import com.ibm.connect.sdk.util.SSLUtils;
+
+/**
+ * Schedules the requests made with one GitHub token, which share its rate
+ * limits.
+ *
+ * <p>
+ * All connections send their requests with one HTTP client. The number of
+ * requests in flight for a token is bounded and further requests queue in
+ * order. The rate-limit headers of every response are tracked, so that once
+ * the budget for the current window runs low, the remaining requests are
+ * spread over the rest of the window, and once it runs out, requests wait for
+ * the window to reset instead of failing. Responses to exceeding a secondary
+ * rate limit are retried after the time given by {@code Retry-After}, or else
+ * with exponential backoff, and hold back the other requests for the token
+ * meanwhile. A request waits at most 15 minutes in total for the rate
+ * limits, after which it is sent anyway or its last response is returned.
+ */
+final class GitHubRequestScheduler
+{
+    private static final Logger LOGGER = getLogger(GitHubRequestScheduler.class);
+
+    private static final String RATE_LIMIT_REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final String RATE_LIMIT_LIMIT_HEADER = "X-RateLimit-Limit";
+    private static final String RATE_LIMIT_RESET_HEADER = "X-RateLimit-Reset";
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final String SECONDARY_RATE_LIMIT_MESSAGE = "secondary rate limit";
+
+    private static final int HTTP_CONNECT_TIMEOUT = 30 * 1000;
+    private static final int HTTP_READ_TIMEOUT = 120 * 1000;
+    private static final int HTTP_CONNECTION_REQUEST_TIMEOUT = 60 * 1000;
+
+    /**
+     * Maximum number of requests in flight per token. GitHub counts concurrent
+     * requests towards its secondary rate limits.
+     */
+    private static final int MAX_CONCURRENT_REQUESTS = 16;
+
+    private static final int MAX_CONNECTIONS = 64;
+
+    /**
+     * Fraction of the rate limit below which the remaining requests are spread
+     * over the rest of the window.
+     */
+    private static final double THROTTLE_FRACTION = 0.1;
+
+    private static final int MAX_RETRIES = 5;
+    private static final long INITIAL_BACKOFF_MILLIS = 60 * 1000L;
+    static final long MAX_WAIT_MILLIS = 15 * 60 * 1000L;
+
+    /**
+     * Largest shift of the initial backoff, beyond which it would exceed the
+     * maximum wait anyway.
+     */
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private static final ConcurrentMap<String, GitHubRequestScheduler> SCHEDULERS = new ConcurrentHashMap<>();
+
+    private static CloseableHttpClient httpClient;
+
+    private final String tokenKey;
+    private final Semaphore permits = new Semaphore(MAX_CONCURRENT_REQUESTS, true);
+
+    // The state of the rate limit, as of the most recent response.
+    private long limit = -1;
+    private long remaining = -1;
+    private long resetMillis;
+    private long blockedUntilMillis;
+    private long nextRequestMillis;
+
+    private GitHubRequestScheduler(String tokenKey)
+    {
+        this.tokenKey = tokenKey;
+    }
+
+    /**
+     * Returns the scheduler of the requests made with a token.
+     *
+     * @param tokenKey
+     *            a key identifying the token, such as a hash of it
+     * @return the request scheduler for the token
+     */
+    static GitHubRequestScheduler forToken(String tokenKey)
+    {
+        return SCHEDULERS.computeIfAbsent(tokenKey, GitHubRequestScheduler::new);
+    }
+
+    private static synchronized CloseableHttpClient getHttpClient() throws Exception
+    {
+        if (httpClient == null) {
+            final HttpClientBuilder builder = HttpClientBuilder.create().useSystemProperties();
+            builder.setSSLContext(SSLUtils.buildSSLContext(null));
+            builder.setDefaultRequestConfig(RequestConfig.custom().setNormalizeUri(false).setConnectTimeout(HTTP_CONNECT_TIMEOUT)
+                    .setSocketTimeout(HTTP_READ_TIMEOUT).setConnectionRequestTimeout(HTTP_CONNECTION_REQUEST_TIMEOUT).build());
+            builder.setMaxConnPerRoute(MAX_CONNECTIONS).setMaxConnTotal(MAX_CONNECTIONS);
+            httpClient = builder.build();
+        }
+        return httpClient;
+    }
+
+    /**
+     * Executes a request once the rate limits allow it, retrying it if it exceeds
+     * a secondary rate limit.
+     *
+     * @param request
+     *            the request to execute
+     * @return the response, which the caller must close
+     * @throws Exception
+     */
+    CloseableHttpResponse execute(HttpRequestBase request) throws Exception
+    {
+        final CloseableHttpClient client = getHttpClient();
+        final long deadlineMillis = System.currentTimeMillis() + MAX_WAIT_MILLIS;
+        for (int attempt = 0;; attempt++) {
+            // Wait without a permit, so that the requests in flight are not
+            // held up by those waiting.
+            awaitTurn(deadlineMillis);
+            final CloseableHttpResponse response;
+            permits.acquire();
+            try {
+                LOGGER.info("Executing HTTP request " + request);
+                response = client.execute(request);
+                updateRateLimit(response);
+            }
+            finally {
+                permits.release();
+            }
+            final long retryDelay = attempt < MAX_RETRIES ? getRetryDelay(response, attempt, deadlineMillis) : -1;
+            if (retryDelay < 0) {
+                return response;
+            }
+            LOGGER.warn("Rate limit exceeded for " + request.getURI() + ", retrying in " + retryDelay + " ms");
+            EntityUtils.consumeQuietly(response.getEntity());
+            response.close();
+            holdBack(retryDelay);
+            request.reset();
+        }
+    }
+
+    /**
+     * Waits until the rate limits allow another request, unless that is after
+     * the deadline.
+     */
+    private void awaitTurn(long deadlineMillis) throws InterruptedException
+    {
+        long waitMillis;
+        synchronized (this) {
+            final long now = System.currentTimeMillis();
+            long startMillis = Math.max(now, blockedUntilMillis);
+            if (remaining == 0 && resetMillis > now) {
+                // The budget is spent, so wait for the window to reset.
+                startMillis = Math.max(startMillis, resetMillis);
+            } else if (remaining > 0 && limit > 0 && remaining < limit * THROTTLE_FRACTION && resetMillis > now) {
+                // Spread the remaining budget over the rest of the window.
+                startMillis = Math.max(startMillis, nextRequestMillis);
+                nextRequestMillis = startMillis + (resetMillis - now) / remaining;
+                remaining--;
+            }
+            waitMillis = startMillis - now;
+        }
+        if (System.currentTimeMillis() + waitMillis > deadlineMillis) {
+            // Let GitHub reject the request rather than stall the flight for
+            // longer.
+            LOGGER.warn("Rate limit of token " + tokenKey + " resets in " + waitMillis + " ms, not waiting");
+            return;
+        }
+        if (waitMillis > 0) {
+            LOGGER.info("Waiting " + waitMillis + " ms for the rate limit of token " + tokenKey);
+            TimeUnit.MILLISECONDS.sleep(waitMillis);
+        }
+    }
+
+    private synchronized void updateRateLimit(HttpResponse response)
+    {
+        final long responseRemaining = getLongHeader(response, RATE_LIMIT_REMAINING_HEADER);
+        final long responseReset = getLongHeader(response, RATE_LIMIT_RESET_HEADER);
+        if (responseRemaining < 0 || responseReset < 0) {
+            return;
+        }
+        final long responseResetMillis = TimeUnit.SECONDS.toMillis(responseReset);
+        // Responses can arrive out of order, so within a window the lowest
+        // remaining count is the most recent.
+        if (responseResetMillis != resetMillis || responseRemaining < remaining || remaining < 0) {
+            remaining = responseRemaining;
+        }
+        resetMillis = responseResetMillis;
+        final long responseLimit = getLongHeader(response, RATE_LIMIT_LIMIT_HEADER);
+        if (responseLimit > 0) {
+            limit = responseLimit;
+        }
+    }
+
+    /**
+     * Returns how long to wait before retrying a request that exceeded a rate
+     * limit.
+     *
+     * @param response
+     *            the response to the request
+     * @param attempt
+     *            the number of times the request was retried already
+     * @param deadlineMillis
+     *            the time after which the request is not to be retried
+     * @return the delay in milliseconds, or -1 if the request is not to be
+     *         retried
+     */
+    static long getRetryDelay(HttpResponse response, int attempt, long deadlineMillis) throws IOException
+    {
+        final long retryDelay = getRetryDelay(response, attempt);
+        if (retryDelay < 0 || System.currentTimeMillis() + retryDelay > deadlineMillis) {
+            return -1;
+        }
+        return retryDelay;
+    }
+
+    private static long getRetryDelay(HttpResponse response, int attempt) throws IOException
+    {
+        final int statusCode = response.getStatusLine().getStatusCode();
+        if (statusCode != HttpStatus.SC_FORBIDDEN && statusCode != 429) {
+            return -1;
+        }
+        final long retryAfter = getLongHeader(response, RETRY_AFTER_HEADER);
+        if (retryAfter >= 0) {
+            return Math.min(TimeUnit.SECONDS.toMillis(retryAfter), MAX_WAIT_MILLIS);
+        }
+        final long responseRemaining = getLongHeader(response, RATE_LIMIT_REMAINING_HEADER);
+        if (responseRemaining == 0) {
+            // The primary rate limit is exceeded.
+            final long resetDelay = TimeUnit.SECONDS.toMillis(getLongHeader(response, RATE_LIMIT_RESET_HEADER))
+                    - System.currentTimeMillis();
+            return resetDelay > 0 && resetDelay <= MAX_WAIT_MILLIS ? resetDelay : -1;
+        }
+        if (statusCode == 429 || isSecondaryRateLimitError(response)) {
+            // A secondary rate limit is exceeded without a time to retry.
+            final long backoff = Math.min(INITIAL_BACKOFF_MILLIS << Math.min(attempt, MAX_BACKOFF_SHIFT), MAX_WAIT_MILLIS);
+            return Math.min(backoff + ThreadLocalRandom.current().nextLong(backoff / 4 + 1), MAX_WAIT_MILLIS);
+        }
+        // Other 403 responses are refused permissions.
+        return -1;
+    }
+
+    private static boolean isSecondaryRateLimitError(HttpResponse response) throws IOException
+    {
+        final HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            return false;
+        }
+        // Buffer the error so that it can still be read by the caller.
+        final BufferedHttpEntity bufferedEntity = new BufferedHttpEntity(entity);
+        response.setEntity(bufferedEntity);
+        final String body = EntityUtils.toString(bufferedEntity);
+        return body != null && body.contains(SECONDARY_RATE_LIMIT_MESSAGE);
+    }
+
+    private synchronized void holdBack(long delayMillis)
+    {
+        blockedUntilMillis = Math.max(blockedUntilMillis, System.currentTimeMillis() + delayMillis);
+    }
+
+    private static long getLongHeader(HttpResponse response, String name)
+    {
+        final Header header = response.getFirstHeader(name);
+        if (header != null) {
+            try {
+                return Long.parseLong(header.getValue().trim());
+            }
+            catch (final NumberFormatException e) {
+                LOGGER.debug("Ignoring header " + header);
+            }
+        }
+        return -1;
+    }
+}
@@ -5,17 +5,14 @@
 /* *************************************************** */
 package com.ibm.connect.sdk.file.github;
 
-import java.io.InputStream;
 import java.util.Properties;
 
 import org.apache.arrow.flight.Ticket;
-import org.apache.http.client.methods.CloseableHttpResponse;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.ibm.connect.sdk.file.FileMsgs;
 import com.ibm.connect.sdk.file.FileSourceInteraction;
-import com.ibm.connect.sdk.file.FileUtils;
 import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
 
 /**
@@ -27,7 +24,7 @@ public class GitHubSourceInteraction extends FileSourceInteraction
     private final String branch;
     private final String filePath;
 
-    private String tempFilename;
+    private GitHubContentCache.Lease fileLease;
 
     /**
      * Creates a GitHub source interaction.
@@ -84,28 +81,25 @@ public class GitHubSourceInteraction extends FileSourceInteraction
     }
 
     /**
-     * Download the file to the local file system so that spark can read it.
+     * Download the file to the local file system so that spark can read it. A
+     * copy of the same blob that was downloaded before is read from the content
+     * cache instead.
      *
      * @return the name of the file asset on the local file system
      */
     @Override
     protected String getFilename()
     {
-        try {
-            final JsonObject fileObject = connector.getRepositoryContent(branch, filePath).getAsJsonObject();
-            final String fileName = fileObject.get("name").getAsString();
-            final String downloadUrl = fileObject.get("download_url").getAsString();
-            try (CloseableHttpResponse response = connector.downloadFile(downloadUrl)) {
-                try (InputStream downloadStream = response.getEntity().getContent()) {
-                    tempFilename
-                            = FileUtils.createTempFile(downloadStream, fileName, getInteractionProperties().getProperty("file_format"));
-                }
+        if (fileLease == null) {
+            try {
+                final JsonObject fileObject = connector.getRepositoryContent(branch, filePath).getAsJsonObject();
+                fileLease = connector.fetchFile(fileObject, getInteractionProperties().getProperty("file_format"));
+            }
+            catch (Exception e) {
+                throw new UnsupportedOperationException(e.getMessage(), e);
             }
         }
-        catch (Exception e) {
-            throw new UnsupportedOperationException(e.getMessage(), e);
-        }
-        return tempFilename;
+        return fileLease.getPath().toString();
     }
 
     /**
@@ -115,8 +109,9 @@ public class GitHubSourceInteraction extends FileSourceInteraction
     public void close() throws Exception
     {
         super.close();
-        if (tempFilename != null) {
-            FileUtils.deleteTempFile(tempFilename);
+        if (fileLease != null) {
+            fileLease.close();
+            fileLease = null;
         }
     }
 }
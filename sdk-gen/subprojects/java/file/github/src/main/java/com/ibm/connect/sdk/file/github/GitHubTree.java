@@ -0,0 +1,94 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.github;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * The files and folders of a commit, as listed by the Git Trees API.
+ *
+ * <p>
+ * Entries are converted to the form returned by the contents API, with a name,
+ * path, type, size and SHA, so that a folder can be listed from the tree
+ * instead of with a request per folder. Entries that the contents API reports
+ * as neither files nor folders, such as symbolic links and submodules, keep a
+ * type of their own.
+ */
+final class GitHubTree
+{
+    private static final String SYMLINK_MODE = "120000";
+
+    private final Map<String, List<JsonObject>> folders = new HashMap<>();
+
+    /**
+     * Creates an empty tree with only a root folder.
+     */
+    GitHubTree()
+    {
+        folders.put("", new ArrayList<>());
+    }
+
+    /**
+     * Adds the entries of a Git Trees API response.
+     *
+     * @param entries
+     *            the tree entries, with paths relative to the given folder
+     * @param folder
+     *            the path of the folder whose tree was listed, or empty for the
+     *            root folder
+     */
+    synchronized void addEntries(JsonArray entries, String folder)
+    {
+        final String prefix = folder.isEmpty() ? "" : folder + '/';
+        for (final JsonElement element : entries) {
+            final JsonObject entry = element.getAsJsonObject();
+            final String path = prefix + entry.get("path").getAsString();
+            final int lastSlash = path.lastIndexOf('/');
+            final JsonObject fileObject = new JsonObject();
+            fileObject.addProperty("name", path.substring(lastSlash + 1));
+            fileObject.addProperty("path", path);
+            fileObject.addProperty("type", contentType(entry));
+            fileObject.addProperty("size", entry.has("size") ? entry.get("size").getAsLong() : 0L);
+            fileObject.addProperty("sha", entry.get("sha").getAsString());
+            folders.computeIfAbsent(lastSlash >= 0 ? path.substring(0, lastSlash) : "", k -> new ArrayList<>()).add(fileObject);
+            if ("dir".equals(fileObject.get("type").getAsString())) {
+                folders.computeIfAbsent(path, k -> new ArrayList<>());
+            }
+        }
+    }
+
+    private static String contentType(JsonObject entry)
+    {
+        switch (entry.get("type").getAsString()) {
+        case "tree":
+            return "dir";
+        case "commit":
+            return "submodule";
+        default:
+            return SYMLINK_MODE.equals(entry.get("mode").getAsString()) ? "symlink" : "file";
+        }
+    }
+
+    /**
+     * Returns the entries of a folder.
+     *
+     * @param folder
+     *            the path of the folder, or null or empty for the root folder
+     * @return the entries of the folder in the order listed by GitHub, or null if
+     *         the path is not a folder of the tree
+     */
+    synchronized List<JsonObject> list(String folder)
+    {
+        return folders.get(folder == null ? "" : folder);
+    }
+}
@@ -0,0 +1,177 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.github;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Test the local cache of downloaded GitHub files.
+ */
+public class TestGitHubContentCache
+{
+    private static final String CSV = ".csv";
+
+    private static byte[] content(int length, int seed)
+    {
+        final byte[] content = new byte[length];
+        Arrays.fill(content, (byte) seed);
+        return content;
+    }
+
+    private static GitHubContentCache.Lease store(GitHubContentCache cache, String sha, byte[] content) throws Exception
+    {
+        return cache.store(sha, CSV, new ByteArrayInputStream(content));
+    }
+
+    /**
+     * Test that a stored blob is found by its SHA and extension, and that other
+     * blobs are not.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testHitAndMiss() throws Exception
+    {
+        final GitHubContentCache cache = new GitHubContentCache(1000);
+        assertNull(cache.acquire("sha1", CSV));
+        final byte[] content = content(100, 1);
+        final Path path;
+        try (GitHubContentCache.Lease lease = store(cache, "sha1", content)) {
+            path = lease.getPath();
+            assertArrayEquals(content, Files.readAllBytes(path));
+        }
+        try (GitHubContentCache.Lease lease = cache.acquire("sha1", CSV)) {
+            assertNotNull(lease);
+            assertEquals(path, lease.getPath());
+            assertArrayEquals(content, Files.readAllBytes(lease.getPath()));
+        }
+        assertNull(cache.acquire("sha2", CSV));
+        assertNull(cache.acquire("sha1", ".json"));
+    }
+
+    /**
+     * Test that a copy deleted outside the cache is a miss.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testDeletedCopy() throws Exception
+    {
+        final GitHubContentCache cache = new GitHubContentCache(1000);
+        final Path path;
+        try (GitHubContentCache.Lease lease = store(cache, "sha1", content(100, 1))) {
+            path = lease.getPath();
+        }
+        Files.delete(path);
+        assertNull(cache.acquire("sha1", CSV));
+    }
+
+    /**
+     * Test that the least recently used copies that are not leased are evicted
+     * once the cache exceeds its size.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testEviction() throws Exception
+    {
+        final GitHubContentCache cache = new GitHubContentCache(250);
+        final Path path1;
+        final Path path2;
+        try (GitHubContentCache.Lease lease = store(cache, "sha1", content(100, 1))) {
+            path1 = lease.getPath();
+        }
+        try (GitHubContentCache.Lease lease = store(cache, "sha2", content(100, 2))) {
+            path2 = lease.getPath();
+        }
+        // Use the first copy, so that the second one is the least recently used.
+        cache.acquire("sha1", CSV).close();
+        try (GitHubContentCache.Lease lease = store(cache, "sha3", content(100, 3))) {
+            assertTrue(Files.isRegularFile(lease.getPath()));
+        }
+        assertFalse(Files.exists(path2));
+        assertNull(cache.acquire("sha2", CSV));
+        assertTrue(Files.isRegularFile(path1));
+        cache.acquire("sha1", CSV).close();
+        cache.acquire("sha3", CSV).close();
+    }
+
+    /**
+     * Test that a leased copy is not evicted until its lease is closed.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testLeasedCopyNotEvicted() throws Exception
+    {
+        final GitHubContentCache cache = new GitHubContentCache(150);
+        final GitHubContentCache.Lease lease1 = store(cache, "sha1", content(100, 1));
+        try (GitHubContentCache.Lease lease2 = store(cache, "sha2", content(100, 2))) {
+            assertArrayEquals(content(100, 1), Files.readAllBytes(lease1.getPath()));
+            assertArrayEquals(content(100, 2), Files.readAllBytes(lease2.getPath()));
+        }
+        // The second copy was evicted when its lease was closed, because the
+        // first one was still leased.
+        assertNull(cache.acquire("sha2", CSV));
+        lease1.close();
+        lease1.close();
+        cache.acquire("sha1", CSV).close();
+    }
+
+    /**
+     * Test that content larger than the cache, counted by the bytes copied, is
+     * not cached and that its copy is deleted when its lease is closed.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSizeBound() throws Exception
+    {
+        final GitHubContentCache cache = new GitHubContentCache(1000);
+        try (GitHubContentCache.Lease lease = store(cache, "sha1", content(900, 1))) {
+            assertEquals(900, Files.size(lease.getPath()));
+        }
+        final Path path;
+        try (GitHubContentCache.Lease lease = store(cache, "sha2", content(1001, 2))) {
+            path = lease.getPath();
+            assertArrayEquals(content(1001, 2), Files.readAllBytes(path));
+        }
+        assertFalse(Files.exists(path));
+        assertNull(cache.acquire("sha2", CSV));
+        // The content that was too large did not evict the cached copy.
+        cache.acquire("sha1", CSV).close();
+    }
+
+    /**
+     * Test that a cache of size 0 does not keep copies.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testDisabled() throws Exception
+    {
+        final GitHubContentCache cache = new GitHubContentCache(0);
+        final Path path;
+        try (GitHubContentCache.Lease lease = store(cache, "sha1", content(10, 1))) {
+            path = lease.getPath();
+            assertArrayEquals(content(10, 1), Files.readAllBytes(path));
+        }
+        assertFalse(Files.exists(path));
+        assertNull(cache.acquire("sha1", CSV));
+    }
+}
@@ -0,0 +1,158 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.github;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+/**
+ * Test how the GitHub request scheduler retries rate-limited requests.
+ */
+public class TestGitHubRequestScheduler
+{
+    private static final long INITIAL_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static HttpResponse createResponse(int statusCode, String body) throws IOException
+    {
+        final HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, statusCode, null);
+        if (body != null) {
+            response.setEntity(new StringEntity(body));
+        }
+        return response;
+    }
+
+    private static long noDeadline()
+    {
+        return Long.MAX_VALUE;
+    }
+
+    private static long resetInSeconds(long seconds)
+    {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + seconds;
+    }
+
+    /**
+     * Test that responses other than 403 and 429 are not retried.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testOtherStatusNotRetried() throws Exception
+    {
+        for (final int statusCode : new int[] { 200, 404, 500, 503 }) {
+            final HttpResponse response = createResponse(statusCode, null);
+            response.addHeader("Retry-After", "1");
+            assertEquals(-1, GitHubRequestScheduler.getRetryDelay(response, 0, noDeadline()));
+        }
+    }
+
+    /**
+     * Test that Retry-After is used for 403 and 429 responses, up to the
+     * maximum wait.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRetryAfter() throws Exception
+    {
+        for (final int statusCode : new int[] { 403, 429 }) {
+            final HttpResponse response = createResponse(statusCode, null);
+            response.addHeader("Retry-After", "30");
+            assertEquals(30000, GitHubRequestScheduler.getRetryDelay(response, 0, noDeadline()));
+
+            final HttpResponse longResponse = createResponse(statusCode, null);
+            longResponse.addHeader("Retry-After", String.valueOf(Long.MAX_VALUE / 1000));
+            assertEquals(GitHubRequestScheduler.MAX_WAIT_MILLIS,
+                    GitHubRequestScheduler.getRetryDelay(longResponse, 0, noDeadline()));
+        }
+    }
+
+    /**
+     * Test that a request exceeding the primary rate limit is retried when the
+     * window resets, unless that is too late.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPrimaryRateLimit() throws Exception
+    {
+        final HttpResponse response = createResponse(403, "{\"message\":\"API rate limit exceeded\"}");
+        response.addHeader("X-RateLimit-Remaining", "0");
+        response.addHeader("X-RateLimit-Reset", String.valueOf(resetInSeconds(60)));
+        final long retryDelay = GitHubRequestScheduler.getRetryDelay(response, 0, noDeadline());
+        assertTrue(String.valueOf(retryDelay), retryDelay > 58000 && retryDelay <= 60000);
+
+        final HttpResponse lateResponse = createResponse(403, "{\"message\":\"API rate limit exceeded\"}");
+        lateResponse.addHeader("X-RateLimit-Remaining", "0");
+        lateResponse.addHeader("X-RateLimit-Reset", String.valueOf(resetInSeconds(3600)));
+        assertEquals(-1, GitHubRequestScheduler.getRetryDelay(lateResponse, 0, noDeadline()));
+    }
+
+    /**
+     * Test that a request exceeding a secondary rate limit without Retry-After
+     * is retried with exponential backoff, up to the maximum wait.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSecondaryRateLimitBackoff() throws Exception
+    {
+        final String body = "{\"message\":\"You have exceeded a secondary rate limit.\"}";
+        for (int attempt = 0; attempt < 70; attempt++) {
+            final long backoff = Math.min(INITIAL_BACKOFF_MILLIS << Math.min(attempt, 10), GitHubRequestScheduler.MAX_WAIT_MILLIS);
+            final HttpResponse response = createResponse(403, body);
+            final long retryDelay = GitHubRequestScheduler.getRetryDelay(response, attempt, noDeadline());
+            assertTrue(attempt + ": " + retryDelay, retryDelay >= backoff);
+            assertTrue(attempt + ": " + retryDelay, retryDelay <= GitHubRequestScheduler.MAX_WAIT_MILLIS);
+            // The error can still be read by the caller.
+            assertEquals(body, EntityUtils.toString(response.getEntity()));
+
+            final long tooManyDelay = GitHubRequestScheduler.getRetryDelay(createResponse(429, null), attempt, noDeadline());
+            assertTrue(attempt + ": " + tooManyDelay, tooManyDelay >= backoff);
+            assertTrue(attempt + ": " + tooManyDelay, tooManyDelay <= GitHubRequestScheduler.MAX_WAIT_MILLIS);
+        }
+    }
+
+    /**
+     * Test that a 403 response refusing permission is not retried.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testForbiddenNotRetried() throws Exception
+    {
+        final HttpResponse response = createResponse(403, "{\"message\":\"Resource not accessible by integration\"}");
+        response.addHeader("X-RateLimit-Remaining", "4000");
+        assertEquals(-1, GitHubRequestScheduler.getRetryDelay(response, 0, noDeadline()));
+    }
+
+    /**
+     * Test that a request is not retried once the delay would pass the
+     * deadline for waiting.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testDeadline() throws Exception
+    {
+        final long now = System.currentTimeMillis();
+        final HttpResponse response = createResponse(429, null);
+        response.addHeader("Retry-After", "60");
+        assertEquals(60000, GitHubRequestScheduler.getRetryDelay(response, 0, now + 120000));
+        assertEquals(-1, GitHubRequestScheduler.getRetryDelay(response, 0, now + 30000));
+        assertEquals(-1, GitHubRequestScheduler.getRetryDelay(createResponse(429, null), 0, now + 30000));
+    }
+}
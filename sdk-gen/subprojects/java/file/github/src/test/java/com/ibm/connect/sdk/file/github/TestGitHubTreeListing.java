@@ -0,0 +1,229 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.github;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.ibm.wdp.connect.common.sdk.api.models.ConnectionProperties;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetsCriteria;
+
+/**
+ * Test the listing of folders from the tree of a branch, with the GitHub API
+ * responses served from memory.
+ */
+public class TestGitHubTreeListing
+{
+    private static final String BASE_URL = "https://api.github.com/repos/owner/repository";
+
+    private FakeConnector connector;
+    private String commitSha;
+
+    /**
+     * Creates a connector that lists trees and serves the branch from memory.
+     * Each test uses another commit, so that trees cached by earlier tests are
+     * not used.
+     */
+    @Before
+    public void setUp()
+    {
+        connector = new FakeConnector(createConnectionProperties());
+        commitSha = UUID.randomUUID().toString();
+        final JsonObject tree = new JsonObject();
+        tree.addProperty("sha", "root");
+        final JsonObject gitCommit = new JsonObject();
+        gitCommit.add("tree", tree);
+        final JsonObject commit = new JsonObject();
+        commit.addProperty("sha", commitSha);
+        commit.add("commit", gitCommit);
+        final JsonObject branch = new JsonObject();
+        branch.add("commit", commit);
+        connector.responses.put(BASE_URL + "/branches/main", branch.toString());
+    }
+
+    /**
+     * Closes the connector.
+     *
+     * @throws Exception
+     */
+    @After
+    public void tearDown() throws Exception
+    {
+        connector.close();
+    }
+
+    private static ConnectionProperties createConnectionProperties()
+    {
+        final ConnectionProperties properties = new ConnectionProperties();
+        properties.put("host", "github.com");
+        properties.put("repository_owner", "owner");
+        properties.put("repository_name", "repository");
+        properties.put("tree_listing", "true");
+        return properties;
+    }
+
+    private static JsonObject blob(String path)
+    {
+        final JsonObject entry = new JsonObject();
+        entry.addProperty("path", path);
+        entry.addProperty("mode", "100644");
+        entry.addProperty("type", "blob");
+        entry.addProperty("sha", "blob-" + path);
+        entry.addProperty("size", path.length());
+        return entry;
+    }
+
+    private static JsonObject tree(String path, String sha)
+    {
+        final JsonObject entry = new JsonObject();
+        entry.addProperty("path", path);
+        entry.addProperty("mode", "040000");
+        entry.addProperty("type", "tree");
+        entry.addProperty("sha", sha);
+        return entry;
+    }
+
+    private void addTree(String sha, boolean recursive, boolean truncated, JsonObject... entries)
+    {
+        final JsonArray tree = new JsonArray();
+        for (final JsonObject entry : entries) {
+            tree.add(entry);
+        }
+        final JsonObject response = new JsonObject();
+        response.addProperty("sha", sha);
+        response.add("tree", tree);
+        response.addProperty("truncated", truncated);
+        connector.responses.put(BASE_URL + "/git/trees/" + sha + (recursive ? "?recursive=1" : ""), response.toString());
+    }
+
+    private List<String> list(String path) throws Exception
+    {
+        final CustomFlightAssetsCriteria criteria = new CustomFlightAssetsCriteria();
+        criteria.setPath(path);
+        final List<String> entries = new ArrayList<>();
+        for (final CustomFlightAssetDescriptor asset : connector.discoverAssets(criteria)) {
+            entries.add(asset.getAssetType().getType() + ' ' + asset.getPath());
+        }
+        return entries;
+    }
+
+    private int treeRequests()
+    {
+        int treeRequests = 0;
+        for (final String endpoint : connector.requests) {
+            if (endpoint.contains("/git/trees/")) {
+                treeRequests++;
+            }
+        }
+        return treeRequests;
+    }
+
+    /**
+     * Test that the folders of a tree listed with one recursive request are
+     * listed without further tree requests.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRecursiveTree() throws Exception
+    {
+        addTree("root", true, false, blob("README.md"), tree("src", "src-tree"), blob("src/Main.java"),
+                tree("src/util", "util-tree"), blob("src/util/Strings.java"), tree("empty", "empty-tree"));
+
+        assertEquals(Arrays.asList("file /main/README.md", "folder /main/src", "folder /main/empty"), list("/main"));
+        assertEquals(Arrays.asList("file /main/src/Main.java", "folder /main/src/util"), list("/main/src"));
+        assertEquals(Arrays.asList("file /main/src/util/Strings.java"), list("/main/src/util/"));
+        assertEquals(Arrays.asList(), list("/main/empty"));
+        assertEquals(1, treeRequests());
+    }
+
+    /**
+     * Test that the folders of a tree whose recursive listing is truncated are
+     * listed separately, down to the subtrees that can be listed at once.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testTruncatedTree() throws Exception
+    {
+        addTree("root", true, true, blob("README.md"), tree("src", "src-tree"));
+        addTree("root", false, false, blob("README.md"), tree("src", "src-tree"), tree("docs", "docs-tree"));
+        addTree("src-tree", true, false, blob("Main.java"), tree("util", "util-tree"), blob("util/Strings.java"));
+        addTree("docs-tree", true, true, blob("guide.md"));
+        addTree("docs-tree", false, false, blob("guide.md"), tree("images", "images-tree"));
+        addTree("images-tree", true, false, blob("logo.png"));
+
+        assertEquals(Arrays.asList("file /main/README.md", "folder /main/src", "folder /main/docs"), list("/main"));
+        assertEquals(Arrays.asList("file /main/src/Main.java", "folder /main/src/util"), list("/main/src"));
+        assertEquals(Arrays.asList("file /main/src/util/Strings.java"), list("/main/src/util"));
+        assertEquals(Arrays.asList("file /main/docs/guide.md", "folder /main/docs/images"), list("/main/docs"));
+        assertEquals(Arrays.asList("file /main/docs/images/logo.png"), list("/main/docs/images"));
+        // Two requests for each truncated tree, one for each other tree.
+        assertEquals(6, treeRequests());
+    }
+
+    /**
+     * Test that the listing concurrency must be a positive integer.
+     */
+    @Test
+    public void testInvalidListingConcurrency()
+    {
+        for (final String concurrency : new String[] { "many", "0", "-1" }) {
+            final ConnectionProperties properties = createConnectionProperties();
+            properties.put("listing_concurrency", concurrency);
+            try {
+                new GitHubConnector(properties).close();
+                fail("Exception expected");
+            }
+            catch (Exception e) {
+                assertTrue(e.getMessage(), e.getMessage().contains("listing_concurrency"));
+            }
+        }
+    }
+
+    /**
+     * A connector that serves API responses from memory and records the
+     * requests.
+     */
+    private static class FakeConnector extends GitHubConnector
+    {
+        private final Map<String, String> responses = new HashMap<>();
+        private final List<String> requests = new ArrayList<>();
+
+        FakeConnector(ConnectionProperties properties)
+        {
+            super(properties);
+        }
+
+        @Override
+        String executeHttpGet(String endpoint) throws Exception
+        {
+            synchronized (requests) {
+                requests.add(endpoint);
+            }
+            final String response = responses.get(endpoint);
+            if (response == null) {
+                throw new Exception("Not found: " + endpoint);
+            }
+            return response;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.slf4j.Logger;
 
 import com.ibm.connect.sdk.file.FileConnector;
 import com.ibm.connect.sdk.file.FileMsgs;
+import com.ibm.connect.sdk.file.FileSample;
 import com.ibm.connect.sdk.file.FileSourceInteraction;
 import com.ibm.connect.sdk.file.FileTargetInteraction;
 import com.ibm.connect.sdk.file.FileUtils;
@@ -207,28 +208,20 @@ public class LocalFSConnector extends FileConnector
 
     protected void addFileDetails(CustomFlightAssetDescriptor asset, Path path) throws Exception
     {
-        // Examine the file contents to detect mime_type and file_format.
-        final String fileName = path.getFileName().toString();
-        try (InputStream fileStream = FileUtils.ensureMarkSupported(Files.newInputStream(path))) {
-            // Detect mime type.
-            final String mimeType = FileUtils.detectMimeType(fileStream, fileName);
-            if (mimeType != null) {
-                asset.getDetails().put("mime_type", mimeType);
+        final Path absolutePath = path.toAbsolutePath();
+        final String version = String.valueOf(Files.getLastModifiedTime(absolutePath).toMillis());
+        addCachedFileDetails(asset, "file:" + absolutePath, Files.size(absolutePath), version, () -> {
+            // Examine a sample of the file contents to detect mime_type, file_format
+            // and delimited file properties.
+            final FileSample sample;
+            try (InputStream fileStream = Files.newInputStream(absolutePath)) {
+                sample = FileUtils.readSample(fileStream);
             }
+            FileUtils.detectFileDetails(sample, path.getFileName().toString(), asset);
 
-            // Detect file format.
-            final String detectedFileFormat = FileUtils.detectFileFormat(mimeType, fileName, fileStream);
-            final String fileFormat = detectedFileFormat != null ? detectedFileFormat : FileUtils.FILE_FORMAT_DELIMITED;
-            asset.getInteractionProperties().put("file_format", fileFormat);
-
-            // Detect delimited file properties.
-            if (FileUtils.FILE_FORMAT_CSV.equals(fileFormat) || FileUtils.FILE_FORMAT_DELIMITED.equals(fileFormat)) {
-                FileUtils.detectDelimitedProperties(fileStream, asset.getInteractionProperties());
-            }
-        }
-
-        // Describe fields.
-        addAssetFields(asset, path.toString());
+            // Describe fields.
+            addAssetFields(asset, path.toString());
+        });
     }
 
     /**
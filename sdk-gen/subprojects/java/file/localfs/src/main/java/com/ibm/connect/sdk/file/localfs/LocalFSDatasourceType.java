@@ -61,6 +61,8 @@ public class LocalFSDatasourceType extends CustomFlightDatasourceType
                 .description(FileLabels.SOURCE_FILE_NAME_DESCRIPTION.format()).type(TypeEnum.STRING).required(true));
         properties.addSourceItem(new CustomDatasourceTypeProperty().name("file_format").label(FileLabels.SOURCE_FILE_FORMAT_LABEL.format())
                 .description(FileLabels.SOURCE_FILE_FORMAT_DESCRIPTION.format()).type(TypeEnum.ENUM).required(false)
+                .addValuesItem(
+                        new DatasourceTypePropertyValues().value("arrow").label(FileLabels.SOURCE_FILE_FORMAT_VALUE_ARROW_LABEL.format()))
                 .addValuesItem(
                         new DatasourceTypePropertyValues().value("avro").label(FileLabels.SOURCE_FILE_FORMAT_VALUE_AVRO_LABEL.format()))
                 .addValuesItem(
@@ -79,6 +81,8 @@ public class LocalFSDatasourceType extends CustomFlightDatasourceType
                 .description(FileLabels.SOURCE_ROW_LIMIT_DESCRIPTION.format()).type(TypeEnum.INTEGER).required(false));
         properties.addSourceItem(new CustomDatasourceTypeProperty().name("byte_limit").label(FileLabels.SOURCE_BYTE_LIMIT_LABEL.format())
                 .description(FileLabels.SOURCE_BYTE_LIMIT_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
+        properties.addSourceItem(new CustomDatasourceTypeProperty().name("row_filter").label(FileLabels.SOURCE_ROW_FILTER_LABEL.format())
+                .description(FileLabels.SOURCE_ROW_FILTER_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
         // CSV and delimited options
         properties.addSourceItem(new CustomDatasourceTypeProperty().name("comment_character_value")
                 .label(FileLabels.SOURCE_COMMENT_CHARACTER_VALUE_LABEL.format())
@@ -130,6 +134,8 @@ public class LocalFSDatasourceType extends CustomFlightDatasourceType
                 .description(FileLabels.TARGET_FILE_NAME_DESCRIPTION.format()).type(TypeEnum.STRING).required(true));
         properties.addTargetItem(new CustomDatasourceTypeProperty().name("file_format").label(FileLabels.TARGET_FILE_FORMAT_LABEL.format())
                 .description(FileLabels.TARGET_FILE_FORMAT_DESCRIPTION.format()).type(TypeEnum.ENUM).required(false)
+                .addValuesItem(
+                        new DatasourceTypePropertyValues().value("arrow").label(FileLabels.TARGET_FILE_FORMAT_VALUE_ARROW_LABEL.format()))
                 .addValuesItem(
                         new DatasourceTypePropertyValues().value("avro").label(FileLabels.TARGET_FILE_FORMAT_VALUE_AVRO_LABEL.format()))
                 .addValuesItem(
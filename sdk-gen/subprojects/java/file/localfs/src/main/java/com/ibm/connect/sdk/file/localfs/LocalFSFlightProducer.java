@@ -7,12 +7,22 @@ package com.ibm.connect.sdk.file.localfs;
 
 import com.ibm.connect.sdk.api.ConnectorFactory;
 import com.ibm.connect.sdk.api.ConnectorFlightProducer;
+import com.ibm.connect.sdk.file.FileSparkRuntime;
 
 /**
  * A flight producer for the local file system.
  */
 public class LocalFSFlightProducer extends ConnectorFlightProducer
 {
+    /**
+     * Constructs a flight producer for the local file system and starts Spark in the background.
+     */
+    public LocalFSFlightProducer()
+    {
+        super();
+        FileSparkRuntime.warmUp();
+    }
+
     /**
      * {@inheritDoc}
      */
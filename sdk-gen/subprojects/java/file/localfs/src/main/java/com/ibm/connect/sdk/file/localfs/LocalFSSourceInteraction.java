@@ -5,20 +5,45 @@
 /* *************************************************** */
 package com.ibm.connect.sdk.file.localfs;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
 import java.util.Properties;
 
 import org.apache.arrow.flight.Ticket;
 
+import com.google.common.collect.ImmutableSet;
+import com.ibm.connect.sdk.file.FileCompression;
 import com.ibm.connect.sdk.file.FileMsgs;
+import com.ibm.connect.sdk.file.FileRecordReader;
 import com.ibm.connect.sdk.file.FileSourceInteraction;
 import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
 
 /**
  * An interaction with a local file system asset as a source.
+ *
+ * <p>
+ * CSV, delimited and JSON files whose fields have simple types are read from a
+ * memory mapping of the file, which avoids starting a Spark job and copying the
+ * file through Hadoop input streams. Files compressed with a codec that is
+ * detected from their magic bytes are decompressed from the mapping as they are
+ * read. The record batches of Arrow IPC files are memory-mapped. Other files
+ * are read with Spark.
  */
 public class LocalFSSourceInteraction extends FileSourceInteraction
 {
+    /**
+     * Extensions for which Spark decompresses a file while reading it. Files
+     * with these extensions whose compression is not detected from their content
+     * are left to Spark.
+     */
+    private static final ImmutableSet<String> COMPRESSED_EXTENSIONS
+            = ImmutableSet.of(".bz2", ".deflate", ".gz", ".lz4", ".snappy", ".zst");
+
     private final Path filePath;
 
     /**
@@ -68,4 +93,43 @@ public class LocalFSSourceInteraction extends FileSourceInteraction
     {
         return filePath.toString();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected FileRecordReader openRecordReader() throws IOException
+    {
+        if (!filePath.toFile().isFile() || !FileRecordReader.isSupported(getFields(), getInteractionProperties())) {
+            return null;
+        }
+        final byte[] header = new byte[FileCompression.HEADER_SIZE];
+        final int headerLength;
+        try (InputStream headerStream = Files.newInputStream(filePath)) {
+            headerLength = headerStream.readNBytes(header, 0, header.length);
+        }
+        final boolean compressed = FileCompression.detect(header, headerLength) != null;
+        if (!compressed && isCompressed()) {
+            return null;
+        }
+        final InputStream fileStream = new MappedFileInputStream(filePath);
+        return FileRecordReader.create(getFields(), getInteractionProperties(),
+                compressed ? FileCompression.decompress(fileStream, header, headerLength) : fileStream);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected FileChannel openFileChannel() throws IOException
+    {
+        return FileChannel.open(filePath, StandardOpenOption.READ);
+    }
+
+    private boolean isCompressed()
+    {
+        final String name = filePath.getFileName().toString().toLowerCase(Locale.ENGLISH);
+        final int extensionIndex = name.lastIndexOf('.');
+        return extensionIndex >= 0 && COMPRESSED_EXTENSIONS.contains(name.substring(extensionIndex));
+    }
 }
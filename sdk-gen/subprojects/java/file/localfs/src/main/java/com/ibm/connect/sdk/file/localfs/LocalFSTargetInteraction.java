@@ -5,18 +5,52 @@
 /* *************************************************** */
 package com.ibm.connect.sdk.file.localfs;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 
+import com.google.common.collect.ImmutableSet;
+import com.ibm.connect.sdk.file.FileCompression;
 import com.ibm.connect.sdk.file.FileMsgs;
 import com.ibm.connect.sdk.file.FileTargetInteraction;
+import com.ibm.connect.sdk.file.FileUtils;
 import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
 
 /**
  * An interaction with a local file system asset as a target.
+ *
+ * <p>
+ * For a partitioned write, each partition writes its own {@code part-<index>}
+ * file concurrently into a hidden staging folder beside the target, and
+ * {@link #putWrapup()} commits them. Partitions of an uncompressed or gzip
+ * CSV, delimited or JSON file are merged into the target file. Other file
+ * formats and compression codecs cannot be concatenated, so the staging folder
+ * is renamed to the target and marked complete with a {@code _SUCCESS} file,
+ * as Spark does. Either way, an existing target is only removed once the new
+ * one has replaced it.
  */
 public class LocalFSTargetInteraction extends FileTargetInteraction
 {
+    private static final String PARTITION_FILE_GLOB = "part-*";
+    private static final String SUCCESS_MARKER = "_SUCCESS";
+    private static final ImmutableSet<String> CONCATENABLE_FORMATS
+            = ImmutableSet.of(FileUtils.FILE_FORMAT_CSV, FileUtils.FILE_FORMAT_DELIMITED, FileUtils.FILE_FORMAT_JSON);
+    // Concatenated gzip members form a valid gzip file.
+    private static final ImmutableSet<String> CONCATENABLE_COMPRESSIONS
+            = ImmutableSet.of("", "none", "uncompressed", FileCompression.COMPRESSION_GZIP);
+
     private final Path filePath;
+    private final Path stagingPath;
+    private final Path partitionPath;
 
     /**
      * Creates a local file system target interaction.
@@ -36,6 +70,25 @@ public class LocalFSTargetInteraction extends FileTargetInteraction
             throw new IllegalArgumentException(FileMsgs.MISSING_PROPERTY.format("file_name"));
         }
         filePath = connector.resolvePath(fileName);
+        if (asset.getPartitionCount() != null && asset.getPartitionCount() > 1) {
+            stagingPath = filePath.resolveSibling("." + filePath.getFileName() + ".parts");
+            final Integer partitionIndex = asset.getPartitionIndex();
+            if (partitionIndex != null) {
+                final String fileFormat = getInteractionProperties().getProperty("file_format", FileUtils.FILE_FORMAT_CSV);
+                partitionPath = stagingPath.resolve(
+                        "part-" + String.format(Locale.ENGLISH, "%05d", partitionIndex) + FileUtils.getFilenameExtension(fileFormat));
+                // Only the first partition writes the header, so that the partitions can be
+                // merged.
+                if (partitionIndex > 0) {
+                    getInteractionProperties().setProperty("first_line_header", "false");
+                }
+            } else {
+                partitionPath = null;
+            }
+        } else {
+            stagingPath = null;
+            partitionPath = null;
+        }
     }
 
     /**
@@ -46,34 +99,131 @@ public class LocalFSTargetInteraction extends FileTargetInteraction
     @Override
     protected String getFilename()
     {
-        return filePath.toString();
+        return partitionPath != null ? partitionPath.toString() : filePath.toString();
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>
+     * For a partitioned write, removes the staging folder of any previous write
+     * that did not complete.
      */
     @Override
     public CustomFlightAssetDescriptor putSetup() throws Exception
     {
+        if (stagingPath != null && stagingPath.toFile().exists()) {
+            FileUtils.deleteTempDirectory(stagingPath.toString());
+        }
         return getAsset();
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>
+     * For a partitioned write, commits the partition files to the target.
      */
     @Override
     public CustomFlightAssetDescriptor putWrapup() throws Exception
     {
+        if (stagingPath != null) {
+            final String fileFormat = getInteractionProperties().getProperty("file_format", FileUtils.FILE_FORMAT_CSV);
+            final String compression = getInteractionProperties().getProperty("compression", "").toLowerCase(Locale.ENGLISH);
+            if (CONCATENABLE_FORMATS.contains(fileFormat) && CONCATENABLE_COMPRESSIONS.contains(compression)) {
+                mergePartitions();
+            } else {
+                commitFolder();
+            }
+        }
         return getAsset();
     }
 
+    private List<Path> listPartitions() throws IOException
+    {
+        final List<Path> partitions = new ArrayList<>();
+        if (stagingPath.toFile().isDirectory()) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(stagingPath, PARTITION_FILE_GLOB)) {
+                stream.forEach(partitions::add);
+            }
+        }
+        // Partition files are named by zero-padded index.
+        Collections.sort(partitions);
+        return partitions;
+    }
+
     /**
-     * {@inheritDoc}
+     * Concatenates the partition files in partition order into a temporary file,
+     * which then replaces the target.
      */
-    @Override
-    public void close() throws Exception
+    private void mergePartitions() throws IOException
     {
-        // Do nothing.
+        final Path parentPath = filePath.getParent();
+        Files.createDirectories(parentPath);
+        final Path tempPath = Files.createTempFile(parentPath, "." + filePath.getFileName(), ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(tempPath, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (final Path partition : listPartitions()) {
+                    try (FileChannel in = FileChannel.open(partition, StandardOpenOption.READ)) {
+                        final long size = in.size();
+                        long position = 0;
+                        while (position < size) {
+                            position += in.transferTo(position, size - position, out);
+                        }
+                    }
+                }
+            }
+            replaceTarget(tempPath);
+        }
+        finally {
+            Files.deleteIfExists(tempPath);
+        }
+        FileUtils.deleteTempDirectory(stagingPath.toString());
+    }
+
+    /**
+     * Marks the staging folder complete and renames it to the target.
+     */
+    private void commitFolder() throws IOException
+    {
+        Files.createDirectories(stagingPath);
+        Files.write(stagingPath.resolve(SUCCESS_MARKER), new byte[0]);
+        replaceTarget(stagingPath);
+    }
+
+    /**
+     * Atomically renames a file or folder to the target. An existing target is
+     * first renamed aside, restored if the rename fails, and deleted only once
+     * the rename has succeeded, so that the target is never lost or left half
+     * written.
+     */
+    private void replaceTarget(Path sourcePath) throws IOException
+    {
+        final Path oldPath = filePath.resolveSibling("." + filePath.getFileName() + ".old");
+        deletePath(oldPath);
+        final boolean targetExists = Files.exists(filePath, LinkOption.NOFOLLOW_LINKS);
+        if (targetExists) {
+            Files.move(filePath, oldPath, StandardCopyOption.ATOMIC_MOVE);
+        }
+        try {
+            Files.move(sourcePath, filePath, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException | RuntimeException e) {
+            if (targetExists) {
+                Files.move(oldPath, filePath, StandardCopyOption.ATOMIC_MOVE);
+            }
+            throw e;
+        }
+        deletePath(oldPath);
+    }
+
+    private static void deletePath(Path path) throws IOException
+    {
+        if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+            FileUtils.deleteTempDirectory(path.toString());
+        } else {
+            Files.deleteIfExists(path);
+        }
     }
 
 }
@@ -0,0 +1,136 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.localfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An input stream over a memory-mapped file. The file is mapped one segment at
+ * a time, so files larger than a single buffer can be read, and its pages are
+ * shared with the operating system's page cache instead of being copied
+ * through read buffers.
+ */
+class MappedFileInputStream extends InputStream
+{
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private long segmentStart;
+    private MappedByteBuffer segment;
+
+    /**
+     * Opens and maps a file.
+     *
+     * @param path
+     *            the file to read
+     * @throws IOException
+     */
+    MappedFileInputStream(Path path) throws IOException
+    {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            size = channel.size();
+            mapSegment(0);
+        }
+        catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void mapSegment(long start) throws IOException
+    {
+        segmentStart = start;
+        segment = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, size - start));
+    }
+
+    /**
+     * Returns whether there is more content, mapping the next segment if needed.
+     */
+    private boolean ensureAvailable() throws IOException
+    {
+        if (segment == null) {
+            throw new IOException("Stream closed");
+        }
+        if (segment.hasRemaining()) {
+            return true;
+        }
+        final long nextStart = segmentStart + segment.capacity();
+        if (nextStart >= size) {
+            return false;
+        }
+        mapSegment(nextStart);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException
+    {
+        return ensureAvailable() ? segment.get() & 0xFF : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException
+    {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        final int count = Math.min(len, segment.remaining());
+        segment.get(b, off, count);
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(long n) throws IOException
+    {
+        if (n <= 0 || !ensureAvailable()) {
+            return 0;
+        }
+        final int count = (int) Math.min(n, segment.remaining());
+        segment.position(segment.position() + count);
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available()
+    {
+        if (segment == null) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, size - segmentStart - segment.position());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException
+    {
+        segment = null;
+        channel.close();
+    }
+}
@@ -19,9 +19,13 @@ import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.TreeMap;
 
+import org.apache.arrow.flight.Action;
 import org.apache.arrow.flight.AsyncPutListener;
 import org.apache.arrow.flight.Criteria;
 import org.apache.arrow.flight.FlightClient;
@@ -44,6 +48,7 @@ import com.ibm.connect.sdk.test.TestConfig;
 import com.ibm.connect.sdk.test.TestFlight;
 import com.ibm.connect.sdk.util.ModelMapper;
 import com.ibm.wdp.connect.common.sdk.api.models.ConnectionProperties;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightActionRequest;
 import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
 import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
 import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetsCriteria;
@@ -161,6 +166,12 @@ public class TestLocalFSFlightProducer extends ConnectorTestSuite
 
     private void createTestFile(String rootPath, String filename, String fileFormat,
             DiscoveredAssetInteractionProperties interactionProperties) throws Exception
+    {
+        putTestRows(createTestDescriptor(rootPath, filename, fileFormat, interactionProperties));
+    }
+
+    private CustomFlightAssetDescriptor createTestDescriptor(String rootPath, String filename, String fileFormat,
+            DiscoveredAssetInteractionProperties interactionProperties)
     {
         if (interactionProperties == null) {
             interactionProperties = new DiscoveredAssetInteractionProperties();
@@ -193,6 +204,11 @@ public class TestLocalFSFlightProducer extends ConnectorTestSuite
         descriptor.addFieldsItem(new CustomFlightAssetField().name("date_type").type("date").nullable(true));
         descriptor.addFieldsItem(new CustomFlightAssetField().name("timestamp_type").type("timestamp").nullable(true));
         descriptor.addFieldsItem(new CustomFlightAssetField().name("varbinary_type").type("varbinary").nullable(true));
+        return descriptor;
+    }
+
+    private void putTestRows(CustomFlightAssetDescriptor descriptor) throws Exception
+    {
         try (BufferAllocator rootAllocator = new RootAllocator()) {
             final Schema schema = ArrowConversions.toArrow(descriptor.getFields());
             try (VectorSchemaRoot root = VectorSchemaRoot.create(schema, rootAllocator)) {
@@ -745,6 +761,153 @@ public class TestLocalFSFlightProducer extends ConnectorTestSuite
         assertEquals("32767", data.get(2, 3));
     }
 
+    /**
+     * Test a partitioned put with csv, which merges the partitions into one file.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPutPartitionedCsv() throws Exception
+    {
+        final String filePath = "/putpartitioned.csv";
+        final CustomFlightAssetDescriptor targetDescriptor = createTestDescriptor(null, filePath, null, null);
+        targetDescriptor.setPartitionCount(2);
+        final CustomFlightActionRequest request = new CustomFlightActionRequest();
+        request.setAsset(targetDescriptor);
+        getClient().doAction(new Action("put_setup", modelMapper.toBytes(request))).next();
+        for (int partitionIndex = 0; partitionIndex < 2; partitionIndex++) {
+            targetDescriptor.setPartitionIndex(partitionIndex);
+            putTestRows(targetDescriptor);
+        }
+        targetDescriptor.setPartitionIndex(null);
+        getClient().doAction(new Action("put_wrapup", modelMapper.toBytes(request))).next();
+
+        final CustomFlightAssetDescriptor descriptor = new CustomFlightAssetDescriptor();
+        final DiscoveredAssetInteractionProperties interactionProperties = new DiscoveredAssetInteractionProperties();
+        descriptor.setDatasourceTypeName(getDatasourceTypeName());
+        descriptor.setConnectionProperties(createConnectionProperties());
+        descriptor.setInteractionProperties(interactionProperties);
+        interactionProperties.put("file_name", filePath);
+        final FlightInfo info = getClient().getInfo(FlightDescriptor.command(modelMapper.toBytes(descriptor)));
+        final CustomFlightAssetDescriptor returnedDescriptor
+                = modelMapper.fromBytes(info.getDescriptor().getCommand(), CustomFlightAssetDescriptor.class);
+        assertEquals("true", returnedDescriptor.getInteractionProperties().get("first_line_header"));
+        final Table<Integer, Integer, Object> data = getTableData(info);
+        assertEquals(2 * TEST_FILE_VALUES_COUNT, data.size());
+        assertEquals("Low values", data.get(0, 0));
+        assertEquals("High values", data.get(2, 0));
+        assertEquals("Low values", data.get(3, 0));
+        assertEquals("High values", data.get(5, 0));
+    }
+
+    private void putPartitionedTestRows(String rootPath, String filePath, String compression) throws Exception
+    {
+        final DiscoveredAssetInteractionProperties targetInteractionProperties = new DiscoveredAssetInteractionProperties();
+        if (compression != null) {
+            targetInteractionProperties.put("compression", compression);
+        }
+        final CustomFlightAssetDescriptor targetDescriptor = createTestDescriptor(rootPath, filePath, null, targetInteractionProperties);
+        targetDescriptor.setPartitionCount(2);
+        final CustomFlightActionRequest request = new CustomFlightActionRequest();
+        request.setAsset(targetDescriptor);
+        getClient().doAction(new Action("put_setup", modelMapper.toBytes(request))).next();
+        for (int partitionIndex = 0; partitionIndex < 2; partitionIndex++) {
+            targetDescriptor.setPartitionIndex(partitionIndex);
+            putTestRows(targetDescriptor);
+        }
+        targetDescriptor.setPartitionIndex(null);
+        getClient().doAction(new Action("put_wrapup", modelMapper.toBytes(request))).next();
+    }
+
+    private Map<String, String> listAssetTypes(String rootPath, String path) throws Exception
+    {
+        final CustomFlightAssetsCriteria criteria = new CustomFlightAssetsCriteria();
+        criteria.setDatasourceTypeName(getDatasourceTypeName());
+        criteria.setConnectionProperties(createConnectionProperties());
+        criteria.getConnectionProperties().put("root_path", rootPath);
+        criteria.setPath(path);
+        final Map<String, String> assetTypes = new TreeMap<>();
+        for (final FlightInfo info : getClient().listFlights(new Criteria(modelMapper.toBytes(criteria)))) {
+            final CustomFlightAssetDescriptor descriptor
+                    = modelMapper.fromBytes(info.getDescriptor().getCommand(), CustomFlightAssetDescriptor.class);
+            assetTypes.put(descriptor.getId(), descriptor.getAssetType().getType());
+        }
+        return assetTypes;
+    }
+
+    private Table<Integer, Integer, Object> getTestData(String rootPath, String filePath) throws Exception
+    {
+        final CustomFlightAssetDescriptor descriptor = new CustomFlightAssetDescriptor();
+        final DiscoveredAssetInteractionProperties interactionProperties = new DiscoveredAssetInteractionProperties();
+        descriptor.setDatasourceTypeName(getDatasourceTypeName());
+        descriptor.setConnectionProperties(createConnectionProperties());
+        descriptor.getConnectionProperties().put("root_path", rootPath);
+        descriptor.setInteractionProperties(interactionProperties);
+        interactionProperties.put("file_name", filePath);
+        interactionProperties.put("file_format", "csv");
+        interactionProperties.put("first_line_header", "true");
+        return getTableData(getClient().getInfo(FlightDescriptor.command(modelMapper.toBytes(descriptor))));
+    }
+
+    /**
+     * Test a partitioned put with gzip csv, whose partitions are merged into one
+     * gzip file.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPutPartitionedCsvGzip() throws Exception
+    {
+        final String rootFolder = "testPutPartitionedCsvGzip";
+        putPartitionedTestRows(rootFolder, "/putpartitioned.csv.gz", "gzip");
+        assertEquals(Collections.singletonMap("putpartitioned.csv.gz", "file"), listAssetTypes(rootFolder, "/"));
+        final Table<Integer, Integer, Object> data = getTestData(rootFolder, "/putpartitioned.csv.gz");
+        assertEquals(2 * TEST_FILE_VALUES_COUNT, data.size());
+        assertEquals("Low values", data.get(0, 0));
+        assertEquals("High values", data.get(5, 0));
+    }
+
+    /**
+     * Test a partitioned put with a compression codec whose files cannot be
+     * concatenated, which keeps the partitions in a folder.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPutPartitionedCsvSnappy() throws Exception
+    {
+        final String rootFolder = "testPutPartitionedCsvSnappy";
+        putPartitionedTestRows(rootFolder, "/putpartitioned", "snappy");
+        assertEquals(Collections.singletonMap("putpartitioned", "folder"), listAssetTypes(rootFolder, "/"));
+        final Map<String, String> partitions = listAssetTypes(rootFolder, "/putpartitioned");
+        assertTrue(partitions.toString(), partitions.containsKey("_SUCCESS"));
+        assertEquals(partitions.toString(), 2, partitions.keySet().stream().filter(name -> name.startsWith("part-")).count());
+    }
+
+    /**
+     * Test that a partitioned put replaces an existing target file or folder
+     * and leaves nothing else behind.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPutPartitionedReplacesTarget() throws Exception
+    {
+        final String rootFolder = "testPutPartitionedReplacesTarget";
+        final String filePath = "/putpartitioned";
+        createTestFile(rootFolder, filePath);
+        putPartitionedTestRows(rootFolder, filePath, "snappy");
+        assertEquals(Collections.singletonMap("putpartitioned", "folder"), listAssetTypes(rootFolder, "/"));
+
+        putPartitionedTestRows(rootFolder, filePath, null);
+        assertEquals(Collections.singletonMap("putpartitioned", "file"), listAssetTypes(rootFolder, "/"));
+        assertEquals(2 * TEST_FILE_VALUES_COUNT, getTestData(rootFolder, filePath).size());
+
+        putPartitionedTestRows(rootFolder, filePath, null);
+        assertEquals(Collections.singletonMap("putpartitioned", "file"), listAssetTypes(rootFolder, "/"));
+        assertEquals(2 * TEST_FILE_VALUES_COUNT, getTestData(rootFolder, filePath).size());
+    }
+
     /**
      * Test getStream with csv and first_line_header.
      *
@@ -1067,6 +1230,41 @@ public class TestLocalFSFlightProducer extends ConnectorTestSuite
         assertEquals(Short.MAX_VALUE, data.get(2, 3));
     }
 
+    /**
+     * Test getStream with an Arrow IPC file.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetStreamArrow() throws Exception
+    {
+        final String filename = "getstream.arrow";
+        final String filePath = "/" + filename;
+        createTestFile(null, filePath, "arrow");
+        final CustomFlightAssetDescriptor descriptor = new CustomFlightAssetDescriptor();
+        final DiscoveredAssetInteractionProperties interactionProperties = new DiscoveredAssetInteractionProperties();
+        descriptor.setDatasourceTypeName(getDatasourceTypeName());
+        descriptor.setConnectionProperties(createConnectionProperties());
+        descriptor.setInteractionProperties(interactionProperties);
+        interactionProperties.put("file_name", filePath);
+        final FlightInfo info = getClient().getInfo(FlightDescriptor.command(modelMapper.toBytes(descriptor)));
+        final Schema schema = info.getSchemaOptional().get();
+        assertEquals(TEST_FILE_COLUMN_COUNT, schema.getFields().size());
+        final Table<Integer, Integer, Object> data = getTableData(info);
+        assertEquals(TEST_FILE_VALUES_COUNT, data.size());
+        assertEquals("Low values", data.get(0, 0));
+        assertFalse((Boolean) data.get(0, 1));
+        assertEquals(Byte.MIN_VALUE, data.get(0, 2));
+        assertEquals(Short.MIN_VALUE, data.get(0, 3));
+        assertEquals(new BigDecimal("-99.99"), data.get(0, 8));
+        assertEquals("Null values", data.get(1, 0));
+        assertNull(data.get(1, 1));
+        assertEquals("High values", data.get(2, 0));
+        assertTrue((Boolean) data.get(2, 1));
+        assertEquals(Byte.MAX_VALUE, data.get(2, 2));
+        assertEquals(Short.MAX_VALUE, data.get(2, 3));
+    }
+
     /**
      * Test getStream with parquet and snappy.
      *
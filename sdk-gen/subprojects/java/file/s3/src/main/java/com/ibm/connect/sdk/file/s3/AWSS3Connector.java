@@ -7,22 +7,37 @@ package com.ibm.connect.sdk.file.s3;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 import org.apache.arrow.flight.Ticket;
 import org.slf4j.Logger;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.ibm.connect.sdk.file.FileConnector;
 import com.ibm.connect.sdk.file.FileMsgs;
+import com.ibm.connect.sdk.file.FileSample;
 import com.ibm.connect.sdk.file.FileSourceInteraction;
 import com.ibm.connect.sdk.file.FileTargetInteraction;
 import com.ibm.connect.sdk.file.FileUtils;
@@ -40,9 +55,23 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3BaseClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.GetBucketPolicyRequest;
 import software.amazon.awssdk.services.s3.model.GetBucketPolicyResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -51,8 +80,12 @@ import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 /**
  * A connector for connecting to Amazon S3 (unstructured / file data).
@@ -61,6 +94,24 @@ public class AWSS3Connector extends FileConnector
 {
     private static final String BUCKET_PROP = "bucket";
 
+    private static final String DISCOVERY_CONCURRENCY_PROP = "discovery_concurrency";
+
+    /**
+     * Default number of objects whose details are fetched in parallel during
+     * discovery.
+     */
+    private static final int DEFAULT_DISCOVERY_CONCURRENCY = 8;
+
+    private static final String ASYNC_CLIENT_PROP = "async_client";
+
+    private static final String OCTET_STREAM = "application/octet-stream";
+
+    /**
+     * Maximum number of concurrent requests across all connectors that use the
+     * shared asynchronous HTTP client.
+     */
+    private static final int ASYNC_MAX_CONCURRENCY = 256;
+
     /**
      * ACL action name — matches {@code ACLProvider.ACTION_GETACL} in
      * wdp-connect-library.
@@ -80,8 +131,29 @@ public class AWSS3Connector extends FileConnector
 
     private static final Logger LOGGER = getLogger(AWSS3Connector.class);
 
+    /**
+     * HTTP client shared by every connector that uses the asynchronous S3 client,
+     * so that they all run on one Netty event loop and connection pool. It lives
+     * as long as the process because the SDK does not close clients it was given.
+     */
+    private static SdkAsyncHttpClient sharedAsyncHttpClient;
+
+    /**
+     * Continuation tokens of listings, shared by every connector so that a
+     * listing resumes where another connection to the bucket left it.
+     */
+    private static final AWSS3ListingCache LISTING_CACHE = new AWSS3ListingCache();
+
     private final String bucket;
+    private final String detailsLocationPrefix;
+    private final int discoveryConcurrency;
+    private final boolean asyncClient;
+    private final String bucketLocation;
+    private final String credentialsKey;
     private S3Client s3Client;
+    private S3AsyncClient s3AsyncClient;
+    private CompletableFuture<?> bucketValidation;
+    private ExecutorService discoveryExecutor;
     private AwsCredentialsProvider credentialsProvider;
     private Region region;
 
@@ -99,6 +171,21 @@ public class AWSS3Connector extends FileConnector
             throw new IllegalArgumentException(FileMsgs.MISSING_PROPERTY.format(BUCKET_PROP));
         }
         bucket = connectionProperties.getProperty(BUCKET_PROP);
+        discoveryConcurrency = getPositiveIntegerProperty(DISCOVERY_CONCURRENCY_PROP, DEFAULT_DISCOVERY_CONCURRENCY);
+
+        // The details detected for an object and the listings of the bucket are only
+        // shared with connections to the same endpoint or region with the same
+        // credentials.
+        final String endpointUrl = connectionProperties.getProperty("endpoint_url");
+        final String regionStr = connectionProperties.getProperty("region");
+        final String endpoint = endpointUrl != null && !endpointUrl.isEmpty() ? endpointUrl
+                : regionStr != null && !regionStr.isEmpty() ? regionStr : Region.US_EAST_1.id();
+        final String credentials = connectionProperties.getProperty("access_key_id", "") + ':'
+                + connectionProperties.getProperty("secret_access_key", "");
+        credentialsKey = Hashing.sha256().hashString(credentials, StandardCharsets.UTF_8).toString();
+        bucketLocation = endpoint + '/' + bucket;
+        detailsLocationPrefix = "s3://" + credentialsKey + '@' + bucketLocation + '/';
+        asyncClient = Boolean.parseBoolean(connectionProperties.getProperty(ASYNC_CLIENT_PROP));
     }
 
     /**
@@ -111,21 +198,18 @@ public class AWSS3Connector extends FileConnector
         if (s3Client != null) {
             return;
         }
+        if (s3AsyncClient != null) {
+            // Retry the deferred bucket validation if it failed on a previous use.
+            if (bucketValidation.isCompletedExceptionally()) {
+                bucketValidation = s3AsyncClient.headBucket(b -> b.bucket(bucket));
+            }
+            return;
+        }
         final Properties connectionProperties = getConnectionProperties();
-        final S3ClientBuilder builder = S3Client.builder();
 
         // Region (optional — falls back to environment / instance metadata).
         final String regionStr = connectionProperties.getProperty("region");
         region = (regionStr != null && !regionStr.isEmpty()) ? Region.of(regionStr) : Region.US_EAST_1;
-        builder.region(region);
-
-        // Custom endpoint for S3-compatible stores (MinIO, LocalStack, etc.).
-        final String endpointUrl = connectionProperties.getProperty("endpoint_url");
-        if (endpointUrl != null && !endpointUrl.isEmpty()) {
-            builder.endpointOverride(URI.create(endpointUrl));
-            // Path-style access is usually required for custom endpoints.
-            builder.forcePathStyle(true);
-        }
 
         // Credentials: static key pair or default provider chain.
         final String accessKeyId = connectionProperties.getProperty("access_key_id");
@@ -138,22 +222,76 @@ public class AWSS3Connector extends FileConnector
             LOGGER.debug("No access_key_id/secret_access_key provided; using DefaultCredentialsProvider.");
             credentialsProvider = DefaultCredentialsProvider.create();
         }
-        builder.credentialsProvider(credentialsProvider);
 
-        s3Client = builder.build();
+        if (asyncClient) {
+            useAsyncClient(configureClient(S3AsyncClient.builder().httpClient(sharedAsyncHttpClient())).build());
+            return;
+        }
+
+        s3Client = configureClient(S3Client.builder()).build();
 
         // Validate the bucket is reachable (equivalent to a connection test).
         LOGGER.info("Validating access to S3 bucket: {}", bucket);
         s3Client.headBucket(b -> b.bucket(bucket));
     }
 
+    /**
+     * Sends the requests of this connector with an asynchronous client.
+     *
+     * @param client
+     *            the asynchronous S3 client
+     */
+    void useAsyncClient(S3AsyncClient client)
+    {
+        s3AsyncClient = client;
+
+        // Validate the bucket lazily: the request is sent now but only awaited
+        // together with the first request that needs the bucket.
+        LOGGER.info("Validating access to S3 bucket: {}", bucket);
+        bucketValidation = s3AsyncClient.headBucket(b -> b.bucket(bucket));
+    }
+
+    /**
+     * Applies the region, endpoint and credentials of this connection to a
+     * synchronous or asynchronous client builder.
+     */
+    private <B extends S3BaseClientBuilder<B, ?>> B configureClient(B builder)
+    {
+        builder.region(region);
+
+        // Custom endpoint for S3-compatible stores (MinIO, LocalStack, etc.).
+        final String endpointUrl = getConnectionProperties().getProperty("endpoint_url");
+        if (endpointUrl != null && !endpointUrl.isEmpty()) {
+            builder.endpointOverride(URI.create(endpointUrl));
+            // Path-style access is usually required for custom endpoints.
+            builder.forcePathStyle(true);
+        }
+        return builder.credentialsProvider(credentialsProvider);
+    }
+
+    private static synchronized SdkAsyncHttpClient sharedAsyncHttpClient()
+    {
+        if (sharedAsyncHttpClient == null) {
+            final SdkEventLoopGroup eventLoopGroup = SdkEventLoopGroup.builder()
+                    .threadFactory(new ThreadFactoryBuilder().setNameFormat("s3-event-loop-%d").setDaemon(true).build()).build();
+            sharedAsyncHttpClient
+                    = NettyNioAsyncHttpClient.builder().eventLoopGroup(eventLoopGroup).maxConcurrency(ASYNC_MAX_CONCURRENCY).build();
+        }
+        return sharedAsyncHttpClient;
+    }
+
     /**
      * Returns the underlying S3 client for use by source interactions.
      *
      * @return the S3 client
+     * @throws IllegalStateException
+     *             if the asynchronous client is in use
      */
     S3Client getS3Client()
     {
+        if (s3Client == null) {
+            throw new IllegalStateException("The synchronous S3 client is not available when " + ASYNC_CLIENT_PROP + " is true");
+        }
         return s3Client;
     }
 
@@ -177,7 +315,9 @@ public class AWSS3Connector extends FileConnector
      */
     InputStream openObject(String key)
     {
-        return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(normalizeKey(key)).build());
+        final GetObjectRequest request = GetObjectRequest.builder().bucket(bucket).key(normalizeKey(key)).build();
+        return call(client -> client.getObject(request),
+                client -> client.getObject(request, AsyncResponseTransformer.toBlockingInputStream()));
     }
 
     /**
@@ -189,7 +329,220 @@ public class AWSS3Connector extends FileConnector
      */
     HeadObjectResponse headObject(String key)
     {
-        return s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(normalizeKey(key)).build());
+        final HeadObjectRequest request = HeadObjectRequest.builder().bucket(bucket).key(normalizeKey(key)).build();
+        return call(client -> client.headObject(request), client -> client.headObject(request));
+    }
+
+    /**
+     * Starts a multipart upload to the given key.
+     *
+     * @param key
+     *            the S3 object key
+     * @return the upload ID
+     */
+    String createMultipartUpload(String key)
+    {
+        final CreateMultipartUploadRequest request = CreateMultipartUploadRequest.builder().bucket(bucket).key(key).build();
+        return call(client -> client.createMultipartUpload(request), client -> client.createMultipartUpload(request)).uploadId();
+    }
+
+    /**
+     * Uploads one part of a multipart upload without waiting for it. The data
+     * array is not copied, so it must not be modified until the upload completes.
+     *
+     * @param key
+     *            the S3 object key
+     * @param uploadId
+     *            the upload ID
+     * @param partNumber
+     *            the part number, starting at 1
+     * @param data
+     *            the part content
+     * @param length
+     *            the number of bytes of {@code data} to upload
+     * @param executor
+     *            the executor on which to upload with the synchronous client
+     * @return the completed part
+     */
+    CompletableFuture<CompletedPart> uploadPart(String key, String uploadId, int partNumber, byte[] data, int length,
+            Executor executor)
+    {
+        final UploadPartRequest request = UploadPartRequest.builder().bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber)
+                .contentLength((long) length).build();
+        final CompletableFuture<UploadPartResponse> response;
+        if (s3AsyncClient == null) {
+            response = CompletableFuture.supplyAsync(() -> s3Client.uploadPart(request,
+                    RequestBody.fromContentProvider(() -> new ByteArrayInputStream(data, 0, length), length, OCTET_STREAM)), executor);
+        } else {
+            response = afterBucketValidation(
+                    s3AsyncClient.uploadPart(request, AsyncRequestBody.fromRemainingByteBufferUnsafe(ByteBuffer.wrap(data, 0, length))));
+        }
+        return response.thenApply(r -> CompletedPart.builder().partNumber(partNumber).eTag(r.eTag()).build());
+    }
+
+    /**
+     * Completes a multipart upload.
+     *
+     * @param key
+     *            the S3 object key
+     * @param uploadId
+     *            the upload ID
+     * @param parts
+     *            the uploaded parts in part number order
+     */
+    void completeMultipartUpload(String key, String uploadId, List<CompletedPart> parts)
+    {
+        final CompleteMultipartUploadRequest request = CompleteMultipartUploadRequest.builder().bucket(bucket).key(key)
+                .uploadId(uploadId).multipartUpload(CompletedMultipartUpload.builder().parts(parts).build()).build();
+        call(client -> client.completeMultipartUpload(request), client -> client.completeMultipartUpload(request));
+        LISTING_CACHE.invalidate(bucketLocation, key);
+    }
+
+    /**
+     * Aborts a multipart upload, discarding the parts uploaded so far.
+     *
+     * @param key
+     *            the S3 object key
+     * @param uploadId
+     *            the upload ID
+     */
+    void abortMultipartUpload(String key, String uploadId)
+    {
+        final AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder().bucket(bucket).key(key).uploadId(uploadId)
+                .build();
+        call(client -> client.abortMultipartUpload(request), client -> client.abortMultipartUpload(request));
+    }
+
+    /**
+     * Uploads an object in a single request.
+     *
+     * @param key
+     *            the S3 object key
+     * @param data
+     *            the object content
+     * @param length
+     *            the number of bytes of {@code data} to upload
+     */
+    void putObject(String key, byte[] data, int length)
+    {
+        final PutObjectRequest request = PutObjectRequest.builder().bucket(bucket).key(key).contentLength((long) length).build();
+        call(client -> client.putObject(request,
+                RequestBody.fromContentProvider(() -> new ByteArrayInputStream(data, 0, length), length, OCTET_STREAM)),
+                client -> client.putObject(request, AsyncRequestBody.fromRemainingByteBufferUnsafe(ByteBuffer.wrap(data, 0, length))));
+        LISTING_CACHE.invalidate(bucketLocation, key);
+    }
+
+    /**
+     * Returns the keys of all objects under a prefix, including those in nested
+     * folders.
+     *
+     * @param prefix
+     *            the key prefix
+     * @return the object keys
+     */
+    List<String> listObjectKeys(String prefix)
+    {
+        final List<String> keys = new ArrayList<>();
+        String continuationToken = null;
+        ListObjectsV2Response response;
+        do {
+            response = listObjectsV2(
+                    ListObjectsV2Request.builder().bucket(bucket).prefix(prefix).continuationToken(continuationToken).build());
+            for (final S3Object s3Object : response.contents()) {
+                keys.add(s3Object.key());
+            }
+            continuationToken = response.nextContinuationToken();
+        } while (Boolean.TRUE.equals(response.isTruncated()));
+        return keys;
+    }
+
+    /**
+     * Deletes objects, in batches of up to the 1000 keys allowed per request.
+     *
+     * @param keys
+     *            the keys of the objects to delete
+     */
+    void deleteObjects(List<String> keys)
+    {
+        for (final List<String> batch : Lists.partition(keys, 1000)) {
+            final List<ObjectIdentifier> objects = new ArrayList<>(batch.size());
+            for (final String key : batch) {
+                objects.add(ObjectIdentifier.builder().key(key).build());
+            }
+            final DeleteObjectsRequest request
+                    = DeleteObjectsRequest.builder().bucket(bucket).delete(Delete.builder().objects(objects).quiet(true).build()).build();
+            call(client -> client.deleteObjects(request), client -> client.deleteObjects(request));
+            for (final String key : batch) {
+                LISTING_CACHE.invalidate(bucketLocation, key);
+            }
+        }
+    }
+
+    private ListObjectsV2Response listObjectsV2(ListObjectsV2Request request)
+    {
+        return call(client -> client.listObjectsV2(request), client -> client.listObjectsV2(request));
+    }
+
+    /**
+     * Sends a request with the synchronous or the asynchronous client, whichever
+     * is in use, and waits for its response.
+     */
+    private <T> T call(Function<S3Client, T> syncRequest, Function<S3AsyncClient, CompletableFuture<T>> asyncRequest)
+    {
+        if (s3AsyncClient == null) {
+            return syncRequest.apply(s3Client);
+        }
+        return join(afterBucketValidation(asyncRequest.apply(s3AsyncClient)));
+    }
+
+    /**
+     * Completes with the result of {@code response} once the deferred bucket
+     * validation has also succeeded, so that an inaccessible bucket is reported in
+     * preference to the error of the individual request. A response that is
+     * dropped because the validation failed, such as an object stream, is closed
+     * so that its connection returns to the pool.
+     */
+    private <T> CompletableFuture<T> afterBucketValidation(CompletableFuture<T> response)
+    {
+        bucketValidation.whenComplete((validated, failure) -> {
+            if (failure != null) {
+                response.thenAccept(AWSS3Connector::closeQuietly);
+            }
+        });
+        return bucketValidation.thenCombine(response, (validated, result) -> result);
+    }
+
+    private static void closeQuietly(Object response)
+    {
+        if (response instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) response).close();
+            }
+            catch (Exception e) {
+                LOGGER.debug(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Waits for an S3 request and rethrows its failure unwrapped, so that callers
+     * see the same exceptions as with the synchronous client.
+     *
+     * @param future
+     *            the pending request
+     * @return the response
+     */
+    static <T> T join(CompletableFuture<T> future)
+    {
+        try {
+            return future.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     /**
@@ -207,77 +560,167 @@ public class AWSS3Connector extends FileConnector
         final List<CustomFlightAssetDescriptor> descriptors = new ArrayList<>();
         final int offset = criteria.getOffset() == null || criteria.getOffset() < 0 ? 0 : criteria.getOffset();
         final int limit = criteria.getLimit() == null || criteria.getLimit() < 0 ? Integer.MAX_VALUE : criteria.getLimit();
+        final boolean detail = Boolean.TRUE.equals(criteria.isDetail());
+
+        // Resume from the closest cached page at or before the offset so that deep
+        // pagination does not have to walk every preceding page again.
+        final Map.Entry<Integer, String> cachedPage = LISTING_CACHE.floor(bucketLocation, credentialsKey, prefix, offset);
+        final int startSeen = cachedPage != null ? cachedPage.getKey() : 0;
 
         // Use delimiter "/" to emulate directory-style listing.
         // Cap maxKeys to avoid fetching more items than needed for the requested page.
-        final int maxKeys = (offset + limit > 0 && limit != Integer.MAX_VALUE) ? Math.min(offset + limit, 1000) : 1000;
+        final int remaining = offset - startSeen + limit;
+        final int maxKeys = (remaining > 0 && limit != Integer.MAX_VALUE) ? Math.min(remaining, 1000) : 1000;
         final ListObjectsV2Request request
                 = ListObjectsV2Request.builder().bucket(bucket).prefix(prefix).delimiter("/").maxKeys(maxKeys).build();
 
-        int totalSeen = 0;
+        // File details require reading each object, so they are only fetched for a
+        // requested file or for a detailed listing of a bounded page. They are fetched
+        // on the discovery pool while the listing continues with the next page.
+        final boolean detailedPage = detail && limit != Integer.MAX_VALUE;
+        final List<Future<?>> enrichments = new ArrayList<>();
+
+        int totalSeen = startSeen;
         int added = 0;
-        String continuationToken = null;
+        String continuationToken = cachedPage != null ? cachedPage.getValue() : null;
         boolean truncated;
+        boolean pageFull = false;
 
-        do {
-            final ListObjectsV2Request.Builder reqBuilder = request.toBuilder();
-            if (continuationToken != null) {
-                reqBuilder.continuationToken(continuationToken);
-            }
-            final ListObjectsV2Response response = s3Client.listObjectsV2(reqBuilder.build());
-
-            // Common prefixes = sub-folders.
-            for (final software.amazon.awssdk.services.s3.model.CommonPrefix cp : response.commonPrefixes()) {
-                totalSeen++;
-                final PageAction pageAction = getPageAction(totalSeen, offset, added, limit);
-                if (pageAction == PageAction.SKIP) {
-                    continue;
-                }
-                if (pageAction == PageAction.STOP) {
-                    return descriptors;
-                }
-                final String folderPrefix = cp.prefix();
-                final String folderName = folderName(folderPrefix);
-                final String assetPath = "/" + folderPrefix;
-                descriptors.add(new CustomFlightAssetDescriptor().name(folderName).path(assetPath).assetType(folderAssetType()));
-                added++;
-            }
-
-            // Objects = files.
-            // When the prefix resolves to exactly one object whose key matches the prefix
-            // exactly (i.e. the caller specified a full file path), populate
-            // interactionProperties so the framework can complete the asset descriptor.
-            final boolean singleFileRequest = !prefix.isEmpty() && response.commonPrefixes().isEmpty() && response.contents().size() == 1
-                    && response.contents().get(0).key().equals(prefix);
-            for (final S3Object s3Object : response.contents()) {
-                // Skip the prefix itself (a zero-byte "directory marker") unless it is
-                // the explicitly requested file. These markers do not count toward the
-                // offset/limit totals.
-                if (s3Object.key().equals(prefix) && !singleFileRequest) {
-                    continue;
+        try {
+            do {
+                final ListObjectsV2Request.Builder reqBuilder = request.toBuilder();
+                if (continuationToken != null) {
+                    reqBuilder.continuationToken(continuationToken);
                 }
-                totalSeen++;
-                final PageAction pageAction = getPageAction(totalSeen, offset, added, limit);
-                if (pageAction == PageAction.SKIP) {
-                    continue;
+                final ListObjectsV2Response response = listObjectsV2(reqBuilder.build());
+                cacheNextPage(prefix, totalSeen, response);
+
+                // Common prefixes = sub-folders.
+                for (final software.amazon.awssdk.services.s3.model.CommonPrefix cp : response.commonPrefixes()) {
+                    totalSeen++;
+                    final PageAction pageAction = getPageAction(totalSeen, offset, added, limit);
+                    if (pageAction == PageAction.SKIP) {
+                        continue;
+                    }
+                    if (pageAction == PageAction.STOP) {
+                        pageFull = true;
+                        break;
+                    }
+                    final String folderPrefix = cp.prefix();
+                    final String folderName = folderName(folderPrefix);
+                    final String assetPath = "/" + folderPrefix;
+                    descriptors.add(new CustomFlightAssetDescriptor().name(folderName).path(assetPath).assetType(folderAssetType()));
+                    added++;
                 }
-                if (pageAction == PageAction.STOP) {
-                    return descriptors;
+                if (pageFull) {
+                    break;
                 }
-                final CustomFlightAssetDescriptor asset = createFileDescriptor(s3Object, singleFileRequest);
-                if (asset != null) {
+
+                // Objects = files.
+                // When the prefix resolves to exactly one object whose key matches the prefix
+                // exactly (i.e. the caller specified a full file path), populate
+                // interactionProperties so the framework can complete the asset descriptor.
+                final boolean singleFileRequest = !prefix.isEmpty() && response.commonPrefixes().isEmpty()
+                        && response.contents().size() == 1 && response.contents().get(0).key().equals(prefix);
+                for (final S3Object s3Object : response.contents()) {
+                    // Skip the prefix itself (a zero-byte "directory marker") unless it is
+                    // the explicitly requested file. These markers do not count toward the
+                    // offset/limit totals.
+                    if (s3Object.key().equals(prefix) && !singleFileRequest) {
+                        continue;
+                    }
+                    totalSeen++;
+                    final PageAction pageAction = getPageAction(totalSeen, offset, added, limit);
+                    if (pageAction == PageAction.SKIP) {
+                        continue;
+                    }
+                    if (pageAction == PageAction.STOP) {
+                        pageFull = true;
+                        break;
+                    }
+                    final boolean describeInteraction = singleFileRequest || detailedPage;
+                    final CustomFlightAssetDescriptor asset = createFileDescriptor(s3Object, describeInteraction);
                     descriptors.add(asset);
                     added++;
+                    if (describeInteraction) {
+                        final String key = s3Object.key();
+                        enrichments.add(getDiscoveryExecutor().submit(() -> {
+                            addFileDetails(asset, key, s3Object.size(), s3Object.eTag());
+                            return null;
+                        }));
+                    }
+                }
+                if (pageFull) {
+                    break;
                 }
-            }
 
-            truncated = response.isTruncated();
-            continuationToken = response.nextContinuationToken();
-        } while (truncated);
+                truncated = response.isTruncated();
+                continuationToken = response.nextContinuationToken();
+            } while (truncated);
+
+            awaitEnrichments(enrichments);
+        }
+        finally {
+            // Stop the lookups that are still pending after a failure.
+            for (final Future<?> enrichment : enrichments) {
+                enrichment.cancel(true);
+            }
+        }
 
         return descriptors;
     }
 
+    /**
+     * Returns the pool on which file details are fetched during discovery,
+     * creating it on first use. It is shared by the listings of this connector
+     * and shut down when the connector is closed.
+     */
+    private synchronized ExecutorService getDiscoveryExecutor()
+    {
+        if (discoveryExecutor == null) {
+            discoveryExecutor = Executors.newFixedThreadPool(discoveryConcurrency,
+                    new ThreadFactoryBuilder().setNameFormat("s3-discovery-%d").setDaemon(true).build());
+        }
+        return discoveryExecutor;
+    }
+
+    /**
+     * Records the continuation token of the page following the given response,
+     * keyed by the number of listing entries that precede that page.
+     */
+    private void cacheNextPage(String prefix, int pageStart, ListObjectsV2Response response)
+    {
+        if (!Boolean.TRUE.equals(response.isTruncated())) {
+            return;
+        }
+        int pageEntries = response.commonPrefixes().size();
+        for (final S3Object s3Object : response.contents()) {
+            if (!s3Object.key().equals(prefix)) {
+                pageEntries++;
+            }
+        }
+        LISTING_CACHE.put(bucketLocation, credentialsKey, prefix, pageStart + pageEntries, response.nextContinuationToken());
+    }
+
+    /**
+     * Waits for all pending file detail lookups to finish, rethrowing the first
+     * failure.
+     */
+    private static void awaitEnrichments(List<Future<?>> enrichments) throws Exception
+    {
+        for (final Future<?> enrichment : enrichments) {
+            try {
+                enrichment.get();
+            }
+            catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+
     private PageAction getPageAction(int totalSeen, int offset, int added, int limit)
     {
         if (totalSeen <= offset) {
@@ -294,7 +737,7 @@ public class AWSS3Connector extends FileConnector
         SKIP, STOP, ADD
     }
 
-    private CustomFlightAssetDescriptor createFileDescriptor(S3Object s3Object, boolean describeInteraction) throws Exception
+    private CustomFlightAssetDescriptor createFileDescriptor(S3Object s3Object, boolean describeInteraction)
     {
         final String key = s3Object.key();
         final String fileName = objectName(key);
@@ -308,11 +751,12 @@ public class AWSS3Connector extends FileConnector
         details.put("file_size", s3Object.size());
         asset.setDetails(details);
 
+        // The remaining details are added by the caller, which reads the object
+        // content via addFileDetails.
         if (describeInteraction) {
             final DiscoveredAssetInteractionProperties interactionProperties = new DiscoveredAssetInteractionProperties();
             interactionProperties.put("file_name", assetPath);
             asset.setInteractionProperties(interactionProperties);
-            addFileDetails(asset, key);
         }
         return asset;
     }
@@ -328,41 +772,45 @@ public class AWSS3Connector extends FileConnector
      */
     void addFileDetails(CustomFlightAssetDescriptor asset, String key) throws Exception
     {
-        final String fileName = objectName(key);
-        try (InputStream objectStream = FileUtils.ensureMarkSupported(openObject(key))) {
-            // Detect mime type.
-            final String mimeType = FileUtils.detectMimeType(objectStream, fileName);
-            if (mimeType != null) {
-                if (asset.getDetails() == null) {
-                    asset.setDetails(new DiscoveredAssetDetails());
-                }
-                asset.getDetails().put("mime_type", mimeType);
-            }
-
-            // Detect file format.
-            final String detectedFileFormat = FileUtils.detectFileFormat(mimeType, fileName, objectStream);
-            final String fileFormat = detectedFileFormat != null ? detectedFileFormat : FileUtils.FILE_FORMAT_DELIMITED;
-            if (asset.getInteractionProperties() == null) {
-                asset.setInteractionProperties(new DiscoveredAssetInteractionProperties());
-            }
-            asset.getInteractionProperties().put("file_format", fileFormat);
-
-            // Detect delimited file properties.
-            if (FileUtils.FILE_FORMAT_CSV.equals(fileFormat) || FileUtils.FILE_FORMAT_DELIMITED.equals(fileFormat)) {
-                FileUtils.detectDelimitedProperties(objectStream, asset.getInteractionProperties());
-            }
+        final HeadObjectResponse head = headObject(key);
+        addFileDetails(asset, key, head.contentLength(), head.eTag());
+    }
 
-            // Describe fields using Spark (only for structured formats).
-            if (!AWSS3DatasourceType.FILE_FORMAT_BINARY.equals(fileFormat)) {
-                final String tempFilename = FileUtils.createTempFile(objectStream, fileName, fileFormat);
-                try {
-                    addAssetFields(asset, tempFilename);
-                }
-                finally {
-                    FileUtils.deleteTempFile(tempFilename);
+    /**
+     * Adds file format details by streaming a small prefix of the S3 object,
+     * unless they were detected for the same version of the object before.
+     *
+     * @param asset
+     *            the descriptor to enrich
+     * @param key
+     *            the S3 object key
+     * @param size
+     *            the size of the object
+     * @param eTag
+     *            the entity tag of the object
+     * @throws Exception
+     */
+    void addFileDetails(CustomFlightAssetDescriptor asset, String key, long size, String eTag) throws Exception
+    {
+        final String fileName = objectName(key);
+        addCachedFileDetails(asset, detailsLocationPrefix + normalizeKey(key), size, eTag, () -> {
+            try (InputStream objectStream = openObject(key)) {
+                // Detect mime type, file format and delimited file properties.
+                final FileSample sample = FileUtils.readSample(objectStream);
+                final String fileFormat = FileUtils.detectFileDetails(sample, fileName, asset);
+
+                // Describe fields using Spark (only for structured formats).
+                if (!AWSS3DatasourceType.FILE_FORMAT_BINARY.equals(fileFormat)) {
+                    final String tempFilename = FileUtils.createTempFile(sample.openContent(), fileName, fileFormat);
+                    try {
+                        addAssetFields(asset, tempFilename);
+                    }
+                    finally {
+                        FileUtils.deleteTempFile(tempFilename);
+                    }
                 }
             }
-        }
+        });
     }
 
     /**
@@ -375,12 +823,12 @@ public class AWSS3Connector extends FileConnector
     }
 
     /**
-     * {@inheritDoc} S3 connector is source-only; writing is not supported.
+     * {@inheritDoc}
      */
     @Override
-    public FileTargetInteraction getTargetInteraction(CustomFlightAssetDescriptor asset)
+    public FileTargetInteraction getTargetInteraction(CustomFlightAssetDescriptor asset) throws Exception
     {
-        throw new UnsupportedOperationException(FileMsgs.DATASOURCE_TYPE_NOT_SUPPORTED.format(AWSS3DatasourceType.DATASOURCE_TYPE_NAME));
+        return new AWSS3TargetInteraction(this, asset);
     }
 
     /**
@@ -487,7 +935,9 @@ public class AWSS3Connector extends FileConnector
         final AclResult result = new AclResult();
 
         try {
-            final GetBucketPolicyResponse policyResp = s3Client.getBucketPolicy(GetBucketPolicyRequest.builder().bucket(bucket).build());
+            final GetBucketPolicyRequest policyRequest = GetBucketPolicyRequest.builder().bucket(bucket).build();
+            final GetBucketPolicyResponse policyResp
+                    = call(client -> client.getBucketPolicy(policyRequest), client -> client.getBucketPolicy(policyRequest));
             if (policyResp != null && policyResp.policy() != null) {
                 try {
                     AWSS3PolicyParser.extractBucketPolicyAccess(policyResp.policy(), bucket, objectKey, result);
@@ -565,10 +1015,22 @@ public class AWSS3Connector extends FileConnector
     public void close() throws Exception
     {
         super.close();
+        synchronized (this) {
+            if (discoveryExecutor != null) {
+                discoveryExecutor.shutdownNow();
+                discoveryExecutor = null;
+            }
+        }
         if (s3Client != null) {
             s3Client.close();
             s3Client = null;
         }
+        if (s3AsyncClient != null) {
+            // Closing the client leaves the shared HTTP client running.
+            s3AsyncClient.close();
+            s3AsyncClient = null;
+            bucketValidation = null;
+        }
     }
 
     // -----------------------------------------------------------------------
@@ -625,13 +1087,15 @@ public class AWSS3Connector extends FileConnector
      *
      * @param key
      *            S3 object key (no leading slash)
+     * @return the metadata of the object
      * @throws IllegalArgumentException
      *             if the key does not exist or is a prefix
      */
-    void validateObjectKey(String key)
+    HeadObjectResponse validateObjectKey(String key)
     {
         try {
-            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            final HeadObjectRequest request = HeadObjectRequest.builder().bucket(bucket).key(key).build();
+            return call(client -> client.headObject(request), client -> client.headObject(request));
         }
         catch (NoSuchKeyException e) {
             throw new IllegalArgumentException(AWSS3Msgs.OBJECT_DOES_NOT_EXIST.format(key), e);
@@ -687,7 +1151,7 @@ public class AWSS3Connector extends FileConnector
     {
         final String prefix = key.endsWith("/") ? key : key + "/";
         final ListObjectsV2Response response
-                = s3Client.listObjectsV2(ListObjectsV2Request.builder().bucket(bucket).prefix(prefix).maxKeys(1).build());
+                = listObjectsV2(ListObjectsV2Request.builder().bucket(bucket).prefix(prefix).maxKeys(1).build());
         if (!response.hasContents() && response.commonPrefixes().isEmpty()) {
             throw new IllegalArgumentException(AWSS3Msgs.DIRECTORY_DOES_NOT_EXIST.format(key));
         }
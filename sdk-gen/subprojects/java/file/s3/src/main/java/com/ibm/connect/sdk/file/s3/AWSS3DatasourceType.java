@@ -64,7 +64,7 @@ public class AWSS3DatasourceType extends CustomFlightDatasourceType
         setLabel(AWSS3Labels.DATASOURCE_TYPE_LABEL.format());
         setDescription(AWSS3Labels.DATASOURCE_TYPE_DESCRIPTION.format());
         setAllowedAsSource(true);
-        setAllowedAsTarget(false);
+        setAllowedAsTarget(true);
         setStatus(CustomFlightDatasourceType.StatusEnum.ACTIVE);
         setTags(Collections.emptyList());
         final CustomFlightDatasourceTypeProperties properties = new CustomFlightDatasourceTypeProperties();
@@ -88,6 +88,12 @@ public class AWSS3DatasourceType extends CustomFlightDatasourceType
                 new CustomDatasourceTypeProperty().name("secret_access_key").label(AWSS3Labels.CONNECTION_SECRET_ACCESS_KEY_LABEL.format())
                         .description(AWSS3Labels.CONNECTION_SECRET_ACCESS_KEY_DESCRIPTION.format()).type(TypeEnum.STRING).required(false)
                         .masked(true).group("credentials"));
+        properties.addConnectionItem(new CustomDatasourceTypeProperty().name("discovery_concurrency")
+                .label(AWSS3Labels.CONNECTION_DISCOVERY_CONCURRENCY_LABEL.format())
+                .description(AWSS3Labels.CONNECTION_DISCOVERY_CONCURRENCY_DESCRIPTION.format()).type(TypeEnum.INTEGER).required(false));
+        properties.addConnectionItem(new CustomDatasourceTypeProperty().name("async_client")
+                .label(AWSS3Labels.CONNECTION_ASYNC_CLIENT_LABEL.format())
+                .description(AWSS3Labels.CONNECTION_ASYNC_CLIENT_DESCRIPTION.format()).type(TypeEnum.BOOLEAN).required(false));
 
         // Define the source interaction properties.
         // file_name is the S3 object key (path within the bucket).
@@ -120,6 +126,9 @@ public class AWSS3DatasourceType extends CustomFlightDatasourceType
         properties.addSourceItem(
                 new CustomDatasourceTypeProperty().name("byte_limit").label(FileLabels.SOURCE_BYTE_LIMIT_LABEL.format())
                         .description(FileLabels.SOURCE_BYTE_LIMIT_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
+        properties.addSourceItem(
+                new CustomDatasourceTypeProperty().name("row_filter").label(FileLabels.SOURCE_ROW_FILTER_LABEL.format())
+                        .description(FileLabels.SOURCE_ROW_FILTER_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
         // CSV / delimited options.
         properties.addSourceItem(new CustomDatasourceTypeProperty().name("comment_character_value")
                 .label(FileLabels.SOURCE_COMMENT_CHARACTER_VALUE_LABEL.format())
@@ -171,6 +180,75 @@ public class AWSS3DatasourceType extends CustomFlightDatasourceType
                 new CustomDatasourceTypeProperty().name("row_tag").label(FileLabels.SOURCE_ROW_TAG_LABEL.format())
                         .description(FileLabels.SOURCE_ROW_TAG_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
 
+        // Define the target interaction properties.
+        // file_name is the S3 object key, or the folder for a partitioned write.
+        properties.addTargetItem(
+                new CustomDatasourceTypeProperty().name("file_name").label(AWSS3Labels.TARGET_FILE_NAME_LABEL.format())
+                        .description(AWSS3Labels.TARGET_FILE_NAME_DESCRIPTION.format()).type(TypeEnum.STRING).required(true));
+        properties.addTargetItem(
+                new CustomDatasourceTypeProperty().name("file_format").label(FileLabels.TARGET_FILE_FORMAT_LABEL.format())
+                        .description(FileLabels.TARGET_FILE_FORMAT_DESCRIPTION.format()).type(TypeEnum.ENUM).required(false)
+                        .addValuesItem(new DatasourceTypePropertyValues().value("arrow")
+                                .label(FileLabels.TARGET_FILE_FORMAT_VALUE_ARROW_LABEL.format()))
+                        .addValuesItem(
+                                new DatasourceTypePropertyValues().value("avro").label(FileLabels.TARGET_FILE_FORMAT_VALUE_AVRO_LABEL.format()))
+                        .addValuesItem(
+                                new DatasourceTypePropertyValues().value("csv").label(FileLabels.TARGET_FILE_FORMAT_VALUE_CSV_LABEL.format()))
+                        .addValuesItem(new DatasourceTypePropertyValues().value("delimited")
+                                .label(FileLabels.TARGET_FILE_FORMAT_VALUE_DELIMITED_LABEL.format()))
+                        .addValuesItem(
+                                new DatasourceTypePropertyValues().value("json").label(FileLabels.TARGET_FILE_FORMAT_VALUE_JSON_LABEL.format()))
+                        .addValuesItem(new DatasourceTypePropertyValues().value("parquet")
+                                .label(FileLabels.TARGET_FILE_FORMAT_VALUE_PARQUET_LABEL.format())));
+        // CSV, delimited and JSON options.
+        properties.addTargetItem(
+                new CustomDatasourceTypeProperty().name("date_format").label(FileLabels.TARGET_DATE_FORMAT_LABEL.format())
+                        .description(FileLabels.TARGET_DATE_FORMAT_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
+        properties.addTargetItem(
+                new CustomDatasourceTypeProperty().name("encoding").label(FileLabels.TARGET_ENCODING_LABEL.format())
+                        .description(FileLabels.TARGET_ENCODING_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
+        properties.addTargetItem(new CustomDatasourceTypeProperty().name("escape_character_value")
+                .label(FileLabels.TARGET_ESCAPE_CHARACTER_VALUE_LABEL.format())
+                .description(FileLabels.TARGET_ESCAPE_CHARACTER_VALUE_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
+        properties.addTargetItem(new CustomDatasourceTypeProperty().name("field_delimiter_value")
+                .label(FileLabels.TARGET_FIELD_DELIMITER_VALUE_LABEL.format())
+                .description(FileLabels.TARGET_FIELD_DELIMITER_VALUE_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
+        properties.addTargetItem(
+                new CustomDatasourceTypeProperty().name("first_line_header").label(FileLabels.TARGET_FIRST_LINE_HEADER_LABEL.format())
+                        .description(FileLabels.TARGET_FIRST_LINE_HEADER_DESCRIPTION.format()).type(TypeEnum.BOOLEAN).required(false));
+        properties.addTargetItem(
+                new CustomDatasourceTypeProperty().name("null_value").label(FileLabels.TARGET_NULL_VALUE_LABEL.format())
+                        .description(FileLabels.TARGET_NULL_VALUE_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
+        properties.addTargetItem(new CustomDatasourceTypeProperty().name("quote_character_value")
+                .label(FileLabels.TARGET_QUOTE_CHARACTER_VALUE_LABEL.format())
+                .description(FileLabels.TARGET_QUOTE_CHARACTER_VALUE_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
+        properties.addTargetItem(
+                new CustomDatasourceTypeProperty().name("row_delimiter_value").label(FileLabels.TARGET_ROW_DELIMITER_VALUE_LABEL.format())
+                        .description(FileLabels.TARGET_ROW_DELIMITER_VALUE_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
+        properties.addTargetItem(
+                new CustomDatasourceTypeProperty().name("time_zone_format").label(FileLabels.TARGET_TIME_ZONE_FORMAT_LABEL.format())
+                        .description(FileLabels.TARGET_TIME_ZONE_FORMAT_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
+        properties.addTargetItem(
+                new CustomDatasourceTypeProperty().name("timestamp_format").label(FileLabels.TARGET_TIMESTAMP_FORMAT_LABEL.format())
+                        .description(FileLabels.TARGET_TIMESTAMP_FORMAT_DESCRIPTION.format()).type(TypeEnum.STRING).required(false));
+        // Options of all formats. The codecs that each format supports are described,
+        // and checked by FileRecordWriter.checkSupported.
+        properties.addTargetItem(
+                new CustomDatasourceTypeProperty().name("compression").label(FileLabels.TARGET_COMPRESSION_LABEL.format())
+                        .description(AWSS3Labels.TARGET_COMPRESSION_DESCRIPTION.format()).type(TypeEnum.ENUM).required(false)
+                        .addValuesItem(new DatasourceTypePropertyValues().value("none")
+                                .label(FileLabels.TARGET_COMPRESSION_VALUE_NONE_LABEL.format()))
+                        .addValuesItem(new DatasourceTypePropertyValues().value("gzip")
+                                .label(FileLabels.TARGET_COMPRESSION_VALUE_GZIP_LABEL.format()))
+                        .addValuesItem(new DatasourceTypePropertyValues().value("lz4")
+                                .label(FileLabels.TARGET_COMPRESSION_VALUE_LZ4_LABEL.format()))
+                        .addValuesItem(new DatasourceTypePropertyValues().value("snappy")
+                                .label(FileLabels.TARGET_COMPRESSION_VALUE_SNAPPY_LABEL.format()))
+                        .addValuesItem(new DatasourceTypePropertyValues().value("uncompressed")
+                                .label(FileLabels.TARGET_COMPRESSION_VALUE_UNCOMPRESSED_LABEL.format()))
+                        .addValuesItem(new DatasourceTypePropertyValues().value("zstd")
+                                .label(FileLabels.TARGET_COMPRESSION_VALUE_ZSTD_LABEL.format())));
+
         // Define the asset types that can be discovered.
         final DatasourceTypeDiscovery discovery = new DatasourceTypeDiscovery();
         setDiscovery(discovery);
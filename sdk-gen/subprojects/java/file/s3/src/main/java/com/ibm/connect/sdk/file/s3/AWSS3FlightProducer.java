@@ -7,12 +7,22 @@ package com.ibm.connect.sdk.file.s3;
 
 import com.ibm.connect.sdk.api.ConnectorFactory;
 import com.ibm.connect.sdk.api.ConnectorFlightProducer;
+import com.ibm.connect.sdk.file.FileSparkRuntime;
 
 /**
  * A Flight producer for the Amazon S3 connector.
  */
 public class AWSS3FlightProducer extends ConnectorFlightProducer
 {
+    /**
+     * Constructs a flight producer for the Amazon S3 connector and starts Spark in the background.
+     */
+    public AWSS3FlightProducer()
+    {
+        super();
+        FileSparkRuntime.warmUp();
+    }
+
     /**
      * {@inheritDoc}
      */
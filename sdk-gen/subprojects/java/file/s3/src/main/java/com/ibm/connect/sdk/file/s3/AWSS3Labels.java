@@ -72,6 +72,26 @@ public enum AWSS3Labels implements ResourceBundleHelper.MessageFormatter<AWSS3La
      */
     CONNECTION_SECRET_ACCESS_KEY_DESCRIPTION,
 
+    /**
+     * Label for connection property discovery_concurrency.
+     */
+    CONNECTION_DISCOVERY_CONCURRENCY_LABEL,
+
+    /**
+     * Description for connection property discovery_concurrency.
+     */
+    CONNECTION_DISCOVERY_CONCURRENCY_DESCRIPTION,
+
+    /**
+     * Label for connection property async_client.
+     */
+    CONNECTION_ASYNC_CLIENT_LABEL,
+
+    /**
+     * Description for connection property async_client.
+     */
+    CONNECTION_ASYNC_CLIENT_DESCRIPTION,
+
     /**
      * Label for source property file_name.
      */
@@ -82,6 +102,21 @@ public enum AWSS3Labels implements ResourceBundleHelper.MessageFormatter<AWSS3La
      */
     SOURCE_FILE_NAME_DESCRIPTION,
 
+    /**
+     * Label for target property file_name.
+     */
+    TARGET_FILE_NAME_LABEL,
+
+    /**
+     * Description for target property file_name.
+     */
+    TARGET_FILE_NAME_DESCRIPTION,
+
+    /**
+     * Description for target property compression.
+     */
+    TARGET_COMPRESSION_DESCRIPTION,
+
     /**
      * Label for the binary (raw bytes) file format enum value.
      */
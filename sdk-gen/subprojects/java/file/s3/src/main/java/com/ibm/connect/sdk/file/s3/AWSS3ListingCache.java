@@ -0,0 +1,138 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.s3;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches {@code ListObjectsV2} continuation tokens per bucket and prefix so
+ * that a listing can resume at a known offset instead of re-paginating from the
+ * start of the prefix.
+ *
+ * <p>
+ * Each prefix maps the number of listing entries (folders and files, excluding
+ * the prefix's own directory marker) that precede a page to the continuation
+ * token that returns that page. Entries expire after a fixed time and the number
+ * of cached prefixes is bounded.
+ *
+ * <p>
+ * The cache is shared by all connectors. A bucket is identified by its endpoint
+ * or region and its name, and its tokens are kept apart for each set of
+ * credentials, which may see different objects. A change to an object
+ * invalidates the listings of all credentials, whichever connector made it.
+ */
+final class AWSS3ListingCache
+{
+    private static final int MAX_PREFIXES = 1000;
+    static final long EXPIRE_AFTER_WRITE_MINUTES = 5;
+
+    // Tokens by endpoint, bucket and prefix, then by credentials.
+    private final Cache<String, ConcurrentMap<String, NavigableMap<Integer, String>>> tokenCache;
+
+    /**
+     * Constructs an empty listing cache.
+     */
+    AWSS3ListingCache()
+    {
+        this(Ticker.systemTicker());
+    }
+
+    /**
+     * Constructs an empty listing cache whose entries expire by the given time
+     * source.
+     *
+     * @param ticker
+     *            the time source
+     */
+    AWSS3ListingCache(Ticker ticker)
+    {
+        tokenCache = CacheBuilder.newBuilder().maximumSize(MAX_PREFIXES).expireAfterWrite(EXPIRE_AFTER_WRITE_MINUTES, TimeUnit.MINUTES)
+                .ticker(ticker).build();
+    }
+
+    /**
+     * Returns the cached page start closest to, but not after, the given offset.
+     *
+     * @param bucketLocation
+     *            the endpoint or region and the name of the bucket
+     * @param credentialsKey
+     *            a hash of the credentials that list the bucket
+     * @param prefix
+     *            the listing prefix
+     * @param offset
+     *            the number of entries to skip
+     * @return the number of entries preceding the page mapped to its continuation
+     *         token, or null if no page at or before the offset is cached
+     */
+    Map.Entry<Integer, String> floor(String bucketLocation, String credentialsKey, String prefix, int offset)
+    {
+        final Map<String, NavigableMap<Integer, String>> tokensByCredentials = tokenCache.getIfPresent(cacheKey(bucketLocation, prefix));
+        final NavigableMap<Integer, String> tokens = tokensByCredentials != null ? tokensByCredentials.get(credentialsKey) : null;
+        return tokens != null ? tokens.floorEntry(offset) : null;
+    }
+
+    /**
+     * Records the continuation token for the page that starts after the given
+     * number of entries.
+     *
+     * @param bucketLocation
+     *            the endpoint or region and the name of the bucket
+     * @param credentialsKey
+     *            a hash of the credentials that list the bucket
+     * @param prefix
+     *            the listing prefix
+     * @param entriesBefore
+     *            the number of entries preceding the page
+     * @param continuationToken
+     *            the token that returns the page
+     */
+    void put(String bucketLocation, String credentialsKey, String prefix, int entriesBefore, String continuationToken)
+    {
+        if (continuationToken == null) {
+            return;
+        }
+        tokenCache.asMap().computeIfAbsent(cacheKey(bucketLocation, prefix), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(credentialsKey, k -> new ConcurrentSkipListMap<>()).put(entriesBefore, continuationToken);
+    }
+
+    /**
+     * Discards the cached tokens of all credentials for the prefix containing the
+     * given key and for every ancestor prefix, since adding or removing the key
+     * changes all of those listings.
+     *
+     * @param bucketLocation
+     *            the endpoint or region and the name of the bucket
+     * @param key
+     *            an object key or prefix that changed
+     */
+    void invalidate(String bucketLocation, String key)
+    {
+        String prefix = key;
+        while (true) {
+            final int lastSlash = prefix.endsWith("/") ? prefix.lastIndexOf('/', prefix.length() - 2) : prefix.lastIndexOf('/');
+            prefix = lastSlash >= 0 ? prefix.substring(0, lastSlash + 1) : "";
+            tokenCache.invalidate(cacheKey(bucketLocation, prefix));
+            if (prefix.isEmpty()) {
+                break;
+            }
+        }
+        tokenCache.invalidate(cacheKey(bucketLocation, key));
+    }
+
+    private static String cacheKey(String bucketLocation, String prefix)
+    {
+        return bucketLocation + '/' + prefix;
+    }
+}
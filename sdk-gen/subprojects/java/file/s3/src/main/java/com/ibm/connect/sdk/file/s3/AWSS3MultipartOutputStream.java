@@ -0,0 +1,286 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.s3;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+
+/**
+ * An output stream that uploads its content to an S3 object using a multipart
+ * upload.
+ *
+ * <p>
+ * Content is buffered one part at a time and each full part is uploaded in the
+ * background while writing continues. The parts being uploaded hold at most
+ * {@value #MAX_BYTES_IN_FLIGHT} bytes, or a single part once parts grow larger,
+ * which bounds memory use regardless of the object size. With the synchronous
+ * client, parts are uploaded on a pool of threads shared by all streams.
+ * Content that fits in a single part is uploaded with one PutObject request
+ * instead.
+ *
+ * <p>
+ * The upload is completed by {@link #close()} and discarded by
+ * {@link #abort()}.
+ */
+class AWSS3MultipartOutputStream extends OutputStream
+{
+    private static final Logger LOGGER = getLogger(AWSS3MultipartOutputStream.class);
+
+    /**
+     * Size of the first parts. S3 requires every part but the last to be at least
+     * 5 MiB.
+     */
+    private static final int INITIAL_PART_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * The part size doubles after this many parts so that large objects stay
+     * within the S3 limit of 10,000 parts.
+     */
+    private static final int PARTS_PER_SIZE_STEP = 1000;
+
+    /**
+     * Largest part size allowed by S3.
+     */
+    private static final long MAX_PART_SIZE = 5L * 1024 * 1024 * 1024;
+
+    /**
+     * Largest part size that fits in one buffer.
+     */
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final int MAX_BYTES_IN_FLIGHT = 4 * INITIAL_PART_SIZE;
+
+    private static final int UPLOAD_THREADS = 16;
+
+    /**
+     * Uploads the parts of all streams that use the synchronous client. Each
+     * stream bounds its own parts in flight, so the queue only holds parts whose
+     * buffers are already accounted for.
+     */
+    private static final ThreadPoolExecutor UPLOAD_EXECUTOR = createUploadExecutor();
+
+    private final AWSS3Connector connector;
+    private final String key;
+    private final Semaphore bytesInFlight = new Semaphore(MAX_BYTES_IN_FLIGHT);
+    private final List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+
+    private volatile CompletableFuture<CompletedPart> failedPart;
+    private String uploadId;
+    private int partSize = INITIAL_PART_SIZE;
+    private byte[] buffer = new byte[INITIAL_PART_SIZE];
+    private int position;
+    private boolean closed;
+
+    /**
+     * Creates a stream that uploads to the given key.
+     *
+     * @param connector
+     *            the connector managing the connection to the bucket
+     * @param key
+     *            the S3 object key
+     */
+    AWSS3MultipartOutputStream(AWSS3Connector connector, String key)
+    {
+        this.connector = connector;
+        this.key = key;
+    }
+
+    private static ThreadPoolExecutor createUploadExecutor()
+    {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(UPLOAD_THREADS, UPLOAD_THREADS, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setNameFormat("s3-upload-%d").setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Returns the size of the parts after the next size step.
+     *
+     * @param partSize
+     *            the current part size
+     * @return the doubled part size, within the limits of S3 and of a buffer
+     */
+    static int nextPartSize(int partSize)
+    {
+        return (int) Math.min(Math.min(partSize * 2L, MAX_PART_SIZE), MAX_BUFFER_SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(int b) throws IOException
+    {
+        ensureOpen();
+        if (position == buffer.length) {
+            uploadBuffer();
+            nextBuffer();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException
+    {
+        ensureOpen();
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (position == buffer.length) {
+                uploadBuffer();
+                nextBuffer();
+            }
+            final int count = Math.min(remaining, buffer.length - position);
+            System.arraycopy(b, offset, buffer, position, count);
+            position += count;
+            offset += count;
+            remaining -= count;
+        }
+    }
+
+    private void ensureOpen() throws IOException
+    {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * Hands the current buffer to a background upload.
+     */
+    private void uploadBuffer() throws IOException
+    {
+        if (uploadId == null) {
+            uploadId = connector.createMultipartUpload(key);
+        }
+        // A part larger than the budget is uploaded on its own.
+        final int bytes = Math.min(position, MAX_BYTES_IN_FLIGHT);
+        try {
+            bytesInFlight.acquire(bytes);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+        final int partNumber = parts.size() + 1;
+        final CompletableFuture<CompletedPart> part;
+        try {
+            part = connector.uploadPart(key, uploadId, partNumber, buffer, position, UPLOAD_EXECUTOR);
+        }
+        catch (RuntimeException e) {
+            bytesInFlight.release(bytes);
+            throw e;
+        }
+        part.whenComplete((completed, error) -> {
+            // Keep the first failure, rather than the parts cancelled after it.
+            if (error != null && failedPart == null) {
+                failedPart = part;
+            }
+            bytesInFlight.release(bytes);
+        });
+        parts.add(part);
+
+        // Fail fast instead of buffering more data after an upload has failed.
+        final CompletableFuture<CompletedPart> failed = failedPart;
+        if (failed != null) {
+            closed = true;
+            buffer = null;
+            abortUpload();
+            AWSS3Connector.join(failed);
+        }
+    }
+
+    private void nextBuffer()
+    {
+        if (parts.size() % PARTS_PER_SIZE_STEP == 0) {
+            partSize = nextPartSize(partSize);
+        }
+        buffer = new byte[partSize];
+        position = 0;
+    }
+
+    /**
+     * Uploads any remaining content and completes the upload.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (uploadId == null) {
+                connector.putObject(key, buffer, position);
+                return;
+            }
+            if (position > 0) {
+                uploadBuffer();
+            }
+            final List<CompletedPart> completedParts = new ArrayList<>(parts.size());
+            for (final CompletableFuture<CompletedPart> part : parts) {
+                completedParts.add(AWSS3Connector.join(part));
+            }
+            connector.completeMultipartUpload(key, uploadId, completedParts);
+        }
+        catch (IOException | RuntimeException e) {
+            abortUpload();
+            throw e;
+        }
+        finally {
+            buffer = null;
+        }
+    }
+
+    /**
+     * Discards the upload without creating the object.
+     */
+    void abort()
+    {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer = null;
+        abortUpload();
+    }
+
+    private void abortUpload()
+    {
+        if (uploadId == null) {
+            return;
+        }
+        for (final CompletableFuture<CompletedPart> part : parts) {
+            part.cancel(true);
+        }
+        try {
+            connector.abortMultipartUpload(key, uploadId);
+        }
+        catch (RuntimeException e) {
+            LOGGER.warn("Failed to abort multipart upload " + uploadId + " for " + key, e);
+        }
+        uploadId = null;
+    }
+}
@@ -24,6 +24,8 @@ import com.ibm.connect.sdk.util.ModelMapper;
 import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
 import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
 
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
 /**
  * An interaction with an Amazon S3 object as a source.
  *
@@ -85,8 +87,8 @@ public class AWSS3SourceInteraction extends FileSourceInteraction
         // Skip auto-detection when the caller has explicitly requested binary (raw) mode.
         String fileFormat = interactionProperties.getProperty("file_format");
         if (fileFormat == null || (asset.getFields() == null && !AWSS3DatasourceType.FILE_FORMAT_BINARY.equals(fileFormat))) {
-            connector.validateObjectKey(objectKey);
-            connector.addFileDetails(asset, objectKey);
+            final HeadObjectResponse head = connector.validateObjectKey(objectKey);
+            connector.addFileDetails(asset, objectKey, head.contentLength(), head.eTag());
             fileFormat = getInteractionProperties().getProperty("file_format");
         }
         rawMode = AWSS3DatasourceType.FILE_FORMAT_BINARY.equals(fileFormat);
@@ -0,0 +1,170 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.s3;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.ibm.connect.sdk.file.FileMsgs;
+import com.ibm.connect.sdk.file.FileRecordWriter;
+import com.ibm.connect.sdk.file.FileTargetInteraction;
+import com.ibm.connect.sdk.file.FileUtils;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
+
+/**
+ * An interaction with an Amazon S3 object as a target.
+ *
+ * <p>
+ * Records are encoded as they arrive and streamed to S3 with a multipart
+ * upload, so the data set is never staged on local disk. CSV, delimited, JSON
+ * lines, Avro and Parquet files can be written, and Arrow IPC files from the
+ * record batches of a stream. The compressions that each format supports are
+ * listed by {@link FileRecordWriter#checkSupported}.
+ *
+ * <p>
+ * A single-stream write creates the object at {@code file_name} and completes
+ * the upload when the stream ends. A partitioned write treats
+ * {@code file_name} as a folder: each partition uploads its own
+ * {@code part-<index>} object when its stream ends, and {@link #putWrapup()}
+ * marks the folder complete with a {@code _SUCCESS} object, as Spark does.
+ */
+public class AWSS3TargetInteraction extends FileTargetInteraction
+{
+    private static final String PARTITION_FILE_PREFIX = "part-";
+    private static final String SUCCESS_MARKER = "_SUCCESS";
+
+    private final AWSS3Connector connector;
+    private final String uploadKey;
+    private final String folderPrefix;
+
+    private AWSS3MultipartOutputStream uploadStream;
+
+    /**
+     * Creates an Amazon S3 target interaction.
+     *
+     * @param connector
+     *            the connector managing the connection to the data source
+     * @param asset
+     *            the asset to which to write
+     * @throws Exception
+     */
+    public AWSS3TargetInteraction(AWSS3Connector connector, CustomFlightAssetDescriptor asset) throws Exception
+    {
+        super(connector, asset);
+        this.connector = connector;
+
+        final String fileName = getInteractionProperties().getProperty("file_name");
+        if (fileName == null) {
+            throw new IllegalArgumentException(FileMsgs.MISSING_PROPERTY.format("file_name"));
+        }
+        final String fileFormat = getInteractionProperties().getProperty("file_format", FileUtils.FILE_FORMAT_CSV);
+        if (FileUtils.FILE_FORMAT_ARROW.equals(fileFormat)) {
+            // Arrow IPC files are written from the record batches of the stream,
+            // without compression.
+            final String compression = getInteractionProperties().getProperty("compression", "");
+            if (!compression.isEmpty() && !"none".equalsIgnoreCase(compression) && !"uncompressed".equalsIgnoreCase(compression)) {
+                throw new UnsupportedOperationException(FileMsgs.UNSUPPORTED_FILE_FORMAT.format(fileFormat + '/' + compression));
+            }
+        } else {
+            FileRecordWriter.checkSupported(getInteractionProperties());
+        }
+        final String objectKey = connector.normalizeKey(fileName);
+        if (asset.getPartitionCount() != null && asset.getPartitionCount() > 1) {
+            folderPrefix = objectKey.endsWith("/") ? objectKey : objectKey + '/';
+            uploadKey = asset.getPartitionIndex() != null
+                    ? folderPrefix + PARTITION_FILE_PREFIX + String.format(Locale.ENGLISH, "%05d", asset.getPartitionIndex())
+                            + FileUtils.getFilenameExtension(fileFormat)
+                    : null;
+        } else {
+            folderPrefix = null;
+            uploadKey = objectKey;
+        }
+    }
+
+    /**
+     * Returns the key of the S3 object to which this interaction writes.
+     *
+     * @return the S3 object key
+     */
+    @Override
+    protected String getFilename()
+    {
+        return uploadKey;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * For a partitioned write, removes the partition objects of any previous
+     * write to the same folder.
+     */
+    @Override
+    public CustomFlightAssetDescriptor putSetup() throws Exception
+    {
+        if (folderPrefix != null) {
+            final List<String> staleKeys = new ArrayList<>();
+            for (final String key : connector.listObjectKeys(folderPrefix)) {
+                final String name = key.substring(folderPrefix.length());
+                if (name.startsWith(PARTITION_FILE_PREFIX) && name.indexOf('/') < 0 || SUCCESS_MARKER.equals(name)) {
+                    staleKeys.add(key);
+                }
+            }
+            connector.deleteObjects(staleKeys);
+        }
+        return getAsset();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CustomFlightAssetDescriptor putWrapup() throws Exception
+    {
+        // Each partition is an object of its own and was completed when its stream
+        // ended.
+        if (folderPrefix != null) {
+            connector.putObject(folderPrefix + SUCCESS_MARKER, new byte[0], 0);
+        }
+        return getAsset();
+    }
+
+    /**
+     * Opens a multipart upload to the target object.
+     *
+     * @return the upload stream, which completes the upload when closed
+     */
+    @Override
+    protected OutputStream openOutputStream()
+    {
+        uploadStream = new AWSS3MultipartOutputStream(connector, uploadKey);
+        return uploadStream;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void commitOutput()
+    {
+        // The upload was completed when its stream was closed.
+        uploadStream = null;
+    }
+
+    /**
+     * Discards an upload that was not completed.
+     */
+    @Override
+    protected void abortOutput()
+    {
+        if (uploadStream != null) {
+            uploadStream.abort();
+            uploadStream = null;
+        }
+    }
+}
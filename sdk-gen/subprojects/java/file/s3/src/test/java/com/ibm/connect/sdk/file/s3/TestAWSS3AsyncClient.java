@@ -0,0 +1,261 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.s3;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.wdp.connect.common.sdk.api.models.ConnectionProperties;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+/**
+ * Tests the requests of the Amazon S3 connector with the asynchronous client,
+ * with the responses of the client served from memory.
+ */
+public class TestAWSS3AsyncClient
+{
+    private static final String CONTENT = "a,b\n1,2\n";
+
+    private AWSS3Connector connector;
+    private FakeAsyncClient client;
+
+    /**
+     * Creates a connector that uses the asynchronous client.
+     */
+    @Before
+    public void setUp()
+    {
+        final ConnectionProperties properties = new ConnectionProperties();
+        properties.put("bucket", "test-bucket");
+        properties.put("async_client", "true");
+        connector = new AWSS3Connector(properties);
+        client = new FakeAsyncClient();
+    }
+
+    /**
+     * Closes the connector.
+     *
+     * @throws Exception
+     */
+    @After
+    public void tearDown() throws Exception
+    {
+        connector.close();
+    }
+
+    private static String read(InputStream in) throws Exception
+    {
+        try (InputStream stream = in) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Test that requests return the responses of the asynchronous client once
+     * the bucket is validated.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRequests() throws Exception
+    {
+        connector.useAsyncClient(client);
+        assertEquals(CONTENT, read(connector.openObject("/folder/data.csv")));
+        assertEquals("folder/data.csv", client.lastKey);
+        assertEquals(Long.valueOf(CONTENT.length()), connector.headObject("folder/data.csv").contentLength());
+        assertEquals(1, client.headBucketRequests.get());
+        // The synchronous client is not available.
+        try {
+            connector.getS3Client();
+            fail("Exception expected");
+        }
+        catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("async_client"));
+        }
+    }
+
+    /**
+     * Test that a request is sent while the bucket validation is pending and
+     * that its response is only returned once the validation succeeds.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testDeferredValidation() throws Exception
+    {
+        client.bucketValidation = new CompletableFuture<>();
+        connector.useAsyncClient(client);
+        final CompletableFuture<String> content = CompletableFuture.supplyAsync(() -> {
+            try {
+                return read(connector.openObject("data.csv"));
+            }
+            catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        try {
+            content.get(200, TimeUnit.MILLISECONDS);
+            fail("Response returned before the bucket was validated");
+        }
+        catch (TimeoutException e) {
+            // expected
+        }
+        assertEquals("data.csv", client.lastKey);
+        client.bucketValidation.complete(HeadBucketResponse.builder().build());
+        assertEquals(CONTENT, content.get(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test that a failed bucket validation is reported instead of the response,
+     * that an object stream received meanwhile is closed, and that the
+     * validation is sent again when the connector is reused.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testValidationFailure() throws Exception
+    {
+        client.bucketValidation = new CompletableFuture<>();
+        client.bucketValidation.completeExceptionally(NoSuchBucketException.builder().message("No bucket").build());
+        connector.useAsyncClient(client);
+        try {
+            connector.openObject("data.csv");
+            fail("Exception expected");
+        }
+        catch (NoSuchBucketException e) {
+            assertEquals("No bucket", e.getMessage());
+        }
+        assertTrue(client.objectClosed.get());
+        try {
+            connector.headObject("data.csv");
+            fail("Exception expected");
+        }
+        catch (NoSuchBucketException e) {
+            assertEquals("No bucket", e.getMessage());
+        }
+
+        client.bucketValidation = CompletableFuture.completedFuture(HeadBucketResponse.builder().build());
+        connector.connect();
+        assertEquals(2, client.headBucketRequests.get());
+        assertEquals(CONTENT, read(connector.openObject("data.csv")));
+    }
+
+    /**
+     * Test that the failure of a request is rethrown unwrapped.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRequestFailure() throws Exception
+    {
+        connector.useAsyncClient(client);
+        try {
+            connector.openObject("missing.csv");
+            fail("Exception expected");
+        }
+        catch (NoSuchKeyException e) {
+            assertEquals("missing.csv", e.getMessage());
+        }
+        try {
+            connector.validateObjectKey("missing.csv");
+            fail("Exception expected");
+        }
+        catch (IllegalArgumentException e) {
+            assertTrue(e.getCause() instanceof NoSuchKeyException);
+        }
+        assertFalse(client.objectClosed.get());
+    }
+
+    /**
+     * An asynchronous client that serves one object from memory.
+     */
+    private static class FakeAsyncClient implements S3AsyncClient
+    {
+        private final AtomicInteger headBucketRequests = new AtomicInteger();
+        private final AtomicBoolean objectClosed = new AtomicBoolean();
+        private volatile CompletableFuture<HeadBucketResponse> bucketValidation
+                = CompletableFuture.completedFuture(HeadBucketResponse.builder().build());
+        private volatile String lastKey;
+
+        @Override
+        public String serviceName()
+        {
+            return "s3";
+        }
+
+        @Override
+        public void close()
+        {
+            // Nothing to close.
+        }
+
+        @Override
+        public CompletableFuture<HeadBucketResponse> headBucket(HeadBucketRequest request)
+        {
+            assertEquals("test-bucket", request.bucket());
+            headBucketRequests.incrementAndGet();
+            return bucketValidation;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<T> getObject(GetObjectRequest request, AsyncResponseTransformer<GetObjectResponse, T> transformer)
+        {
+            lastKey = request.key();
+            if (request.key().startsWith("missing")) {
+                final CompletableFuture<T> failed = new CompletableFuture<>();
+                failed.completeExceptionally(NoSuchKeyException.builder().message(request.key()).build());
+                return failed;
+            }
+            final InputStream content = new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8)) {
+                @Override
+                public void close()
+                {
+                    objectClosed.set(true);
+                }
+            };
+            return CompletableFuture.completedFuture((T) new ResponseInputStream<>(GetObjectResponse.builder().build(), content));
+        }
+
+        @Override
+        public CompletableFuture<HeadObjectResponse> headObject(HeadObjectRequest request)
+        {
+            if (request.key().startsWith("missing")) {
+                final CompletableFuture<HeadObjectResponse> failed = new CompletableFuture<>();
+                failed.completeExceptionally(NoSuchKeyException.builder().message(request.key()).build());
+                return failed;
+            }
+            return CompletableFuture.completedFuture(HeadObjectResponse.builder().contentLength((long) CONTENT.length()).build());
+        }
+    }
+}
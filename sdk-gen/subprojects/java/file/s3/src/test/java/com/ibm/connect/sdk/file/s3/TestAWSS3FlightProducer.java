@@ -209,6 +209,28 @@ public class TestAWSS3FlightProducer extends ConnectorTestSuite
         }
     }
 
+    /**
+     * Validate action should fail when the discovery concurrency is not a
+     * positive integer.
+     */
+    @Test
+    public void testConnectionInvalidDiscoveryConcurrency()
+    {
+        for (final String concurrency : new String[] { "many", "0", "-1" }) {
+            final CustomFlightActionRequest request = new CustomFlightActionRequest();
+            request.setDatasourceTypeName(getDatasourceTypeName());
+            request.setConnectionProperties(createConnectionProperties());
+            request.getConnectionProperties().put("discovery_concurrency", concurrency);
+            try {
+                getClient().doAction(new Action("validate", MODEL_MAPPER.toBytes(request))).next();
+                fail("Exception expected");
+            }
+            catch (Exception e) {
+                assertTrue(e.getMessage(), e.getMessage().contains("discovery_concurrency"));
+            }
+        }
+    }
+
     // -----------------------------------------------------------------------
     // Discovery tests
     // -----------------------------------------------------------------------
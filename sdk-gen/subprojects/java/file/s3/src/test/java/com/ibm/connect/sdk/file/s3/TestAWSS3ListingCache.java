@@ -0,0 +1,138 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.s3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Ticker;
+
+/**
+ * Test the caching of the continuation tokens of bucket listings.
+ */
+public class TestAWSS3ListingCache
+{
+    private static final String BUCKET = "us-east-1/sales";
+    private static final String ALICE = "alice";
+    private static final String BOB = "bob";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private AWSS3ListingCache cache;
+
+    /**
+     * Creates an empty cache with a time source controlled by the tests.
+     */
+    @Before
+    public void setUp()
+    {
+        cache = new AWSS3ListingCache(new Ticker() {
+            @Override
+            public long read()
+            {
+                return nanos.get();
+            }
+        });
+    }
+
+    private static void assertPage(int expectedStart, String expectedToken, Map.Entry<Integer, String> page)
+    {
+        assertNotNull(page);
+        assertEquals(expectedStart, page.getKey().intValue());
+        assertEquals(expectedToken, page.getValue());
+    }
+
+    /**
+     * Test that the closest page at or before an offset is returned.
+     */
+    @Test
+    public void testFloor()
+    {
+        assertNull(cache.floor(BUCKET, ALICE, "2024/", 0));
+        cache.put(BUCKET, ALICE, "2024/", 1000, "token1");
+        cache.put(BUCKET, ALICE, "2024/", 2000, "token2");
+        cache.put(BUCKET, ALICE, "2024/", 3000, null);
+        assertNull(cache.floor(BUCKET, ALICE, "2024/", 999));
+        assertPage(1000, "token1", cache.floor(BUCKET, ALICE, "2024/", 1000));
+        assertPage(1000, "token1", cache.floor(BUCKET, ALICE, "2024/", 1999));
+        assertPage(2000, "token2", cache.floor(BUCKET, ALICE, "2024/", 5000));
+        assertNull(cache.floor(BUCKET, ALICE, "2025/", 5000));
+    }
+
+    /**
+     * Test that tokens are only shared by connections to the same bucket with the
+     * same credentials.
+     */
+    @Test
+    public void testSharedByCredentials()
+    {
+        cache.put(BUCKET, ALICE, "", 1000, "alice1");
+        cache.put(BUCKET, BOB, "", 1000, "bob1");
+        assertPage(1000, "alice1", cache.floor(BUCKET, ALICE, "", 1500));
+        assertPage(1000, "bob1", cache.floor(BUCKET, BOB, "", 1500));
+        assertNull(cache.floor(BUCKET, "carol", "", 1500));
+        assertNull(cache.floor("eu-west-1/sales", ALICE, "", 1500));
+    }
+
+    /**
+     * Test that tokens expire after a fixed time.
+     */
+    @Test
+    public void testExpiry()
+    {
+        cache.put(BUCKET, ALICE, "", 1000, "token1");
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(AWSS3ListingCache.EXPIRE_AFTER_WRITE_MINUTES) - 1);
+        assertPage(1000, "token1", cache.floor(BUCKET, ALICE, "", 1000));
+        nanos.incrementAndGet();
+        assertNull(cache.floor(BUCKET, ALICE, "", 1000));
+    }
+
+    /**
+     * Test that a changed object invalidates the listings of its folder and of
+     * every ancestor folder for all credentials, and no other listing.
+     */
+    @Test
+    public void testInvalidate()
+    {
+        for (final String credentialsKey : new String[] { ALICE, BOB }) {
+            cache.put(BUCKET, credentialsKey, "", 1000, "root");
+            cache.put(BUCKET, credentialsKey, "2024/", 1000, "year");
+            cache.put(BUCKET, credentialsKey, "2024/01/", 1000, "month");
+            cache.put(BUCKET, credentialsKey, "2024/02/", 1000, "sibling");
+        }
+        cache.put("us-east-1/other", ALICE, "2024/01/", 1000, "other");
+
+        cache.invalidate(BUCKET, "2024/01/data.csv");
+        for (final String credentialsKey : new String[] { ALICE, BOB }) {
+            assertNull(cache.floor(BUCKET, credentialsKey, "", 1000));
+            assertNull(cache.floor(BUCKET, credentialsKey, "2024/", 1000));
+            assertNull(cache.floor(BUCKET, credentialsKey, "2024/01/", 1000));
+            assertPage(1000, "sibling", cache.floor(BUCKET, credentialsKey, "2024/02/", 1000));
+        }
+        assertPage(1000, "other", cache.floor("us-east-1/other", ALICE, "2024/01/", 1000));
+    }
+
+    /**
+     * Test that a changed folder invalidates its own listing as well as those of
+     * its ancestors.
+     */
+    @Test
+    public void testInvalidateFolder()
+    {
+        cache.put(BUCKET, ALICE, "2024/", 1000, "year");
+        cache.put(BUCKET, ALICE, "2024/01/", 1000, "month");
+        cache.invalidate(BUCKET, "2024/01/");
+        assertNull(cache.floor(BUCKET, ALICE, "2024/", 1000));
+        assertNull(cache.floor(BUCKET, ALICE, "2024/01/", 1000));
+    }
+}
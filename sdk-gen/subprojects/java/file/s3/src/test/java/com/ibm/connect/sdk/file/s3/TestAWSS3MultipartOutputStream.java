@@ -0,0 +1,285 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.s3;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.wdp.connect.common.sdk.api.models.ConnectionProperties;
+
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Tests the multipart uploads of the Amazon S3 target, with the S3 requests
+ * recorded instead of sent.
+ */
+public class TestAWSS3MultipartOutputStream
+{
+    private static final int PART_SIZE = 8 * 1024 * 1024;
+    private static final String KEY = "folder/data.csv";
+    private static final String UPLOAD_ID = "upload-1";
+
+    private RecordingConnector connector;
+
+    /**
+     * Creates a connector that records its S3 requests.
+     */
+    @Before
+    public void setUp()
+    {
+        final ConnectionProperties properties = new ConnectionProperties();
+        properties.put("bucket", "test-bucket");
+        connector = new RecordingConnector(properties);
+    }
+
+    /**
+     * Closes the connector.
+     *
+     * @throws Exception
+     */
+    @After
+    public void tearDown() throws Exception
+    {
+        connector.close();
+    }
+
+    private static byte[] content(int length)
+    {
+        final byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) (i * 31 + i / PART_SIZE);
+        }
+        return content;
+    }
+
+    /**
+     * Test that parts completing out of order are listed in part number order
+     * when the upload is completed, and that they hold the written content.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPartsCompletedInOrder() throws Exception
+    {
+        final byte[] data = content(3 * PART_SIZE + 1234);
+        // Earlier parts take longer, so that later parts complete first.
+        connector.partDelayMillis = partNumber -> (5 - partNumber) * 50L;
+        try (AWSS3MultipartOutputStream outputStream = new AWSS3MultipartOutputStream(connector, KEY)) {
+            // Write in pieces that do not line up with the parts.
+            int offset = 0;
+            while (offset < data.length) {
+                final int length = Math.min(1000003, data.length - offset);
+                outputStream.write(data, offset, length);
+                offset += length;
+            }
+        }
+        assertEquals(1, connector.createdUploads.get());
+        assertNull(connector.putObjectContent);
+        assertEquals(0, connector.abortedUploads.get());
+        assertEquals(Arrays.asList(1, 2, 3, 4), partNumbers(connector.completedParts));
+        for (final CompletedPart part : connector.completedParts) {
+            assertEquals("etag-" + part.partNumber(), part.eTag());
+        }
+        final ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+        for (int partNumber = 1; partNumber <= 4; partNumber++) {
+            uploaded.write(connector.uploadedParts.get(partNumber));
+        }
+        assertArrayEquals(data, uploaded.toByteArray());
+        assertEquals(PART_SIZE, connector.uploadedParts.get(1).length);
+        assertEquals(1234, connector.uploadedParts.get(4).length);
+    }
+
+    /**
+     * Test that content that fits in one part is uploaded with PutObject.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSmallObjectPut() throws Exception
+    {
+        final byte[] data = content(1000);
+        try (AWSS3MultipartOutputStream outputStream = new AWSS3MultipartOutputStream(connector, KEY)) {
+            outputStream.write(data[0]);
+            outputStream.write(data, 1, data.length - 1);
+        }
+        assertArrayEquals(data, connector.putObjectContent);
+        assertEquals(0, connector.createdUploads.get());
+        assertNull(connector.completedParts);
+    }
+
+    /**
+     * Test that the upload is aborted and not completed when a part fails.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testAbortOnFailedPart() throws Exception
+    {
+        connector.failedPartNumber = 2;
+        final AWSS3MultipartOutputStream outputStream = new AWSS3MultipartOutputStream(connector, KEY);
+        try {
+            final byte[] data = content(PART_SIZE);
+            for (int i = 0; i < 4; i++) {
+                outputStream.write(data);
+            }
+            outputStream.close();
+            fail("Upload with a failed part was completed");
+        }
+        catch (S3Exception e) {
+            assertEquals("Part 2 failed", e.getMessage());
+        }
+        assertEquals(1, connector.abortedUploads.get());
+        assertNull(connector.completedParts);
+        // Closing again does nothing.
+        outputStream.close();
+        assertEquals(1, connector.abortedUploads.get());
+    }
+
+    /**
+     * Test that an explicit abort discards the upload.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testAbort() throws Exception
+    {
+        final AWSS3MultipartOutputStream outputStream = new AWSS3MultipartOutputStream(connector, KEY);
+        outputStream.write(content(PART_SIZE + 1));
+        outputStream.abort();
+        outputStream.close();
+        assertEquals(1, connector.abortedUploads.get());
+        assertNull(connector.completedParts);
+        assertNull(connector.putObjectContent);
+        try {
+            outputStream.write(1);
+            fail("Write after abort was accepted");
+        }
+        catch (IOException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Test that the part size grows within the limits of S3 and of a buffer.
+     */
+    @Test
+    public void testPartSizeLimit()
+    {
+        assertEquals(2 * PART_SIZE, AWSS3MultipartOutputStream.nextPartSize(PART_SIZE));
+        int partSize = PART_SIZE;
+        for (int step = 0; step < 20; step++) {
+            final int nextPartSize = AWSS3MultipartOutputStream.nextPartSize(partSize);
+            assertTrue(String.valueOf(nextPartSize), nextPartSize >= partSize);
+            partSize = nextPartSize;
+        }
+        assertEquals(Integer.MAX_VALUE - 8, partSize);
+    }
+
+    private static List<Integer> partNumbers(List<CompletedPart> parts)
+    {
+        final List<Integer> partNumbers = new ArrayList<>();
+        for (final CompletedPart part : parts) {
+            partNumbers.add(part.partNumber());
+        }
+        return partNumbers;
+    }
+
+    /**
+     * A connector that records the requests of an upload.
+     */
+    private static class RecordingConnector extends AWSS3Connector
+    {
+        private final AtomicInteger createdUploads = new AtomicInteger();
+        private final AtomicInteger abortedUploads = new AtomicInteger();
+        private final Map<Integer, byte[]> uploadedParts = new ConcurrentHashMap<>();
+        private volatile List<CompletedPart> completedParts;
+        private volatile byte[] putObjectContent;
+        private volatile int failedPartNumber;
+        private volatile PartDelay partDelayMillis = partNumber -> 0L;
+
+        RecordingConnector(ConnectionProperties properties)
+        {
+            super(properties);
+        }
+
+        @Override
+        String createMultipartUpload(String key)
+        {
+            createdUploads.incrementAndGet();
+            return UPLOAD_ID;
+        }
+
+        @Override
+        CompletableFuture<CompletedPart> uploadPart(String key, String uploadId, int partNumber, byte[] data, int length,
+                Executor executor)
+        {
+            assertEquals(KEY, key);
+            assertEquals(UPLOAD_ID, uploadId);
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(partDelayMillis.of(partNumber));
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (partNumber == failedPartNumber) {
+                    throw S3Exception.builder().message("Part " + partNumber + " failed").build();
+                }
+                uploadedParts.put(partNumber, Arrays.copyOf(data, length));
+                return CompletedPart.builder().partNumber(partNumber).eTag("etag-" + partNumber).build();
+            }, executor);
+        }
+
+        @Override
+        void completeMultipartUpload(String key, String uploadId, List<CompletedPart> parts)
+        {
+            assertEquals(UPLOAD_ID, uploadId);
+            completedParts = Collections.unmodifiableList(new ArrayList<>(parts));
+        }
+
+        @Override
+        void abortMultipartUpload(String key, String uploadId)
+        {
+            assertEquals(UPLOAD_ID, uploadId);
+            abortedUploads.incrementAndGet();
+        }
+
+        @Override
+        void putObject(String key, byte[] data, int length)
+        {
+            putObjectContent = Arrays.copyOf(data, length);
+        }
+    }
+
+    /**
+     * The time that the upload of a part takes.
+     */
+    private interface PartDelay
+    {
+        long of(int partNumber);
+    }
+}
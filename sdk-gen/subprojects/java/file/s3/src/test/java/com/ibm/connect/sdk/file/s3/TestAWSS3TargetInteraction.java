@@ -0,0 +1,117 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file.s3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.wdp.connect.common.sdk.api.models.ConnectionProperties;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
+import com.ibm.wdp.connect.common.sdk.api.models.DiscoveredAssetInteractionProperties;
+
+/**
+ * Test the file formats and compressions with which the Amazon S3 connector
+ * writes objects.
+ */
+public class TestAWSS3TargetInteraction
+{
+    private AWSS3Connector connector;
+
+    /**
+     * Creates a connector, which is not connected since no object is written.
+     */
+    @Before
+    public void setUp()
+    {
+        final ConnectionProperties properties = new ConnectionProperties();
+        properties.put("bucket", "test-bucket");
+        connector = new AWSS3Connector(properties);
+    }
+
+    /**
+     * Closes the connector.
+     *
+     * @throws Exception
+     */
+    @After
+    public void tearDown() throws Exception
+    {
+        connector.close();
+    }
+
+    private AWSS3TargetInteraction createInteraction(String fileFormat, String compression) throws Exception
+    {
+        final DiscoveredAssetInteractionProperties interactionProperties = new DiscoveredAssetInteractionProperties();
+        interactionProperties.put("file_name", "folder/data");
+        interactionProperties.put("file_format", fileFormat);
+        if (compression != null) {
+            interactionProperties.put("compression", compression);
+        }
+        final CustomFlightAssetDescriptor asset = new CustomFlightAssetDescriptor();
+        asset.setInteractionProperties(interactionProperties);
+        return new AWSS3TargetInteraction(connector, asset);
+    }
+
+    /**
+     * Test the compressions with which each file format can be written.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSupportedCompressions() throws Exception
+    {
+        final String[][] supported = { { "csv", null }, { "csv", "gzip" }, { "delimited", "none" }, { "json", "uncompressed" },
+            { "avro", "gzip" }, { "avro", "snappy" }, { "avro", "zstd" }, { "parquet", "lz4" }, { "parquet", "zstd" },
+            { "arrow", null }, { "arrow", "none" } };
+        for (final String[] format : supported) {
+            assertEquals("folder/data", createInteraction(format[0], format[1]).getFilename());
+        }
+    }
+
+    /**
+     * Test that a compression that a file format does not support is rejected
+     * with the format and the compression.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testUnsupportedCompressions() throws Exception
+    {
+        final String[][] unsupported = { { "csv", "lz4" }, { "delimited", "snappy" }, { "json", "zstd" }, { "avro", "lz4" },
+            { "parquet", "brotli" }, { "arrow", "gzip" } };
+        for (final String[] format : unsupported) {
+            try {
+                createInteraction(format[0], format[1]);
+                fail("Exception expected");
+            }
+            catch (UnsupportedOperationException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains(format[0] + '/' + format[1]));
+            }
+        }
+    }
+
+    /**
+     * Test that a file format that cannot be written is rejected.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testUnsupportedFormat() throws Exception
+    {
+        try {
+            createInteraction("orc", null);
+            fail("Exception expected");
+        }
+        catch (UnsupportedOperationException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("orc"));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.ForeignAllocation;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.memory.util.MemoryUtil;
+import org.apache.arrow.vector.VectorLoader;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.ipc.ReadChannel;
+import org.apache.arrow.vector.ipc.message.ArrowBlock;
+import org.apache.arrow.vector.ipc.message.ArrowRecordBatch;
+import org.apache.arrow.vector.ipc.message.MessageMetadataResult;
+import org.apache.arrow.vector.ipc.message.MessageSerializer;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * Reads the record batches of an Arrow IPC file. The body of each batch is
+ * memory-mapped and its vectors point straight into the mapping, so batches are
+ * returned without copying or decoding any values; the mapping is released
+ * once the last vector using it is closed.
+ *
+ * <p>
+ * Files with dictionary-encoded fields are not supported.
+ */
+class ArrowFileBatchReader implements Closeable
+{
+    private final FileChannel channel;
+    private final BufferAllocator allocator;
+    private final Schema schema;
+    private final List<ArrowBlock> recordBlocks;
+    private int nextBlock;
+
+    /**
+     * Creates a reader of the record batches in an Arrow IPC file.
+     *
+     * @param channel
+     *            the channel from which to read the file, which is closed with the
+     *            reader
+     * @param allocator
+     *            the allocator that accounts for the memory of the batches
+     * @throws IOException
+     */
+    ArrowFileBatchReader(FileChannel channel, BufferAllocator allocator) throws IOException
+    {
+        this.channel = channel;
+        this.allocator = allocator;
+        try {
+            // The footer holds the schema and the location of every batch. The
+            // reader is not closed, as that would also close the channel.
+            final ArrowFileReader footerReader = new ArrowFileReader(channel, allocator);
+            schema = footerReader.getVectorSchemaRoot().getSchema();
+            footerReader.getVectorSchemaRoot().close();
+            if (!footerReader.getDictionaryBlocks().isEmpty()) {
+                throw new UnsupportedOperationException(FileMsgs.UNSUPPORTED_FILE_FORMAT.format(FileUtils.FILE_FORMAT_ARROW));
+            }
+            recordBlocks = footerReader.getRecordBlocks();
+        }
+        catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the schema of an Arrow IPC file.
+     *
+     * @param channel
+     *            the channel from which to read the file, which is closed when
+     *            done
+     * @return the schema of the file
+     * @throws IOException
+     */
+    static Schema readSchema(FileChannel channel) throws IOException
+    {
+        try (BufferAllocator allocator = new RootAllocator(); ArrowFileBatchReader reader = new ArrowFileBatchReader(channel, allocator)) {
+            return reader.getSchema();
+        }
+    }
+
+    /**
+     * Returns the schema of the file.
+     *
+     * @return the schema of the file
+     */
+    Schema getSchema()
+    {
+        return schema;
+    }
+
+    /**
+     * Returns whether there is another record batch.
+     *
+     * @return true if there is another record batch
+     */
+    boolean hasNextBatch()
+    {
+        return nextBlock < recordBlocks.size();
+    }
+
+    /**
+     * Returns the next record batch, which the caller must close.
+     *
+     * @return the next record batch
+     * @throws IOException
+     */
+    VectorSchemaRoot nextBatch() throws IOException
+    {
+        final ArrowBlock block = recordBlocks.get(nextBlock++);
+        channel.position(block.getOffset());
+        final MessageMetadataResult metadata = MessageSerializer.readMessage(new ReadChannel(channel));
+        if (metadata == null) {
+            throw new IOException("Unexpected end of input reading record batch " + (nextBlock - 1));
+        }
+        final VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+        // The batch slices its buffers from the body and takes over its reference.
+        final ArrowBuf body = mapBody(block.getOffset() + block.getMetadataLength(), block.getBodyLength());
+        try (ArrowRecordBatch batch = MessageSerializer.deserializeRecordBatch(metadata, body)) {
+            new VectorLoader(root).load(batch);
+        }
+        catch (final IOException | RuntimeException e) {
+            root.close();
+            throw e;
+        }
+        return root;
+    }
+
+    private ArrowBuf mapBody(long offset, long length) throws IOException
+    {
+        if (length == 0) {
+            return allocator.getEmpty();
+        }
+        final MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        return allocator.wrapForeignAllocation(new ForeignAllocation(length, MemoryUtil.getByteBufferAddress(mapping)) {
+            // Holding the buffer keeps the file mapped until the allocation is
+            // released.
+            @SuppressWarnings("unused")
+            private MappedByteBuffer buffer = mapping;
+
+            @Override
+            protected void release0()
+            {
+                buffer = null;
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException
+    {
+        channel.close();
+    }
+}
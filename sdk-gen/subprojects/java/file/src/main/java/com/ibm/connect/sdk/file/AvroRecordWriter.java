@@ -0,0 +1,195 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+
+import com.ibm.connect.sdk.api.Record;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * Writes records as an Avro data file. Records are buffered one block at a time
+ * and each block is flushed to the output stream once it reaches the sync
+ * interval.
+ */
+class AvroRecordWriter extends FileRecordWriter
+{
+    private final ColumnType[] columnTypes;
+    private final int[] decimalScales;
+    private final Schema schema;
+    private final DataFileWriter<GenericRecord> writer;
+
+    /**
+     * Creates an Avro record writer.
+     *
+     * @param fields
+     *            the fields of the records to write
+     * @param interactionProperties
+     *            the target interaction properties
+     * @param out
+     *            the stream to which to write
+     * @throws IOException
+     */
+    AvroRecordWriter(List<CustomFlightAssetField> fields, Properties interactionProperties, OutputStream out) throws IOException
+    {
+        super(fields, interactionProperties);
+        final CodecFactory codec = getCodec(interactionProperties.getProperty("compression"));
+        columnTypes = new ColumnType[fields.size()];
+        decimalScales = new int[fields.size()];
+        // Spark's default record name and nullable field layout.
+        SchemaBuilder.FieldAssembler<Schema> assembler = SchemaBuilder.record("topLevelRecord").fields();
+        for (int i = 0; i < fields.size(); i++) {
+            final Schema type = createType(fields.get(i), i);
+            assembler = assembler.name(fields.get(i).getName()).type(Schema.createUnion(type, Schema.create(Schema.Type.NULL)))
+                    .noDefault();
+        }
+        schema = assembler.endRecord();
+        writer = new DataFileWriter<GenericRecord>(new GenericDatumWriter<>(schema));
+        writer.setCodec(codec);
+        writer.create(schema, out);
+    }
+
+    private Schema createType(CustomFlightAssetField field, int index)
+    {
+        columnTypes[index] = ColumnType.of(field);
+        switch (columnTypes[index]) {
+        case BOOLEAN:
+            return Schema.create(Schema.Type.BOOLEAN);
+        case TINYINT:
+        case SMALLINT:
+        case INTEGER:
+            return Schema.create(Schema.Type.INT);
+        case BIGINT:
+            return Schema.create(Schema.Type.LONG);
+        case REAL:
+            return Schema.create(Schema.Type.FLOAT);
+        case DOUBLE:
+            return Schema.create(Schema.Type.DOUBLE);
+        case DECIMAL:
+            decimalScales[index] = field.getScale();
+            return LogicalTypes.decimal(field.getLength(), field.getScale()).addToSchema(Schema.create(Schema.Type.BYTES));
+        case DATE:
+            return LogicalTypes.date().addToSchema(Schema.create(Schema.Type.INT));
+        case TIME:
+            return LogicalTypes.timeMicros().addToSchema(Schema.create(Schema.Type.LONG));
+        case TIMESTAMP:
+            return LogicalTypes.timestampMicros().addToSchema(Schema.create(Schema.Type.LONG));
+        case BINARY:
+            return Schema.create(Schema.Type.BYTES);
+        default:
+            return Schema.create(Schema.Type.STRING);
+        }
+    }
+
+    /**
+     * Returns the Avro codec of a compression. Avro data files compress blocks
+     * with deflate where other formats use gzip, and have no lz4 codec.
+     */
+    static CodecFactory getCodec(String compression)
+    {
+        if (compression == null || compression.isEmpty()) {
+            // Spark's default Avro codec.
+            return CodecFactory.snappyCodec();
+        }
+        final String codecName = compression.toLowerCase(Locale.ENGLISH);
+        switch (codecName) {
+        case "none":
+        case "uncompressed":
+            return CodecFactory.nullCodec();
+        case "gzip":
+        case "deflate":
+            return CodecFactory.deflateCodec(CodecFactory.DEFAULT_DEFLATE_LEVEL);
+        case "snappy":
+            return CodecFactory.snappyCodec();
+        case "bzip2":
+            return CodecFactory.bzip2Codec();
+        case "xz":
+            return CodecFactory.xzCodec(CodecFactory.DEFAULT_XZ_LEVEL);
+        case "zstd":
+        case "zstandard":
+            return CodecFactory.zstandardCodec(CodecFactory.DEFAULT_ZSTANDARD_LEVEL);
+        default:
+            throw new UnsupportedOperationException(FileMsgs.UNSUPPORTED_FILE_FORMAT.format(FileUtils.FILE_FORMAT_AVRO + '/' + codecName));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void writeRecord(Record record) throws IOException
+    {
+        final List<?> values = record.getValues();
+        final GenericRecord avroRecord = new GenericData.Record(schema);
+        for (int i = 0; i < values.size(); i++) {
+            final Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            switch (columnTypes[i]) {
+            case BOOLEAN:
+                avroRecord.put(i, ColumnType.toBoolean(value));
+                break;
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+                avroRecord.put(i, ((Number) value).intValue());
+                break;
+            case BIGINT:
+                avroRecord.put(i, ((Number) value).longValue());
+                break;
+            case REAL:
+                avroRecord.put(i, ((Number) value).floatValue());
+                break;
+            case DOUBLE:
+                avroRecord.put(i, ((Number) value).doubleValue());
+                break;
+            case DECIMAL:
+                avroRecord.put(i, ByteBuffer.wrap(ColumnType.toUnscaledValue(value, decimalScales[i]).toByteArray()));
+                break;
+            case DATE:
+                avroRecord.put(i, ColumnType.toEpochDay(value));
+                break;
+            case TIME:
+                avroRecord.put(i, ColumnType.toMicrosOfDay(value));
+                break;
+            case TIMESTAMP:
+                avroRecord.put(i, ColumnType.toEpochMicros(value));
+                break;
+            case BINARY:
+                avroRecord.put(i, ByteBuffer.wrap((byte[]) value));
+                break;
+            default:
+                avroRecord.put(i, formatValue(value));
+                break;
+            }
+        }
+        writer.append(avroRecord);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException
+    {
+        writer.close();
+    }
+}
@@ -0,0 +1,142 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * The column types to which the record writers of the Avro and Parquet formats
+ * map the field types, with the conversions of record values that they share.
+ */
+enum ColumnType
+{
+    BOOLEAN, TINYINT, SMALLINT, INTEGER, BIGINT, REAL, DOUBLE, DECIMAL, DATE, TIME, TIMESTAMP, BINARY, STRING;
+
+    /**
+     * Returns the column type of a field.
+     *
+     * @param field
+     *            the field
+     * @return the column type
+     */
+    static ColumnType of(CustomFlightAssetField field)
+    {
+        final String type = field.getType() != null ? field.getType() : "varchar";
+        switch (type) {
+        case "bit":
+        case "boolean":
+            return BOOLEAN;
+        case "tinyint":
+            return TINYINT;
+        case "smallint":
+            return SMALLINT;
+        case "integer":
+            return INTEGER;
+        case "bigint":
+            return BIGINT;
+        case "real":
+            return REAL;
+        case "float":
+        case "double":
+            return DOUBLE;
+        case "decimal":
+        case "numeric":
+            // Without a fixed scale the unscaled value cannot be stored, so keep the
+            // exact text instead.
+            if (field.getScale() == null || field.getScale() < 0 || field.getLength() == null || field.getLength() <= 0) {
+                return STRING;
+            }
+            return DECIMAL;
+        case "date":
+            return DATE;
+        case "time":
+        case "time_with_timezone":
+            return TIME;
+        case "timestamp":
+        case "timestamp_with_timezone":
+            return TIMESTAMP;
+        case "binary":
+        case "varbinary":
+        case "longvarbinary":
+        case "blob":
+            return BINARY;
+        default:
+            return STRING;
+        }
+    }
+
+    /**
+     * Converts a boolean value, which may also be given as a number.
+     *
+     * @param value
+     *            a Boolean or a Number
+     * @return the boolean value
+     */
+    static boolean toBoolean(Object value)
+    {
+        return value instanceof Boolean ? (Boolean) value : ((Number) value).intValue() != 0;
+    }
+
+    /**
+     * Returns the unscaled value of a decimal value at the scale of its column.
+     *
+     * @param value
+     *            a BigDecimal or a value whose text is a number
+     * @param scale
+     *            the scale of the column
+     * @return the unscaled value, rounded half up
+     */
+    static BigInteger toUnscaledValue(Object value, int scale)
+    {
+        final BigDecimal decimal = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+        return decimal.setScale(scale, RoundingMode.HALF_UP).unscaledValue();
+    }
+
+    /**
+     * Converts a date value to the number of days since the epoch.
+     *
+     * @param value
+     *            a Date
+     * @return the number of days since 1970-01-01
+     */
+    static int toEpochDay(Object value)
+    {
+        return (int) ((Date) value).toLocalDate().toEpochDay();
+    }
+
+    /**
+     * Converts a time value to the number of microseconds since midnight.
+     *
+     * @param value
+     *            a Time
+     * @return the number of microseconds since midnight
+     */
+    static long toMicrosOfDay(Object value)
+    {
+        return ((Time) value).toLocalTime().toNanoOfDay() / 1000;
+    }
+
+    /**
+     * Converts a timestamp value to the number of microseconds since the epoch.
+     *
+     * @param value
+     *            a Timestamp
+     * @return the number of microseconds since 1970-01-01T00:00:00Z
+     */
+    static long toEpochMicros(Object value)
+    {
+        final Instant instant = ((Timestamp) value).toInstant();
+        return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1000;
+    }
+}
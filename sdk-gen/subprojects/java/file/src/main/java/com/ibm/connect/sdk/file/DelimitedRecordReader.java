@@ -0,0 +1,976 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TimeStampMilliVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.spark.sql.catalyst.util.DateTimeUtils;
+import org.apache.spark.sql.catalyst.util.RebaseDateTime;
+import org.apache.spark.unsafe.types.UTF8String;
+
+import com.ibm.connect.sdk.api.ArrowConversions;
+import com.ibm.connect.sdk.api.Record;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+import scala.Option;
+
+/**
+ * Reads records from CSV or delimited text with the same defaults and null
+ * handling as the Spark CSV reader. Each field is scanned into a reusable byte
+ * buffer and numeric values are parsed from its bytes, so only character
+ * fields are decoded into strings.
+ *
+ * <p>
+ * The input is read in blocks and unquoted fields are copied from the block in
+ * bulk. When reading batches, values are appended straight into the Arrow
+ * vectors: integers, decimals that need no rounding, timestamps and ASCII text
+ * are written without creating an intermediate object.
+ *
+ * <p>
+ * If the first line is a header that names every field, fields are read from
+ * the columns with their names, like Spark selects them, so the fields may be
+ * any subset of the columns in any order. Otherwise fields are read from the
+ * columns in order.
+ */
+class DelimitedRecordReader extends FileRecordReader
+{
+    private static final int INITIAL_TOKEN_SIZE = 256;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+            100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L,
+            100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L };
+
+    /**
+     * Ends a row at any of CR, LF or CR LF.
+     */
+    private static final int ANY_LINE_SEPARATOR = -2;
+
+    private static final int NONE = -1;
+
+    private enum ColumnKind
+    {
+        BOOLEAN, BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, DECIMAL, DATE, TIMESTAMP, STRING
+    }
+
+    private final InputStream in;
+    private final Charset charset;
+    private final ColumnKind[] columnKinds;
+    private final int[] decimalPrecisions;
+    private final int[] decimalScales;
+    private final int delimiter;
+    private final int quote;
+    private final int escape;
+    private final int comment;
+    private final int rowDelimiter;
+    private final byte[] nullValue;
+    private final String nanValue;
+    private final String positiveInfinityValue;
+    private final String negativeInfinityValue;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int bufferPosition;
+    private int bufferLimit;
+    private byte[] token = new byte[INITIAL_TOKEN_SIZE];
+    private char[] chars = new char[INITIAL_TOKEN_SIZE];
+    private int tokenLength;
+    private final int[] pushedBack = new int[3];
+    private int pushedBackCount;
+    private long longValue;
+
+    private Record record;
+    private int row = NONE;
+    private List<String> headerNames;
+    private int[] columnFields;
+    private int[] fieldColumns;
+    private int[] nextFields;
+    private Serializable[] values;
+    private VectorSchemaRoot setterRoot;
+    private List<ArrowConversions.ArrowSetterBase> setters;
+    private FieldVector[] vectors;
+
+    /**
+     * Creates a delimited record reader.
+     *
+     * @param fields
+     *            the fields of the records to read
+     * @param interactionProperties
+     *            the source interaction properties
+     * @param in
+     *            the stream from which to read
+     * @throws IOException
+     */
+    DelimitedRecordReader(List<CustomFlightAssetField> fields, Properties interactionProperties, InputStream in) throws IOException
+    {
+        super(fields);
+        this.in = in;
+        final String encoding = interactionProperties.getProperty("encoding");
+        charset = encoding != null && !encoding.isEmpty() ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        columnKinds = new ColumnKind[fields.size()];
+        decimalPrecisions = new int[fields.size()];
+        decimalScales = new int[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            initColumn(fields.get(i), i);
+        }
+        delimiter = singleByte(interactionProperties.getProperty("field_delimiter_value"), ',');
+        quote = singleByte(interactionProperties.getProperty("quote_character_value"), '"');
+        escape = singleByte(interactionProperties.getProperty("escape_character_value"), '\\');
+        comment = singleByte(interactionProperties.getProperty("comment_character_value"), NONE);
+        rowDelimiter = getRowDelimiter(interactionProperties.getProperty("row_delimiter_value"));
+        nullValue = interactionProperties.getProperty("null_value", "").getBytes(charset);
+        nanValue = interactionProperties.getProperty("nan_value", "NaN");
+        positiveInfinityValue = interactionProperties.getProperty("positive_infinity_value", "Inf");
+        negativeInfinityValue = interactionProperties.getProperty("negative_infinity_value", "-Inf");
+
+        skipByteOrderMark();
+        if (Boolean.parseBoolean(interactionProperties.getProperty("first_line_header"))) {
+            headerNames = new ArrayList<>();
+            try {
+                nextRow();
+                mapColumns(fields, headerNames);
+            }
+            finally {
+                headerNames = null;
+            }
+        }
+    }
+
+    /**
+     * Maps the fields to the columns named in the header. Like Spark, names are
+     * matched ignoring case, columns without a name are named {@code _c<index>}
+     * and a name that is repeated has its column index appended.
+     */
+    private void mapColumns(List<CustomFlightAssetField> fields, List<String> names)
+    {
+        final Map<String, Integer> nameCounts = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (final String name : names) {
+            nameCounts.merge(name, 1, Integer::sum);
+        }
+        final Map<String, Integer> columnIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        final String nullName = new String(nullValue, charset);
+        for (int i = 0; i < names.size(); i++) {
+            final String name = names.get(i);
+            if (name.isEmpty() || name.equals(nullName)) {
+                columnIndexes.putIfAbsent("_c" + i, i);
+            } else if (nameCounts.get(name) > 1) {
+                columnIndexes.putIfAbsent(name + i, i);
+            } else {
+                columnIndexes.putIfAbsent(name, i);
+            }
+        }
+        final int[] columns = new int[fields.size()];
+        boolean positional = true;
+        for (int i = 0; i < fields.size(); i++) {
+            final Integer column = columnIndexes.get(fields.get(i).getName());
+            if (column == null) {
+                return;
+            }
+            columns[i] = column;
+            positional &= column == i;
+        }
+        if (positional) {
+            return;
+        }
+        fieldColumns = columns;
+        columnFields = new int[names.size()];
+        Arrays.fill(columnFields, NONE);
+        nextFields = new int[fields.size()];
+        // A column that several fields name sets each of them.
+        for (int i = columns.length - 1; i >= 0; i--) {
+            nextFields[i] = columnFields[columns[i]];
+            columnFields[columns[i]] = i;
+        }
+        values = new Serializable[fields.size()];
+    }
+
+    /**
+     * Returns whether the delimiters in the interaction properties can be read.
+     * Multi-character delimiters are left to Spark.
+     *
+     * @param interactionProperties
+     *            the source interaction properties
+     * @return true if the delimiters are supported
+     */
+    static boolean isSupported(Properties interactionProperties)
+    {
+        return isSupported(interactionProperties, null);
+    }
+
+    /**
+     * Returns whether the delimiters in the interaction properties and the type of
+     * a field can be read. Dates and timestamps are supported when they have
+     * Spark's default format, which accepts any ISO 8601 value.
+     *
+     * @param interactionProperties
+     *            the source interaction properties
+     * @param type
+     *            the field type, or null to only check the delimiters
+     * @return true if the delimiters and field type are supported
+     */
+    static boolean isSupported(Properties interactionProperties, String type)
+    {
+        if ("date".equals(type) && !isDefaultFormat(interactionProperties.getProperty("date_format"))
+                || "timestamp".equals(type) && !isDefaultFormat(interactionProperties.getProperty("time_zone_format"))) {
+            return false;
+        }
+        for (final String name : new String[] { "field_delimiter_value", "quote_character_value", "escape_character_value",
+                "comment_character_value" }) {
+            final String value = interactionProperties.getProperty(name);
+            if (value != null && (value.length() > 1 || !value.isEmpty() && value.charAt(0) >= 0x80)) {
+                return false;
+            }
+        }
+        final String rowDelimiter = interactionProperties.getProperty("row_delimiter_value");
+        return rowDelimiter == null || rowDelimiter.isEmpty() || "\r\n".equals(rowDelimiter)
+                || rowDelimiter.length() == 1 && rowDelimiter.charAt(0) < 0x80;
+    }
+
+    private static boolean isDefaultFormat(String format)
+    {
+        return format == null || format.isEmpty();
+    }
+
+    private static int singleByte(String value, int defaultValue)
+    {
+        return value != null && !value.isEmpty() ? value.charAt(0) : defaultValue;
+    }
+
+    private static int getRowDelimiter(String value)
+    {
+        if (value == null || value.isEmpty() || "\n".equals(value) || "\r".equals(value) || "\r\n".equals(value)) {
+            return ANY_LINE_SEPARATOR;
+        }
+        return value.charAt(0);
+    }
+
+    private void initColumn(CustomFlightAssetField field, int index)
+    {
+        switch (field.getType()) {
+        case "bit":
+        case "boolean":
+            columnKinds[index] = ColumnKind.BOOLEAN;
+            break;
+        case "tinyint":
+            columnKinds[index] = ColumnKind.BYTE;
+            break;
+        case "smallint":
+            columnKinds[index] = ColumnKind.SHORT;
+            break;
+        case "integer":
+            columnKinds[index] = ColumnKind.INT;
+            break;
+        case "bigint":
+            columnKinds[index] = ColumnKind.LONG;
+            break;
+        case "real":
+            columnKinds[index] = ColumnKind.FLOAT;
+            break;
+        case "float":
+        case "double":
+            columnKinds[index] = ColumnKind.DOUBLE;
+            break;
+        case "decimal":
+        case "numeric":
+            columnKinds[index] = ColumnKind.DECIMAL;
+            decimalPrecisions[index] = field.getLength() != null ? field.getLength() : 0;
+            decimalScales[index] = field.getScale() != null ? field.getScale() : -1;
+            break;
+        case "date":
+            columnKinds[index] = ColumnKind.DATE;
+            break;
+        case "timestamp":
+            columnKinds[index] = ColumnKind.TIMESTAMP;
+            break;
+        default:
+            columnKinds[index] = ColumnKind.STRING;
+            break;
+        }
+    }
+
+    private void skipByteOrderMark() throws IOException
+    {
+        if (!StandardCharsets.UTF_8.equals(charset)) {
+            return;
+        }
+        final int first = next();
+        if (first != 0xEF) {
+            pushBack(first);
+            return;
+        }
+        final int second = next();
+        final int third = second == 0xBB ? next() : NONE;
+        if (third != 0xBF) {
+            if (third != NONE) {
+                pushBack(third);
+            }
+            pushBack(second);
+            pushBack(first);
+        }
+    }
+
+    private void pushBack(int c)
+    {
+        pushedBack[pushedBackCount++] = c;
+    }
+
+    private int next() throws IOException
+    {
+        if (pushedBackCount > 0) {
+            return pushedBack[--pushedBackCount];
+        }
+        if (bufferPosition == bufferLimit && !fillBuffer()) {
+            return NONE;
+        }
+        return buffer[bufferPosition++] & 0xFF;
+    }
+
+    private boolean fillBuffer() throws IOException
+    {
+        final int count = in.read(buffer, 0, buffer.length);
+        if (count <= 0) {
+            return false;
+        }
+        bufferPosition = 0;
+        bufferLimit = count;
+        return true;
+    }
+
+    /**
+     * Appends the rest of an unquoted field that is already in the input buffer,
+     * stopping before the delimiter or row end.
+     */
+    private void appendUnquoted()
+    {
+        if (pushedBackCount > 0) {
+            return;
+        }
+        final int start = bufferPosition;
+        int end = start;
+        while (end < bufferLimit) {
+            final int c = buffer[end] & 0xFF;
+            if (c == delimiter || isRowEnd(c)) {
+                break;
+            }
+            end++;
+        }
+        if (end > start) {
+            final int length = end - start;
+            if (tokenLength + length > token.length) {
+                token = Arrays.copyOf(token, Math.max(token.length * 2, tokenLength + length));
+            }
+            System.arraycopy(buffer, start, token, tokenLength, length);
+            tokenLength += length;
+            bufferPosition = end;
+        }
+    }
+
+    private boolean isRowEnd(int c)
+    {
+        return rowDelimiter == ANY_LINE_SEPARATOR ? c == '\n' || c == '\r' : c == rowDelimiter;
+    }
+
+    /**
+     * Consumes the LF of a CR LF row end.
+     */
+    private void endRow(int c) throws IOException
+    {
+        if (c == '\r' && rowDelimiter == ANY_LINE_SEPARATOR) {
+            final int lf = next();
+            if (lf != '\n') {
+                pushBack(lf);
+            }
+        }
+    }
+
+    private void append(int c)
+    {
+        if (tokenLength == token.length) {
+            token = Arrays.copyOf(token, token.length * 2);
+        }
+        token[tokenLength++] = (byte) c;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Record readRecord() throws IOException
+    {
+        record = new Record(columnKinds.length);
+        try {
+            if (!nextRow()) {
+                return null;
+            }
+            if (values != null) {
+                for (final Serializable value : values) {
+                    record.appendValue(value);
+                }
+            }
+            return record;
+        }
+        finally {
+            record = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int readBatch(VectorSchemaRoot root, int maxRows) throws IOException
+    {
+        if (root != setterRoot) {
+            setterRoot = root;
+            setters = ArrowConversions.initSetters(root);
+            vectors = root.getFieldVectors().toArray(new FieldVector[0]);
+        }
+        root.allocateNew();
+        int rowCount = 0;
+        try {
+            for (row = 0; row < maxRows && nextRow(); row++) {
+                rowCount++;
+            }
+        }
+        finally {
+            row = NONE;
+        }
+        root.setRowCount(rowCount);
+        addRowCount(rowCount);
+        return rowCount;
+    }
+
+    /**
+     * Reads the next row into the current record or batch row, or skips it if
+     * there is neither.
+     *
+     * @return false at the end of the file
+     */
+    private boolean nextRow() throws IOException
+    {
+        while (true) {
+            final int c = next();
+            if (c < 0) {
+                return false;
+            }
+            // Like Spark, skip empty lines and comments.
+            if (isRowEnd(c)) {
+                endRow(c);
+                continue;
+            }
+            if (c == comment) {
+                int skipped = next();
+                while (skipped >= 0 && !isRowEnd(skipped)) {
+                    skipped = next();
+                }
+                endRow(skipped);
+                continue;
+            }
+            pushBack(c);
+            readRow();
+            return true;
+        }
+    }
+
+    private void readRow() throws IOException
+    {
+        int column = 0;
+        while (true) {
+            tokenLength = 0;
+            int c = next();
+            if (c == quote) {
+                c = readQuoted();
+            }
+            // Content after a closing quote, or an unquoted field.
+            while (c >= 0 && c != delimiter && !isRowEnd(c)) {
+                append(c);
+                appendUnquoted();
+                c = next();
+            }
+            if (headerNames != null) {
+                headerNames.add(new String(token, 0, tokenLength, charset));
+            } else if (columnFields != null) {
+                if (column < columnFields.length) {
+                    for (int field = columnFields[column]; field != NONE; field = nextFields[field]) {
+                        setValue(field);
+                    }
+                }
+            } else if (column < columnKinds.length) {
+                if (record != null) {
+                    record.appendValue(convert(column));
+                } else {
+                    setValue(column);
+                }
+            }
+            column++;
+            if (c != delimiter) {
+                endRow(c);
+                break;
+            }
+        }
+        if (headerNames != null) {
+            return;
+        }
+        // Like Spark, missing trailing fields are null.
+        if (fieldColumns != null) {
+            for (int field = 0; field < fieldColumns.length; field++) {
+                if (fieldColumns[field] >= column) {
+                    setNull(field);
+                }
+            }
+        } else {
+            for (; column < columnKinds.length; column++) {
+                if (record != null) {
+                    record.appendValue(null);
+                } else {
+                    setNull(column);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the current token as the value of a field in the current record or
+     * batch row.
+     */
+    private void setValue(int field)
+    {
+        if (record != null) {
+            values[field] = convert(field);
+        } else if (row >= 0) {
+            setVectorValue(field);
+        }
+    }
+
+    private void setNull(int field)
+    {
+        if (record != null) {
+            values[field] = null;
+        } else if (row >= 0) {
+            setters.get(field).handleNull(row);
+        }
+    }
+
+    /**
+     * Reads a quoted field up to its closing quote and returns the byte after it.
+     * Like Spark, which reads CSV line by line, a row end also ends a quoted
+     * field.
+     *
+     * <p>
+     * Quotes are handled as the parser of Spark handles them: a doubled quote is a
+     * literal quote, whitespace after the closing quote is ignored, and if the
+     * closing quote is followed by anything else, the field keeps its quotes and
+     * the rest of it is read as unquoted text.
+     */
+    private int readQuoted() throws IOException
+    {
+        boolean afterQuote = false;
+        while (true) {
+            int c = next();
+            if (c < 0 || isRowEnd(c)) {
+                return c;
+            }
+            if (afterQuote) {
+                if (c == delimiter) {
+                    return c;
+                }
+                if (c == quote) {
+                    append(quote);
+                    // Spark's parser only starts afresh after an escaped quote, so a
+                    // quote after a doubled quote is another literal quote.
+                    afterQuote = escape != quote;
+                    continue;
+                }
+                final int quotedLength = tokenLength;
+                while (c >= 0 && c <= ' ' && c != delimiter && !isRowEnd(c)) {
+                    append(c);
+                    c = next();
+                }
+                if (c < 0 || c == delimiter || isRowEnd(c)) {
+                    tokenLength = quotedLength;
+                    return c;
+                }
+                insert(quotedLength, quote);
+                insert(0, quote);
+                return c;
+            }
+            if (c == escape && escape != quote) {
+                final int escaped = next();
+                if (escaped == quote || escaped == escape) {
+                    append(escaped);
+                } else {
+                    append(c);
+                    pushBack(escaped);
+                }
+            } else if (c == quote) {
+                afterQuote = true;
+            } else {
+                append(c);
+            }
+        }
+    }
+
+    private void insert(int position, int c)
+    {
+        append(c);
+        System.arraycopy(token, position, token, position + 1, tokenLength - 1 - position);
+        token[position] = (byte) c;
+    }
+
+    private boolean tokenEquals(byte[] value)
+    {
+        if (tokenLength != value.length) {
+            return false;
+        }
+        for (int i = 0; i < tokenLength; i++) {
+            if (token[i] != value[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts the current token to the type of a column. As with Spark's
+     * permissive mode, values that cannot be converted are null.
+     */
+    private Serializable convert(int column)
+    {
+        if (tokenEquals(nullValue)) {
+            return null;
+        }
+        switch (columnKinds[column]) {
+        case BOOLEAN:
+            return parseBoolean();
+        case BYTE:
+            return parseLong() && longValue == (byte) longValue ? Byte.valueOf((byte) longValue) : null;
+        case SHORT:
+            return parseLong() && longValue == (short) longValue ? Short.valueOf((short) longValue) : null;
+        case INT:
+            return parseLong() && longValue == (int) longValue ? Integer.valueOf((int) longValue) : null;
+        case LONG:
+            return parseLong() ? Long.valueOf(longValue) : null;
+        case FLOAT:
+            final Double floatValue = parseDouble();
+            return floatValue != null ? Float.valueOf(floatValue.floatValue()) : null;
+        case DOUBLE:
+            return parseDouble();
+        case DECIMAL:
+            return parseDecimal(column);
+        case DATE:
+            final Option<Object> days = parseDate();
+            return days.isDefined() ? DateTimeUtils.toJavaDate((Integer) days.get()) : null;
+        case TIMESTAMP:
+            final Option<Object> micros = parseTimestamp();
+            return micros.isDefined() ? DateTimeUtils.toJavaTimestamp((Long) micros.get()) : null;
+        default:
+            return new String(token, 0, tokenLength, charset);
+        }
+    }
+
+    /**
+     * Sets the current token as the value of a column in the current batch row.
+     * Values are written straight into vectors of the expected type; any other
+     * vector is set from the converted value, as for records.
+     */
+    private void setVectorValue(int column)
+    {
+        final ArrowConversions.ArrowSetterBase setter = setters.get(column);
+        if (tokenEquals(nullValue)) {
+            setter.handleNull(row);
+            return;
+        }
+        final FieldVector vector = vectors[column];
+        final boolean set;
+        switch (columnKinds[column]) {
+        case BYTE:
+            set = vector instanceof TinyIntVector && setByte((TinyIntVector) vector);
+            break;
+        case SHORT:
+            set = vector instanceof SmallIntVector && setShort((SmallIntVector) vector);
+            break;
+        case INT:
+            set = vector instanceof IntVector && setInt((IntVector) vector);
+            break;
+        case LONG:
+            set = vector instanceof BigIntVector && setLong((BigIntVector) vector);
+            break;
+        case DECIMAL:
+            set = vector instanceof DecimalVector && setDecimal((DecimalVector) vector, column);
+            break;
+        case TIMESTAMP:
+            set = vector instanceof TimeStampMilliVector && setTimestamp((TimeStampMilliVector) vector);
+            break;
+        case STRING:
+            set = vector instanceof VarCharVector && setAscii((VarCharVector) vector);
+            break;
+        default:
+            set = false;
+            break;
+        }
+        if (!set) {
+            final Serializable value = convert(column);
+            if (value != null) {
+                setter.setValue(row, value);
+            } else {
+                setter.handleNull(row);
+            }
+        }
+    }
+
+    private boolean setByte(TinyIntVector vector)
+    {
+        if (!parseLong() || longValue != (byte) longValue) {
+            return false;
+        }
+        vector.setSafe(row, (byte) longValue);
+        return true;
+    }
+
+    private boolean setShort(SmallIntVector vector)
+    {
+        if (!parseLong() || longValue != (short) longValue) {
+            return false;
+        }
+        vector.setSafe(row, (short) longValue);
+        return true;
+    }
+
+    private boolean setInt(IntVector vector)
+    {
+        if (!parseLong() || longValue != (int) longValue) {
+            return false;
+        }
+        vector.setSafe(row, (int) longValue);
+        return true;
+    }
+
+    private boolean setLong(BigIntVector vector)
+    {
+        if (!parseLong()) {
+            return false;
+        }
+        vector.setSafe(row, longValue);
+        return true;
+    }
+
+    /**
+     * Sets a plain decimal number whose digits fit in a long and that has no more
+     * fraction digits than the column scale, so that no rounding is needed.
+     */
+    private boolean setDecimal(DecimalVector vector, int column)
+    {
+        final int scale = decimalScales[column];
+        if (scale < 0 || scale != vector.getScale() || scale >= POWERS_OF_TEN.length) {
+            return false;
+        }
+        int i = 0;
+        boolean negative = false;
+        if (tokenLength > 0 && (token[0] == '-' || token[0] == '+')) {
+            negative = token[0] == '-';
+            i++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < tokenLength; i++) {
+            final int c = token[i];
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            final int digit = c - '0';
+            // Eighteen digits always fit in a long.
+            if (digit < 0 || digit > 9 || ++digits > 18) {
+                return false;
+            }
+            unscaled = unscaled * 10 + digit;
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        final int shift = scale - Math.max(fractionDigits, 0);
+        if (shift < 0 || unscaled > Long.MAX_VALUE / POWERS_OF_TEN[shift]) {
+            return false;
+        }
+        unscaled *= POWERS_OF_TEN[shift];
+        final int precision = decimalPrecisions[column];
+        if (precision <= 0 || precision < POWERS_OF_TEN.length && unscaled >= POWERS_OF_TEN[precision]) {
+            return false;
+        }
+        vector.setSafe(row, negative ? -unscaled : unscaled);
+        return true;
+    }
+
+    private boolean setTimestamp(TimeStampMilliVector vector)
+    {
+        final Option<Object> micros = parseTimestamp();
+        if (micros.isEmpty()) {
+            return false;
+        }
+        // The same milliseconds as the java.sql.Timestamp that Spark returns.
+        vector.setSafe(row, Math.floorDiv(RebaseDateTime.rebaseGregorianToJulianMicros((Long) micros.get()), 1000L));
+        return true;
+    }
+
+    /**
+     * Copies text that is plain ASCII, which has the same bytes in UTF-8.
+     */
+    private boolean setAscii(VarCharVector vector)
+    {
+        for (int i = 0; i < tokenLength; i++) {
+            if (token[i] < 0) {
+                return false;
+            }
+        }
+        vector.setSafe(row, token, 0, tokenLength);
+        return true;
+    }
+
+    /**
+     * Parses a date like Spark does without a date format.
+     */
+    private Option<Object> parseDate()
+    {
+        final UTF8String text = UTF8String.fromBytes(token, 0, tokenLength);
+        final Option<Object> days = DateTimeUtils.stringToDate(text);
+        return days.isDefined() ? days : DateTimeUtils.stringToDate(DateTimeUtils.cleanLegacyTimestampStr(text));
+    }
+
+    /**
+     * Parses a timestamp like Spark does without a timestamp format.
+     */
+    private Option<Object> parseTimestamp()
+    {
+        final UTF8String text = UTF8String.fromBytes(token, 0, tokenLength);
+        final Option<Object> micros = DateTimeUtils.stringToTimestamp(text, zoneId);
+        return micros.isDefined() ? micros : DateTimeUtils.stringToTimestamp(DateTimeUtils.cleanLegacyTimestampStr(text), zoneId);
+    }
+
+    private Boolean parseBoolean()
+    {
+        if (tokenLength == 4 && (token[0] | 0x20) == 't' && (token[1] | 0x20) == 'r' && (token[2] | 0x20) == 'u'
+                && (token[3] | 0x20) == 'e') {
+            return Boolean.TRUE;
+        }
+        if (tokenLength == 5 && (token[0] | 0x20) == 'f' && (token[1] | 0x20) == 'a' && (token[2] | 0x20) == 'l'
+                && (token[3] | 0x20) == 's' && (token[4] | 0x20) == 'e') {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+
+    /**
+     * Parses a decimal integer from the token bytes into {@link #longValue},
+     * returning false if it is not a valid long.
+     */
+    private boolean parseLong()
+    {
+        int i = 0;
+        boolean negative = false;
+        if (tokenLength > 0 && (token[0] == '-' || token[0] == '+')) {
+            negative = token[0] == '-';
+            i++;
+        }
+        if (i == tokenLength) {
+            return false;
+        }
+        // Accumulate negatively so that Long.MIN_VALUE can be represented.
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; i < tokenLength; i++) {
+            final int digit = token[i] - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        longValue = negative ? result : -result;
+        return true;
+    }
+
+    private Double parseDouble()
+    {
+        final String text = new String(token, 0, tokenLength, StandardCharsets.ISO_8859_1);
+        if (text.equals(nanValue)) {
+            return Double.NaN;
+        } else if (text.equals(positiveInfinityValue)) {
+            return Double.POSITIVE_INFINITY;
+        } else if (text.equals(negativeInfinityValue)) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        try {
+            return Double.valueOf(text);
+        }
+        catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private BigDecimal parseDecimal(int column)
+    {
+        if (chars.length < tokenLength) {
+            chars = new char[token.length];
+        }
+        for (int i = 0; i < tokenLength; i++) {
+            chars[i] = (char) (token[i] & 0xFF);
+        }
+        try {
+            BigDecimal decimal = new BigDecimal(chars, 0, tokenLength);
+            if (decimalScales[column] >= 0) {
+                decimal = decimal.setScale(decimalScales[column], RoundingMode.HALF_UP);
+                if (decimalPrecisions[column] > 0 && decimal.precision() > decimalPrecisions[column]) {
+                    return null;
+                }
+            }
+            return decimal;
+        }
+        catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException
+    {
+        in.close();
+    }
+}
@@ -0,0 +1,143 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+
+import com.ibm.connect.sdk.api.Record;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * Writes records as CSV or delimited text. The defaults match those of the
+ * Spark CSV writer, so that files written by either can be read back with the
+ * same interaction properties.
+ */
+class DelimitedRecordWriter extends FileRecordWriter
+{
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+    private final String fieldDelimiter;
+    private final char quote;
+    private final char escape;
+    private final String rowDelimiter;
+    private final String nullValue;
+
+    /**
+     * Creates a delimited record writer.
+     *
+     * @param fields
+     *            the fields of the records to write
+     * @param interactionProperties
+     *            the target interaction properties
+     * @param out
+     *            the stream to which to write
+     * @throws IOException
+     */
+    DelimitedRecordWriter(List<CustomFlightAssetField> fields, Properties interactionProperties, OutputStream out) throws IOException
+    {
+        super(fields, interactionProperties);
+        final String encoding = interactionProperties.getProperty("encoding");
+        final Charset charset = encoding != null && !encoding.isEmpty() ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        writer = new BufferedWriter(new OutputStreamWriter(out, charset), WRITE_BUFFER_SIZE);
+        fieldDelimiter = interactionProperties.getProperty("field_delimiter_value", ",");
+        quote = firstChar(interactionProperties.getProperty("quote_character_value"), '"');
+        escape = firstChar(interactionProperties.getProperty("escape_character_value"), '\\');
+        rowDelimiter = interactionProperties.getProperty("row_delimiter_value", "\n");
+        nullValue = interactionProperties.getProperty("null_value", "");
+
+        if (Boolean.parseBoolean(interactionProperties.getProperty("first_line_header"))) {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    writer.write(fieldDelimiter);
+                }
+                writeText(fields.get(i).getName());
+            }
+            writer.write(rowDelimiter);
+        }
+    }
+
+    private static char firstChar(String value, char defaultValue)
+    {
+        return value != null && !value.isEmpty() ? value.charAt(0) : defaultValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void writeRecord(Record record) throws IOException
+    {
+        final List<?> values = record.getValues();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(fieldDelimiter);
+            }
+            final Object value = values.get(i);
+            if (value == null) {
+                writer.write(nullValue);
+            } else {
+                final String text = formatValue(value);
+                // Quote empty strings so that they are not read back as null.
+                if (text.isEmpty()) {
+                    writer.write(quote);
+                    writer.write(quote);
+                } else {
+                    writeText(text);
+                }
+            }
+        }
+        writer.write(rowDelimiter);
+    }
+
+    private void writeText(String text) throws IOException
+    {
+        if (!needsQuotes(text)) {
+            writer.write(text);
+            return;
+        }
+        writer.write(quote);
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == quote || c == escape && escape != quote) {
+                writer.write(escape);
+            }
+            writer.write(c);
+        }
+        writer.write(quote);
+    }
+
+    private boolean needsQuotes(String text)
+    {
+        if (text.contains(fieldDelimiter) || text.contains(rowDelimiter) || text.equals(nullValue)) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == quote || c == escape || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException
+    {
+        writer.close();
+    }
+}
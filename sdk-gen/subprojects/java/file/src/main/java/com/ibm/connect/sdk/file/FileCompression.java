@@ -0,0 +1,229 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.compressors.snappy.FramedSnappyCompressorInputStream;
+import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
+import org.slf4j.Logger;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Detects compressed files from their magic bytes and decompresses them while
+ * they are read, so that compressed files can be read like any other.
+ *
+ * <p>
+ * Concatenated gzip members, bzip2 streams, xz streams and zstd frames are all
+ * decompressed. Block gzip files, such as those written by bgzip, are split at
+ * their block boundaries and their blocks are inflated in parallel.
+ */
+public final class FileCompression
+{
+    /**
+     * Compression of gzip files.
+     */
+    public static final String COMPRESSION_GZIP = "gzip";
+
+    /**
+     * Compression of bzip2 files.
+     */
+    public static final String COMPRESSION_BZIP2 = "bzip2";
+
+    /**
+     * Compression of framed Snappy files.
+     */
+    public static final String COMPRESSION_SNAPPY = "snappy";
+
+    /**
+     * Compression of xz files.
+     */
+    public static final String COMPRESSION_XZ = "xz";
+
+    /**
+     * Compression of Zstandard files.
+     */
+    public static final String COMPRESSION_ZSTD = "zstd";
+
+    /**
+     * Number of bytes at the start of a file needed to detect its compression.
+     */
+    public static final int HEADER_SIZE = 64;
+
+    private static final Logger LOGGER = getLogger(FileCompression.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ImmutableMap<String, String> COMPRESSION_EXTENSIONS = ImmutableMap.of(".gz", COMPRESSION_GZIP, ".bz2",
+            COMPRESSION_BZIP2, ".sz", COMPRESSION_SNAPPY, ".xz", COMPRESSION_XZ, ".zst", COMPRESSION_ZSTD);
+
+    private static final byte[] GZIP_MAGIC = { 0x1f, (byte) 0x8b };
+    private static final byte[] BZIP2_MAGIC = { 'B', 'Z', 'h' };
+    private static final byte[] SNAPPY_MAGIC = { (byte) 0xff, 0x06, 0x00, 0x00, 's', 'N', 'a', 'P', 'p', 'Y' };
+    private static final byte[] XZ_MAGIC = { (byte) 0xfd, '7', 'z', 'X', 'Z', 0x00 };
+    private static final byte[] ZSTD_MAGIC = { 0x28, (byte) 0xb5, 0x2f, (byte) 0xfd };
+
+    private FileCompression()
+    {
+        // prevent instantiation
+    }
+
+    /**
+     * Detects the compression of a file from its first bytes.
+     *
+     * @param header
+     *            the first bytes of the file
+     * @param length
+     *            the number of valid bytes in the header
+     * @return the compression of the file, or null if it is not compressed
+     */
+    public static String detect(byte[] header, int length)
+    {
+        if (startsWith(header, length, GZIP_MAGIC)) {
+            return COMPRESSION_GZIP;
+        }
+        // The block size follows the bzip2 magic.
+        if (startsWith(header, length, BZIP2_MAGIC) && length > 3 && header[3] >= '1' && header[3] <= '9') {
+            return COMPRESSION_BZIP2;
+        }
+        if (startsWith(header, length, SNAPPY_MAGIC)) {
+            return COMPRESSION_SNAPPY;
+        }
+        if (startsWith(header, length, XZ_MAGIC)) {
+            return COMPRESSION_XZ;
+        }
+        if (startsWith(header, length, ZSTD_MAGIC)) {
+            return COMPRESSION_ZSTD;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] header, int length, byte[] magic)
+    {
+        if (length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (header[i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a stream that decompresses the given stream if it is compressed.
+     *
+     * @param inputStream
+     *            the stream to read, positioned at the start of the file
+     * @return a stream of the decompressed content
+     * @throws IOException
+     */
+    public static InputStream decompress(InputStream inputStream) throws IOException
+    {
+        final InputStream markableStream = FileUtils.ensureMarkSupported(inputStream);
+        final byte[] header = new byte[HEADER_SIZE];
+        final int length = FileUtils.peekBytes(markableStream, header);
+        return decompress(markableStream, header, length);
+    }
+
+    /**
+     * Returns a stream that decompresses the given stream if its first bytes show
+     * that it is compressed.
+     *
+     * @param inputStream
+     *            the stream to read, positioned at the start of the file
+     * @param header
+     *            the first bytes of the file
+     * @param length
+     *            the number of valid bytes in the header
+     * @return a stream of the decompressed content, or the given stream if it is
+     *         not compressed
+     * @throws IOException
+     */
+    public static InputStream decompress(InputStream inputStream, byte[] header, int length) throws IOException
+    {
+        final String compression = detect(header, length);
+        if (compression == null) {
+            return inputStream;
+        }
+        switch (compression) {
+        case COMPRESSION_GZIP:
+            if (ParallelGzipInputStream.isBlockGzip(header, length)) {
+                return new ParallelGzipInputStream(inputStream);
+            }
+            // Like gzip, the JDK stream decompresses concatenated members.
+            return new GZIPInputStream(inputStream, BUFFER_SIZE);
+        case COMPRESSION_BZIP2:
+            return new BZip2CompressorInputStream(inputStream, true);
+        case COMPRESSION_SNAPPY:
+            return new FramedSnappyCompressorInputStream(inputStream);
+        case COMPRESSION_XZ:
+            return new XZCompressorInputStream(inputStream, true);
+        default:
+            return new ZstdCompressorInputStream(inputStream);
+        }
+    }
+
+    /**
+     * Decompresses as much of a sample of a compressed file as possible. Since the
+     * sample ends part way through the compressed content, only the content
+     * before the last complete block may be decompressed.
+     *
+     * @param sample
+     *            a sample of a compressed file
+     * @param maxSize
+     *            the maximum number of decompressed bytes
+     * @return a sample of the decompressed content
+     */
+    static FileSample decompressSample(FileSample sample, int maxSize)
+    {
+        final byte[] content = new byte[maxSize];
+        int length = 0;
+        try (InputStream inputStream = decompress(sample.newInputStream(), sample.getContent(), sample.getLength())) {
+            while (length < maxSize) {
+                final int read = inputStream.read(content, length, maxSize - length);
+                if (read < 0) {
+                    break;
+                }
+                length += read;
+            }
+        }
+        catch (final IOException e) {
+            // The sample ends in the middle of the compressed content.
+            LOGGER.debug("Decompressed " + length + " bytes of sample: " + e.getMessage());
+        }
+        return FileSample.of(content, length);
+    }
+
+    /**
+     * Removes the compression extension, such as .gz, from a file name.
+     *
+     * @param fileName
+     *            the file name
+     * @return the file name without its compression extension, or the file name
+     *         if it has none
+     */
+    public static String stripExtension(String fileName)
+    {
+        if (fileName == null) {
+            return null;
+        }
+        final int extensionIndex = fileName.lastIndexOf('.');
+        if (extensionIndex > 0 && COMPRESSION_EXTENSIONS.containsKey(fileName.substring(extensionIndex).toLowerCase(Locale.ENGLISH))) {
+            return fileName.substring(0, extensionIndex);
+        }
+        return fileName;
+    }
+}
@@ -8,23 +8,28 @@ package com.ibm.connect.sdk.file;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeSet;
 
-import org.apache.spark.SparkConf;
+import org.apache.spark.sql.Column;
 import org.apache.spark.sql.DataFrameReader;
 import org.apache.spark.sql.DataFrameWriter;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.SaveMode;
 import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.functions;
 import org.apache.spark.sql.types.BinaryType;
 import org.apache.spark.sql.types.BooleanType;
 import org.apache.spark.sql.types.ByteType;
@@ -44,6 +49,7 @@ import org.apache.spark.sql.types.TimestampType;
 import org.slf4j.Logger;
 
 import com.google.common.collect.ImmutableSet;
+import com.ibm.connect.sdk.api.ArrowConversions;
 import com.ibm.connect.sdk.api.RowBasedConnector;
 import com.ibm.connect.sdk.util.ModelMapper;
 import com.ibm.wdp.connect.common.sdk.api.models.ConnectionProperties;
@@ -80,6 +86,19 @@ public abstract class FileConnector extends RowBasedConnector<FileSourceInteract
         PROPERTY_TO_SPARK_OPTION_MAP.put("timestamp_format", "timestampNTZFormat");
     }
 
+    // Detection depends on the file format and on every property that is passed to
+    // Spark.
+    private static final FileDetailsCache FILE_DETAILS_CACHE = new FileDetailsCache(ImmutableSet.<String>builder()
+            .addAll(PROPERTY_TO_SPARK_OPTION_MAP.keySet()).add("file_format").build());
+
+    /**
+     * Interaction property with a condition that the rows to read must meet, in
+     * the restricted grammar of {@link RowFilter}: comparisons of columns to
+     * literal values combined with AND, OR and NOT, for example
+     * {@code amount > 100 AND region = 'EU'}. It is not Spark SQL.
+     */
+    static final String ROW_FILTER_PROPERTY = "row_filter";
+
     private static final Set<String> SIGNED_TYPES
             = ImmutableSet.of("tinyint", "smallint", "integer", "bigint", "decimal", "numeric", "real", "float", "double");
 
@@ -94,16 +113,81 @@ public abstract class FileConnector extends RowBasedConnector<FileSourceInteract
     protected FileConnector(ConnectionProperties properties)
     {
         super(properties);
-        // Tell spark to return dates as java.sql.Date and timestamps as
-        // java.sql.Timestamp.
-        final SparkConf conf = new SparkConf().set("spark.sql.datetime.java8API.enabled", "false");
-        spark = SparkSession.builder().appName(FileConnector.class.getName()).config(conf).master("local[*]").getOrCreate();
+        spark = FileSparkRuntime.acquire();
+    }
+
+    /**
+     * Adds the details of a file to its asset, reusing the details detected for
+     * the same version of the file by an earlier request.
+     *
+     * @param asset
+     *            the asset of the file
+     * @param location
+     *            a location that identifies the file across connections
+     * @param size
+     *            the size of the file
+     * @param version
+     *            the version of the file, such as its modification time or
+     *            entity tag, or null if unknown
+     * @param detector
+     *            examines the file content and adds its details to the asset
+     * @throws Exception
+     */
+    protected void addCachedFileDetails(CustomFlightAssetDescriptor asset, String location, long size, String version,
+            FileDetailsCache.Detector detector) throws Exception
+    {
+        FILE_DETAILS_CACHE.addFileDetails(asset, location, size, version, detector);
+    }
+
+    /**
+     * Returns the value of an optional connection property that must be a
+     * positive integer.
+     *
+     * @param name
+     *            the property name
+     * @param defaultValue
+     *            the value to use when the property is not set
+     * @return the property value
+     * @throws IllegalArgumentException
+     *             if the property is not a positive integer
+     */
+    protected int getPositiveIntegerProperty(String name, int defaultValue)
+    {
+        final String value = getConnectionProperties().getProperty(name);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            final int intValue = Integer.parseInt(value.trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        }
+        catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(FileMsgs.INVALID_POSITIVE_INTEGER.format(name, value));
     }
 
     protected void addAssetFields(CustomFlightAssetDescriptor asset, String filename)
     {
-        final Dataset<Row> df = getDataframe(asset, filename);
-        final StructType schema = df.schema();
+        // Spark cannot read Arrow IPC files, but their fields are described by the
+        // schema in the file footer.
+        if (FileUtils.FILE_FORMAT_ARROW.equals(ModelMapper.toProperties(asset.getInteractionProperties()).getProperty("file_format"))) {
+            try {
+                final FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ);
+                ArrowConversions.fromArrow(ArrowFileBatchReader.readSchema(channel)).forEach(asset::addFieldsItem);
+            }
+            catch (final IOException e) {
+                throw new UnsupportedOperationException(e.getMessage(), e);
+            }
+            return;
+        }
+        // Inferring the schema may run a Spark job.
+        final StructType schema;
+        try (FileSparkRuntime.JobSlot jobSlot = FileSparkRuntime.acquireJobSlot()) {
+            schema = getDataframe(asset, filename).schema();
+        }
         final Iterator<StructField> fieldIterator = schema.iterator();
         while (fieldIterator.hasNext()) {
             final StructField structField = fieldIterator.next();
@@ -240,6 +324,54 @@ public abstract class FileConnector extends RowBasedConnector<FileSourceInteract
         return reader.load(filename);
     }
 
+    /**
+     * Returns a dataframe of the rows of a file that meet the row filter, with
+     * the columns of the asset fields. Spark pushes both into the scan, so that
+     * Parquet and ORC files skip the columns, row groups and stripes that are
+     * not needed.
+     *
+     * @param asset
+     *            the asset of the file
+     * @param filename
+     *            the name of the file on the local file system
+     * @return a dataframe of the rows and columns to read
+     */
+    protected Dataset<Row> getSourceDataframe(CustomFlightAssetDescriptor asset, String filename)
+    {
+        Dataset<Row> dataframe = getDataframe(asset, filename);
+        final String rowFilter = ModelMapper.toProperties(asset.getInteractionProperties()).getProperty(ROW_FILTER_PROPERTY);
+        if (rowFilter != null && !rowFilter.trim().isEmpty()) {
+            LOGGER.info("Applying row filter " + rowFilter);
+            dataframe = dataframe.filter(RowFilter.parse(rowFilter));
+        }
+        return project(dataframe, asset.getFields());
+    }
+
+    private static Dataset<Row> project(Dataset<Row> dataframe, List<CustomFlightAssetField> assetFields)
+    {
+        if (assetFields == null || assetFields.isEmpty()) {
+            return dataframe;
+        }
+        // Columns are resolved by name like Spark does, ignoring case. If a field
+        // does not name a column, then the fields are matched to the columns by
+        // position as before.
+        final String[] columnNames = dataframe.columns();
+        final Set<String> columns = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        columns.addAll(Arrays.asList(columnNames));
+        final List<String> fieldNames = new ArrayList<>(assetFields.size());
+        for (final CustomFlightAssetField assetField : assetFields) {
+            if (!columns.contains(assetField.getName())) {
+                return dataframe;
+            }
+            fieldNames.add(assetField.getName());
+        }
+        if (fieldNames.equals(Arrays.asList(columnNames))) {
+            return dataframe;
+        }
+        LOGGER.info("Selecting columns " + fieldNames);
+        return dataframe.select(fieldNames.stream().map(name -> functions.col('`' + name.replace("`", "``") + '`')).toArray(Column[]::new));
+    }
+
     private Dataset<Row> createDataframe(CustomFlightAssetDescriptor asset, List<Row> rows)
     {
         final List<StructField> structFields = new ArrayList<>();
@@ -279,7 +411,9 @@ public abstract class FileConnector extends RowBasedConnector<FileSourceInteract
                     writer.option(sparkOption, value);
                 }
             }
-            writer.mode(SaveMode.Overwrite).save(tempFolder.toString());
+            try (FileSparkRuntime.JobSlot jobSlot = FileSparkRuntime.acquireJobSlot()) {
+                writer.mode(SaveMode.Overwrite).save(tempFolder.toString());
+            }
 
             // Find the data partition and rename it to the target filename.
             final Path partitionPath = Files.newDirectoryStream(tempFolder, "part-*").iterator().next();
@@ -303,7 +437,8 @@ public abstract class FileConnector extends RowBasedConnector<FileSourceInteract
     {
         try {
             if (spark != null) {
-                spark.close();
+                // Other connectors may still be using the session.
+                FileSparkRuntime.release();
             }
         }
         finally {
@@ -0,0 +1,171 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.ibm.connect.sdk.util.ModelMapper;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
+import com.ibm.wdp.connect.common.sdk.api.models.DiscoveredAssetDetails;
+import com.ibm.wdp.connect.common.sdk.api.models.DiscoveredAssetInteractionProperties;
+
+/**
+ * Caches the details detected from the content of files, so that a file is
+ * examined once for discovery, getFlightInfo and getStream rather than each
+ * time.
+ *
+ * <p>
+ * Details are keyed by the location, size and version of the file, such as its
+ * modification time or entity tag, and by the interaction properties that
+ * affect detection. A changed file therefore never matches a stale entry.
+ * Entries expire after a fixed time and the number of cached files is bounded.
+ */
+public final class FileDetailsCache
+{
+    private static final int MAX_FILES = 1000;
+    static final long EXPIRE_AFTER_WRITE_MINUTES = 30;
+
+    /**
+     * Detects the details of a file and adds them to its asset.
+     */
+    @FunctionalInterface
+    public interface Detector
+    {
+        /**
+         * Examines the file content and adds its details to the asset.
+         *
+         * @throws Exception
+         */
+        void detect() throws Exception;
+    }
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final Set<String> keyProperties;
+    private final Cache<String, byte[]> detailsCache;
+
+    /**
+     * Constructs an empty file details cache.
+     *
+     * @param keyProperties
+     *            the names of the interaction properties that affect detection
+     */
+    FileDetailsCache(Set<String> keyProperties)
+    {
+        this(keyProperties, Ticker.systemTicker());
+    }
+
+    /**
+     * Constructs an empty file details cache whose entries expire by the given
+     * time source.
+     *
+     * @param keyProperties
+     *            the names of the interaction properties that affect detection
+     * @param ticker
+     *            the time source
+     */
+    FileDetailsCache(Set<String> keyProperties, Ticker ticker)
+    {
+        this.keyProperties = keyProperties;
+        detailsCache = CacheBuilder.newBuilder().maximumSize(MAX_FILES).expireAfterWrite(EXPIRE_AFTER_WRITE_MINUTES, TimeUnit.MINUTES)
+                .ticker(ticker).build();
+    }
+
+    /**
+     * Adds the details of a file to its asset, from the cache if the same version
+     * of the file was examined before, or else by running the detector and caching
+     * its result.
+     *
+     * @param asset
+     *            the asset of the file
+     * @param location
+     *            a location that identifies the file across connections
+     * @param size
+     *            the size of the file
+     * @param version
+     *            the version of the file, such as its modification time or
+     *            entity tag, or null if unknown, in which case nothing is cached
+     * @param detector
+     *            detects the details if they are not cached
+     * @throws Exception
+     */
+    public void addFileDetails(CustomFlightAssetDescriptor asset, String location, long size, String version, Detector detector)
+            throws Exception
+    {
+        if (version == null) {
+            detector.detect();
+            return;
+        }
+        final String key = cacheKey(asset, location, size, version);
+        final byte[] cached = detailsCache.getIfPresent(key);
+        if (cached != null) {
+            apply(modelMapper.fromBytes(cached, CustomFlightAssetDescriptor.class), asset);
+            return;
+        }
+        final Map<String, Object> givenProperties
+                = asset.getInteractionProperties() != null ? new HashMap<>(asset.getInteractionProperties()) : Collections.emptyMap();
+        detector.detect();
+        // Only the detected properties are cached, as the others belong to the
+        // request.
+        final DiscoveredAssetInteractionProperties detectedProperties = new DiscoveredAssetInteractionProperties();
+        if (asset.getInteractionProperties() != null) {
+            asset.getInteractionProperties().forEach((name, value) -> {
+                if (!Objects.equals(value, givenProperties.get(name))) {
+                    detectedProperties.put(name, value);
+                }
+            });
+        }
+        final CustomFlightAssetDescriptor details = new CustomFlightAssetDescriptor().details(asset.getDetails())
+                .interactionProperties(detectedProperties).fields(asset.getFields());
+        detailsCache.put(key, modelMapper.toBytes(details));
+    }
+
+    /**
+     * Discards all cached details.
+     */
+    public void invalidateAll()
+    {
+        detailsCache.invalidateAll();
+    }
+
+    private String cacheKey(CustomFlightAssetDescriptor asset, String location, long size, String version)
+    {
+        final TreeMap<String, Object> properties = new TreeMap<>();
+        if (asset.getInteractionProperties() != null) {
+            asset.getInteractionProperties().forEach((name, value) -> {
+                if (keyProperties.contains(name)) {
+                    properties.put(name, value);
+                }
+            });
+        }
+        return location + '\n' + size + '\n' + version + '\n' + properties;
+    }
+
+    private static void apply(CustomFlightAssetDescriptor details, CustomFlightAssetDescriptor asset)
+    {
+        if (details.getDetails() != null) {
+            if (asset.getDetails() == null) {
+                asset.setDetails(new DiscoveredAssetDetails());
+            }
+            asset.getDetails().putAll(details.getDetails());
+        }
+        if (details.getInteractionProperties() != null) {
+            if (asset.getInteractionProperties() == null) {
+                asset.setInteractionProperties(new DiscoveredAssetInteractionProperties());
+            }
+            asset.getInteractionProperties().putAll(details.getInteractionProperties());
+        }
+        asset.setFields(details.getFields());
+    }
+}
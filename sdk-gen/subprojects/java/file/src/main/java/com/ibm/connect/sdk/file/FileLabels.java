@@ -32,6 +32,11 @@ public enum FileLabels implements ResourceBundleHelper.MessageFormatter<FileLabe
      */
     SOURCE_FILE_FORMAT_DESCRIPTION,
 
+    /**
+     * Label for source property file_format value arrow.
+     */
+    SOURCE_FILE_FORMAT_VALUE_ARROW_LABEL,
+
     /**
      * Label for source property file_format value avro.
      */
@@ -77,6 +82,16 @@ public enum FileLabels implements ResourceBundleHelper.MessageFormatter<FileLabe
      */
     SOURCE_ROW_LIMIT_DESCRIPTION,
 
+    /**
+     * Label for source property row_filter.
+     */
+    SOURCE_ROW_FILTER_LABEL,
+
+    /**
+     * Description for source property row_filter.
+     */
+    SOURCE_ROW_FILTER_DESCRIPTION,
+
     /**
      * Label for source property byte_limit.
      */
@@ -267,6 +282,11 @@ public enum FileLabels implements ResourceBundleHelper.MessageFormatter<FileLabe
      */
     TARGET_FILE_FORMAT_DESCRIPTION,
 
+    /**
+     * Label for target property file_format value arrow.
+     */
+    TARGET_FILE_FORMAT_VALUE_ARROW_LABEL,
+
     /**
      * Label for target property file_format value avro.
      */
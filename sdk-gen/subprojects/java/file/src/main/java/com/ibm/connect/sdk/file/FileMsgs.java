@@ -22,6 +22,16 @@ public enum FileMsgs implements ResourceBundleHelper.MessageFormatter<FileMsgs>
      */
     INVALID_PATH,
 
+    /**
+     * Property value that is not a positive integer.
+     */
+    INVALID_POSITIVE_INTEGER,
+
+    /**
+     * Invalid row filter.
+     */
+    INVALID_ROW_FILTER,
+
     /**
      * Missing property.
      */
@@ -32,10 +42,25 @@ public enum FileMsgs implements ResourceBundleHelper.MessageFormatter<FileMsgs>
      */
     NOT_A_FILE,
 
+    /**
+     * No Spark job slot became available in time.
+     */
+    SPARK_JOB_SLOT_TIMEOUT,
+
     /**
      * Unsupported action.
      */
-    UNSUPPORTED_ACTION;
+    UNSUPPORTED_ACTION,
+
+    /**
+     * Unsupported file format.
+     */
+    UNSUPPORTED_FILE_FORMAT,
+
+    /**
+     * Property not supported for a file format.
+     */
+    UNSUPPORTED_PROPERTY;
 
     private static final ResourceBundleHelper<FileMsgs> BUNDLE = new ResourceBundleHelper<>(FileMsgs.class);
 
@@ -0,0 +1,213 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.arrow.vector.VectorSchemaRoot;
+
+import com.google.common.collect.ImmutableSet;
+import com.ibm.connect.sdk.api.ArrowConversions;
+import com.ibm.connect.sdk.api.Record;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * Decodes records directly from the bytes of a file, without Spark. The values
+ * of each record have the types of the asset fields, as Spark would return
+ * them.
+ *
+ * <p>
+ * Only the formats and field types whose Spark semantics are reproduced exactly
+ * are supported; see {@link #isSupported}. Other files must be read with Spark.
+ */
+public abstract class FileRecordReader implements Closeable
+{
+    private static final ImmutableSet<String> SUPPORTED_TYPES = ImmutableSet.of("bit", "boolean", "tinyint", "smallint", "integer",
+            "bigint", "real", "float", "double", "decimal", "numeric", "char", "nchar", "varchar", "nvarchar", "longvarchar",
+            "longnvarchar", "clob", "nclob");
+
+    private static final ImmutableSet<String> DATE_TIME_TYPES = ImmutableSet.of("date", "timestamp");
+
+    private static final ImmutableSet<Charset> SUPPORTED_CHARSETS
+            = ImmutableSet.of(StandardCharsets.UTF_8, StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1);
+
+    private final List<CustomFlightAssetField> fields;
+    private long rowCount;
+
+    /**
+     * Creates a record reader.
+     *
+     * @param fields
+     *            the fields of the records to read
+     */
+    protected FileRecordReader(List<CustomFlightAssetField> fields)
+    {
+        this.fields = fields;
+    }
+
+    /**
+     * Returns whether records of the given fields can be read without Spark with
+     * the file format and options in the interaction properties.
+     *
+     * @param fields
+     *            the fields of the records to read
+     * @param interactionProperties
+     *            the source interaction properties
+     * @return true if {@link #create} supports the fields and interaction
+     *         properties
+     */
+    public static boolean isSupported(List<CustomFlightAssetField> fields, Properties interactionProperties)
+    {
+        if (fields == null || fields.isEmpty()) {
+            return false;
+        }
+        // Rows are filtered by Spark.
+        final String rowFilter = interactionProperties.getProperty(FileConnector.ROW_FILTER_PROPERTY);
+        if (rowFilter != null && !rowFilter.trim().isEmpty()) {
+            return false;
+        }
+        final String fileFormat = interactionProperties.getProperty("file_format");
+        final boolean delimited = FileUtils.FILE_FORMAT_CSV.equals(fileFormat) || FileUtils.FILE_FORMAT_DELIMITED.equals(fileFormat);
+        for (final CustomFlightAssetField field : fields) {
+            if (field.getType() == null || !SUPPORTED_TYPES.contains(field.getType())
+                    && !(delimited && DATE_TIME_TYPES.contains(field.getType())
+                            && DelimitedRecordReader.isSupported(interactionProperties, field.getType()))) {
+                return false;
+            }
+        }
+        final String encoding = interactionProperties.getProperty("encoding");
+        if (encoding != null && !encoding.isEmpty()
+                && (!Charset.isSupported(encoding) || !SUPPORTED_CHARSETS.contains(Charset.forName(encoding)))) {
+            return false;
+        }
+        if (delimited) {
+            return DelimitedRecordReader.isSupported(interactionProperties);
+        }
+        // Jackson detects the Unicode encoding of JSON by itself.
+        return FileUtils.FILE_FORMAT_JSON.equals(fileFormat)
+                && (encoding == null || encoding.isEmpty() || StandardCharsets.UTF_8.equals(Charset.forName(encoding)));
+    }
+
+    /**
+     * Creates a record reader for the file format in the interaction properties.
+     *
+     * @param fields
+     *            the fields of the records to read
+     * @param interactionProperties
+     *            the source interaction properties
+     * @param in
+     *            the stream from which to read, which is closed with the reader
+     * @return a record reader
+     * @throws IOException
+     */
+    public static FileRecordReader create(List<CustomFlightAssetField> fields, Properties interactionProperties, InputStream in)
+            throws IOException
+    {
+        if (!isSupported(fields, interactionProperties)) {
+            throw new UnsupportedOperationException(
+                    FileMsgs.UNSUPPORTED_FILE_FORMAT.format(interactionProperties.getProperty("file_format")));
+        }
+        if (FileUtils.FILE_FORMAT_JSON.equals(interactionProperties.getProperty("file_format"))) {
+            return new JsonRecordReader(fields, in);
+        }
+        return new DelimitedRecordReader(fields, interactionProperties, in);
+    }
+
+    /**
+     * Returns the fields of the records being read.
+     *
+     * @return the fields of the records being read
+     */
+    protected List<CustomFlightAssetField> getFields()
+    {
+        return fields;
+    }
+
+    /**
+     * Returns the number of records read.
+     *
+     * @return the number of records read
+     */
+    public long getRowCount()
+    {
+        return rowCount;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the next record or null at the end of the file
+     * @throws IOException
+     */
+    public Record read() throws IOException
+    {
+        final Record record = readRecord();
+        if (record != null) {
+            rowCount++;
+        }
+        return record;
+    }
+
+    /**
+     * Reads up to a number of records into the vectors of a root, which has the
+     * Arrow schema of the fields. The vectors are reallocated and the row count of
+     * the root is set to the number of records read.
+     *
+     * @param root
+     *            the root into which to read
+     * @param maxRows
+     *            the maximum number of records to read
+     * @return the number of records read, which is 0 at the end of the file
+     * @throws IOException
+     */
+    public int readBatch(VectorSchemaRoot root, int maxRows) throws IOException
+    {
+        final List<ArrowConversions.ArrowSetterBase> setters = ArrowConversions.initSetters(root);
+        root.allocateNew();
+        int rowCount = 0;
+        Record record;
+        while (rowCount < maxRows && (record = read()) != null) {
+            for (int i = 0; i < setters.size(); i++) {
+                final Serializable value = record.getValues().get(i);
+                if (value != null) {
+                    setters.get(i).setValue(rowCount, value);
+                } else {
+                    setters.get(i).handleNull(rowCount);
+                }
+            }
+            rowCount++;
+        }
+        root.setRowCount(rowCount);
+        return rowCount;
+    }
+
+    /**
+     * Adds to the number of records read, for readers that decode records without
+     * {@link #readRecord()}.
+     *
+     * @param count
+     *            the number of records read
+     */
+    protected void addRowCount(long count)
+    {
+        rowCount += count;
+    }
+
+    /**
+     * Decodes the next record.
+     *
+     * @return the next record or null at the end of the file
+     * @throws IOException
+     */
+    protected abstract Record readRecord() throws IOException;
+}
@@ -0,0 +1,270 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.collect.ImmutableSet;
+import com.ibm.connect.sdk.api.Record;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * Encodes records incrementally into a file format on an output stream, so that
+ * a file can be written without first materializing the data set.
+ */
+public abstract class FileRecordWriter implements Closeable
+{
+    private static final ImmutableSet<String> STREAMING_FORMATS = ImmutableSet.of(FileUtils.FILE_FORMAT_AVRO,
+            FileUtils.FILE_FORMAT_CSV, FileUtils.FILE_FORMAT_DELIMITED, FileUtils.FILE_FORMAT_JSON, FileUtils.FILE_FORMAT_PARQUET);
+
+    private static final String GZIP = "gzip";
+    private static final ImmutableSet<String> TEXT_COMPRESSIONS = ImmutableSet.of("", "none", "uncompressed", GZIP);
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final List<CustomFlightAssetField> fields;
+    private final DateTimeFormatter dateFormatter;
+    private final DateTimeFormatter timestampFormatter;
+    private final DateTimeFormatter zonedTimestampFormatter;
+    private long rowCount;
+
+    /**
+     * Creates a record writer.
+     *
+     * @param fields
+     *            the fields of the records to write
+     * @param interactionProperties
+     *            the target interaction properties
+     */
+    protected FileRecordWriter(List<CustomFlightAssetField> fields, Properties interactionProperties)
+    {
+        this.fields = fields;
+        dateFormatter = createFormatter(interactionProperties.getProperty("date_format"));
+        timestampFormatter = createFormatter(interactionProperties.getProperty("timestamp_format"));
+        zonedTimestampFormatter = createFormatter(interactionProperties.getProperty("time_zone_format"));
+    }
+
+    private static DateTimeFormatter createFormatter(String pattern)
+    {
+        return pattern != null && !pattern.isEmpty() ? DateTimeFormatter.ofPattern(pattern) : null;
+    }
+
+    /**
+     * Returns whether records can be streamed in the given file format.
+     *
+     * @param fileFormat
+     *            the file format
+     * @return true if {@link #create} supports the file format
+     */
+    public static boolean isSupported(String fileFormat)
+    {
+        return STREAMING_FORMATS.contains(fileFormat);
+    }
+
+    /**
+     * Returns whether records can be streamed with the file format and
+     * compression in the interaction properties.
+     *
+     * @param interactionProperties
+     *            the target interaction properties
+     * @return true if {@link #create} supports the interaction properties
+     * @see #checkSupported(Properties)
+     */
+    public static boolean isSupported(Properties interactionProperties)
+    {
+        try {
+            checkSupported(interactionProperties);
+            return true;
+        }
+        catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks that records can be streamed with the file format and compression
+     * in the interaction properties. CSV, delimited and JSON files can only be
+     * compressed with gzip. Avro files can be compressed with bzip2, deflate,
+     * snappy, xz or zstd, and gzip is written as deflate. Parquet files can be
+     * compressed with gzip, lz4, lz4_raw, snappy or zstd.
+     *
+     * @param interactionProperties
+     *            the target interaction properties
+     * @throws UnsupportedOperationException
+     *             if the file format, or the compression for the file format, is
+     *             not supported
+     */
+    public static void checkSupported(Properties interactionProperties)
+    {
+        final String fileFormat = interactionProperties.getProperty("file_format", FileUtils.FILE_FORMAT_CSV);
+        if (!isSupported(fileFormat)) {
+            throw new UnsupportedOperationException(FileMsgs.UNSUPPORTED_FILE_FORMAT.format(fileFormat));
+        }
+        final String compression = getCompression(interactionProperties);
+        if (isTextFormat(fileFormat)) {
+            if (!TEXT_COMPRESSIONS.contains(compression)) {
+                throw new UnsupportedOperationException(FileMsgs.UNSUPPORTED_FILE_FORMAT.format(fileFormat + '/' + compression));
+            }
+        } else if (FileUtils.FILE_FORMAT_AVRO.equals(fileFormat)) {
+            AvroRecordWriter.getCodec(compression);
+        } else {
+            ParquetRecordWriter.getCompressionCodec(compression);
+        }
+    }
+
+    private static boolean isTextFormat(String fileFormat)
+    {
+        return FileUtils.FILE_FORMAT_CSV.equals(fileFormat) || FileUtils.FILE_FORMAT_DELIMITED.equals(fileFormat)
+                || FileUtils.FILE_FORMAT_JSON.equals(fileFormat);
+    }
+
+    private static String getCompression(Properties interactionProperties)
+    {
+        return interactionProperties.getProperty("compression", "").toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Creates a record writer for the file format in the interaction properties.
+     *
+     * @param fields
+     *            the fields of the records to write
+     * @param interactionProperties
+     *            the target interaction properties
+     * @param outputStream
+     *            the stream to which to write, which is closed with the writer
+     * @return a record writer
+     * @throws IOException
+     */
+    public static FileRecordWriter create(List<CustomFlightAssetField> fields, Properties interactionProperties,
+            OutputStream outputStream)
+            throws IOException
+    {
+        if (fields == null || fields.isEmpty()) {
+            throw new IllegalArgumentException(FileMsgs.MISSING_PROPERTY.format("fields"));
+        }
+        checkSupported(interactionProperties);
+        OutputStream out = outputStream;
+        final String fileFormat = interactionProperties.getProperty("file_format", FileUtils.FILE_FORMAT_CSV);
+        if (isTextFormat(fileFormat) && GZIP.equals(getCompression(interactionProperties))) {
+            out = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+        }
+        switch (fileFormat) {
+        case FileUtils.FILE_FORMAT_AVRO:
+            return new AvroRecordWriter(fields, interactionProperties, out);
+        case FileUtils.FILE_FORMAT_CSV:
+        case FileUtils.FILE_FORMAT_DELIMITED:
+            return new DelimitedRecordWriter(fields, interactionProperties, out);
+        case FileUtils.FILE_FORMAT_JSON:
+            return new JsonRecordWriter(fields, interactionProperties, out);
+        case FileUtils.FILE_FORMAT_PARQUET:
+            return new ParquetRecordWriter(fields, interactionProperties, out);
+        default:
+            throw new UnsupportedOperationException(FileMsgs.UNSUPPORTED_FILE_FORMAT.format(fileFormat));
+        }
+    }
+
+    /**
+     * Returns the fields of the records being written.
+     *
+     * @return the fields of the records being written
+     */
+    protected List<CustomFlightAssetField> getFields()
+    {
+        return fields;
+    }
+
+    /**
+     * Returns the number of records written.
+     *
+     * @return the number of records written
+     */
+    public long getRowCount()
+    {
+        return rowCount;
+    }
+
+    /**
+     * Writes a record.
+     *
+     * @param record
+     *            the record to write
+     * @throws IOException
+     */
+    public void write(Record record) throws IOException
+    {
+        writeRecord(record);
+        rowCount++;
+    }
+
+    /**
+     * Writes all remaining records.
+     *
+     * @param records
+     *            the records to write
+     * @throws IOException
+     */
+    public void writeAll(Iterator<Record> records) throws IOException
+    {
+        while (records.hasNext()) {
+            write(records.next());
+        }
+    }
+
+    /**
+     * Formats a value for a text file format. Dates and timestamps honor the
+     * {@code date_format}, {@code timestamp_format} and {@code time_zone_format}
+     * properties, and binary values are Base64 encoded.
+     *
+     * @param value
+     *            a non-null value
+     * @return the text representation of the value
+     */
+    protected String formatValue(Object value)
+    {
+        if (value instanceof String) {
+            return (String) value;
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        } else if (value instanceof Timestamp) {
+            final Timestamp timestamp = (Timestamp) value;
+            if (timestampFormatter != null) {
+                return timestampFormatter.format(timestamp.toLocalDateTime());
+            } else if (zonedTimestampFormatter != null) {
+                return zonedTimestampFormatter.format(timestamp.toInstant().atZone(ZoneId.systemDefault()));
+            }
+            return timestamp.toString();
+        } else if (value instanceof Date) {
+            return dateFormatter != null ? dateFormatter.format(((Date) value).toLocalDate()) : value.toString();
+        } else if (value instanceof Time) {
+            return ((Time) value).toLocalTime().toString();
+        } else if (value instanceof byte[]) {
+            return Base64.getEncoder().encodeToString((byte[]) value);
+        }
+        return value.toString();
+    }
+
+    /**
+     * Encodes a record.
+     *
+     * @param record
+     *            the record to encode
+     * @throws IOException
+     */
+    protected abstract void writeRecord(Record record) throws IOException;
+}
@@ -0,0 +1,109 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+
+/**
+ * The first bytes of a file, read once to detect its format and properties.
+ *
+ * <p>
+ * Unlike marking and resetting a buffered stream, the sample holds no more than
+ * its maximum size, however much of the file is read afterwards. The rest of
+ * the file can still be read after the sample through
+ * {@link #openContent()}.
+ */
+public final class FileSample
+{
+    private final byte[] content;
+    private final int length;
+    private final InputStream remainder;
+
+    private FileSample(byte[] content, int length, InputStream remainder)
+    {
+        this.content = content;
+        this.length = length;
+        this.remainder = remainder;
+    }
+
+    /**
+     * Reads a sample from the start of a stream.
+     *
+     * @param inputStream
+     *            the stream from which to read, which is positioned after the
+     *            sample and is not closed
+     * @param maxSize
+     *            the maximum number of bytes to read
+     * @return a sample of up to the given number of bytes
+     * @throws IOException
+     */
+    public static FileSample read(InputStream inputStream, int maxSize) throws IOException
+    {
+        final byte[] content = new byte[maxSize];
+        final int length = inputStream.readNBytes(content, 0, maxSize);
+        return new FileSample(content, length, inputStream);
+    }
+
+    /**
+     * Creates a sample of bytes that were read from elsewhere, such as by
+     * decompressing another sample. There is nothing to read after the sample.
+     *
+     * @param content
+     *            the sampled bytes
+     * @param length
+     *            the number of bytes sampled
+     * @return a sample of the given bytes
+     */
+    static FileSample of(byte[] content, int length)
+    {
+        return new FileSample(content, length, InputStream.nullInputStream());
+    }
+
+    /**
+     * Returns the sampled bytes, of which only the first {@link #getLength()} are
+     * valid.
+     *
+     * @return the sampled bytes
+     */
+    public byte[] getContent()
+    {
+        return content;
+    }
+
+    /**
+     * Returns the number of bytes sampled.
+     *
+     * @return the number of bytes sampled
+     */
+    public int getLength()
+    {
+        return length;
+    }
+
+    /**
+     * Returns a stream of the sampled bytes only.
+     *
+     * @return a stream of the sampled bytes
+     */
+    public InputStream newInputStream()
+    {
+        return new ByteArrayInputStream(content, 0, length);
+    }
+
+    /**
+     * Returns a stream of the whole file: the sampled bytes followed by the rest
+     * of the stream from which they were read. It can be opened only once.
+     *
+     * @return a stream of the whole file
+     */
+    public InputStream openContent()
+    {
+        return new SequenceInputStream(newInputStream(), remainder);
+    }
+}
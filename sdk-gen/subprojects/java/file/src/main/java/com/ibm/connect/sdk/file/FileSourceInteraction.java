@@ -5,7 +5,9 @@
 /* *************************************************** */
 package com.ibm.connect.sdk.file;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -14,6 +16,10 @@ import java.util.Properties;
 import java.util.UUID;
 
 import org.apache.arrow.flight.Ticket;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.Schema;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 
@@ -27,6 +33,16 @@ import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
 
 /**
  * An interaction with a file asset as a source.
+ *
+ * <p>
+ * Arrow IPC files are not read as records: their record batches are streamed
+ * as they are stored in the file, which must be readable through
+ * {@link #openFileChannel()}.
+ *
+ * <p>
+ * When a file can be read by a {@link FileRecordReader} and no byte limit is
+ * set, each batch is decoded straight into its Arrow vectors instead of through
+ * records.
  */
 public abstract class FileSourceInteraction extends RowBasedSourceInteraction<FileConnector>
 {
@@ -37,8 +53,13 @@ public abstract class FileSourceInteraction extends RowBasedSourceInteraction<Fi
     private final long rowLimit;
     private final long byteLimit;
 
+    private FileRecordReader recordReader;
+    private ArrowFileBatchReader batchReader;
+    private VectorSchemaRoot readerRoot;
+    private boolean readerEnded;
     private Dataset<Row> dataframe;
     private Iterator<Row> rowIterator;
+    private FileSparkRuntime.JobSlot sparkJobSlot;
     private long rowCount;
     private long byteCount;
 
@@ -101,10 +122,43 @@ public abstract class FileSourceInteraction extends RowBasedSourceInteraction<Fi
         if ((rowLimit >= 0 && rowCount >= rowLimit) || (byteLimit >= 0 && byteCount >= byteLimit)) {
             return null;
         }
-        if (dataframe == null) {
-            final String filename = getFilename();
-            dataframe = getConnector().getDataframe(getAsset(), filename);
-            rowIterator = dataframe.toLocalIterator();
+        if (recordReader == null && dataframe == null) {
+            try {
+                recordReader = openRecordReader();
+            }
+            catch (final IOException e) {
+                throw new UnsupportedOperationException(e.getMessage(), e);
+            }
+            if (recordReader == null) {
+                final String filename = getFilename();
+                // The slot is held until the rows have all been read, since the
+                // iterator runs a job per partition as it goes.
+                // It is also released when the interaction is closed before then.
+                sparkJobSlot = FileSparkRuntime.acquireJobSlot();
+                try {
+                    dataframe = getConnector().getSourceDataframe(getAsset(), filename);
+                    rowIterator = dataframe.toLocalIterator();
+                }
+                catch (final RuntimeException e) {
+                    sparkJobSlot.close();
+                    dataframe = null;
+                    throw e;
+                }
+            }
+        }
+        if (recordReader != null) {
+            final Record rec;
+            try {
+                rec = recordReader.read();
+            }
+            catch (final IOException e) {
+                throw new UnsupportedOperationException(e.getMessage(), e);
+            }
+            if (rec != null) {
+                rowCount++;
+                byteCount += rec.getSizeInBytes();
+            }
+            return rec;
         }
         if (rowIterator.hasNext()) {
             final Row row = rowIterator.next();
@@ -116,9 +170,132 @@ public abstract class FileSourceInteraction extends RowBasedSourceInteraction<Fi
             byteCount += rec.getSizeInBytes();
             return rec;
         }
+        sparkJobSlot.close();
         return null;
     }
 
+    /**
+     * Opens a reader that decodes records from the file without Spark. By
+     * default, files are always read with Spark.
+     *
+     * @return a record reader, or null to read the file with Spark
+     * @throws IOException
+     */
+    protected FileRecordReader openRecordReader() throws IOException
+    {
+        return null;
+    }
+
+    /**
+     * Opens a channel from which the file can be read directly. By default, files
+     * cannot be read directly.
+     *
+     * @return a file channel, or null if the file cannot be read directly
+     * @throws IOException
+     */
+    protected FileChannel openFileChannel() throws IOException
+    {
+        return null;
+    }
+
+    private boolean isArrowFormat()
+    {
+        return FileUtils.FILE_FORMAT_ARROW.equals(getInteractionProperties().getProperty("file_format"));
+    }
+
+    private FileChannel openArrowChannel() throws IOException
+    {
+        final FileChannel channel = openFileChannel();
+        if (channel == null) {
+            throw new UnsupportedOperationException(FileMsgs.UNSUPPORTED_FILE_FORMAT.format(FileUtils.FILE_FORMAT_ARROW));
+        }
+        return channel;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Schema getSchema() throws Exception
+    {
+        if (isArrowFormat()) {
+            return ArrowFileBatchReader.readSchema(openArrowChannel());
+        }
+        return super.getSchema();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beginStream(BufferAllocator allocator) throws Exception
+    {
+        if (isArrowFormat()) {
+            final String rowFilter = getInteractionProperties().getProperty(FileConnector.ROW_FILTER_PROPERTY);
+            if (rowFilter != null && !rowFilter.trim().isEmpty()) {
+                throw new UnsupportedOperationException(
+                        FileMsgs.UNSUPPORTED_PROPERTY.format(FileConnector.ROW_FILTER_PROPERTY, FileUtils.FILE_FORMAT_ARROW));
+            }
+            batchReader = new ArrowFileBatchReader(openArrowChannel(), allocator);
+            return;
+        }
+        // The byte limit is counted per record, so it needs the records.
+        if (byteLimit < 0) {
+            recordReader = openRecordReader();
+            if (recordReader != null) {
+                readerRoot = initArrow(allocator);
+                return;
+            }
+        }
+        super.beginStream(allocator);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNextBatch() throws Exception
+    {
+        if (batchReader != null) {
+            return (rowLimit < 0 || rowCount < rowLimit) && (byteLimit < 0 || byteCount < byteLimit) && batchReader.hasNextBatch();
+        }
+        if (readerRoot != null) {
+            return !readerEnded && (rowLimit < 0 || rowCount < rowLimit);
+        }
+        return super.hasNextBatch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VectorSchemaRoot nextBatch() throws Exception
+    {
+        if (readerRoot != null) {
+            final int batchSize = getAsset().getBatchSize() > 0 ? getAsset().getBatchSize() : Integer.MAX_VALUE;
+            final int maxRows = rowLimit >= 0 ? (int) Math.min(batchSize, rowLimit - rowCount) : batchSize;
+            final int batchRows = recordReader.readBatch(readerRoot, maxRows);
+            // An empty batch at the end of the file ends the stream.
+            readerEnded = batchRows < maxRows;
+            rowCount += batchRows;
+            return readerRoot;
+        }
+        if (batchReader == null) {
+            return super.nextBatch();
+        }
+        VectorSchemaRoot batch = batchReader.nextBatch();
+        if (rowLimit >= 0 && batch.getRowCount() > rowLimit - rowCount) {
+            try (VectorSchemaRoot fullBatch = batch) {
+                batch = fullBatch.slice(0, (int) (rowLimit - rowCount));
+            }
+        }
+        rowCount += batch.getRowCount();
+        for (final FieldVector vector : batch.getFieldVectors()) {
+            byteCount += vector.getBufferSize();
+        }
+        return batch;
+    }
+
     /**
      * Returns the name of the file asset that is accessible by Spark.
      *
@@ -163,4 +340,33 @@ public abstract class FileSourceInteraction extends RowBasedSourceInteraction<Fi
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws Exception
+    {
+        try {
+            if (recordReader != null) {
+                recordReader.close();
+            }
+            if (batchReader != null) {
+                batchReader.close();
+            }
+            if (readerRoot != null) {
+                readerRoot.close();
+            }
+            if (sparkJobSlot != null) {
+                sparkJobSlot.close();
+            }
+        }
+        finally {
+            sparkJobSlot = null;
+            recordReader = null;
+            batchReader = null;
+            readerRoot = null;
+            super.close();
+        }
+    }
+
 }
@@ -0,0 +1,218 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.spark.SparkConf;
+import org.apache.spark.sql.SparkSession;
+import org.slf4j.Logger;
+
+/**
+ * The Spark session shared by all file connectors.
+ *
+ * <p>
+ * The session is reference counted: each connector acquires it when created
+ * and releases it when closed, and the session is only stopped once no
+ * connector uses it, so that closing one connector never stops reads of
+ * another. A service may warm up the session when it starts, which keeps it
+ * running for the life of the process.
+ *
+ * <p>
+ * The session runs locally with the number of threads set by the environment
+ * variable {@value #ENVVAR_PARALLELISM}, or one per processor by default. The
+ * number of Spark jobs that run at the same time is bounded by the environment
+ * variable {@value #ENVVAR_MAX_JOBS}, or by twice the number of processors by
+ * default. A job waits for a slot for at most the number of seconds set by the
+ * environment variable {@value #ENVVAR_JOB_WAIT_SECONDS}, or ten minutes by
+ * default. A value that is not a positive integer is ignored with a warning.
+ */
+public final class FileSparkRuntime
+{
+    private static final Logger LOGGER = getLogger(FileSparkRuntime.class);
+
+    private static final String ENVVAR_PARALLELISM = "FILE_SPARK_PARALLELISM";
+    private static final String ENVVAR_MAX_JOBS = "FILE_SPARK_MAX_JOBS";
+    private static final String ENVVAR_JOB_WAIT_SECONDS = "FILE_SPARK_JOB_WAIT_SECONDS";
+
+    static final int MAX_JOBS
+            = getPositiveInteger(ENVVAR_MAX_JOBS, System.getenv(ENVVAR_MAX_JOBS), 2 * Runtime.getRuntime().availableProcessors());
+
+    private static final long JOB_WAIT_SECONDS = getPositiveInteger(ENVVAR_JOB_WAIT_SECONDS, System.getenv(ENVVAR_JOB_WAIT_SECONDS),
+            (int) TimeUnit.MINUTES.toSeconds(10));
+
+    private static final Semaphore JOB_SLOTS = new Semaphore(MAX_JOBS, true);
+
+    private static SparkSession spark;
+    private static int references;
+    private static boolean warmedUp;
+
+    /**
+     * A slot in which a Spark job may run, which must be closed when the job is
+     * done.
+     */
+    public interface JobSlot extends AutoCloseable
+    {
+        /**
+         * Releases the slot.
+         */
+        @Override
+        void close();
+    }
+
+    private FileSparkRuntime()
+    {
+        // prevent instantiation
+    }
+
+    /**
+     * Returns the value of an environment variable that must be a positive
+     * integer.
+     *
+     * @param name
+     *            the name of the environment variable
+     * @param value
+     *            the value of the environment variable, or null if it is not set
+     * @param defaultValue
+     *            the value to use when the variable is not set or not valid
+     * @return the value
+     */
+    static int getPositiveInteger(String name, String value, int defaultValue)
+    {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            final int intValue = Integer.parseInt(value.trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        }
+        catch (final NumberFormatException e) {
+            // Reported below
+        }
+        LOGGER.warn("Ignoring " + name + "=" + value + ", which is not a positive integer, and using the default");
+        return defaultValue;
+    }
+
+    private static String master()
+    {
+        final int parallelism = getPositiveInteger(ENVVAR_PARALLELISM, System.getenv(ENVVAR_PARALLELISM), 0);
+        return parallelism > 0 ? "local[" + parallelism + ']' : "local[*]";
+    }
+
+    /**
+     * Acquires a reference to the Spark session, starting it if needed.
+     *
+     * @return the Spark session
+     */
+    public static synchronized SparkSession acquire()
+    {
+        if (spark == null) {
+            // Tell spark to return dates as java.sql.Date and timestamps as
+            // java.sql.Timestamp.
+            final SparkConf conf = new SparkConf().set("spark.sql.datetime.java8API.enabled", "false");
+            final String master = master();
+            LOGGER.info("Starting Spark session with master " + master);
+            spark = SparkSession.builder().appName(FileConnector.class.getName()).config(conf).master(master).getOrCreate();
+        }
+        references++;
+        return spark;
+    }
+
+    /**
+     * Releases a reference to the Spark session, stopping it once it is no longer
+     * referenced.
+     */
+    public static synchronized void release()
+    {
+        if (references > 0 && --references == 0) {
+            LOGGER.info("Stopping Spark session");
+            try {
+                spark.stop();
+            }
+            finally {
+                spark = null;
+            }
+        }
+    }
+
+    /**
+     * Starts the Spark session in the background and keeps it running, so that
+     * the first request does not wait for Spark to start. Only the first call
+     * has an effect.
+     */
+    public static synchronized void warmUp()
+    {
+        if (warmedUp) {
+            return;
+        }
+        warmedUp = true;
+        final Thread thread = new Thread(() -> {
+            try {
+                // Running a trivial job also loads the classes and starts the
+                // threads that jobs use.
+                acquire().range(1).count();
+            }
+            catch (final RuntimeException e) {
+                LOGGER.warn("Failed to warm up Spark session", e);
+            }
+        }, "file-spark-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Waits for a slot in which a Spark job may run.
+     *
+     * @return the job slot, which must be closed when the job is done
+     * @throws IllegalStateException
+     *             if no slot becomes available in time
+     */
+    public static JobSlot acquireJobSlot()
+    {
+        return acquireJobSlot(JOB_WAIT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Waits for a slot in which a Spark job may run, for at most the given time.
+     *
+     * @param timeout
+     *            the maximum time to wait
+     * @param unit
+     *            the unit of the timeout
+     * @return the job slot, which must be closed when the job is done
+     * @throws IllegalStateException
+     *             if no slot becomes available in time
+     */
+    static JobSlot acquireJobSlot(long timeout, TimeUnit unit)
+    {
+        try {
+            if (!JOB_SLOTS.tryAcquire(timeout, unit)) {
+                throw new IllegalStateException(FileMsgs.SPARK_JOB_SLOT_TIMEOUT.format(String.valueOf(unit.toSeconds(timeout)), MAX_JOBS));
+            }
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        return new JobSlot() {
+            private boolean closed;
+
+            @Override
+            public synchronized void close()
+            {
+                if (!closed) {
+                    closed = true;
+                    JOB_SLOTS.release();
+                }
+            }
+        };
+    }
+}
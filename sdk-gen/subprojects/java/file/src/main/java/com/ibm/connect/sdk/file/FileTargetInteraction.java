@@ -5,9 +5,24 @@
 /* *************************************************** */
 package com.ibm.connect.sdk.file;
 
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Iterator;
 import java.util.Properties;
 
+import org.apache.arrow.flight.FlightStream;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.slf4j.Logger;
+
 import com.ibm.connect.sdk.api.Record;
 import com.ibm.connect.sdk.api.RowBasedTargetInteraction;
 import com.ibm.connect.sdk.util.ModelMapper;
@@ -15,12 +30,29 @@ import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
 
 /**
  * An interaction with a file asset as a target.
+ *
+ * <p>
+ * Avro, CSV, delimited, JSON and Parquet files are written by encoding each
+ * batch of records as it arrives into the output stream returned by
+ * {@link #openOutputStream()}, so memory use is bounded and the data set is
+ * written once. Other file formats, and text files with a compression codec
+ * other than gzip, are written with Spark. Arrow IPC files are written from the
+ * record batches of the Flight stream as they are received, without converting
+ * them to records.
  */
 public abstract class FileTargetInteraction extends RowBasedTargetInteraction<FileConnector>
 {
+    private static final Logger LOGGER = getLogger(FileTargetInteraction.class);
+
     private final static int DEFAULT_BATCH_SIZE = 1000;
 
     private final Properties interactionProperties;
+    private final boolean streaming;
+    private final boolean arrowFormat;
+
+    private FileRecordWriter recordWriter;
+    private Path tempPath;
+    private OutputStream tempStream;
 
     /**
      * Creates a file target interaction.
@@ -40,6 +72,8 @@ public abstract class FileTargetInteraction extends RowBasedTargetInteraction<Fi
         if (asset.getBatchSize() == null) {
             asset.setBatchSize(DEFAULT_BATCH_SIZE);
         }
+        streaming = FileRecordWriter.isSupported(interactionProperties);
+        arrowFormat = FileUtils.FILE_FORMAT_ARROW.equals(interactionProperties.getProperty("file_format"));
     }
 
     /**
@@ -70,9 +104,174 @@ public abstract class FileTargetInteraction extends RowBasedTargetInteraction<Fi
      */
     protected abstract String getFilename();
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
     public void putAll(Iterator<Record> records)
     {
-        getConnector().putRows(getAsset(), new FileRowList(records), getFilename());
+        if (!streaming) {
+            getConnector().putRows(getAsset(), new FileRowList(records), getFilename());
+            return;
+        }
+        try {
+            if (recordWriter == null) {
+                openWriter();
+            }
+            recordWriter.writeAll(records);
+        }
+        catch (final IOException e) {
+            throw new UnsupportedOperationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The file is complete once the stream ends.
+     */
+    @Override
+    public void putStream(FlightStream flightStream) throws Exception
+    {
+        if (arrowFormat) {
+            putArrowStream(flightStream);
+            return;
+        }
+        super.putStream(flightStream);
+        if (streaming) {
+            finishWrite();
+        }
+    }
+
+    private void putArrowStream(FlightStream flightStream) throws IOException
+    {
+        // The root belongs to the flight stream, which closes it.
+        final VectorSchemaRoot root = flightStream.getRoot();
+        try {
+            try (WritableByteChannel channel = Channels.newChannel(openOutputStream());
+                    ArrowFileWriter writer = new ArrowFileWriter(root, null, channel)) {
+                try {
+                    writer.start();
+                    while (flightStream.next()) {
+                        writer.writeBatch();
+                    }
+                    writer.end();
+                }
+                catch (final IOException | RuntimeException e) {
+                    // Discarded before the writer closes the output stream, since
+                    // closing it may complete a partial file.
+                    abortOutput();
+                    throw e;
+                }
+            }
+            commitOutput();
+        }
+        catch (final IOException | RuntimeException e) {
+            abortOutput();
+            throw e;
+        }
+    }
+
+    private void openWriter() throws IOException
+    {
+        recordWriter = FileRecordWriter.create(getAsset().getFields(), interactionProperties, openOutputStream());
+    }
+
+    /**
+     * Flushes the encoded records and commits the file. A file is created even if
+     * no records were written.
+     *
+     * @throws IOException
+     */
+    protected void finishWrite() throws IOException
+    {
+        try {
+            if (recordWriter == null) {
+                openWriter();
+            }
+            recordWriter.close();
+            recordWriter = null;
+            commitOutput();
+        }
+        catch (final IOException | RuntimeException e) {
+            abortWrite();
+            throw e;
+        }
+    }
+
+    /**
+     * Discards a file that was not completely written. The record writer is not
+     * closed, so that a partial file is never committed.
+     */
+    protected void abortWrite()
+    {
+        recordWriter = null;
+        abortOutput();
+    }
+
+    /**
+     * Opens the stream to which the file is written. By default, the file is
+     * written to a temporary file beside {@link #getFilename()}, which replaces the
+     * target file when it is committed.
+     *
+     * @return the output stream, which is closed once all records are written
+     * @throws IOException
+     */
+    protected OutputStream openOutputStream() throws IOException
+    {
+        final Path filePath = Paths.get(getFilename());
+        final Path parentPath = filePath.toAbsolutePath().getParent();
+        Files.createDirectories(parentPath);
+        tempPath = Files.createTempFile(parentPath, "." + filePath.getFileName(), ".tmp");
+        tempStream = Files.newOutputStream(tempPath);
+        return tempStream;
+    }
+
+    /**
+     * Makes the file written to the stream from {@link #openOutputStream()}
+     * visible at its target location.
+     *
+     * @throws IOException
+     */
+    protected void commitOutput() throws IOException
+    {
+        if (tempPath != null) {
+            tempStream = null;
+            Files.move(tempPath, Paths.get(getFilename()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tempPath = null;
+        }
+    }
+
+    /**
+     * Discards the file written to the stream from {@link #openOutputStream()}.
+     */
+    protected void abortOutput()
+    {
+        if (tempPath != null) {
+            try {
+                tempStream.close();
+            }
+            catch (final IOException e) {
+                LOGGER.warn("Failed to close " + tempPath, e);
+            }
+            tempPath.toFile().delete();
+            tempPath = null;
+            tempStream = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Discards a file that was not completely written.
+     */
+    @Override
+    public void close() throws Exception
+    {
+        if (recordWriter != null) {
+            abortWrite();
+        }
     }
 }
@@ -11,6 +11,8 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -29,6 +31,8 @@ import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteStreams;
 import com.ibm.connect.sdk.util.ModelMapper;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
+import com.ibm.wdp.connect.common.sdk.api.models.DiscoveredAssetDetails;
 import com.ibm.wdp.connect.common.sdk.api.models.DiscoveredAssetInteractionProperties;
 
 /**
@@ -36,6 +40,11 @@ import com.ibm.wdp.connect.common.sdk.api.models.DiscoveredAssetInteractionPrope
  */
 public class FileUtils
 {
+    /**
+     * File format arrow (Arrow IPC file, also known as Feather version 2).
+     */
+    public static final String FILE_FORMAT_ARROW = "arrow";
+
     /**
      * File format avro.
      */
@@ -79,11 +88,17 @@ public class FileUtils
 
     private static final MimeTypes MIMETYPES = MimeTypes.getDefaultMimeTypes();
 
+    /**
+     * The number of bytes sampled from the start of a file to detect its details.
+     */
+    public static final int SAMPLE_SIZE = Math.max(MAX_COLUMN_HEADERS_SIZE, MIMETYPES.getMinLength());
+
     private static final Set<String> FORMATS_WITH_HEADER
-            = ImmutableSet.of(FILE_FORMAT_AVRO, FILE_FORMAT_JSON, FILE_FORMAT_ORC, FILE_FORMAT_PARQUET);
+            = ImmutableSet.of(FILE_FORMAT_ARROW, FILE_FORMAT_AVRO, FILE_FORMAT_JSON, FILE_FORMAT_ORC, FILE_FORMAT_PARQUET);
 
     private static final ImmutableMultimap<String,
-            String> FORMAT_EXTENSION_MAP = ImmutableMultimap.<String, String>builder().put(FILE_FORMAT_AVRO, ".avro")
+            String> FORMAT_EXTENSION_MAP = ImmutableMultimap.<String, String>builder().put(FILE_FORMAT_ARROW, ".arrow")
+                    .put(FILE_FORMAT_ARROW, ".feather").put(FILE_FORMAT_AVRO, ".avro")
                     .put(FILE_FORMAT_CSV, ".csv").put(FILE_FORMAT_DELIMITED, ".txt").put(FILE_FORMAT_JSON, ".json")
                     .put(FILE_FORMAT_ORC, ".orc").put(FILE_FORMAT_PARQUET, ".parquet").put(FILE_FORMAT_XML, ".xml").build();
 
@@ -135,6 +150,70 @@ public class FileUtils
         return MIMETYPES.detect(tis, metadata).getBaseType().toString();
     }
 
+    /**
+     * Reads a sample from the start of a stream with which to detect the details
+     * of the file.
+     *
+     * @param inputStream
+     *            the stream from which to read, which is positioned after the
+     *            sample
+     * @return a sample of up to {@link #SAMPLE_SIZE} bytes
+     * @throws IOException
+     */
+    public static FileSample readSample(InputStream inputStream) throws IOException
+    {
+        return FileSample.read(inputStream, SAMPLE_SIZE);
+    }
+
+    /**
+     * Detects the mime type and file format of a file and, for delimited files,
+     * the delimited file properties, all from a single sample of its content. The
+     * mime type is added to the asset details and the properties to its
+     * interaction properties. A compressed file is detected from its decompressed
+     * content and its compression is added to the asset details.
+     *
+     * @param sample
+     *            a sample from the start of the file
+     * @param fileName
+     *            the name of the file
+     * @param asset
+     *            the asset of the file
+     * @return the detected file format
+     * @throws IOException
+     */
+    public static String detectFileDetails(FileSample sample, String fileName, CustomFlightAssetDescriptor asset) throws IOException
+    {
+        if (asset.getDetails() == null) {
+            asset.setDetails(new DiscoveredAssetDetails());
+        }
+        // Detect the format of a compressed file from its decompressed content.
+        FileSample contentSample = sample;
+        String contentName = fileName;
+        final String compression = FileCompression.detect(sample.getContent(), sample.getLength());
+        if (compression != null) {
+            asset.getDetails().put("compression", compression);
+            contentSample = FileCompression.decompressSample(sample, SAMPLE_SIZE);
+            contentName = FileCompression.stripExtension(fileName);
+        }
+
+        final String mimeType = detectMimeType(contentSample.newInputStream(), contentName);
+        if (mimeType != null) {
+            asset.getDetails().put("mime_type", mimeType);
+        }
+
+        final String detectedFileFormat = detectFileFormat(mimeType, contentName, contentSample.newInputStream());
+        final String fileFormat = detectedFileFormat != null ? detectedFileFormat : FILE_FORMAT_DELIMITED;
+        if (asset.getInteractionProperties() == null) {
+            asset.setInteractionProperties(new DiscoveredAssetInteractionProperties());
+        }
+        asset.getInteractionProperties().put("file_format", fileFormat);
+
+        if (FILE_FORMAT_CSV.equals(fileFormat) || FILE_FORMAT_DELIMITED.equals(fileFormat)) {
+            detectDelimitedProperties(contentSample.getContent(), contentSample.getLength(), asset.getInteractionProperties());
+        }
+        return fileFormat;
+    }
+
     /**
      * Determine the file format by looking at the file content.
      *
@@ -222,6 +301,12 @@ public class FileUtils
             }
         }
 
+        // Arrow IPC files have a 6-byte magic number:
+        if (length >= 6 && fileContent[0] == 'A' && fileContent[1] == 'R' && fileContent[2] == 'R' && fileContent[3] == 'O'
+                && fileContent[4] == 'W' && fileContent[5] == '1') {
+            return FILE_FORMAT_ARROW;
+        }
+
         return null;
     }
 
@@ -249,7 +334,8 @@ public class FileUtils
     }
 
     /**
-     * Creates a temporary file for the given input stream.
+     * Creates a temporary file for the given input stream, which is decompressed
+     * if it is compressed.
      *
      * @param inputStream
      * @param fileName
@@ -261,7 +347,7 @@ public class FileUtils
     {
         final Path tempPath = Files.createTempFile(fileName, getFilenameExtension(fileFormat)).toAbsolutePath();
         try (OutputStream outputStream = Files.newOutputStream(tempPath)) {
-            ByteStreams.copy(inputStream, outputStream);
+            ByteStreams.copy(FileCompression.decompress(inputStream), outputStream);
         }
         return tempPath.toString();
     }
@@ -315,6 +401,25 @@ public class FileUtils
      * @param interactionProperties
      */
     public static void detectDelimitedProperties(InputStream inputStream, DiscoveredAssetInteractionProperties interactionProperties)
+    {
+        // Peek at the beginning of the file.
+        final byte[] fileContent = new byte[MAX_COLUMN_HEADERS_SIZE];
+        final int length = peekBytes(inputStream, fileContent);
+        detectDelimitedProperties(fileContent, Math.max(length, 0), interactionProperties);
+    }
+
+    /**
+     * Detect delimited file properties from the beginning of a file. A UTF-16 byte
+     * order mark also sets the encoding if it is not set.
+     *
+     * @param fileContent
+     *            the bytes at the beginning of the file
+     * @param contentLength
+     *            the number of valid bytes
+     * @param interactionProperties
+     */
+    private static void detectDelimitedProperties(byte[] fileContent, int contentLength,
+            DiscoveredAssetInteractionProperties interactionProperties)
     {
         // Find out what properties are already set that we don't need to infer.
         final Properties properties = ModelMapper.toProperties(interactionProperties);
@@ -328,9 +433,13 @@ public class FileUtils
         final char fieldDelimiterCharacter
                 = fieldDelimiterValue != null && !fieldDelimiterValue.isEmpty() ? fieldDelimiterValue.charAt(0) : '\0';
 
-        // Peek at the beginning of the file.
-        final byte[] fileContent = new byte[MAX_COLUMN_HEADERS_SIZE];
-        final int length = peekBytes(inputStream, fileContent);
+        final String encodingValue = properties.getProperty("encoding");
+        final Charset byteOrderCharset = detectUnicodeByteOrder(fileContent, contentLength);
+        if (byteOrderCharset != null && (encodingValue == null || encodingValue.isEmpty())) {
+            interactionProperties.put("encoding", byteOrderCharset.name());
+        }
+        final CharSequence content = decodeContent(fileContent, contentLength, byteOrderCharset);
+        final int length = Math.min(content.length(), MAX_COLUMN_HEADERS_SIZE);
 
         // Begin with the assumption that the first line is a header, but we will change
         // that if the contents of a column only contains characters that appear in
@@ -341,7 +450,7 @@ public class FileUtils
         boolean startOfField = true;
         boolean inComment = false;
         for (int i = 0; i < length; i++) {
-            final char c = (char) fileContent[i];
+            final char c = content.charAt(i);
             if (c == '\n') {
                 if (rowDelimiterValue == null) {
                     interactionProperties.put("row_delimiter_value", "\n");
@@ -355,7 +464,7 @@ public class FileUtils
                 inComment = false;
             } else if (c == '\r') {
                 if (i + 1 < length) {
-                    final char nextChar = (char) fileContent[i + 1];
+                    final char nextChar = content.charAt(i + 1);
                     if (nextChar == '\n') {
                         i++;
                         if (rowDelimiterValue == null) {
@@ -415,4 +524,27 @@ public class FileUtils
         }
     }
 
+    private static Charset detectUnicodeByteOrder(byte[] fileContent, int length)
+    {
+        if (length >= 2 && (fileContent[0] & 0xFF) == 0xFF && (fileContent[1] & 0xFF) == 0xFE) {
+            return StandardCharsets.UTF_16LE;
+        }
+        if (length >= 2 && (fileContent[0] & 0xFF) == 0xFE && (fileContent[1] & 0xFF) == 0xFF) {
+            return StandardCharsets.UTF_16BE;
+        }
+        return null;
+    }
+
+    /**
+     * Decodes UTF-16 content after its byte order mark. Other content is examined
+     * byte by byte, as the characters that are detected are all ASCII.
+     */
+    private static CharSequence decodeContent(byte[] fileContent, int length, Charset byteOrderCharset)
+    {
+        if (byteOrderCharset != null) {
+            return new String(fileContent, 2, length - 2, byteOrderCharset);
+        }
+        return new String(fileContent, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
 }
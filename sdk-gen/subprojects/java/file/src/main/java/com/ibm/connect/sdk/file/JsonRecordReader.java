@@ -0,0 +1,370 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.ibm.connect.sdk.api.Record;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * Reads records from JSON lines with the same type conversions as the Spark
+ * JSON reader. Each line is parsed with a streaming parser straight from the
+ * input bytes; like Spark, a top-level array yields one record per element.
+ *
+ * <p>
+ * As in Spark's permissive mode, a value that cannot be converted is null, and
+ * a line that is not valid JSON or is not an object or an array of objects
+ * yields one record whose values are all null. Reading resumes with the next
+ * line.
+ */
+class JsonRecordReader extends FileRecordReader
+{
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_LINE_SIZE = 1024;
+
+    private enum ColumnKind
+    {
+        BOOLEAN, BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, DECIMAL, STRING
+    }
+
+    private final InputStream in;
+    private final ColumnKind[] columnKinds;
+    private final int[] decimalPrecisions;
+    private final int[] decimalScales;
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+    private final Serializable[] values;
+    private final Deque<Record> lineRecords = new ArrayDeque<>();
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int bufferPosition;
+    private int bufferLimit;
+    private byte[] line = new byte[INITIAL_LINE_SIZE];
+    private int lineLength;
+    private boolean skipLineFeed;
+    private JsonParser parser;
+
+    /**
+     * Creates a JSON lines record reader.
+     *
+     * @param fields
+     *            the fields of the records to read
+     * @param in
+     *            the stream from which to read
+     * @throws IOException
+     */
+    JsonRecordReader(List<CustomFlightAssetField> fields, InputStream in) throws IOException
+    {
+        super(fields);
+        this.in = in;
+        columnKinds = new ColumnKind[fields.size()];
+        decimalPrecisions = new int[fields.size()];
+        decimalScales = new int[fields.size()];
+        values = new Serializable[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            initColumn(fields.get(i), i);
+            columnIndexes.put(fields.get(i).getName(), i);
+        }
+    }
+
+    private void initColumn(CustomFlightAssetField field, int index)
+    {
+        switch (field.getType()) {
+        case "bit":
+        case "boolean":
+            columnKinds[index] = ColumnKind.BOOLEAN;
+            break;
+        case "tinyint":
+            columnKinds[index] = ColumnKind.BYTE;
+            break;
+        case "smallint":
+            columnKinds[index] = ColumnKind.SHORT;
+            break;
+        case "integer":
+            columnKinds[index] = ColumnKind.INT;
+            break;
+        case "bigint":
+            columnKinds[index] = ColumnKind.LONG;
+            break;
+        case "real":
+            columnKinds[index] = ColumnKind.FLOAT;
+            break;
+        case "float":
+        case "double":
+            columnKinds[index] = ColumnKind.DOUBLE;
+            break;
+        case "decimal":
+        case "numeric":
+            columnKinds[index] = ColumnKind.DECIMAL;
+            decimalPrecisions[index] = field.getLength() != null ? field.getLength() : 0;
+            decimalScales[index] = field.getScale() != null ? field.getScale() : -1;
+            break;
+        default:
+            columnKinds[index] = ColumnKind.STRING;
+            break;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Record readRecord() throws IOException
+    {
+        while (lineRecords.isEmpty()) {
+            if (!readLine()) {
+                return null;
+            }
+            parseLine();
+        }
+        return lineRecords.poll();
+    }
+
+    /**
+     * Reads the next line, which ends at any of CR, LF or CR LF, into
+     * {@link #line}.
+     *
+     * @return false at the end of the input
+     */
+    private boolean readLine() throws IOException
+    {
+        lineLength = 0;
+        while (true) {
+            if (bufferPosition == bufferLimit) {
+                final int count = in.read(buffer, 0, buffer.length);
+                if (count <= 0) {
+                    return lineLength > 0;
+                }
+                bufferPosition = 0;
+                bufferLimit = count;
+            }
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (buffer[bufferPosition] == '\n') {
+                    bufferPosition++;
+                    continue;
+                }
+            }
+            final int start = bufferPosition;
+            int end = start;
+            while (end < bufferLimit && buffer[end] != '\n' && buffer[end] != '\r') {
+                end++;
+            }
+            if (lineLength + end - start > line.length) {
+                line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + end - start));
+            }
+            System.arraycopy(buffer, start, line, lineLength, end - start);
+            lineLength += end - start;
+            bufferPosition = end;
+            if (end < bufferLimit) {
+                skipLineFeed = buffer[end] == '\r';
+                bufferPosition++;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Parses the records of the current line. Like Spark, blank lines are
+     * skipped and only the first value of a line is read.
+     */
+    private void parseLine() throws IOException
+    {
+        try (JsonParser lineParser = JSON_FACTORY.createParser(line, 0, lineLength)) {
+            parser = lineParser;
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                lineRecords.add(readObject());
+            } else if (token == JsonToken.START_ARRAY) {
+                while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                    lineRecords.add(readObject());
+                }
+                if (token != JsonToken.END_ARRAY) {
+                    addMalformedRecord();
+                }
+            } else if (token != null) {
+                addMalformedRecord();
+            }
+        }
+        catch (JsonProcessingException e) {
+            addMalformedRecord();
+        }
+        finally {
+            parser = null;
+        }
+    }
+
+    /**
+     * Replaces any records already read from the current line with one record
+     * whose values are all null.
+     */
+    private void addMalformedRecord()
+    {
+        lineRecords.clear();
+        final Record record = new Record(values.length);
+        for (int i = 0; i < values.length; i++) {
+            record.appendValue(null);
+        }
+        lineRecords.add(record);
+    }
+
+    private Record readObject() throws IOException
+    {
+        Arrays.fill(values, null);
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            final Integer column = columnIndexes.get(parser.currentName());
+            parser.nextToken();
+            if (column == null) {
+                parser.skipChildren();
+            } else {
+                values[column] = convert(column);
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unexpected end of object");
+        }
+        final Record record = new Record(values.length);
+        for (final Serializable value : values) {
+            record.appendValue(value);
+        }
+        return record;
+    }
+
+    /**
+     * Converts the current value to the type of a column. As with Spark's
+     * permissive mode, values that cannot be converted are null.
+     */
+    private Serializable convert(int column) throws IOException
+    {
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        switch (columnKinds[column]) {
+        case BOOLEAN:
+            return token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE ? parser.getBooleanValue() : skip();
+        case BYTE:
+            // Like the parser of Spark, values up to 255 are read as unsigned bytes.
+            return token == JsonToken.VALUE_NUMBER_INT && fitsLong() && parser.getLongValue() >= Byte.MIN_VALUE
+                    && parser.getLongValue() <= 0xFF ? Byte.valueOf((byte) parser.getLongValue()) : skip();
+        case SHORT:
+            return token == JsonToken.VALUE_NUMBER_INT && fitsLong() && parser.getLongValue() == (short) parser.getLongValue()
+                    ? Short.valueOf((short) parser.getLongValue()) : skip();
+        case INT:
+            return token == JsonToken.VALUE_NUMBER_INT && fitsLong() && parser.getLongValue() == (int) parser.getLongValue()
+                    ? Integer.valueOf((int) parser.getLongValue()) : skip();
+        case LONG:
+            return token == JsonToken.VALUE_NUMBER_INT && fitsLong() ? Long.valueOf(parser.getLongValue()) : skip();
+        case FLOAT:
+            final Double floatValue = doubleValue(token);
+            return floatValue != null ? Float.valueOf(floatValue.floatValue()) : null;
+        case DOUBLE:
+            return doubleValue(token);
+        case DECIMAL:
+            return decimalValue(token, column);
+        default:
+            return stringValue(token);
+        }
+    }
+
+    private boolean fitsLong() throws IOException
+    {
+        final JsonParser.NumberType numberType = parser.getNumberType();
+        return numberType == JsonParser.NumberType.INT || numberType == JsonParser.NumberType.LONG;
+    }
+
+    private Serializable skip() throws IOException
+    {
+        parser.skipChildren();
+        return null;
+    }
+
+    private Double doubleValue(JsonToken token) throws IOException
+    {
+        if (token.isNumeric()) {
+            return parser.getDoubleValue();
+        }
+        // Spark accepts the special floating-point values as strings.
+        if (token == JsonToken.VALUE_STRING) {
+            switch (parser.getText()) {
+            case "NaN":
+                return Double.NaN;
+            case "Infinity":
+            case "+Infinity":
+            case "+INF":
+            case "Inf":
+                return Double.POSITIVE_INFINITY;
+            case "-Infinity":
+            case "-INF":
+            case "-Inf":
+                return Double.NEGATIVE_INFINITY;
+            default:
+                return null;
+            }
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private BigDecimal decimalValue(JsonToken token, int column) throws IOException
+    {
+        if (!token.isNumeric()) {
+            return (BigDecimal) skip();
+        }
+        BigDecimal decimal = parser.getDecimalValue();
+        if (decimalScales[column] >= 0) {
+            decimal = decimal.setScale(decimalScales[column], RoundingMode.HALF_UP);
+            if (decimalPrecisions[column] > 0 && decimal.precision() > decimalPrecisions[column]) {
+                return null;
+            }
+        }
+        return decimal;
+    }
+
+    /**
+     * Returns the text of a scalar value or, as Spark does, the JSON text of an
+     * object or array.
+     */
+    private String stringValue(JsonToken token) throws IOException
+    {
+        if (token.isScalarValue()) {
+            return parser.getText();
+        }
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException
+    {
+        in.close();
+    }
+}
@@ -0,0 +1,104 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.ibm.connect.sdk.api.Record;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * Writes records as JSON lines, one object per record. As with the Spark JSON
+ * writer, null values are omitted.
+ */
+class JsonRecordWriter extends FileRecordWriter
+{
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final JsonGenerator generator;
+
+    /**
+     * Creates a JSON lines record writer.
+     *
+     * @param fields
+     *            the fields of the records to write
+     * @param interactionProperties
+     *            the target interaction properties
+     * @param out
+     *            the stream to which to write
+     * @throws IOException
+     */
+    JsonRecordWriter(List<CustomFlightAssetField> fields, Properties interactionProperties, OutputStream out) throws IOException
+    {
+        super(fields, interactionProperties);
+        final String encoding = interactionProperties.getProperty("encoding");
+        final Charset charset = encoding != null && !encoding.isEmpty() ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        generator = JSON_FACTORY
+                .createGenerator(new BufferedWriter(new OutputStreamWriter(out, charset), WRITE_BUFFER_SIZE));
+        generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void writeRecord(Record record) throws IOException
+    {
+        final List<CustomFlightAssetField> fields = getFields();
+        final List<?> values = record.getValues();
+        generator.writeStartObject();
+        for (int i = 0; i < values.size(); i++) {
+            final Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            generator.writeFieldName(fields.get(i).getName());
+            if (value instanceof Boolean) {
+                generator.writeBoolean((Boolean) value);
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                generator.writeNumber(((Number) value).intValue());
+            } else if (value instanceof Long) {
+                generator.writeNumber((Long) value);
+            } else if (value instanceof Float) {
+                generator.writeNumber((Float) value);
+            } else if (value instanceof Double) {
+                generator.writeNumber((Double) value);
+            } else if (value instanceof BigDecimal) {
+                generator.writeNumber((BigDecimal) value);
+            } else if (value instanceof BigInteger) {
+                generator.writeNumber((BigInteger) value);
+            } else {
+                generator.writeString(formatValue(value));
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if (getRowCount() > 0) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+}
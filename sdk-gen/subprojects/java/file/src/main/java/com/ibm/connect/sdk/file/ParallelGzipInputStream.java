@@ -0,0 +1,338 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Decompresses a block gzip (BGZF) file, as written by bgzip, by inflating its
+ * blocks in parallel. Every block is a gzip member of at most 64 KiB whose
+ * compressed size is recorded in its header, so blocks can be read ahead and
+ * inflated independently; they are returned in order.
+ *
+ * <p>
+ * The blocks of all streams are inflated by one shared pool of threads. If a
+ * block records an uncompressed size that a block gzip block cannot have, the
+ * rest of the stream is decompressed sequentially as plain gzip instead.
+ */
+class ParallelGzipInputStream extends InputStream
+{
+    private static final int GZIP_HEADER_SIZE = 12;
+    private static final int GZIP_TRAILER_SIZE = 8;
+    private static final int FLAG_EXTRA = 0x04;
+    private static final int MAX_BLOCK_SIZE = 64 * 1024;
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private final InputStream in;
+    private final int maxPendingBlocks = 4 * THREADS;
+    private final Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+    private IOException readError;
+    private boolean inputEnded;
+    private InputStream sequentialInput;
+    private InputStream sequentialStream;
+    private byte[] block = EMPTY;
+    private int position;
+
+    /**
+     * Creates a stream that decompresses a block gzip stream.
+     *
+     * @param in
+     *            the block gzip stream, which is closed with this stream
+     */
+    ParallelGzipInputStream(InputStream in)
+    {
+        this.in = in;
+    }
+
+    private static ThreadPoolExecutor createExecutor()
+    {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setNameFormat("file-inflate-%d").setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Returns whether a gzip header is the header of a block gzip block, which
+     * has an extra subfield BC holding the size of the block.
+     *
+     * @param header
+     *            the first bytes of the file
+     * @param length
+     *            the number of valid bytes in the header
+     * @return true if the file is block gzip
+     */
+    static boolean isBlockGzip(byte[] header, int length)
+    {
+        if (length < GZIP_HEADER_SIZE || (header[3] & FLAG_EXTRA) == 0) {
+            return false;
+        }
+        final int extraLength = readShort(header, 10);
+        return length >= GZIP_HEADER_SIZE + extraLength && findBlockSize(header, extraLength) >= 0;
+    }
+
+    private static int readShort(byte[] bytes, int offset)
+    {
+        return (bytes[offset] & 0xff) | (bytes[offset + 1] & 0xff) << 8;
+    }
+
+    private static int readInt(byte[] bytes, int offset)
+    {
+        return readShort(bytes, offset) | readShort(bytes, offset + 2) << 16;
+    }
+
+    /**
+     * Returns the block size stored in the BC subfield of the extra field, which
+     * is one less than the total size of the block.
+     */
+    private static int findBlockSize(byte[] header, int extraLength)
+    {
+        int offset = GZIP_HEADER_SIZE;
+        final int end = GZIP_HEADER_SIZE + extraLength;
+        while (offset + 4 <= end) {
+            final int subfieldLength = readShort(header, offset + 2);
+            if (header[offset] == 'B' && header[offset + 1] == 'C' && subfieldLength == 2 && offset + 6 <= end) {
+                return readShort(header, offset + 4);
+            }
+            offset += 4 + subfieldLength;
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the next compressed block, or returns null at the end of the input.
+     */
+    private byte[] readBlock() throws IOException
+    {
+        final byte[] header = new byte[GZIP_HEADER_SIZE];
+        final int headerLength = in.readNBytes(header, 0, GZIP_HEADER_SIZE);
+        if (headerLength == 0) {
+            return null;
+        }
+        if (headerLength < GZIP_HEADER_SIZE) {
+            throw new EOFException("Unexpected end of block gzip header");
+        }
+        final int extraLength = readShort(header, 10);
+        final byte[] extra = new byte[GZIP_HEADER_SIZE + extraLength];
+        System.arraycopy(header, 0, extra, 0, GZIP_HEADER_SIZE);
+        if (in.readNBytes(extra, GZIP_HEADER_SIZE, extraLength) < extraLength) {
+            throw new EOFException("Unexpected end of block gzip header");
+        }
+        final int blockSize = (header[3] & FLAG_EXTRA) != 0 ? findBlockSize(extra, extraLength) : -1;
+        if (blockSize < extra.length + GZIP_TRAILER_SIZE - 1) {
+            throw new ZipException("Not a block gzip block");
+        }
+        final byte[] compressed = new byte[blockSize + 1];
+        System.arraycopy(extra, 0, compressed, 0, extra.length);
+        final int remaining = compressed.length - extra.length;
+        if (in.readNBytes(compressed, extra.length, remaining) < remaining) {
+            throw new EOFException("Unexpected end of block gzip block");
+        }
+        return compressed;
+    }
+
+    /**
+     * Returns the uncompressed size recorded in the trailer of a block, which
+     * may be corrupt or crafted.
+     */
+    private static int readUncompressedSize(byte[] compressed)
+    {
+        return readInt(compressed, compressed.length - GZIP_TRAILER_SIZE + 4);
+    }
+
+    private static byte[] inflate(byte[] compressed) throws IOException
+    {
+        final int dataOffset = GZIP_HEADER_SIZE + readShort(compressed, 10);
+        final int trailerOffset = compressed.length - GZIP_TRAILER_SIZE;
+        final byte[] data = new byte[readUncompressedSize(compressed)];
+        final Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed, dataOffset, trailerOffset - dataOffset);
+            int length = 0;
+            while (length < data.length) {
+                final int inflated = inflater.inflate(data, length, data.length - length);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new ZipException("Corrupt block gzip block");
+                }
+                length += inflated;
+            }
+        }
+        catch (final DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        }
+        finally {
+            inflater.end();
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(data);
+        if ((int) crc.getValue() != readInt(compressed, trailerOffset)) {
+            throw new ZipException("Corrupt block gzip block");
+        }
+        return data;
+    }
+
+    /**
+     * Reads blocks ahead until enough are being inflated to keep every thread
+     * busy.
+     */
+    private void readAhead()
+    {
+        while (!inputEnded && pendingBlocks.size() < maxPendingBlocks) {
+            final byte[] compressed;
+            try {
+                compressed = readBlock();
+            }
+            catch (final IOException e) {
+                // Return the blocks before the error first.
+                readError = e;
+                inputEnded = true;
+                break;
+            }
+            if (compressed == null) {
+                inputEnded = true;
+                break;
+            }
+            final int uncompressedSize = readUncompressedSize(compressed);
+            if (uncompressedSize < 0 || uncompressedSize > MAX_BLOCK_SIZE) {
+                // Not a block gzip block, so its size cannot be trusted to
+                // allocate a buffer. The gzip stream checks the size as it
+                // inflates.
+                sequentialInput = new SequenceInputStream(new ByteArrayInputStream(compressed), in);
+                inputEnded = true;
+                break;
+            }
+            pendingBlocks.add(EXECUTOR.submit(() -> inflate(compressed)));
+        }
+    }
+
+    /**
+     * Makes the next inflated block current.
+     *
+     * @return false at the end of the blocks, either at the end of the file or
+     *         where the rest is read sequentially
+     */
+    private boolean nextBlock() throws IOException
+    {
+        readAhead();
+        final Future<byte[]> pendingBlock = pendingBlocks.poll();
+        if (pendingBlock == null) {
+            if (readError != null) {
+                throw readError;
+            }
+            return false;
+        }
+        try {
+            block = pendingBlock.get();
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+        position = 0;
+        return true;
+    }
+
+    /**
+     * Returns the stream that decompresses the rest of the file sequentially,
+     * or null if all of it is read as blocks.
+     */
+    private InputStream sequentialStream() throws IOException
+    {
+        if (sequentialStream == null && sequentialInput != null) {
+            sequentialStream = new GZIPInputStream(sequentialInput);
+        }
+        return sequentialStream;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException
+    {
+        while (position == block.length) {
+            if (!nextBlock()) {
+                return sequentialStream() != null ? sequentialStream.read() : -1;
+            }
+        }
+        return block[position++] & 0xff;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException
+    {
+        if (len == 0) {
+            return 0;
+        }
+        while (position == block.length) {
+            if (!nextBlock()) {
+                return sequentialStream() != null ? sequentialStream.read(b, off, len) : -1;
+            }
+        }
+        final int length = Math.min(len, block.length - position);
+        System.arraycopy(block, position, b, off, length);
+        position += length;
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() throws IOException
+    {
+        if (position == block.length && pendingBlocks.isEmpty() && sequentialInput != null) {
+            return sequentialStream().available();
+        }
+        return block.length - position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException
+    {
+        for (final Future<byte[]> pendingBlock : pendingBlocks) {
+            pendingBlock.cancel(true);
+        }
+        pendingBlocks.clear();
+        if (sequentialStream != null) {
+            sequentialStream.close();
+        }
+        in.close();
+    }
+}
@@ -0,0 +1,322 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type;
+import org.apache.parquet.schema.Types;
+
+import com.ibm.connect.sdk.api.Record;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * Writes records as Parquet. Memory use is bounded by the row group size, after
+ * which each row group is flushed to the output stream.
+ */
+class ParquetRecordWriter extends FileRecordWriter
+{
+    private static final int ROW_GROUP_SIZE = 64 * 1024 * 1024;
+    private static final int MAX_INT32_DECIMAL_PRECISION = 9;
+    private static final int MAX_INT64_DECIMAL_PRECISION = 18;
+    private static final Set<CompressionCodecName> SUPPORTED_CODECS = EnumSet.of(CompressionCodecName.UNCOMPRESSED,
+            CompressionCodecName.GZIP, CompressionCodecName.LZ4, CompressionCodecName.LZ4_RAW, CompressionCodecName.SNAPPY,
+            CompressionCodecName.ZSTD);
+
+    private final ColumnType[] columnTypes;
+    private final int[] decimalScales;
+    private final PrimitiveTypeName[] decimalPhysicalTypes;
+    private final int[] decimalByteLengths;
+    private final SimpleGroupFactory groupFactory;
+    private final ParquetWriter<Group> writer;
+
+    /**
+     * Creates a Parquet record writer.
+     *
+     * @param fields
+     *            the fields of the records to write
+     * @param interactionProperties
+     *            the target interaction properties
+     * @param out
+     *            the stream to which to write
+     * @throws IOException
+     */
+    ParquetRecordWriter(List<CustomFlightAssetField> fields, Properties interactionProperties, OutputStream out) throws IOException
+    {
+        super(fields, interactionProperties);
+        final CompressionCodecName codec = getCompressionCodec(interactionProperties.getProperty("compression"));
+        columnTypes = new ColumnType[fields.size()];
+        decimalScales = new int[fields.size()];
+        decimalPhysicalTypes = new PrimitiveTypeName[fields.size()];
+        decimalByteLengths = new int[fields.size()];
+        final Types.MessageTypeBuilder schemaBuilder = Types.buildMessage();
+        for (int i = 0; i < fields.size(); i++) {
+            schemaBuilder.addField(createColumn(fields.get(i), i));
+        }
+        final MessageType schema = schemaBuilder.named("spark_schema");
+        groupFactory = new SimpleGroupFactory(schema);
+        writer = ExampleParquetWriter.builder(new StreamOutputFile(out)).withType(schema).withCompressionCodec(codec)
+                .withRowGroupSize(ROW_GROUP_SIZE).build();
+    }
+
+    private Type createColumn(CustomFlightAssetField field, int index)
+    {
+        columnTypes[index] = ColumnType.of(field);
+        switch (columnTypes[index]) {
+        case BOOLEAN:
+            return Types.optional(PrimitiveTypeName.BOOLEAN).named(field.getName());
+        case TINYINT:
+            return Types.optional(PrimitiveTypeName.INT32).as(LogicalTypeAnnotation.intType(8, true)).named(field.getName());
+        case SMALLINT:
+            return Types.optional(PrimitiveTypeName.INT32).as(LogicalTypeAnnotation.intType(16, true)).named(field.getName());
+        case INTEGER:
+            return Types.optional(PrimitiveTypeName.INT32).named(field.getName());
+        case BIGINT:
+            return Types.optional(PrimitiveTypeName.INT64).named(field.getName());
+        case REAL:
+            return Types.optional(PrimitiveTypeName.FLOAT).named(field.getName());
+        case DOUBLE:
+            return Types.optional(PrimitiveTypeName.DOUBLE).named(field.getName());
+        case DECIMAL:
+            // Use the same physical types as Spark so that its vectorized reader
+            // can decode the column.
+            final int precision = field.getLength();
+            decimalScales[index] = field.getScale();
+            final LogicalTypeAnnotation decimalType = LogicalTypeAnnotation.decimalType(field.getScale(), precision);
+            if (precision <= MAX_INT32_DECIMAL_PRECISION) {
+                decimalPhysicalTypes[index] = PrimitiveTypeName.INT32;
+                return Types.optional(PrimitiveTypeName.INT32).as(decimalType).named(field.getName());
+            }
+            if (precision <= MAX_INT64_DECIMAL_PRECISION) {
+                decimalPhysicalTypes[index] = PrimitiveTypeName.INT64;
+                return Types.optional(PrimitiveTypeName.INT64).as(decimalType).named(field.getName());
+            }
+            decimalPhysicalTypes[index] = PrimitiveTypeName.FIXED_LEN_BYTE_ARRAY;
+            decimalByteLengths[index] = minBytesForPrecision(precision);
+            return Types.optional(PrimitiveTypeName.FIXED_LEN_BYTE_ARRAY).length(decimalByteLengths[index]).as(decimalType)
+                    .named(field.getName());
+        case DATE:
+            return Types.optional(PrimitiveTypeName.INT32).as(LogicalTypeAnnotation.dateType()).named(field.getName());
+        case TIME:
+            return Types.optional(PrimitiveTypeName.INT64)
+                    .as(LogicalTypeAnnotation.timeType(false, LogicalTypeAnnotation.TimeUnit.MICROS)).named(field.getName());
+        case TIMESTAMP:
+            return Types.optional(PrimitiveTypeName.INT64)
+                    .as(LogicalTypeAnnotation.timestampType(true, LogicalTypeAnnotation.TimeUnit.MICROS)).named(field.getName());
+        case BINARY:
+            return Types.optional(PrimitiveTypeName.BINARY).named(field.getName());
+        default:
+            return Types.optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named(field.getName());
+        }
+    }
+
+    private static int minBytesForPrecision(int precision)
+    {
+        int length = 1;
+        while (BigInteger.ONE.shiftLeft(8 * length - 1).compareTo(BigInteger.TEN.pow(precision)) < 0) {
+            length++;
+        }
+        return length;
+    }
+
+    private void addDecimal(Group group, int index, Object value)
+    {
+        final BigInteger unscaled = ColumnType.toUnscaledValue(value, decimalScales[index]);
+        switch (decimalPhysicalTypes[index]) {
+        case INT32:
+            group.add(index, unscaled.intValueExact());
+            break;
+        case INT64:
+            group.add(index, unscaled.longValueExact());
+            break;
+        default:
+            // Sign-extend the two's complement value to the fixed length.
+            final byte[] bytes = unscaled.toByteArray();
+            final byte[] fixed = new byte[decimalByteLengths[index]];
+            final int padding = fixed.length - bytes.length;
+            Arrays.fill(fixed, 0, padding, bytes[0] < 0 ? (byte) -1 : 0);
+            System.arraycopy(bytes, 0, fixed, padding, bytes.length);
+            group.add(index, Binary.fromConstantByteArray(fixed));
+            break;
+        }
+    }
+
+    /**
+     * Returns the Parquet codec of a compression. Only the codecs whose
+     * implementation is bundled with the connector are supported.
+     */
+    static CompressionCodecName getCompressionCodec(String compression)
+    {
+        if (compression == null || compression.isEmpty()) {
+            // Spark's default Parquet codec.
+            return CompressionCodecName.SNAPPY;
+        }
+        final String codecName = compression.toLowerCase(Locale.ENGLISH);
+        if ("none".equals(codecName)) {
+            return CompressionCodecName.UNCOMPRESSED;
+        }
+        for (final CompressionCodecName codec : SUPPORTED_CODECS) {
+            if (codec.name().equalsIgnoreCase(codecName)) {
+                return codec;
+            }
+        }
+        throw new UnsupportedOperationException(FileMsgs.UNSUPPORTED_FILE_FORMAT.format(FileUtils.FILE_FORMAT_PARQUET + '/' + codecName));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void writeRecord(Record record) throws IOException
+    {
+        final List<?> values = record.getValues();
+        final Group group = groupFactory.newGroup();
+        for (int i = 0; i < values.size(); i++) {
+            final Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            switch (columnTypes[i]) {
+            case BOOLEAN:
+                group.add(i, ColumnType.toBoolean(value));
+                break;
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+                group.add(i, ((Number) value).intValue());
+                break;
+            case BIGINT:
+                group.add(i, ((Number) value).longValue());
+                break;
+            case REAL:
+                group.add(i, ((Number) value).floatValue());
+                break;
+            case DOUBLE:
+                group.add(i, ((Number) value).doubleValue());
+                break;
+            case DECIMAL:
+                addDecimal(group, i, value);
+                break;
+            case DATE:
+                group.add(i, ColumnType.toEpochDay(value));
+                break;
+            case TIME:
+                group.add(i, ColumnType.toMicrosOfDay(value));
+                break;
+            case TIMESTAMP:
+                group.add(i, ColumnType.toEpochMicros(value));
+                break;
+            case BINARY:
+                group.add(i, Binary.fromConstantByteArray((byte[]) value));
+                break;
+            default:
+                group.add(i, Binary.fromConstantByteArray(formatValue(value).getBytes(StandardCharsets.UTF_8)));
+                break;
+            }
+        }
+        writer.write(group);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException
+    {
+        writer.close();
+    }
+
+    /**
+     * Exposes an output stream as a Parquet output file.
+     */
+    private static class StreamOutputFile implements OutputFile
+    {
+        private final OutputStream out;
+
+        StreamOutputFile(OutputStream out)
+        {
+            this.out = out;
+        }
+
+        @Override
+        public PositionOutputStream create(long blockSizeHint)
+        {
+            return new PositionOutputStream() {
+                private long position;
+
+                @Override
+                public long getPos()
+                {
+                    return position;
+                }
+
+                @Override
+                public void write(int b) throws IOException
+                {
+                    out.write(b);
+                    position++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException
+                {
+                    out.write(b, off, len);
+                    position += len;
+                }
+
+                @Override
+                public void flush() throws IOException
+                {
+                    out.flush();
+                }
+
+                @Override
+                public void close() throws IOException
+                {
+                    out.close();
+                }
+            };
+        }
+
+        @Override
+        public PositionOutputStream createOrOverwrite(long blockSizeHint)
+        {
+            return create(blockSizeHint);
+        }
+
+        @Override
+        public boolean supportsBlockSize()
+        {
+            return false;
+        }
+
+        @Override
+        public long defaultBlockSize()
+        {
+            return 0;
+        }
+    }
+}
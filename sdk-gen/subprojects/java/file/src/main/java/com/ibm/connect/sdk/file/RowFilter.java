@@ -0,0 +1,305 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.spark.sql.Column;
+import org.apache.spark.sql.functions;
+
+/**
+ * Parses the row filter of a source interaction into a Spark column.
+ * <p>
+ * The filter is a small predicate language rather than Spark SQL, so that a
+ * client cannot call functions or run subqueries in the connector:
+ *
+ * <pre>
+ * filter     := and ( OR and )*
+ * and        := not ( AND not )*
+ * not        := NOT not | '(' filter ')' | comparison
+ * comparison := column ( op literal | IS [NOT] NULL | [NOT] IN '(' literal ( ',' literal )* ')' )
+ * op         := = | == | != | &lt;&gt; | &lt; | &lt;= | &gt; | &gt;=
+ * literal    := number | 'string' | TRUE | FALSE
+ * column     := identifier | `quoted identifier`
+ * </pre>
+ *
+ * Keywords are not case sensitive. A quote in a string literal is written
+ * twice, as in SQL.
+ */
+final class RowFilter
+{
+    private final String filter;
+    private int position;
+
+    private RowFilter(String filter)
+    {
+        this.filter = filter;
+    }
+
+    /**
+     * Parses a row filter.
+     *
+     * @param filter
+     *            the row filter
+     * @return the condition that the rows to return must meet
+     * @throws IllegalArgumentException
+     *             if the filter is not valid
+     */
+    static Column parse(String filter)
+    {
+        final RowFilter parser = new RowFilter(filter);
+        final Column condition = parser.parseOr();
+        parser.skipWhitespace();
+        if (parser.position < filter.length()) {
+            throw parser.invalid();
+        }
+        return condition;
+    }
+
+    private Column parseOr()
+    {
+        Column condition = parseAnd();
+        while (acceptKeyword("OR")) {
+            condition = condition.or(parseAnd());
+        }
+        return condition;
+    }
+
+    private Column parseAnd()
+    {
+        Column condition = parseNot();
+        while (acceptKeyword("AND")) {
+            condition = condition.and(parseNot());
+        }
+        return condition;
+    }
+
+    private Column parseNot()
+    {
+        if (acceptKeyword("NOT")) {
+            return functions.not(parseNot());
+        }
+        if (accept("(")) {
+            final Column condition = parseOr();
+            expect(")");
+            return condition;
+        }
+        return parseComparison();
+    }
+
+    private Column parseComparison()
+    {
+        final Column column = parseColumn();
+        if (acceptKeyword("IS")) {
+            final boolean not = acceptKeyword("NOT");
+            expectKeyword("NULL");
+            return not ? column.isNotNull() : column.isNull();
+        }
+        final boolean notIn = acceptKeyword("NOT");
+        if (notIn || acceptKeyword("IN")) {
+            if (notIn) {
+                expectKeyword("IN");
+            }
+            expect("(");
+            final List<Object> values = new ArrayList<>();
+            do {
+                values.add(parseLiteral());
+            }
+            while (accept(","));
+            expect(")");
+            final Column in = column.isin(values.toArray());
+            return notIn ? functions.not(in) : in;
+        }
+        // Longer operators first, so that <= is not read as <
+        if (accept("<=")) {
+            return column.leq(functions.lit(parseLiteral()));
+        }
+        if (accept(">=")) {
+            return column.geq(functions.lit(parseLiteral()));
+        }
+        if (accept("<>") || accept("!=")) {
+            return column.notEqual(functions.lit(parseLiteral()));
+        }
+        if (accept("==") || accept("=")) {
+            return column.equalTo(functions.lit(parseLiteral()));
+        }
+        if (accept("<")) {
+            return column.lt(functions.lit(parseLiteral()));
+        }
+        if (accept(">")) {
+            return column.gt(functions.lit(parseLiteral()));
+        }
+        throw invalid();
+    }
+
+    private Column parseColumn()
+    {
+        skipWhitespace();
+        if (accept("`")) {
+            final StringBuilder name = new StringBuilder();
+            while (true) {
+                if (position >= filter.length()) {
+                    throw invalid();
+                }
+                final char c = filter.charAt(position++);
+                if (c == '`') {
+                    if (position < filter.length() && filter.charAt(position) == '`') {
+                        position++;
+                    } else {
+                        break;
+                    }
+                }
+                name.append(c);
+            }
+            return functions.col('`' + name.toString().replace("`", "``") + '`');
+        }
+        final String identifier = readIdentifier();
+        if (identifier == null || isKeyword(identifier)) {
+            throw invalid();
+        }
+        skipWhitespace();
+        if (position < filter.length() && filter.charAt(position) == '(') {
+            // A function call
+            throw invalid();
+        }
+        return functions.col(identifier);
+    }
+
+    private Object parseLiteral()
+    {
+        skipWhitespace();
+        if (accept("'")) {
+            final StringBuilder value = new StringBuilder();
+            while (true) {
+                if (position >= filter.length()) {
+                    throw invalid();
+                }
+                final char c = filter.charAt(position++);
+                if (c == '\'') {
+                    if (position < filter.length() && filter.charAt(position) == '\'') {
+                        position++;
+                    } else {
+                        return value.toString();
+                    }
+                }
+                value.append(c);
+            }
+        }
+        if (acceptKeyword("TRUE")) {
+            return Boolean.TRUE;
+        }
+        if (acceptKeyword("FALSE")) {
+            return Boolean.FALSE;
+        }
+        final int start = position;
+        if (position < filter.length() && (filter.charAt(position) == '-' || filter.charAt(position) == '+')) {
+            position++;
+        }
+        while (position < filter.length()
+                && (Character.isDigit(filter.charAt(position)) || ".eE".indexOf(filter.charAt(position)) >= 0
+                        || (filter.charAt(position) == '-' || filter.charAt(position) == '+')
+                                && Character.toUpperCase(filter.charAt(position - 1)) == 'E')) {
+            position++;
+        }
+        final String number = filter.substring(start, position);
+        try {
+            final BigDecimal value = new BigDecimal(number);
+            try {
+                return value.longValueExact();
+            }
+            catch (ArithmeticException e) {
+                return value;
+            }
+        }
+        catch (NumberFormatException e) {
+            position = start;
+            throw invalid();
+        }
+    }
+
+    private String readIdentifier()
+    {
+        skipWhitespace();
+        final int start = position;
+        if (position < filter.length()
+                && (Character.isLetter(filter.charAt(position)) || filter.charAt(position) == '_')) {
+            position++;
+            while (position < filter.length()
+                    && (Character.isLetterOrDigit(filter.charAt(position)) || filter.charAt(position) == '_')) {
+                position++;
+            }
+        }
+        return position > start ? filter.substring(start, position) : null;
+    }
+
+    private static boolean isKeyword(String identifier)
+    {
+        switch (identifier.toUpperCase(Locale.ENGLISH)) {
+        case "AND":
+        case "OR":
+        case "NOT":
+        case "IS":
+        case "NULL":
+        case "IN":
+        case "TRUE":
+        case "FALSE":
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private boolean accept(String token)
+    {
+        skipWhitespace();
+        if (filter.startsWith(token, position)) {
+            position += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String token)
+    {
+        if (!accept(token)) {
+            throw invalid();
+        }
+    }
+
+    private boolean acceptKeyword(String keyword)
+    {
+        final int start = position;
+        final String identifier = readIdentifier();
+        if (identifier != null && identifier.equalsIgnoreCase(keyword)) {
+            return true;
+        }
+        position = start;
+        return false;
+    }
+
+    private void expectKeyword(String keyword)
+    {
+        if (!acceptKeyword(keyword)) {
+            throw invalid();
+        }
+    }
+
+    private void skipWhitespace()
+    {
+        while (position < filter.length() && Character.isWhitespace(filter.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException invalid()
+    {
+        skipWhitespace();
+        return new IllegalArgumentException(FileMsgs.INVALID_ROW_FILTER.format(filter, position + 1));
+    }
+}
@@ -0,0 +1,174 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.file.DataFileStream;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.Test;
+
+import com.ibm.connect.sdk.api.Record;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * Test the writing of records as Avro data files.
+ */
+public class TestAvroRecordWriter
+{
+    private static final List<CustomFlightAssetField> FIELDS = Arrays.asList(
+            new CustomFlightAssetField().name("flag").type("boolean"), new CustomFlightAssetField().name("small").type("smallint"),
+            new CustomFlightAssetField().name("count").type("bigint"), new CustomFlightAssetField().name("ratio").type("real"),
+            new CustomFlightAssetField().name("amount").type("decimal").length(10).scale(2),
+            new CustomFlightAssetField().name("text_amount").type("decimal"), new CustomFlightAssetField().name("day").type("date"),
+            new CustomFlightAssetField().name("clock").type("time"), new CustomFlightAssetField().name("moment").type("timestamp"),
+            new CustomFlightAssetField().name("data").type("varbinary"), new CustomFlightAssetField().name("name").type("varchar"));
+
+    private static Record record(Serializable... values)
+    {
+        final Record record = new Record(values.length);
+        for (final Serializable value : values) {
+            record.appendValue(value);
+        }
+        return record;
+    }
+
+    private static byte[] write(String compression, Record... records) throws Exception
+    {
+        final Properties interactionProperties = new Properties();
+        interactionProperties.setProperty("file_format", "avro");
+        if (compression != null) {
+            interactionProperties.setProperty("compression", compression);
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (FileRecordWriter writer = FileRecordWriter.create(FIELDS, interactionProperties, out)) {
+            for (final Record record : records) {
+                writer.write(record);
+            }
+            assertEquals(records.length, writer.getRowCount());
+        }
+        return out.toByteArray();
+    }
+
+    private static DataFileStream<GenericRecord> read(byte[] content) throws Exception
+    {
+        return new DataFileStream<>(new ByteArrayInputStream(content), new GenericDatumReader<>());
+    }
+
+    private static Schema valueType(Schema schema, String name)
+    {
+        // Fields are a union of the value type and null.
+        return schema.getField(name).schema().getTypes().get(0);
+    }
+
+    /**
+     * Test that values are written with the Avro type of their field and read
+     * back unchanged.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testValues() throws Exception
+    {
+        final Timestamp moment = Timestamp.from(Instant.parse("2024-03-01T12:00:00.123456Z"));
+        final byte[] content = write(null,
+                record(Boolean.TRUE, (short) 7, 1L << 40, 1.5f, new BigDecimal("12.345"), new BigDecimal("1e-20"),
+                        Date.valueOf("2024-03-01"), Time.valueOf("12:30:00"), moment, new byte[] { 1, 2 }, "Zoë"),
+                record(null, null, null, null, null, null, null, null, null, null, null));
+        try (DataFileStream<GenericRecord> records = read(content)) {
+            final Schema schema = records.getSchema();
+            assertEquals("topLevelRecord", schema.getName());
+            assertEquals(Schema.Type.INT, valueType(schema, "small").getType());
+            assertEquals(LogicalTypes.decimal(10, 2), valueType(schema, "amount").getLogicalType());
+            assertEquals(Schema.Type.STRING, valueType(schema, "text_amount").getType());
+            assertEquals(LogicalTypes.date(), valueType(schema, "day").getLogicalType());
+            assertEquals(LogicalTypes.timeMicros(), valueType(schema, "clock").getLogicalType());
+            assertEquals(LogicalTypes.timestampMicros(), valueType(schema, "moment").getLogicalType());
+
+            final GenericRecord first = records.next();
+            assertEquals(true, first.get("flag"));
+            assertEquals(7, first.get("small"));
+            assertEquals(1L << 40, first.get("count"));
+            assertEquals(1.5f, first.get("ratio"));
+            // Rounded half up to the scale of the field.
+            assertEquals(new BigDecimal("12.35"),
+                    new BigDecimal(new BigInteger(((ByteBuffer) first.get("amount")).array()), 2));
+            assertEquals("0.00000000000000000001", first.get("text_amount").toString());
+            assertEquals(19_783, first.get("day"));
+            assertEquals(45_000_000_000L, first.get("clock"));
+            assertEquals(1_709_294_400_123_456L, first.get("moment"));
+            assertArrayEquals(new byte[] { 1, 2 }, ((ByteBuffer) first.get("data")).array());
+            assertEquals("Zoë", first.get("name").toString());
+
+            final GenericRecord second = records.next();
+            for (final CustomFlightAssetField field : FIELDS) {
+                assertNull(second.get(field.getName()));
+            }
+            assertFalse(records.hasNext());
+        }
+    }
+
+    /**
+     * Test the Avro codec used for each compression.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCompressions() throws Exception
+    {
+        final String[][] codecs = { { null, "snappy" }, { "none", "null" }, { "uncompressed", "null" }, { "gzip", "deflate" },
+            { "snappy", "snappy" }, { "ZSTD", "zstandard" } };
+        for (final String[] codec : codecs) {
+            final Record record = record(true, 1, 2L, 0.5f, "1.00", "1", null, null, null, null, "a");
+            try (DataFileStream<GenericRecord> records = read(write(codec[0], record))) {
+                assertEquals(codec[0], codec[1], records.getMetaString("avro.codec"));
+                assertEquals(codec[0], "a", records.next().get("name").toString());
+            }
+        }
+    }
+
+    /**
+     * Test that a compression without an Avro codec is rejected with the format
+     * and the compression.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testUnsupportedCompression() throws Exception
+    {
+        for (final String compression : new String[] { "lz4", "brotli" }) {
+            try {
+                write(compression);
+                fail("Exception expected");
+            }
+            catch (UnsupportedOperationException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains("avro/" + compression));
+            }
+        }
+    }
+}
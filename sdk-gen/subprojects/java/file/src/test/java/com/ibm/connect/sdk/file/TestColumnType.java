@@ -0,0 +1,91 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.junit.Test;
+
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * Test the column types and value conversions shared by the Avro and Parquet
+ * record writers.
+ */
+public class TestColumnType
+{
+    private static CustomFlightAssetField field(String type)
+    {
+        return new CustomFlightAssetField().name("c").type(type);
+    }
+
+    /**
+     * Test the column types of the field types.
+     */
+    @Test
+    public void testTypes()
+    {
+        assertEquals(ColumnType.BOOLEAN, ColumnType.of(field("bit")));
+        assertEquals(ColumnType.BOOLEAN, ColumnType.of(field("boolean")));
+        assertEquals(ColumnType.TINYINT, ColumnType.of(field("tinyint")));
+        assertEquals(ColumnType.SMALLINT, ColumnType.of(field("smallint")));
+        assertEquals(ColumnType.INTEGER, ColumnType.of(field("integer")));
+        assertEquals(ColumnType.BIGINT, ColumnType.of(field("bigint")));
+        assertEquals(ColumnType.REAL, ColumnType.of(field("real")));
+        assertEquals(ColumnType.DOUBLE, ColumnType.of(field("float")));
+        assertEquals(ColumnType.DOUBLE, ColumnType.of(field("double")));
+        assertEquals(ColumnType.DATE, ColumnType.of(field("date")));
+        assertEquals(ColumnType.TIME, ColumnType.of(field("time_with_timezone")));
+        assertEquals(ColumnType.TIMESTAMP, ColumnType.of(field("timestamp")));
+        assertEquals(ColumnType.BINARY, ColumnType.of(field("blob")));
+        assertEquals(ColumnType.STRING, ColumnType.of(field("varchar")));
+        assertEquals(ColumnType.STRING, ColumnType.of(field(null)));
+    }
+
+    /**
+     * Test that decimals are only stored as decimals with a precision and a
+     * scale.
+     */
+    @Test
+    public void testDecimalTypes()
+    {
+        assertEquals(ColumnType.DECIMAL, ColumnType.of(field("decimal").length(10).scale(2)));
+        assertEquals(ColumnType.DECIMAL, ColumnType.of(field("numeric").length(5).scale(0)));
+        assertEquals(ColumnType.STRING, ColumnType.of(field("decimal")));
+        assertEquals(ColumnType.STRING, ColumnType.of(field("decimal").length(10)));
+        assertEquals(ColumnType.STRING, ColumnType.of(field("numeric").length(0).scale(0)));
+        assertEquals(ColumnType.STRING, ColumnType.of(field("numeric").length(10).scale(-1)));
+    }
+
+    /**
+     * Test the conversion of values.
+     */
+    @Test
+    public void testConversions()
+    {
+        assertTrue(ColumnType.toBoolean(Boolean.TRUE));
+        assertTrue(ColumnType.toBoolean(1));
+        assertFalse(ColumnType.toBoolean(0L));
+        assertEquals(BigInteger.valueOf(12346), ColumnType.toUnscaledValue(new BigDecimal("123.455"), 2));
+        assertEquals(BigInteger.valueOf(-12346), ColumnType.toUnscaledValue("-123.455", 2));
+        assertEquals(BigInteger.valueOf(1200), ColumnType.toUnscaledValue(12, 2));
+        assertEquals(0, ColumnType.toEpochDay(Date.valueOf("1970-01-01")));
+        assertEquals(19_723, ColumnType.toEpochDay(Date.valueOf("2024-01-01")));
+        assertEquals(3_723_000_000L, ColumnType.toMicrosOfDay(Time.valueOf("01:02:03")));
+        final Timestamp timestamp = Timestamp.from(Instant.parse("2024-01-01T00:00:01Z"));
+        timestamp.setNanos(123_456_789);
+        assertEquals(1_704_067_201_123_456L, ColumnType.toEpochMicros(timestamp));
+    }
+}
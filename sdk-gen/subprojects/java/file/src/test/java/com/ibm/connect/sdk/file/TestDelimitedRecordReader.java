@@ -0,0 +1,532 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.TimeStampMilliVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.util.Text;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.types.DataType;
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.StructType;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.ibm.connect.sdk.api.ArrowConversions;
+import com.ibm.connect.sdk.api.Record;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * Test the reading of CSV and delimited text without Spark.
+ */
+public class TestDelimitedRecordReader
+{
+    private static final Map<String, String> SPARK_OPTIONS = new HashMap<>();
+    static {
+        SPARK_OPTIONS.put("comment_character_value", "comment");
+        SPARK_OPTIONS.put("encoding", "encoding");
+        SPARK_OPTIONS.put("escape_character_value", "escape");
+        SPARK_OPTIONS.put("field_delimiter_value", "delimiter");
+        SPARK_OPTIONS.put("first_line_header", "header");
+        SPARK_OPTIONS.put("nan_value", "nanValue");
+        SPARK_OPTIONS.put("negative_infinity_value", "negativeInf");
+        SPARK_OPTIONS.put("null_value", "nullValue");
+        SPARK_OPTIONS.put("positive_infinity_value", "positiveInf");
+        SPARK_OPTIONS.put("quote_character_value", "quote");
+        SPARK_OPTIONS.put("row_delimiter_value", "lineSep");
+    }
+
+    private static SparkSession spark;
+
+    /**
+     * Acquire the Spark session with which results are compared.
+     */
+    @BeforeClass
+    public static void setUpOnce()
+    {
+        spark = FileSparkRuntime.acquire();
+    }
+
+    /**
+     * Release the Spark session.
+     */
+    @AfterClass
+    public static void tearDownOnce()
+    {
+        FileSparkRuntime.release();
+    }
+
+    private static CustomFlightAssetField field(String name, String type)
+    {
+        final CustomFlightAssetField field = new CustomFlightAssetField().name(name).type(type).nullable(true);
+        return "varchar".equals(type) || "boolean".equals(type) || "date".equals(type) || "timestamp".equals(type) ? field
+                : field.signed(true);
+    }
+
+    private static CustomFlightAssetField decimalField(String name, int precision, int scale)
+    {
+        return field(name, "decimal").length(precision).scale(scale);
+    }
+
+    private static List<CustomFlightAssetField> stringFields(String... names)
+    {
+        final List<CustomFlightAssetField> fields = new ArrayList<>();
+        for (final String name : names) {
+            fields.add(field(name, "varchar"));
+        }
+        return fields;
+    }
+
+    private static Properties properties(String... namesAndValues)
+    {
+        final Properties properties = new Properties();
+        properties.setProperty("file_format", FileUtils.FILE_FORMAT_CSV);
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            properties.setProperty(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return properties;
+    }
+
+    private static List<Serializable> row(Serializable... values)
+    {
+        return Arrays.asList(values);
+    }
+
+    private static List<List<Serializable>> read(String content, Properties properties, List<CustomFlightAssetField> fields)
+            throws IOException
+    {
+        return read(content.getBytes(StandardCharsets.UTF_8), properties, fields);
+    }
+
+    private static List<List<Serializable>> read(byte[] content, Properties properties, List<CustomFlightAssetField> fields)
+            throws IOException
+    {
+        assertTrue(FileRecordReader.isSupported(fields, properties));
+        final List<List<Serializable>> rows = new ArrayList<>();
+        try (FileRecordReader reader = FileRecordReader.create(fields, properties, new ByteArrayInputStream(content))) {
+            assertTrue(reader instanceof DelimitedRecordReader);
+            Record record;
+            while ((record = reader.read()) != null) {
+                rows.add(new ArrayList<>(record.getValues()));
+            }
+            assertEquals(rows.size(), reader.getRowCount());
+        }
+        return rows;
+    }
+
+    /**
+     * Reads the content in batches and returns the values of the vectors as the
+     * types of the record values.
+     */
+    private static List<List<Serializable>> readBatches(String content, Properties properties, List<CustomFlightAssetField> fields,
+            int batchSize)
+            throws IOException
+    {
+        final List<List<Serializable>> rows = new ArrayList<>();
+        try (BufferAllocator allocator = new RootAllocator();
+                VectorSchemaRoot root = VectorSchemaRoot.create(ArrowConversions.toArrow(fields), allocator);
+                FileRecordReader reader = FileRecordReader.create(fields, properties,
+                        new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))) {
+            int rowCount;
+            while ((rowCount = reader.readBatch(root, batchSize)) > 0) {
+                assertEquals(rowCount, root.getRowCount());
+                for (int i = 0; i < rowCount; i++) {
+                    final List<Serializable> row = new ArrayList<>();
+                    for (final FieldVector vector : root.getFieldVectors()) {
+                        row.add(getBatchValue(vector, i));
+                    }
+                    rows.add(row);
+                }
+            }
+            assertEquals(rows.size(), reader.getRowCount());
+        }
+        return rows;
+    }
+
+    private static Serializable getBatchValue(FieldVector vector, int index)
+    {
+        if (vector.isNull(index)) {
+            return null;
+        }
+        if (vector instanceof TimeStampMilliVector) {
+            return new Timestamp(((TimeStampMilliVector) vector).get(index));
+        }
+        final Object value = vector.getObject(index);
+        return value instanceof Text ? value.toString() : (Serializable) value;
+    }
+
+    private static DataType getSparkType(CustomFlightAssetField field)
+    {
+        switch (field.getType()) {
+        case "boolean":
+            return DataTypes.BooleanType;
+        case "tinyint":
+            return DataTypes.ByteType;
+        case "smallint":
+            return DataTypes.ShortType;
+        case "integer":
+            return DataTypes.IntegerType;
+        case "bigint":
+            return DataTypes.LongType;
+        case "real":
+            return DataTypes.FloatType;
+        case "double":
+            return DataTypes.DoubleType;
+        case "decimal":
+            return DataTypes.createDecimalType(field.getLength(), field.getScale());
+        case "date":
+            return DataTypes.DateType;
+        case "timestamp":
+            return DataTypes.TimestampType;
+        default:
+            return DataTypes.StringType;
+        }
+    }
+
+    /**
+     * Reads the content with the Spark CSV reader, with the schema of the fields.
+     */
+    private static List<List<Serializable>> readWithSpark(String content, Properties properties, List<CustomFlightAssetField> fields)
+            throws IOException
+    {
+        StructType schema = new StructType();
+        for (final CustomFlightAssetField field : fields) {
+            schema = schema.add(field.getName(), getSparkType(field));
+        }
+        final Map<String, String> options = new HashMap<>();
+        for (final String name : properties.stringPropertyNames()) {
+            if (SPARK_OPTIONS.containsKey(name)) {
+                options.put(SPARK_OPTIONS.get(name), properties.getProperty(name));
+            }
+        }
+        final Path path = Files.createTempFile("TestDelimitedRecordReader", ".csv");
+        try {
+            final String encoding = properties.getProperty("encoding");
+            Files.write(path, content.getBytes(encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+            final List<List<Serializable>> rows = new ArrayList<>();
+            for (final Row sparkRow : spark.read().options(options).schema(schema).csv(path.toString()).collectAsList()) {
+                final List<Serializable> row = new ArrayList<>();
+                for (int i = 0; i < sparkRow.size(); i++) {
+                    row.add((Serializable) sparkRow.get(i));
+                }
+                rows.add(row);
+            }
+            return rows;
+        }
+        finally {
+            Files.delete(path);
+        }
+    }
+
+    private static void assertSameAsSpark(String content, Properties properties, List<CustomFlightAssetField> fields)
+            throws IOException
+    {
+        final List<List<Serializable>> sparkRows = readWithSpark(content, properties, fields);
+        final String encoding = properties.getProperty("encoding");
+        final byte[] bytes = content.getBytes(encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8);
+        assertEquals(sparkRows, read(bytes, properties, fields));
+    }
+
+    /**
+     * Test quoted fields, escaped quotes, and text after a closing quote.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testQuoting() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = stringFields("a", "b", "c");
+        final String content = "\"x,y\",\"say \\\"hi\\\"\",\"ab\"  \n" //
+                + "\"back\\\\slash\",\"a\\nb\",\"ab\"cd\n" //
+                + "plain \"inner\" quotes,\"\",\n";
+        assertEquals(Arrays.asList(row("x,y", "say \"hi\"", "ab"), row("back\\slash", "a\\nb", "\"ab\"cd"),
+                row("plain \"inner\" quotes", null, null)), read(content, properties(), fields));
+        assertSameAsSpark(content, properties(), fields);
+    }
+
+    /**
+     * Test that, like Spark, doubled quotes are only read as a quote when the
+     * quote is also the escape character.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testDoubledQuotes() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = stringFields("a", "b", "c");
+        final String content = "\"say \"\"hi\"\"\",\"a\"\"\"\"b\",\"\"\"\"\n" //
+                + "\"ab\"\"\",\"x\"\"\"y\",\"\"a\n";
+        assertEquals(Arrays.asList(row("\"say \"\"hi\"\"\"", "\"a\"\"\"\"b\"", "\"\""), row("ab\"\"", "\"x\"\"\"y\"", "\"\"a")),
+                read(content, properties(), fields));
+        assertSameAsSpark(content, properties(), fields);
+
+        final Properties properties = properties("escape_character_value", "\"");
+        assertEquals(Arrays.asList(row("say \"hi\"", "a\"\"b", "\""), row("ab\"", "\"x\"\"y\"", "\"\"a")),
+                read(content, properties, fields));
+        assertSameAsSpark(content, properties, fields);
+    }
+
+    /**
+     * Test that, like Spark without multi-line mode, a line end inside quotes ends
+     * the row.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testEmbeddedNewline() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = stringFields("a", "b");
+        final String content = "1,\"line one\nline two\"\n2,\"crlf\r\nend\"\r\n3,x\n";
+        final List<List<Serializable>> rows = read(content, properties(), fields);
+        assertEquals(row("1", "line one"), rows.get(0));
+        assertEquals(row("3", "x"), rows.get(rows.size() - 1));
+        assertSameAsSpark(content, properties(), fields);
+    }
+
+    /**
+     * Test that the fields are read from the columns named in the header, in any
+     * order, ignoring case.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testHeaderSelectsColumns() throws Exception
+    {
+        final String content = "id,Name,amount,note\n1,first,1.5,other\n2,second\n";
+        final Properties properties = properties("first_line_header", "true");
+        assertEquals(Arrays.asList(row("1.5", 1, "first"), row(null, 2, "second")),
+                read(content, properties, Arrays.asList(field("AMOUNT", "varchar"), field("id", "integer"), field("name", "varchar"))));
+        assertEquals(Arrays.asList(row(1, "first", "other"), row(2, "second", null)),
+                read(content, properties, Arrays.asList(field("id", "integer"), field("name", "varchar"), field("note", "varchar"))));
+        // A field that is not in the header is read by position.
+        assertEquals(Arrays.asList(row(1, "first"), row(2, "second")),
+                read(content, properties, Arrays.asList(field("id", "integer"), field("missing", "varchar"))));
+    }
+
+    /**
+     * Test that, like Spark, repeated names in the header have their column
+     * index appended and empty names are named by their column index.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testHeaderNames() throws Exception
+    {
+        final String content = "id,Name,,name,NA\n1,first,1.5,other,x\n";
+        final Properties properties = properties("first_line_header", "true", "null_value", "NA");
+        assertEquals(Arrays.asList(row("other", "first", "x", "1.5")),
+                read(content, properties, stringFields("name3", "NAME1", "_c4", "_c2")));
+        // The same column may be read into several fields.
+        assertEquals(Arrays.asList(row("other", "1", "other")), read(content, properties, stringFields("name3", "id", "name3")));
+        // A repeated name does not name a column, so the fields are read by position.
+        assertEquals(Arrays.asList(row("1", "first")), read(content, properties, stringFields("id", "name")));
+    }
+
+    /**
+     * Test that the first line is read as data without a header.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testNoHeader() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = stringFields("a", "b");
+        assertEquals(Arrays.asList(row("a", "b"), row("1", "2")), read("a,b\n1,2\n", properties(), fields));
+        assertEquals(Arrays.asList(row("1", "2")), read("a,b\n1,2\n", properties("first_line_header", "true"), fields));
+        assertEquals(Arrays.asList(), read("a,b\n", properties("first_line_header", "true"), fields));
+        assertEquals(Arrays.asList(), read("", properties("first_line_header", "true"), fields));
+    }
+
+    /**
+     * Test the delimiter, quote, escape, comment, null value and row delimiter
+     * options.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testOptions() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = Arrays.asList(field("a", "varchar"), field("b", "integer"), field("c", "varchar"));
+        final Properties properties = properties("field_delimiter_value", ";", "quote_character_value", "'",
+                "escape_character_value", "~", "comment_character_value", "#", "null_value", "NA");
+        final String content = "# a comment\n'x;y';1;'it~'s'\n\nNA;NA;'NA'\n#another;1;2\nz;3;\"q\"\n";
+        assertEquals(Arrays.asList(row("x;y", 1, "it's"), row(null, null, null), row("z", 3, "\"q\"")),
+                read(content, properties, fields));
+        assertSameAsSpark(content, properties, fields);
+
+        final Properties pipeProperties = properties("row_delimiter_value", "|");
+        assertEquals(Arrays.asList(row("x", 1, "a\nb"), row("y", 2, null)), read("x,1,a\nb|y,2|", pipeProperties, fields));
+        assertEquals(Arrays.asList(row("x", 1, "a"), row("y", 2, "b")), read("x,1,a\r\ny,2,b\rz", properties(), fields).subList(0, 2));
+    }
+
+    /**
+     * Test that delimiters that are not a single ASCII character are left to
+     * Spark.
+     */
+    @Test
+    public void testUnsupportedOptions()
+    {
+        assertTrue(DelimitedRecordReader.isSupported(properties("field_delimiter_value", "\t", "row_delimiter_value", "\r\n")));
+        assertFalse(DelimitedRecordReader.isSupported(properties("field_delimiter_value", "||")));
+        assertFalse(DelimitedRecordReader.isSupported(properties("quote_character_value", "«")));
+        assertFalse(DelimitedRecordReader.isSupported(properties("row_delimiter_value", "\n\n")));
+        assertFalse(DelimitedRecordReader.isSupported(properties("date_format", "dd.MM.yyyy"), "date"));
+        assertTrue(DelimitedRecordReader.isSupported(properties("date_format", "dd.MM.yyyy"), "integer"));
+    }
+
+    /**
+     * Test that a UTF-8 byte order mark is skipped and that other encodings are
+     * decoded.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testEncoding() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = stringFields("a", "b");
+        final byte[] withByteOrderMark = "﻿a,été\n".getBytes(StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList(row("a", "été")), read(withByteOrderMark, properties(), fields));
+        final byte[] latin1 = "ï»,é\n".getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(Arrays.asList(row("ï»", "é")), read(latin1, properties("encoding", "ISO-8859-1"), fields));
+    }
+
+    /**
+     * Test the conversion of values to the field types.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testTypeConversion() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = Arrays.asList(field("boolean", "boolean"), field("byte", "tinyint"),
+                field("short", "smallint"), field("int", "integer"), field("long", "bigint"), field("float", "real"),
+                field("double", "double"), decimalField("decimal", 6, 2), field("date", "date"), field("timestamp", "timestamp"));
+        final String content = "TRUE,-128,32767,-2147483648,9223372036854775807,1.5,-2.5e300,1234.565,2024-02-29,2024-02-29 13:14:15.678\n"
+                + "false,+127,-32768,2147483647,-9223372036854775808,NaN,Inf,-0.5,2024-2-3,2024-02-03T04:05:06\n"
+                + "yes,128,32768,2147483648,9223372036854775808,x,-Inf,10000.00,2024-13-01,not a time\n";
+        final List<List<Serializable>> rows = read(content, properties(), fields);
+        assertEquals(row(Boolean.TRUE, (byte) -128, (short) 32767, Integer.MIN_VALUE, Long.MAX_VALUE, 1.5f, -2.5e300,
+                new BigDecimal("1234.57"), Date.valueOf("2024-02-29"), Timestamp.valueOf("2024-02-29 13:14:15.678")), rows.get(0));
+        assertEquals(row(Boolean.FALSE, (byte) 127, (short) -32768, Integer.MAX_VALUE, Long.MIN_VALUE, Float.NaN,
+                Double.POSITIVE_INFINITY, new BigDecimal("-0.50"), Date.valueOf("2024-02-03"), Timestamp.valueOf("2024-02-03 04:05:06")),
+                rows.get(1));
+        // Values out of range, too precise or malformed are null.
+        assertEquals(row(null, null, null, null, null, null, Double.NEGATIVE_INFINITY, null, null, null), rows.get(2));
+        assertSameAsSpark(content, properties(), fields);
+    }
+
+    /**
+     * Test the NaN and infinity options.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSpecialFloatingPointValues() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = Arrays.asList(field("a", "double"), field("b", "double"), field("c", "real"));
+        final Properties properties = properties("nan_value", "n/a", "positive_infinity_value", "+inf", "negative_infinity_value",
+                "-inf");
+        final String content = "n/a,+inf,-inf\nNaN,Inf,-Inf\n";
+        // Java's own name for NaN is still read.
+        assertEquals(Arrays.asList(row(Double.NaN, Double.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY), row(Double.NaN, null, null)),
+                read(content, properties, fields));
+        assertSameAsSpark(content, properties, fields);
+    }
+
+    /**
+     * Test that, as in Spark's permissive mode, missing fields and values that
+     * cannot be converted are null, extra columns are ignored and empty lines are
+     * skipped.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMalformedRows() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = Arrays.asList(field("id", "integer"), field("name", "varchar"),
+                field("amount", "double"));
+        final String content = "1,one,1.5\n\ntwo,2,abc\n3\n4,four,4.5,extra,columns\n,,\n5,\"unterminated\n";
+        final List<List<Serializable>> rows = read(content, properties(), fields);
+        assertEquals(Arrays.asList(row(1, "one", 1.5), row(null, "2", null), row(3, null, null), row(4, "four", 4.5),
+                row(null, null, null), row(5, "unterminated", null)), rows);
+        assertSameAsSpark(content, properties(), fields);
+    }
+
+    /**
+     * Test that values read in batches are the same as values read as records,
+     * including across batch boundaries.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testBatchesMatchRecords() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = Arrays.asList(field("boolean", "boolean"), field("byte", "tinyint"),
+                field("int", "integer"), field("long", "bigint"), field("double", "double"), decimalField("decimal", 6, 2),
+                decimalField("wide", 38, 4), field("timestamp", "timestamp"), field("name", "varchar"));
+        final StringBuilder content = new StringBuilder("boolean,byte,int,long,double,decimal,wide,timestamp,name\n");
+        for (int i = 0; i < 100; i++) {
+            content.append(i % 3 == 0).append(',').append(i * 3 - 150).append(',').append(i * 1000003).append(',')
+                    .append((long) i << 40).append(',').append(i / 7.0).append(',').append(i * 11.125 - 500).append(',')
+                    .append("123456789012345678901234.").append(i).append(',').append("2024-01-01 00:00:").append(i % 60).append(',')
+                    .append(i % 5 == 0 ? "\"café " + i + '"' : "name " + i).append('\n');
+        }
+        final Properties properties = properties("first_line_header", "true");
+        final List<List<Serializable>> records = read(content.toString(), properties, fields);
+        assertEquals(100, records.size());
+        assertNull(records.get(0).get(1));
+        assertEquals(records, readBatches(content.toString(), properties, fields, 7));
+    }
+
+    /**
+     * Test that records are read the same as by the Spark CSV reader for a file
+     * with a header, mixed quoting and line ends.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSameAsSpark() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = Arrays.asList(field("id", "bigint"), field("name", "varchar"),
+                field("active", "boolean"), decimalField("price", 10, 3), field("created", "timestamp"), field("day", "date"));
+        final String content = "id,name,active,price,created,day\r\n" //
+                + "1,\"Smith, John\",true,12.5,2024-01-02 03:04:05,2024-01-02\r\n" //
+                + "2,  padded  ,False,-0.0005,2024-01-02T03:04:05.123Z,2024-01-02T10:00\n" //
+                + "3,\"\"\"quoted\"\"\",,1e3,,\n" //
+                + "\n" //
+                + "4,日本,TRUE,99999999.9995,1999-12-31,0001-01-01\n";
+        final Properties properties = properties("first_line_header", "true");
+        assertSameAsSpark(content, properties, fields);
+        assertSameAsSpark(content, properties("first_line_header", "false"), fields);
+    }
+}
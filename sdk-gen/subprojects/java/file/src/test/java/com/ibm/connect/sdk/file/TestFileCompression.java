@@ -0,0 +1,258 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import org.junit.Test;
+
+/**
+ * Test the detection and decompression of compressed files.
+ */
+public class TestFileCompression
+{
+    private static final int BLOCK_DATA_SIZE = 1000;
+
+    private static byte[] content(int length)
+    {
+        final byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) ('a' + i * 7 % 26);
+        }
+        return content;
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int value)
+    {
+        out.write(value & 0xff);
+        out.write(value >>> 8 & 0xff);
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value)
+    {
+        writeShort(out, value & 0xffff);
+        writeShort(out, value >>> 16);
+    }
+
+    /**
+     * Writes a block gzip block, as bgzip does.
+     */
+    private static void writeBlock(ByteArrayOutputStream out, byte[] data, int offset, int length, int uncompressedSize)
+    {
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(data, offset, length);
+        deflater.finish();
+        final byte[] deflated = new byte[length + 1024];
+        final int deflatedLength = deflater.deflate(deflated);
+        deflater.end();
+        final CRC32 crc = new CRC32();
+        crc.update(data, offset, length);
+
+        out.write(0x1f);
+        out.write(0x8b);
+        out.write(8);
+        out.write(4);
+        writeInt(out, 0);
+        out.write(0);
+        out.write(0xff);
+        writeShort(out, 6);
+        out.write('B');
+        out.write('C');
+        writeShort(out, 2);
+        writeShort(out, 18 + deflatedLength + 8 - 1);
+        out.write(deflated, 0, deflatedLength);
+        writeInt(out, (int) crc.getValue());
+        writeInt(out, uncompressedSize);
+    }
+
+    private static byte[] blockGzip(byte[] data)
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int offset = 0; offset < data.length; offset += BLOCK_DATA_SIZE) {
+            final int length = Math.min(BLOCK_DATA_SIZE, data.length - offset);
+            writeBlock(out, data, offset, length, length);
+        }
+        // The empty block that marks the end of a block gzip file
+        writeBlock(out, data, 0, 0, 0);
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(out)) {
+            gzipStream.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] concat(byte[]... parts)
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (final byte[] part : parts) {
+            out.write(part, 0, part.length);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads a stream one byte and then one buffer at a time, to exercise both
+     * read methods.
+     */
+    private static byte[] readAll(InputStream inputStream) throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final int first = inputStream.read();
+        if (first < 0) {
+            return out.toByteArray();
+        }
+        out.write(first);
+        final byte[] buffer = new byte[4096];
+        int read;
+        while ((read = inputStream.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Test that block gzip files are detected and their blocks inflated in
+     * order.
+     */
+    @Test
+    public void testBlockGzipRoundTrip() throws IOException
+    {
+        final byte[] data = content(500 * BLOCK_DATA_SIZE + 123);
+        final byte[] compressed = blockGzip(data);
+        assertEquals(FileCompression.COMPRESSION_GZIP, FileCompression.detect(compressed, compressed.length));
+        try (InputStream inputStream = FileCompression.decompress(new ByteArrayInputStream(compressed))) {
+            assertTrue(inputStream instanceof ParallelGzipInputStream);
+            assertArrayEquals(data, readAll(inputStream));
+            assertEquals(-1, inputStream.read());
+        }
+    }
+
+    /**
+     * Test that streams of several block gzip files can be read at the same
+     * time.
+     */
+    @Test
+    public void testConcurrentBlockGzipStreams() throws IOException
+    {
+        final byte[] data = content(100 * BLOCK_DATA_SIZE);
+        final byte[] compressed = blockGzip(data);
+        try (InputStream first = FileCompression.decompress(new ByteArrayInputStream(compressed));
+                InputStream second = FileCompression.decompress(new ByteArrayInputStream(compressed))) {
+            final byte[] firstBytes = new byte[BLOCK_DATA_SIZE];
+            assertEquals(BLOCK_DATA_SIZE, first.readNBytes(firstBytes, 0, firstBytes.length));
+            assertArrayEquals(data, readAll(second));
+            assertArrayEquals(Arrays.copyOfRange(data, BLOCK_DATA_SIZE, data.length), readAll(first));
+        }
+    }
+
+    /**
+     * Test that concatenated gzip members that are not block gzip are all
+     * decompressed sequentially.
+     */
+    @Test
+    public void testMultiMemberGzipRoundTrip() throws IOException
+    {
+        final byte[] first = "first member\n".getBytes(StandardCharsets.UTF_8);
+        final byte[] second = content(100000);
+        final byte[] compressed = concat(gzip(first), gzip(second));
+        assertFalse(ParallelGzipInputStream.isBlockGzip(compressed, compressed.length));
+        try (InputStream inputStream = FileCompression.decompress(new ByteArrayInputStream(compressed))) {
+            assertFalse(inputStream instanceof ParallelGzipInputStream);
+            assertArrayEquals(concat(first, second), readAll(inputStream));
+        }
+    }
+
+    /**
+     * Test that the blocks before a truncated block are returned before the
+     * truncation is reported.
+     */
+    @Test
+    public void testTruncatedBlock() throws IOException
+    {
+        final byte[] data = content(3 * BLOCK_DATA_SIZE);
+        final byte[] compressed = blockGzip(data);
+        final ByteArrayOutputStream firstBlock = new ByteArrayOutputStream();
+        writeBlock(firstBlock, data, 0, BLOCK_DATA_SIZE, BLOCK_DATA_SIZE);
+        final byte[] truncated = Arrays.copyOf(compressed, firstBlock.size() + 30);
+        try (InputStream inputStream = FileCompression.decompress(new ByteArrayInputStream(truncated))) {
+            final byte[] firstBytes = new byte[BLOCK_DATA_SIZE];
+            assertEquals(BLOCK_DATA_SIZE, inputStream.readNBytes(firstBytes, 0, firstBytes.length));
+            assertArrayEquals(Arrays.copyOf(data, BLOCK_DATA_SIZE), firstBytes);
+            try {
+                inputStream.read();
+                fail("Truncated block was read");
+            }
+            catch (EOFException e) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * Test that a block whose recorded uncompressed size is larger than a block
+     * can be is not trusted, and that its corrupt trailer is reported.
+     */
+    @Test
+    public void testBadUncompressedSize() throws IOException
+    {
+        for (final int uncompressedSize : new int[] { -1, Integer.MAX_VALUE, 64 * 1024 + 1 }) {
+            final byte[] data = content(2 * BLOCK_DATA_SIZE);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeBlock(out, data, 0, BLOCK_DATA_SIZE, BLOCK_DATA_SIZE);
+            writeBlock(out, data, BLOCK_DATA_SIZE, BLOCK_DATA_SIZE, uncompressedSize);
+            try (InputStream inputStream = FileCompression.decompress(new ByteArrayInputStream(out.toByteArray()))) {
+                assertTrue(inputStream instanceof ParallelGzipInputStream);
+                final byte[] decompressed = new byte[data.length];
+                assertEquals(data.length, inputStream.readNBytes(decompressed, 0, decompressed.length));
+                assertArrayEquals(data, decompressed);
+                try {
+                    inputStream.read();
+                    fail("Block with uncompressed size " + uncompressedSize + " was read");
+                }
+                catch (ZipException e) {
+                    // expected
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that a block gzip file whose blocks record sizes that a block cannot
+     * have is decompressed sequentially.
+     */
+    @Test
+    public void testLargeMemberReadSequentially() throws IOException
+    {
+        final byte[] data = content(200000);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeBlock(out, data, 0, BLOCK_DATA_SIZE, BLOCK_DATA_SIZE);
+        writeBlock(out, data, BLOCK_DATA_SIZE, data.length - BLOCK_DATA_SIZE, data.length - BLOCK_DATA_SIZE);
+        try (InputStream inputStream = FileCompression.decompress(new ByteArrayInputStream(out.toByteArray()))) {
+            assertArrayEquals(data, readAll(inputStream));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Ticker;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+import com.ibm.wdp.connect.common.sdk.api.models.DiscoveredAssetDetails;
+import com.ibm.wdp.connect.common.sdk.api.models.DiscoveredAssetInteractionProperties;
+
+/**
+ * Test the caching of the details detected from the content of files.
+ */
+public class TestFileDetailsCache
+{
+    private static final String LOCATION = "file:/data/sales.csv";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger detections = new AtomicInteger();
+    private FileDetailsCache cache;
+
+    /**
+     * Creates an empty cache with a time source controlled by the tests.
+     */
+    @Before
+    public void setUp()
+    {
+        cache = new FileDetailsCache(Collections.singleton("file_format"), new Ticker() {
+            @Override
+            public long read()
+            {
+                return nanos.get();
+            }
+        });
+    }
+
+    private static CustomFlightAssetDescriptor createAsset(String fileFormat)
+    {
+        final CustomFlightAssetDescriptor asset = new CustomFlightAssetDescriptor().name("sales.csv");
+        final DiscoveredAssetInteractionProperties interactionProperties = new DiscoveredAssetInteractionProperties();
+        interactionProperties.put("file_name", "sales.csv");
+        if (fileFormat != null) {
+            interactionProperties.put("file_format", fileFormat);
+        }
+        asset.setInteractionProperties(interactionProperties);
+        return asset;
+    }
+
+    /**
+     * Adds the details of the file, detecting them as a CSV file with one field.
+     */
+    private CustomFlightAssetDescriptor addFileDetails(CustomFlightAssetDescriptor asset, long size, String version)
+            throws Exception
+    {
+        cache.addFileDetails(asset, LOCATION, size, version, () -> {
+            detections.incrementAndGet();
+            final DiscoveredAssetDetails details = new DiscoveredAssetDetails();
+            details.put("mime_type", "text/csv");
+            asset.setDetails(details);
+            asset.getInteractionProperties().put("file_format", "csv");
+            asset.getInteractionProperties().put("first_line_header", true);
+            asset.setFields(Collections.singletonList(new CustomFlightAssetField().name("amount").type("integer")));
+        });
+        return asset;
+    }
+
+    private static void assertDetected(CustomFlightAssetDescriptor asset)
+    {
+        assertEquals("text/csv", asset.getDetails().get("mime_type"));
+        assertEquals("csv", asset.getInteractionProperties().get("file_format"));
+        assertEquals(true, asset.getInteractionProperties().get("first_line_header"));
+        assertEquals("sales.csv", asset.getInteractionProperties().get("file_name"));
+        assertEquals(1, asset.getFields().size());
+        assertEquals("amount", asset.getFields().get(0).getName());
+    }
+
+    /**
+     * Test that the details of the same version of a file are detected once and
+     * then added from the cache.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testHit() throws Exception
+    {
+        assertDetected(addFileDetails(createAsset(null), 100, "v1"));
+        final CustomFlightAssetDescriptor cached = addFileDetails(createAsset(null), 100, "v1");
+        assertEquals(1, detections.get());
+        assertDetected(cached);
+    }
+
+    /**
+     * Test that the cached interaction properties are only the detected ones, not
+     * those given by the request.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGivenPropertiesNotCached() throws Exception
+    {
+        addFileDetails(createAsset(null), 100, "v1");
+        final CustomFlightAssetDescriptor asset = new CustomFlightAssetDescriptor().name("sales.csv");
+        asset.setInteractionProperties(new DiscoveredAssetInteractionProperties());
+        addFileDetails(asset, 100, "v1");
+        assertEquals(1, detections.get());
+        assertNull(asset.getInteractionProperties().get("file_name"));
+        assertEquals("csv", asset.getInteractionProperties().get("file_format"));
+    }
+
+    /**
+     * Test that another size, version or detection property of the file misses
+     * the cache, and that a file without a version is never cached.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMiss() throws Exception
+    {
+        addFileDetails(createAsset(null), 100, "v1");
+        addFileDetails(createAsset(null), 101, "v1");
+        assertEquals(2, detections.get());
+        addFileDetails(createAsset(null), 100, "v2");
+        assertEquals(3, detections.get());
+        addFileDetails(createAsset("json"), 100, "v1");
+        assertEquals(4, detections.get());
+        addFileDetails(createAsset(null), 100, null);
+        addFileDetails(createAsset(null), 100, null);
+        assertEquals(6, detections.get());
+        // The first entry is still cached.
+        addFileDetails(createAsset(null), 100, "v1");
+        assertEquals(6, detections.get());
+    }
+
+    /**
+     * Test that details are detected again once they have expired.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExpiry() throws Exception
+    {
+        addFileDetails(createAsset(null), 100, "v1");
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(FileDetailsCache.EXPIRE_AFTER_WRITE_MINUTES) - 1);
+        addFileDetails(createAsset(null), 100, "v1");
+        assertEquals(1, detections.get());
+        nanos.addAndGet(1);
+        assertDetected(addFileDetails(createAsset(null), 100, "v1"));
+        assertEquals(2, detections.get());
+    }
+
+    /**
+     * Test that details are detected again after the cache is invalidated.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testInvalidation() throws Exception
+    {
+        addFileDetails(createAsset(null), 100, "v1");
+        cache.invalidateAll();
+        assertDetected(addFileDetails(createAsset(null), 100, "v1"));
+        assertEquals(2, detections.get());
+    }
+
+    /**
+     * Test that a failed detection is not cached.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testFailedDetectionNotCached() throws Exception
+    {
+        final CustomFlightAssetDescriptor asset = createAsset(null);
+        try {
+            cache.addFileDetails(asset, LOCATION, 100, "v1", () -> {
+                throw new IllegalStateException("Unreadable");
+            });
+            fail("Exception expected");
+        }
+        catch (IllegalStateException e) {
+            assertEquals("Unreadable", e.getMessage());
+        }
+        assertFalse(asset.getInteractionProperties().containsKey("file_format"));
+        addFileDetails(createAsset(null), 100, "v1");
+        assertEquals(1, detections.get());
+    }
+}
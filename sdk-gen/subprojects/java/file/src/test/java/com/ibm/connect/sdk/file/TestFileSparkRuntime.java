@@ -0,0 +1,134 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.spark.sql.SparkSession;
+import org.junit.Test;
+
+/**
+ * Test the Spark session and job slots shared by file connectors.
+ */
+public class TestFileSparkRuntime
+{
+    /**
+     * Test that connectors share one session, which is only stopped when the
+     * last reference is released.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSharedSession() throws Exception
+    {
+        final SparkSession first = FileSparkRuntime.acquire();
+        final SparkSession second;
+        try {
+            second = FileSparkRuntime.acquire();
+            assertSame(first, second);
+            FileSparkRuntime.release();
+            // The session is still usable by the remaining reference.
+            assertFalse(first.sparkContext().isStopped());
+            assertEquals(3, first.range(3).count());
+        }
+        finally {
+            FileSparkRuntime.release();
+        }
+        assertTrue(first.sparkContext().isStopped());
+
+        final SparkSession restarted = FileSparkRuntime.acquire();
+        try {
+            assertNotSame(first, restarted);
+            assertEquals(2, restarted.range(2).count());
+        }
+        finally {
+            FileSparkRuntime.release();
+        }
+    }
+
+    /**
+     * Test that no more jobs than the limit hold a slot at the same time, that
+     * waiting for a slot is bounded, and that closing a slot twice releases it
+     * once.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testJobLimit() throws Exception
+    {
+        final List<FileSparkRuntime.JobSlot> slots = new ArrayList<>();
+        try {
+            for (int i = 0; i < FileSparkRuntime.MAX_JOBS; i++) {
+                slots.add(FileSparkRuntime.acquireJobSlot());
+            }
+            final CompletableFuture<FileSparkRuntime.JobSlot> waiting
+                    = CompletableFuture.supplyAsync(FileSparkRuntime::acquireJobSlot);
+            try {
+                waiting.get(200, TimeUnit.MILLISECONDS);
+                fail("Job slot acquired beyond the limit");
+            }
+            catch (TimeoutException e) {
+                // expected
+            }
+            // A job that cannot wait any longer fails instead of blocking.
+            try {
+                FileSparkRuntime.acquireJobSlot(100, TimeUnit.MILLISECONDS).close();
+                fail("Job slot acquired beyond the limit");
+            }
+            catch (IllegalStateException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains(FileSparkRuntime.MAX_JOBS + " jobs are already running"));
+            }
+            final FileSparkRuntime.JobSlot released = slots.remove(0);
+            released.close();
+            slots.add(waiting.get(10, TimeUnit.SECONDS));
+
+            // Closing the slot again does not release another one.
+            released.close();
+            final CompletableFuture<FileSparkRuntime.JobSlot> stillWaiting
+                    = CompletableFuture.supplyAsync(FileSparkRuntime::acquireJobSlot);
+            try {
+                stillWaiting.get(200, TimeUnit.MILLISECONDS);
+                fail("Job slot released twice");
+            }
+            catch (TimeoutException e) {
+                // expected
+            }
+            slots.remove(0).close();
+            slots.add(stillWaiting.get(10, TimeUnit.SECONDS));
+        }
+        finally {
+            for (final FileSparkRuntime.JobSlot slot : slots) {
+                slot.close();
+            }
+        }
+    }
+
+    /**
+     * Test that environment variables that are not positive integers fall back
+     * to the default.
+     */
+    @Test
+    public void testInvalidEnvironmentVariables()
+    {
+        assertEquals(4, FileSparkRuntime.getPositiveInteger("FILE_SPARK_MAX_JOBS", null, 4));
+        assertEquals(4, FileSparkRuntime.getPositiveInteger("FILE_SPARK_MAX_JOBS", " ", 4));
+        assertEquals(3, FileSparkRuntime.getPositiveInteger("FILE_SPARK_MAX_JOBS", " 3 ", 4));
+        for (final String value : new String[] { "many", "0", "-2", "1.5", "99999999999" }) {
+            assertEquals(value, 4, FileSparkRuntime.getPositiveInteger("FILE_SPARK_MAX_JOBS", value, 4));
+        }
+    }
+}
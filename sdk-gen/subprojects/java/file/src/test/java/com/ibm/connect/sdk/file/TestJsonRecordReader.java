@@ -0,0 +1,241 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.types.DataType;
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.StructType;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.ibm.connect.sdk.api.Record;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * Test the reading of JSON lines without Spark.
+ */
+public class TestJsonRecordReader
+{
+    private static SparkSession spark;
+
+    /**
+     * Acquire the Spark session with which results are compared.
+     */
+    @BeforeClass
+    public static void setUpOnce()
+    {
+        spark = FileSparkRuntime.acquire();
+    }
+
+    /**
+     * Release the Spark session.
+     */
+    @AfterClass
+    public static void tearDownOnce()
+    {
+        FileSparkRuntime.release();
+    }
+
+    private static CustomFlightAssetField field(String name, String type)
+    {
+        final CustomFlightAssetField field = new CustomFlightAssetField().name(name).type(type).nullable(true);
+        return "varchar".equals(type) || "boolean".equals(type) ? field : field.signed(true);
+    }
+
+    private static List<Serializable> row(Serializable... values)
+    {
+        return Arrays.asList(values);
+    }
+
+    private static List<List<Serializable>> read(String content, List<CustomFlightAssetField> fields) throws IOException
+    {
+        final Properties properties = new Properties();
+        properties.setProperty("file_format", FileUtils.FILE_FORMAT_JSON);
+        assertTrue(FileRecordReader.isSupported(fields, properties));
+        final List<List<Serializable>> rows = new ArrayList<>();
+        try (FileRecordReader reader = FileRecordReader.create(fields, properties,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))) {
+            assertTrue(reader instanceof JsonRecordReader);
+            Record record;
+            while ((record = reader.read()) != null) {
+                rows.add(new ArrayList<>(record.getValues()));
+            }
+            assertEquals(rows.size(), reader.getRowCount());
+        }
+        return rows;
+    }
+
+    private static DataType getSparkType(CustomFlightAssetField field)
+    {
+        switch (field.getType()) {
+        case "boolean":
+            return DataTypes.BooleanType;
+        case "tinyint":
+            return DataTypes.ByteType;
+        case "smallint":
+            return DataTypes.ShortType;
+        case "integer":
+            return DataTypes.IntegerType;
+        case "bigint":
+            return DataTypes.LongType;
+        case "real":
+            return DataTypes.FloatType;
+        case "double":
+            return DataTypes.DoubleType;
+        case "decimal":
+            return DataTypes.createDecimalType(field.getLength(), field.getScale());
+        default:
+            return DataTypes.StringType;
+        }
+    }
+
+    /**
+     * Reads the content with the Spark JSON reader, with the schema of the
+     * fields.
+     */
+    private static List<List<Serializable>> readWithSpark(String content, List<CustomFlightAssetField> fields) throws IOException
+    {
+        StructType schema = new StructType();
+        for (final CustomFlightAssetField field : fields) {
+            schema = schema.add(field.getName(), getSparkType(field));
+        }
+        final Path path = Files.createTempFile("TestJsonRecordReader", ".json");
+        try {
+            Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+            final List<List<Serializable>> rows = new ArrayList<>();
+            for (final Row sparkRow : spark.read().schema(schema).json(path.toString()).collectAsList()) {
+                final List<Serializable> row = new ArrayList<>();
+                for (int i = 0; i < sparkRow.size(); i++) {
+                    row.add((Serializable) sparkRow.get(i));
+                }
+                rows.add(row);
+            }
+            return rows;
+        }
+        finally {
+            Files.delete(path);
+        }
+    }
+
+    private static void assertSameAsSpark(String content, List<CustomFlightAssetField> fields) throws IOException
+    {
+        assertEquals(readWithSpark(content, fields), read(content, fields));
+    }
+
+    /**
+     * Test the conversion of values to the field types.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testTypeConversion() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = Arrays.asList(field("boolean", "boolean"), field("byte", "tinyint"),
+                field("int", "integer"), field("long", "bigint"), field("float", "real"), field("double", "double"),
+                field("decimal", "decimal").length(6).scale(2), field("text", "varchar"));
+        final String content = "{\"boolean\":true,\"byte\":-128,\"int\":2147483647,\"long\":-9223372036854775808,\"float\":1.5,"
+                + "\"double\":\"-Infinity\",\"decimal\":1234.565,\"text\":\"a\\u00e9\\n\"}\n"
+                + "{\"boolean\":\"true\",\"byte\":256,\"int\":1.5,\"long\":9223372036854775808,\"float\":\"x\",\"double\":1e400,"
+                + "\"decimal\":10000,\"text\":12.50}\n"
+                + "{\"byte\":255,\"text\":{\"nested\":[1,{\"b\":null}]},\"int\":null,\"unknown\":[1,2],\"double\":\"NaN\"}\n";
+        assertEquals(Arrays.asList(
+                row(true, (byte) -128, Integer.MAX_VALUE, Long.MIN_VALUE, 1.5f, Double.NEGATIVE_INFINITY, new BigDecimal("1234.57"),
+                        "aé\n"),
+                row(null, null, null, null, null, Double.POSITIVE_INFINITY, null, "12.50"),
+                row(null, (byte) -1, null, null, null, Double.NaN, null, "{\"nested\":[1,{\"b\":null}]}")), read(content, fields));
+        assertSameAsSpark(content, fields);
+    }
+
+    /**
+     * Test that a line that is not valid JSON, or not an object or an array of
+     * objects, yields one record of nulls and that reading resumes with the next
+     * line.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMalformedLines() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = Arrays.asList(field("a", "integer"), field("b", "varchar"));
+        final String content = "{\"a\":1,\"b\":\"x\"}\n" //
+                + "{\"a\":2,\"b\":\n" //
+                + "{\"a\" 3}\n" //
+                + "[{\"a\":4}, oops\n" //
+                + "[1, {\"a\":5}]\n" //
+                + "1\n" //
+                + "\"text\"\n" //
+                + "null\n" //
+                + "{\"a\":6,\"b\":\"y\"}\n";
+        assertEquals(Arrays.asList(row(1, "x"), row(null, null), row(null, null), row(null, null), row(null, null), row(null, null),
+                row(null, null), row(null, null), row(6, "y")), read(content, fields));
+        assertSameAsSpark(content, fields);
+    }
+
+    /**
+     * Test arrays of objects, blank lines, line ends and values after the first
+     * one on a line.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testLines() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = Arrays.asList(field("a", "integer"), field("b", "varchar"));
+        final String content = "﻿[{\"a\":1},{\"b\":\"x\"}]\n" //
+                + "\n" //
+                + "   \n" //
+                + "[]\n" //
+                + "{}\r\n" //
+                + "{\"a\":2}{\"a\":3}\r" //
+                + "{\"a\":4,\"a\":5} trailing\n" //
+                + "{\"a\":6}";
+        assertEquals(Arrays.asList(row(1, null), row(null, "x"), row(null, null), row(2, null), row(5, null), row(6, null)),
+                read(content, fields));
+        assertSameAsSpark(content, fields);
+    }
+
+    /**
+     * Test lines that are longer than the read buffer.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testLongLines() throws Exception
+    {
+        final List<CustomFlightAssetField> fields = Arrays.asList(field("a", "integer"), field("b", "varchar"));
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            text.append((char) ('a' + i % 26));
+        }
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            content.append("{\"a\":").append(i).append(",\"b\":\"").append(text).append("\"}\r\n");
+        }
+        final List<List<Serializable>> rows = read(content.toString(), fields);
+        assertEquals(5, rows.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(row(i, text.toString()), rows.get(i));
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.io.LocalInputFile;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.connect.sdk.api.Record;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * Test the writing of records as Parquet files.
+ */
+public class TestParquetRecordWriter
+{
+    private static final List<CustomFlightAssetField> FIELDS = Arrays.asList(
+            new CustomFlightAssetField().name("flag").type("bit"), new CustomFlightAssetField().name("tiny").type("tinyint"),
+            new CustomFlightAssetField().name("count").type("bigint"), new CustomFlightAssetField().name("ratio").type("double"),
+            new CustomFlightAssetField().name("small_amount").type("decimal").length(5).scale(2),
+            new CustomFlightAssetField().name("amount").type("decimal").length(15).scale(2),
+            new CustomFlightAssetField().name("big_amount").type("numeric").length(25).scale(3),
+            new CustomFlightAssetField().name("day").type("date"), new CustomFlightAssetField().name("clock").type("time"),
+            new CustomFlightAssetField().name("moment").type("timestamp"), new CustomFlightAssetField().name("data").type("blob"),
+            new CustomFlightAssetField().name("name").type("varchar"));
+
+    private Path file;
+
+    /**
+     * Creates the file to which records are written.
+     *
+     * @throws Exception
+     */
+    @Before
+    public void setUp() throws Exception
+    {
+        file = Files.createTempFile("records", ".parquet");
+    }
+
+    /**
+     * Deletes the file.
+     *
+     * @throws Exception
+     */
+    @After
+    public void tearDown() throws Exception
+    {
+        Files.deleteIfExists(file);
+    }
+
+    private static Record record(Serializable... values)
+    {
+        final Record record = new Record(values.length);
+        for (final Serializable value : values) {
+            record.appendValue(value);
+        }
+        return record;
+    }
+
+    private static Properties createInteractionProperties(String compression)
+    {
+        final Properties interactionProperties = new Properties();
+        interactionProperties.setProperty("file_format", "parquet");
+        if (compression != null) {
+            interactionProperties.setProperty("compression", compression);
+        }
+        return interactionProperties;
+    }
+
+    private void write(String compression, Record... records) throws Exception
+    {
+        try (OutputStream out = Files.newOutputStream(file);
+                FileRecordWriter writer = FileRecordWriter.create(FIELDS, createInteractionProperties(compression), out)) {
+            for (final Record record : records) {
+                writer.write(record);
+            }
+            assertEquals(records.length, writer.getRowCount());
+        }
+    }
+
+    private ParquetMetadata readFooter() throws Exception
+    {
+        try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(file))) {
+            return reader.getFooter();
+        }
+    }
+
+    /**
+     * Test that values are written with the Parquet type of their field, with
+     * the physical decimal types of Spark, and read back unchanged.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testValues() throws Exception
+    {
+        final Timestamp moment = Timestamp.from(Instant.parse("2024-03-01T12:00:00.123456Z"));
+        write(null,
+                record(1, (byte) -3, 1L << 40, 0.25, new BigDecimal("-1.005"), new BigDecimal("1234567890123.45"),
+                        new BigDecimal("-1234567890123456789012.345"), Date.valueOf("2024-03-01"), Time.valueOf("12:30:00"), moment,
+                        new byte[] { 1, 2 }, "Zoë"),
+                record(null, null, null, null, null, null, null, null, null, null, null, null));
+
+        final MessageType schema = readFooter().getFileMetaData().getSchema();
+        assertEquals("spark_schema", schema.getName());
+        assertEquals(LogicalTypeAnnotation.intType(8, true), schema.getType("tiny").getLogicalTypeAnnotation());
+        assertEquals(PrimitiveTypeName.INT32, schema.getType("small_amount").asPrimitiveType().getPrimitiveTypeName());
+        assertEquals(PrimitiveTypeName.INT64, schema.getType("amount").asPrimitiveType().getPrimitiveTypeName());
+        assertEquals(PrimitiveTypeName.FIXED_LEN_BYTE_ARRAY, schema.getType("big_amount").asPrimitiveType().getPrimitiveTypeName());
+        assertEquals(11, schema.getType("big_amount").asPrimitiveType().getTypeLength());
+        assertEquals(LogicalTypeAnnotation.decimalType(3, 25), schema.getType("big_amount").getLogicalTypeAnnotation());
+
+        try (ParquetReader<Group> reader = ParquetReader.builder(new GroupReadSupport(), new org.apache.hadoop.fs.Path(file.toUri()))
+                .build()) {
+            final Group first = reader.read();
+            assertEquals(true, first.getBoolean("flag", 0));
+            assertEquals(-3, first.getInteger("tiny", 0));
+            assertEquals(1L << 40, first.getLong("count", 0));
+            assertEquals(0.25, first.getDouble("ratio", 0), 0);
+            // Rounded half up to the scale of the field.
+            assertEquals(-101, first.getInteger("small_amount", 0));
+            assertEquals(123456789012345L, first.getLong("amount", 0));
+            assertEquals(new BigDecimal("-1234567890123456789012.345"),
+                    new BigDecimal(new BigInteger(first.getBinary("big_amount", 0).getBytes()), 3));
+            assertEquals(19_783, first.getInteger("day", 0));
+            assertEquals(45_000_000_000L, first.getLong("clock", 0));
+            assertEquals(1_709_294_400_123_456L, first.getLong("moment", 0));
+            assertArrayEquals(new byte[] { 1, 2 }, first.getBinary("data", 0).getBytes());
+            assertEquals("Zoë", first.getString("name", 0));
+
+            final Group second = reader.read();
+            for (final CustomFlightAssetField field : FIELDS) {
+                assertEquals(field.getName(), 0, second.getFieldRepetitionCount(field.getName()));
+            }
+            assertNull(reader.read());
+        }
+    }
+
+    /**
+     * Test the Parquet codec used for each compression.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCompressions() throws Exception
+    {
+        final Object[][] codecs = { { null, CompressionCodecName.SNAPPY }, { "none", CompressionCodecName.UNCOMPRESSED },
+            { "uncompressed", CompressionCodecName.UNCOMPRESSED }, { "gzip", CompressionCodecName.GZIP },
+            { "lz4", CompressionCodecName.LZ4 }, { "lz4_raw", CompressionCodecName.LZ4_RAW }, { "ZSTD", CompressionCodecName.ZSTD } };
+        for (final Object[] codec : codecs) {
+            write((String) codec[0], record(true, 1, 2L, 0.5, "1.00", "1", "1", null, null, null, null, "a"));
+            assertEquals(String.valueOf(codec[0]), codec[1], readFooter().getBlocks().get(0).getColumns().get(0).getCodec());
+        }
+    }
+
+    /**
+     * Test that a compression without a Parquet codec is rejected with the format
+     * and the compression.
+     */
+    @Test
+    public void testUnsupportedCompression()
+    {
+        try {
+            FileRecordWriter.create(FIELDS, createInteractionProperties("deflate"), new ByteArrayOutputStream());
+            fail("Exception expected");
+        }
+        catch (Exception e) {
+            assertTrue(e.getMessage(), e instanceof UnsupportedOperationException);
+            assertTrue(e.getMessage(), e.getMessage().contains("parquet/deflate"));
+        }
+    }
+}
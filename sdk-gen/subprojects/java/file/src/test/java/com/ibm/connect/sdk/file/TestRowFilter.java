@@ -0,0 +1,151 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.RowFactory;
+import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.StructType;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Test the parsing of row filters.
+ */
+public class TestRowFilter
+{
+    private static Dataset<Row> dataframe;
+
+    /**
+     * Create a small dataframe to filter.
+     */
+    @BeforeClass
+    public static void setUpOnce()
+    {
+        final SparkSession spark = FileSparkRuntime.acquire();
+        final StructType schema = new StructType().add("id", DataTypes.IntegerType).add("region", DataTypes.StringType)
+                .add("amount", DataTypes.DoubleType).add("active", DataTypes.BooleanType)
+                .add("unit price", DataTypes.IntegerType);
+        final List<Row> rows = Arrays.asList(RowFactory.create(1, "EU", 50.0, true, 10),
+                RowFactory.create(2, "US", 150.0, false, 20), RowFactory.create(3, "EU", 250.5, false, 30),
+                RowFactory.create(4, "O'Hare", null, true, 40), RowFactory.create(5, null, 1000.0, true, 50));
+        dataframe = spark.createDataFrame(rows, schema);
+    }
+
+    /**
+     * Release the Spark session.
+     */
+    @AfterClass
+    public static void tearDownOnce()
+    {
+        FileSparkRuntime.release();
+    }
+
+    private static List<Integer> ids(String filter)
+    {
+        return dataframe.filter(RowFilter.parse(filter)).orderBy("id").collectAsList().stream().map(row -> row.getInt(0))
+                .collect(Collectors.toList());
+    }
+
+    private static void assertRejected(String filter)
+    {
+        try {
+            RowFilter.parse(filter);
+            fail("Row filter " + filter + " was accepted");
+        }
+        catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(filter));
+        }
+    }
+
+    /**
+     * Test comparisons of columns to literals.
+     */
+    @Test
+    public void testComparisons()
+    {
+        assertEquals(Arrays.asList(2, 3, 5), ids("amount > 100"));
+        assertEquals(Arrays.asList(1, 2), ids("amount <= 150"));
+        assertEquals(Arrays.asList(3), ids("amount >= 250.5 AND amount < 1e3"));
+        assertEquals(Arrays.asList(1, 3), ids("region = 'EU'"));
+        assertEquals(Arrays.asList(1, 3), ids("region == 'EU'"));
+        assertEquals(Arrays.asList(2, 4), ids("region != 'EU'"));
+        assertEquals(Arrays.asList(2, 4), ids("region <> 'EU'"));
+        assertEquals(Arrays.asList(4), ids("region = 'O''Hare'"));
+        assertEquals(Arrays.asList(1, 4, 5), ids("active = TRUE"));
+        assertEquals(Arrays.asList(2), ids("id = -2 OR id = +2 OR id > 9223372036854775808"));
+    }
+
+    /**
+     * Test boolean operators, precedence and parentheses.
+     */
+    @Test
+    public void testBooleanOperators()
+    {
+        assertEquals(Arrays.asList(1, 3, 5), ids("region = 'EU' OR amount > 500 AND active = true"));
+        assertEquals(Arrays.asList(1, 5), ids("(region = 'EU' OR amount > 500) and active = true"));
+        assertEquals(Arrays.asList(2, 3), ids("NOT active = TRUE"));
+        assertEquals(Arrays.asList(2, 3), ids("not (id = 1 or active = true)"));
+    }
+
+    /**
+     * Test null checks, lists and quoted column names.
+     */
+    @Test
+    public void testNullsListsAndQuotedColumns()
+    {
+        assertEquals(Arrays.asList(4), ids("amount IS NULL"));
+        assertEquals(Arrays.asList(1, 2, 3, 4), ids("region is not null"));
+        assertEquals(Arrays.asList(1, 2, 3), ids("region IN ('EU', 'US')"));
+        assertEquals(Arrays.asList(4), ids("region NOT IN ('EU', 'US')"));
+        assertEquals(Arrays.asList(4, 5), ids("`unit price` >= 40"));
+    }
+
+    /**
+     * Test that function calls, subqueries and other SQL are rejected.
+     */
+    @Test
+    public void testSqlRejected()
+    {
+        assertRejected("reflect('java.lang.Runtime', 'getRuntime') IS NOT NULL");
+        assertRejected("id = 1 OR java_method('java.lang.System', 'exit', 0) = 0");
+        assertRejected("id = reflect('java.lang.Runtime', 'getRuntime')");
+        assertRejected("id IN (SELECT id FROM other)");
+        assertRejected("id = 1; DROP TABLE other");
+        assertRejected("id = id");
+        assertRejected("id + 1 = 2");
+        assertRejected("id = 1 --");
+    }
+
+    /**
+     * Test that malformed filters are rejected.
+     */
+    @Test
+    public void testMalformedRejected()
+    {
+        assertRejected("region = 'EU");
+        assertRejected("`region = 'EU'");
+        assertRejected("region");
+        assertRejected("region =");
+        assertRejected("(region = 'EU'");
+        assertRejected("region = 'EU' AND");
+        assertRejected("AND = 1");
+        assertRejected("amount > 1.2.3");
+        assertRejected("region IS EMPTY");
+        assertRejected("region IN ()");
+    }
+}
@@ -0,0 +1,81 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.rest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
+
+/**
+ * Fields of the assets read recently, so that getting the schema of an asset again, such as for
+ * each ticket of a read, does not send a request to the API for it.
+ * <p>
+ * Entries are keyed by connection, entity type and selected parent entity values, and expire after
+ * the time configured for their entity type.
+ */
+final class FieldDefinitionCache {
+    // Longest time an entry is kept, whatever its entity type configures
+    private static final long MAX_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    private static final Cache<List<Object>, CachedFields> FIELDS = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(MAX_TTL_SECONDS, TimeUnit.SECONDS)
+            .build();
+
+    private FieldDefinitionCache() {
+    }
+
+    /**
+     * @return the cache key of an asset. The connection is identified by the hash of its properties, so that the cache
+     * does not keep credentials.
+     */
+    static List<Object> key(String connectionHash, String entityTypeName, Map<String, String> selectedParentEntityValues) {
+        return Arrays.asList(connectionHash, entityTypeName,
+                selectedParentEntityValues == null ? Collections.emptyMap() : new TreeMap<>(selectedParentEntityValues));
+    }
+
+    /**
+     * @return the cached fields, or null if there are none or they expired
+     */
+    static List<CustomFlightAssetField> get(List<Object> key) {
+        final CachedFields cachedFields = FIELDS.getIfPresent(key);
+        if (cachedFields == null) {
+            return null;
+        }
+        if (System.nanoTime() - cachedFields.expiresAtNanos >= 0) {
+            FIELDS.invalidate(key);
+            return null;
+        }
+        return cachedFields.fields;
+    }
+
+    /**
+     * Caches fields, unless the time to live is not positive.
+     */
+    static void put(List<Object> key, List<CustomFlightAssetField> fields, int ttlSeconds) {
+        if (ttlSeconds > 0 && fields != null && !fields.isEmpty()) {
+            final long ttlNanos = TimeUnit.SECONDS.toNanos(Math.min(ttlSeconds, MAX_TTL_SECONDS));
+            FIELDS.put(key, new CachedFields(Collections.unmodifiableList(fields), System.nanoTime() + ttlNanos));
+        }
+    }
+
+    private static final class CachedFields {
+        private final List<CustomFlightAssetField> fields;
+        private final long expiresAtNanos;
+
+        CachedFields(List<CustomFlightAssetField> fields, long expiresAtNanos) {
+            this.fields = fields;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
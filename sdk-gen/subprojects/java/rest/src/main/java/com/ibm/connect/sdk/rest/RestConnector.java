@@ -7,6 +7,7 @@ package com.ibm.connect.sdk.rest;
 
 import static com.ibm.connect.sdk.rest.pagination.PaginationHelper.DEFAULT_MAX_LIMIT;
 import static com.ibm.connect.sdk.rest.pagination.PaginationHelper.DEFAULT_OFFSET;
+import static com.ibm.connect.sdk.rest.utils.RestApiConstants.HTTP_POOL_DEFAULT_MAX_CONNECTION_PER_ROUTE;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.util.Collections;
@@ -18,6 +19,7 @@ import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 import org.apache.arrow.flight.Ticket;
+import org.apache.hc.core5.util.TimeValue;
 import org.slf4j.Logger;
 
 import com.ibm.connect.sdk.api.RowBasedConnector;
@@ -72,6 +74,13 @@ public class RestConnector
             httpBuilder.withSslCertificate(restConnectionProperties.getSslCertificate());
         }
 
+        if(this.restConnectionProperties.getMaxConnectionsPerRoute() != null) {
+            httpBuilder.withMaxConnectionsPerRoute(this.restConnectionProperties.getMaxConnectionsPerRoute());
+        }
+        if(this.restConnectionProperties.getKeepAliveSeconds() != null) {
+            httpBuilder.withKeepAlive(TimeValue.ofSeconds(this.restConnectionProperties.getKeepAliveSeconds()));
+        }
+
         if(this.restConnectionProperties.isAuthenticationBasic()) {
             httpBuilder.withBasicAuth(this.restConnectionProperties.getUsername(), this.restConnectionProperties.getPassword());
         } else if(this.restConnectionProperties.isAuthenticationOAuth2()) {
@@ -93,7 +102,14 @@ public class RestConnector
             httpBuilder.withOAuth2(tokenManager);
         }
 
-        this.restApiExecutor = new RestExecutorImpl(httpBuilder.buildFactory().build());
+        // Connectors of the same API share their connections
+        // Connectors with the same properties, and so the same credentials, share their cached responses and request limits
+        // At most one request per pooled connection is in flight
+        final Integer maxConnectionsPerRoute = this.restConnectionProperties.getMaxConnectionsPerRoute();
+        this.restApiExecutor = new RestExecutorImpl(httpBuilder.buildFactory().buildShared(this.restConnectionProperties.getBasicUrl()),
+                this.restConnectionProperties.getMaxRequestsPerSecond(),
+                maxConnectionsPerRoute != null ? maxConnectionsPerRoute : HTTP_POOL_DEFAULT_MAX_CONNECTION_PER_ROUTE,
+                this.restConnectionProperties.getPropertiesHash());
     }
 
     @Override
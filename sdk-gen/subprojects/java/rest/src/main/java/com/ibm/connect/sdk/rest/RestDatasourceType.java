@@ -5,11 +5,16 @@
 /* *************************************************** */
 package com.ibm.connect.sdk.rest;
 
+import static com.ibm.connect.sdk.rest.utils.RestApiConstants.HTTP_CLIENT_DEFAULT_KEEP_ALIVE;
+import static com.ibm.connect.sdk.rest.utils.RestApiConstants.HTTP_POOL_DEFAULT_MAX_CONNECTION_PER_ROUTE;
 import static com.ibm.connect.sdk.rest.utils.RestConnectionProperties.PROPERTY_AUTH_PASSWORD;
 import static com.ibm.connect.sdk.rest.utils.RestConnectionProperties.PROPERTY_AUTH_TYPE;
 import static com.ibm.connect.sdk.rest.utils.RestConnectionProperties.PROPERTY_AUTH_USERNAME;
 import static com.ibm.connect.sdk.rest.utils.RestConnectionProperties.PROPERTY_BASE_URL;
 import static com.ibm.connect.sdk.rest.utils.RestConnectionProperties.PROPERTY_CUSTOM_REST_CONFIG_YAML;
+import static com.ibm.connect.sdk.rest.utils.RestConnectionProperties.PROPERTY_KEEP_ALIVE_SECONDS;
+import static com.ibm.connect.sdk.rest.utils.RestConnectionProperties.PROPERTY_MAX_CONNECTIONS_PER_ROUTE;
+import static com.ibm.connect.sdk.rest.utils.RestConnectionProperties.PROPERTY_MAX_REQUESTS_PER_SECOND;
 import static com.ibm.connect.sdk.rest.utils.RestConnectionProperties.PROPERTY_OAUTH2_CLIENT_ID;
 import static com.ibm.connect.sdk.rest.utils.RestConnectionProperties.PROPERTY_OAUTH2_CLIENT_SECRET;
 import static com.ibm.connect.sdk.rest.utils.RestConnectionProperties.PROPERTY_OAUTH2_GRANT_TYPE;
@@ -98,6 +103,12 @@ public class RestDatasourceType extends CustomFlightDatasourceType
                 .addValuesItem(new DatasourceTypePropertyValues().value("github_branch_model").label("Github - Branches")));
         properties.addConnectionItem(new CustomDatasourceTypeProperty().name(PROPERTY_CUSTOM_REST_CONFIG_YAML).label(RestLabels.API_REST_CONFIG_YAML_LABEL.format()).description(RestLabels.API_REST_CONFIG_YAML_DESCRIPTION.format())
                 .type(TypeEnum.STRING).required(true).group("config").multiline(true));
+        properties.addConnectionItem(new CustomDatasourceTypeProperty().name(PROPERTY_MAX_CONNECTIONS_PER_ROUTE).label(RestLabels.API_MAX_CONNECTIONS_PER_ROUTE_LABEL.format()).description(RestLabels.API_MAX_CONNECTIONS_PER_ROUTE_DESCRIPTION.format())
+                .type(TypeEnum.INTEGER).required(false).group("other").defaultValue(String.valueOf(HTTP_POOL_DEFAULT_MAX_CONNECTION_PER_ROUTE)));
+        properties.addConnectionItem(new CustomDatasourceTypeProperty().name(PROPERTY_KEEP_ALIVE_SECONDS).label(RestLabels.API_KEEP_ALIVE_SECONDS_LABEL.format()).description(RestLabels.API_KEEP_ALIVE_SECONDS_DESCRIPTION.format())
+                .type(TypeEnum.INTEGER).required(false).group("other").defaultValue(String.valueOf(HTTP_CLIENT_DEFAULT_KEEP_ALIVE.toSeconds())));
+        properties.addConnectionItem(new CustomDatasourceTypeProperty().name(PROPERTY_MAX_REQUESTS_PER_SECOND).label(RestLabels.API_MAX_REQUESTS_PER_SECOND_LABEL.format()).description(RestLabels.API_MAX_REQUESTS_PER_SECOND_DESCRIPTION.format())
+                .type(TypeEnum.INTEGER).required(false).group("other"));
 
         //Conditions for basic auth type rendering
         final CustomDatasourceTypeComplexPropertyConditions complexConditions = new CustomDatasourceTypeComplexPropertyConditions();
@@ -168,6 +168,36 @@ public enum RestLabels implements ResourceBundleHelper.MessageFormatter<RestLabe
      */
     API_REST_CONFIG_YAML_DESCRIPTION,
 
+    /**
+     * Label for connection property max_connections_per_route
+     */
+    API_MAX_CONNECTIONS_PER_ROUTE_LABEL,
+
+    /**
+     * Description for connection property max_connections_per_route
+     */
+    API_MAX_CONNECTIONS_PER_ROUTE_DESCRIPTION,
+
+    /**
+     * Label for connection property keep_alive_seconds
+     */
+    API_KEEP_ALIVE_SECONDS_LABEL,
+
+    /**
+     * Description for connection property keep_alive_seconds
+     */
+    API_KEEP_ALIVE_SECONDS_DESCRIPTION,
+
+    /**
+     * Label for connection property max_requests_per_second
+     */
+    API_MAX_REQUESTS_PER_SECOND_LABEL,
+
+    /**
+     * Description for connection property max_requests_per_second
+     */
+    API_MAX_REQUESTS_PER_SECOND_DESCRIPTION,
+
     ;
 
     private static final ResourceBundleHelper<RestLabels> BUNDLE = new ResourceBundleHelper<>(RestLabels.class);
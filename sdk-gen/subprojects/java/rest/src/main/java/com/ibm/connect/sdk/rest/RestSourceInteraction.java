@@ -17,15 +17,16 @@ import java.util.UUID;
 import java.util.function.Function;
 
 import org.apache.arrow.flight.Ticket;
-import org.apache.hc.core5.http.Header;
 
 import com.ibm.connect.sdk.api.Record;
 import com.ibm.connect.sdk.api.RowBasedSourceInteraction;
 import com.ibm.connect.sdk.api.TicketInfo;
+import com.ibm.connect.sdk.rest.pagination.PaginationCursor;
 import com.ibm.connect.sdk.rest.request.EntityTypeRequestHandler;
 import com.ibm.connect.sdk.rest.response.EntityTypeResponseHandler;
 import com.ibm.connect.sdk.rest.response.PaginatedRecordProvider;
 import com.ibm.connect.sdk.rest.utils.EntityTypeNodeHelper;
+import com.ibm.connect.sdk.rest.utils.ObjectMapperUtils;
 import com.ibm.connect.sdk.rest.utils.RestSourceInteractionProperties;
 import com.ibm.connect.sdk.rest.utils.RestUtils;
 import com.ibm.connect.sdk.rest.utils.models.EntityType;
@@ -39,6 +40,8 @@ import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
 public class RestSourceInteraction extends RowBasedSourceInteraction<RestConnector>
 {
     private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int DEFAULT_PREFETCH_PAGES = 1;
+    private static final int DEFAULT_SCHEMA_CACHE_SECONDS = 600;
     private final ModelMapper modelMapper = new ModelMapper();
     private final RestSourceInteractionProperties sourceInteractionProperties;
     private final EntityTypeRequestHandler entityTypeRequestHandler;
@@ -46,10 +49,20 @@ public class RestSourceInteraction extends RowBasedSourceInteraction<RestConnect
     private final Map<String, String> entityNameAndSelectedAssetIdMap;
     private final EntityType currentEntityType;
     private List<CustomFlightAssetField>  fields;
-    private List<Header> prevPageHeaders = Collections.emptyList();
+    // Key of the fields in FieldDefinitionCache, and how long they are kept there
+    private final List<Object> fieldsCacheKey;
+    private final int schemaCacheSeconds;
+    // Whether to take the fields from the first page read, and those fields once it was read
+    private final boolean inferSchemaFromData;
+    private volatile List<CustomFlightAssetField> firstPageFields;
+    private final PaginationCursor paginationCursor = new PaginationCursor();
+    // Whether a page can be requested without the response of the previous page, so pages can be fetched in parallel
+    private final boolean independentPages;
+    // Partition to read: every partitionCount-th page, starting with page partitionIndex + 1
+    private final int partitionIndex;
+    private final int partitionCount;
 
-    @SuppressWarnings("PMD.UnusedFormalParameter")
-    protected RestSourceInteraction(RestConnector connector, CustomFlightAssetDescriptor asset, Ticket ticket) {
+    protected RestSourceInteraction(RestConnector connector, CustomFlightAssetDescriptor asset, Ticket ticket) throws Exception {
         super();
         setConnector(connector);
         if (asset.getBatchSize() == null) {
@@ -63,7 +76,22 @@ public class RestSourceInteraction extends RowBasedSourceInteraction<RestConnect
         final EntityTypeNode currentEntityTypeNode = EntityTypeNodeHelper.getNthLevel(this.getConnector().getEntityTypeRootNode(), lastLevel);
         this.currentEntityType = this.getConnector().getEntityTypeMap().get(currentEntityTypeNode.getName());
         this.entityTypeRequestHandler = new EntityTypeRequestHandler(this.getConnector().getRestApiExecutor(), this.getConnector().getRestConnectionProperties());
-        this.paginatedRecordProvider = new PaginatedRecordProvider(fetchDataByPageNumber());
+        this.fieldsCacheKey = FieldDefinitionCache.key(this.getConnector().getRestConnectionProperties().getPropertiesHash(), this.currentEntityType.getName(), this.entityNameAndSelectedAssetIdMap);
+        this.schemaCacheSeconds = Optional.ofNullable(this.currentEntityType.getSchemaCacheSeconds()).orElse(DEFAULT_SCHEMA_CACHE_SECONDS);
+        this.inferSchemaFromData = Boolean.TRUE.equals(this.currentEntityType.getInferSchemaFromData());
+        final Pagination pagination = this.currentEntityType.getPagination();
+        this.independentPages = RestUtils.isPaginationSupported(pagination) && !RestUtils.isLinkHeaderPagination(pagination);
+        final TicketInfo ticketInfo = (ticket != null) ? modelMapper.fromBytes(ticket.getBytes(), TicketInfo.class) : null;
+        if (ticketInfo != null && isPartitioningSupported()) {
+            this.partitionIndex = Optional.ofNullable(ticketInfo.getPartitionIndex()).orElse(0);
+            this.partitionCount = asset.getPartitionCount();
+        } else {
+            this.partitionIndex = 0;
+            this.partitionCount = 1;
+        }
+        final int prefetchPages = RestUtils.isPaginationSupported(pagination)
+                ? Optional.ofNullable(pagination.getPrefetchPages()).orElse(DEFAULT_PREFETCH_PAGES) : 0;
+        this.paginatedRecordProvider = new PaginatedRecordProvider(fetchDataByPageNumber(), prefetchPages, independentPages);
     }
 
     @Override
@@ -75,6 +103,7 @@ public class RestSourceInteraction extends RowBasedSourceInteraction<RestConnect
     @Override
     public void close() throws Exception
     {
+        this.paginatedRecordProvider.close();
         super.close();
     }
 
@@ -82,27 +111,63 @@ public class RestSourceInteraction extends RowBasedSourceInteraction<RestConnect
     public List<Ticket> getTickets() throws Exception
     {
         final String requestId = UUID.randomUUID().toString();
-        return Collections.singletonList(new Ticket(modelMapper.toBytes(new TicketInfo().requestId(requestId).partitionIndex(0))));
+        if (!isPartitioningSupported()) {
+            return Collections.singletonList(new Ticket(modelMapper.toBytes(new TicketInfo().requestId(requestId).partitionIndex(0))));
+        }
+        final List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < getAsset().getPartitionCount(); i++) {
+            tickets.add(new Ticket(modelMapper.toBytes(new TicketInfo().requestId(requestId).partitionIndex(i))));
+        }
+        return tickets;
     }
 
+    /**
+     * Returns true if the asset is read in partitions. Partitions read disjoint pages concurrently,
+     * which requires offset or page pagination where any page can be requested by its number.
+     *
+     * @return true if the interaction supports partitioning
+     */
+    private boolean isPartitioningSupported()
+    {
+        return independentPages && getAsset().getPartitionCount() != null && getAsset().getPartitionCount() > 1;
+    }
+
+    /**
+     * Returns the fields of the asset: the fields cached for the same connection, entity type and parent entity values if any,
+     * else the fields of the first page read if the entity type infers its schema from data, else the fields of a separate request.
+     */
     @Override
     public List<CustomFlightAssetField> getFields()
     {
         if(this.fields == null || this.fields.isEmpty()) {
-            try {
-                final EntityTypeResponseHandler responseHandler = this.entityTypeRequestHandler.executeRequest(currentEntityType, entityNameAndSelectedAssetIdMap);
-                this.fields = mapToFlightAssetFields(responseHandler.getFieldDefinitions());
-            } catch (IOException e) {
-                throw new RuntimeException("Unable to fetch the fields. Ensure you provided interaction property `selected_parent_entity_values`", e);
-            }
+            this.fields = FieldDefinitionCache.get(fieldsCacheKey);
+        }
+        if(this.fields == null || this.fields.isEmpty()) {
+            final List<CustomFlightAssetField> pageFields = this.firstPageFields;
+            this.fields = pageFields != null && !pageFields.isEmpty() ? pageFields : fetchFields();
+            FieldDefinitionCache.put(fieldsCacheKey, this.fields, schemaCacheSeconds);
         }
         return this.fields;
     }
 
+    private List<CustomFlightAssetField> fetchFields()
+    {
+        try {
+            // The schema rarely changes, revalidate the response used for it last time instead of fetching it again
+            final EntityTypeRequestHandler schemaRequestHandler = new EntityTypeRequestHandler(this.getConnector().getRestApiExecutor(),
+                    this.getConnector().getRestConnectionProperties(), true);
+            final EntityTypeResponseHandler responseHandler = schemaRequestHandler.executeRequest(currentEntityType, entityNameAndSelectedAssetIdMap);
+            return mapToFlightAssetFields(responseHandler.getFieldDefinitions());
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to fetch the fields. Ensure you provided interaction property `selected_parent_entity_values`", e);
+        }
+    }
+
 	private Function<Integer, List<Map<String, Object>>> fetchDataByPageNumber() {
-		return (pageNum) -> {
+		return (partitionPageNum) -> {
 			try {
                 //Here pagination index always start with 1. Refer: PaginatedRecordProvider class
+                final int pageNum = (partitionPageNum - 1) * partitionCount + partitionIndex + 1;
                 if(pageNum == 1 || RestUtils.isPaginationSupported(currentEntityType.getPagination())) { //To navigate to next pages, pagination configuration is must
                     final int configuredBatch = getAsset().getBatchSize();  //Already have default value to DEFAULT_BATCH_SIZE
                     int limit = (configuredBatch > 0) ? configuredBatch : DEFAULT_BATCH_SIZE;
@@ -113,13 +178,30 @@ public class RestSourceInteraction extends RowBasedSourceInteraction<RestConnect
 
                     // Calculate offset based on pageNum & batch size
                     final int offset = (pageNum - 1) * limit;
+                    final EntityType entityType;
+                    final PaginationCursor cursor;
+                    if (independentPages) {
+                        // Pages may be fetched in parallel, so each maps its pagination parameters on its own copy
+                        entityType = ObjectMapperUtils.getMapper().convertValue(currentEntityType, EntityType.class);
+                        cursor = new PaginationCursor(offset, Collections.emptyList());
+                    } else {
+                        entityType = currentEntityType;
+                        cursor = paginationCursor;
+                        if (cursor.getOffset() != offset) {
+                            // Not the page after the last one fetched, so its response header does not lead here
+                            cursor.advance(offset, Collections.emptyList());
+                        }
+                    }
                     final List<EntityTypeResponseHandler> responseHandlers = this.entityTypeRequestHandler
-                            .executeRequest(currentEntityType, entityNameAndSelectedAssetIdMap, offset, limit, prevPageHeaders);
+                            .executeRequest(entityType, entityNameAndSelectedAssetIdMap, limit, cursor);
                     final List<Map<String, Object>> fieldsValues = new ArrayList<>();
                     for(final EntityTypeResponseHandler responseHandler : responseHandlers)  {
                         fieldsValues.addAll(responseHandler.getFieldValueMap());
                     }
-                    this.prevPageHeaders = !responseHandlers.isEmpty() ? responseHandlers.get(responseHandlers.size() - 1).getHeaders() : Collections.emptyList(); //Add last page response header.
+                    if (inferSchemaFromData && partitionPageNum == 1 && !fieldsValues.isEmpty()) {
+                        // The first page is fetched when the interaction is created, before the schema is needed
+                        this.firstPageFields = mapToFlightAssetFields(responseHandlers.get(0).getFieldDefinitions());
+                    }
                     return fieldsValues;
                 }
                 return Collections.emptyList();
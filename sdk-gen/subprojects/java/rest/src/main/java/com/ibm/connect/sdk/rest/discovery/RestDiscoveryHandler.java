@@ -33,7 +33,8 @@ public class RestDiscoveryHandler {
     private final EntityTypeRequestHandler entityTypeRequestHandler;
 
     public RestDiscoveryHandler(RestExecutorImpl restApiExecutor, RestConnectionProperties restConnectionProperties) {
-        this.entityTypeRequestHandler = new EntityTypeRequestHandler(restApiExecutor, restConnectionProperties);
+        // Discovery lists the same assets again and again, revalidate them instead of fetching them again
+        this.entityTypeRequestHandler = new EntityTypeRequestHandler(restApiExecutor, restConnectionProperties, true);
     }
 
     public List<CustomFlightAssetDescriptor> listContainerAssets(String selectedPath, EntityType discoverEntityType,
@@ -0,0 +1,152 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.rest.httpclient;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.support.classic.ContentInputStream;
+import org.apache.hc.core5.http.nio.support.classic.SharedInputBuffer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * Consumes the response of an async exchange as a classic response, whose entity streams the body
+ * as it arrives. The buffer only grants the server more capacity as the entity is read,
+ * so a slow reader holds back the stream instead of buffering the whole body.
+ */
+class ClassicResponseConsumer implements AsyncResponseConsumer<Void> {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final SharedInputBuffer buffer = new SharedInputBuffer(BUFFER_SIZE);
+    private final CompletableFuture<ClassicHttpResponse> response = new CompletableFuture<>();
+    private volatile FutureCallback<Void> resultCallback;
+    private volatile Exception failure;
+
+    @Override
+    public void consumeResponse(HttpResponse head, EntityDetails entityDetails, HttpContext context, FutureCallback<Void> resultCallback) {
+        final BasicClassicHttpResponse classicResponse = new BasicClassicHttpResponse(head.getCode(), head.getReasonPhrase());
+        classicResponse.setVersion(head.getVersion());
+        classicResponse.setHeaders(head.getHeaders());
+        if (entityDetails != null) {
+            this.resultCallback = resultCallback;
+            final ContentType contentType = entityDetails.getContentType() != null ? ContentType.parseLenient(entityDetails.getContentType()) : null;
+            classicResponse.setEntity(new InputStreamEntity(new FailureAwareInputStream(new ContentInputStream(buffer)),
+                    entityDetails.getContentLength(), contentType, entityDetails.getContentEncoding()));
+        } else {
+            resultCallback.completed(null);
+        }
+        response.complete(classicResponse);
+    }
+
+    @Override
+    public void informationResponse(HttpResponse response, HttpContext context) {
+        // Interim 1xx responses carry nothing for the caller
+    }
+
+    @Override
+    public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+        buffer.updateCapacity(capacityChannel);
+    }
+
+    @Override
+    public void consume(ByteBuffer src) {
+        buffer.fill(src);
+    }
+
+    @Override
+    public void streamEnd(List<? extends Header> trailers) {
+        buffer.markEndStream();
+        final FutureCallback<Void> callback = resultCallback;
+        if (callback != null) {
+            callback.completed(null);
+        }
+    }
+
+    @Override
+    public void failed(Exception cause) {
+        failure = cause;
+        if (!response.completeExceptionally(cause)) {
+            // The body was being read, wake up the reader
+            buffer.abort();
+        }
+    }
+
+    @Override
+    public void releaseResources() {
+        // The buffer is released with the entity stream
+    }
+
+    /**
+     * Waits for the response head.
+     *
+     * @param timeout Longest time to wait
+     * @return the response, whose entity is still being received
+     * @throws IOException if the exchange failed or timed out before the response head was received
+     */
+    ClassicHttpResponse awaitResponse(Timeout timeout) throws IOException {
+        try {
+            return response.get(timeout.getDuration(), timeout.getTimeUnit());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (TimeoutException e) {
+            // A response head arriving later is dropped
+            response.cancel(true);
+            throw new SocketTimeoutException("No response received within " + timeout);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Reports a failure of the exchange instead of a premature end of the body.
+     */
+    private class FailureAwareInputStream extends FilterInputStream {
+        FailureAwareInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            return checkFailure(super.read());
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return checkFailure(super.read(b, off, len));
+        }
+
+        private int checkFailure(int result) throws IOException {
+            final Exception cause = failure;
+            if (result == -1 && cause != null) {
+                throw cause instanceof IOException ? (IOException) cause : new IOException(cause.getMessage(), cause);
+            }
+            return result;
+        }
+    }
+}
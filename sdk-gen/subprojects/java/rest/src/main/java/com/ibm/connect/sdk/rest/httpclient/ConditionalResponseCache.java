@@ -0,0 +1,99 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.rest.httpclient;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Responses of GET requests which carried an {@code ETag}, so that the same request can be sent again
+ * with {@code If-None-Match} and the cached body reused when the server answers {@code 304 Not Modified}.
+ * <p>
+ * A server may return a different representation with the same entity tag to another user, so entries are
+ * keyed by the identity of the executor, which executors share only if they have the same credentials.
+ */
+final class ConditionalResponseCache {
+    // Bodies larger than this are not cached
+    static final int MAX_CACHED_BODY_SIZE = 4 * 1024 * 1024;
+
+    private static final Cache<String, CachedResponse> RESPONSES = CacheBuilder.newBuilder()
+            .maximumWeight(64L * 1024 * 1024)
+            .<String, CachedResponse>weigher((key, response) -> key.length() + response.body.length)
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .build();
+
+    private ConditionalResponseCache() {
+    }
+
+    /**
+     * @return the cache key of a request, made of the identity of its executor, its URL and headers
+     */
+    static String key(String identity, String url, Map<String, String> headers) {
+        final String key = identity + " " + url;
+        return headers == null || headers.isEmpty() ? key : key + " " + new TreeMap<>(headers);
+    }
+
+    static CachedResponse get(String key) {
+        return RESPONSES.getIfPresent(key);
+    }
+
+    static void put(String key, CachedResponse response) {
+        RESPONSES.put(key, response);
+    }
+
+    static void invalidate(String key) {
+        RESPONSES.invalidate(key);
+    }
+
+    /**
+     * A response whose body was fully read.
+     */
+    static final class CachedResponse {
+        private final String entityTag;
+        private final int code;
+        private final String reasonPhrase;
+        private final Header[] headers;
+        private final byte[] body;
+        private final String contentType;
+
+        CachedResponse(String entityTag, ClassicHttpResponse response, byte[] body) {
+            this.entityTag = entityTag;
+            this.code = response.getCode();
+            this.reasonPhrase = response.getReasonPhrase();
+            this.headers = response.getHeaders();
+            this.body = body;
+            this.contentType = response.getEntity() != null ? response.getEntity().getContentType() : null;
+        }
+
+        String getEntityTag() {
+            return entityTag;
+        }
+
+        int getBodySize() {
+            return body.length;
+        }
+
+        /**
+         * @return a new response with the cached status, headers and body
+         */
+        ClassicHttpResponse toResponse() {
+            final BasicClassicHttpResponse response = new BasicClassicHttpResponse(code, reasonPhrase);
+            response.setHeaders(headers);
+            response.setEntity(new ByteArrayEntity(body, contentType != null ? ContentType.parseLenient(contentType) : null));
+            return response;
+        }
+    }
+}
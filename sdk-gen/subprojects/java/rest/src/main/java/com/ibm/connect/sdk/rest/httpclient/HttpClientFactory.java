@@ -7,21 +7,40 @@ package com.ibm.connect.sdk.rest.httpclient;
 
 import static com.ibm.connect.sdk.rest.RestMsgs.SSL_INITIALISATION_FAILED;
 import static com.ibm.connect.sdk.rest.utils.RestApiConstants.HTTP_CLIENT_DEFAULT_CONNECT_TIMEOUT;
+import static com.ibm.connect.sdk.rest.utils.RestApiConstants.HTTP_CLIENT_DEFAULT_KEEP_ALIVE;
 import static com.ibm.connect.sdk.rest.utils.RestApiConstants.HTTP_POOL_DEFAULT_MAX_CONNECTION;
 import static com.ibm.connect.sdk.rest.utils.RestApiConstants.HTTP_POOL_DEFAULT_MAX_CONNECTION_PER_ROUTE;
 
 import javax.net.ssl.SSLContext;
 
+import java.io.IOException;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpRequestInterceptor;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.RequestNotExecutedException;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 
@@ -30,12 +49,33 @@ import com.ibm.connect.sdk.rest.utils.RestApiConstants.SupportedAuthType;
 import com.ibm.connect.sdk.util.SSLUtils;
 
 public class HttpClientFactory {
+    // Retries requests which failed on a stale connection, but leaves throttled responses to RestExecutorImpl,
+    // which only sends idempotent requests again and shares the delays across all requests to the host
+    private static final int MAX_RETRIES = 1;
+    private static final DefaultHttpRequestRetryStrategy RETRY_STRATEGY = new DefaultHttpRequestRetryStrategy(MAX_RETRIES, TimeValue.ofSeconds(1)) {
+        @Override
+        public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+            return false;
+        }
+
+        @Override
+        public boolean retryRequest(HttpRequest request, IOException exception, int execCount, HttpContext context) {
+            // A request queued on a pooled connection which the server has since closed was never sent, whatever its method
+            if (exception instanceof RequestNotExecutedException) {
+                return execCount <= MAX_RETRIES;
+            }
+            return super.retryRequest(request, exception, execCount, context);
+        }
+    };
+
     private final Timeout timeout;
     private final String sslCertificate;
     private final SupportedAuthType authType;
     private final String username;
     private final char[] password;
     private final OAuth2TokenManager oauth2TokenManager;
+    private final int maxConnectionsPerRoute;
+    private final TimeValue keepAlive;
 
     private HttpClientFactory(Builder builder) {
         this.timeout = builder.timeout;
@@ -44,36 +84,104 @@ public class HttpClientFactory {
         this.username = builder.username;
         this.password = builder.password;
         this.oauth2TokenManager = builder.oauth2TokenManager;
+        this.maxConnectionsPerRoute = builder.maxConnectionsPerRoute;
+        this.keepAlive = builder.keepAlive;
     }
 
+    /**
+     * Builds a client with its own blocking connection pool.
+     */
     public CloseableHttpClient build() {
-        // Configure per-connection timeouts
-        final ConnectionConfig connectionConfig = ConnectionConfig.custom()
-                                                            .setSocketTimeout(Optional.ofNullable(timeout).orElse(HTTP_CLIENT_DEFAULT_CONNECT_TIMEOUT))
-                                                            .setConnectTimeout(Optional.ofNullable(timeout).orElse(HTTP_CLIENT_DEFAULT_CONNECT_TIMEOUT))
-                                                            .build();
-        // Configure SSL
-        final SSLContext sslContext = getSslContext();
-
         // Connection pool manager
         final PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder = PoolingHttpClientConnectionManagerBuilder.create()
-                .setDefaultConnectionConfig(connectionConfig)
+                .setDefaultConnectionConfig(getConnectionConfig())
                 .setTlsSocketStrategy(ClientTlsStrategyBuilder.create()
-                        .setSslContext(sslContext)
+                        .setSslContext(getSslContext())
                         .buildClassic())
                 .setMaxConnTotal(HTTP_POOL_DEFAULT_MAX_CONNECTION)
-                .setMaxConnPerRoute(HTTP_POOL_DEFAULT_MAX_CONNECTION_PER_ROUTE);
+                .setMaxConnPerRoute(maxConnectionsPerRoute);
 
         // Create basic http builder
         final HttpClientBuilder clientBuilder = HttpClients.custom()
                 .setConnectionManager(connectionManagerBuilder.build())
+                .setDefaultRequestConfig(getRequestConfig())
+                .setRetryStrategy(RETRY_STRATEGY)
                 .evictExpiredConnections()
-                .evictIdleConnections(TimeValue.ofMinutes(1));
+                .evictIdleConnections(keepAlive);
+
+        createAuthInterceptors().forEach(clientBuilder::addRequestInterceptorLast);
+        return clientBuilder.build();
+    }
+
+    /**
+     * Builds a client sharing its connections with all other clients built for the same origin and connection settings.
+     * Connections negotiate HTTP/2 over TLS when the server supports it, so that concurrent requests are multiplexed
+     * over a few connections, and fall back to HTTP/1.1 otherwise.
+     *
+     * @param url URL of the API, whose scheme, host and port identify the origin
+     */
+    public CloseableHttpClient buildShared(String url) {
+        final URI uri = URI.create(url);
+        final String origin = uri.getScheme() + "://" + uri.getRawAuthority();
+        final List<Object> key = Arrays.asList(origin, sslCertificate, timeout, maxConnectionsPerRoute, keepAlive);
+        // Leasing a connection, connecting and receiving the response head each take at most the timeout
+        final Timeout responseTimeout = Timeout.ofMilliseconds(3 * getTimeout().toMilliseconds());
+        return SharedAsyncHttpClient.acquire(key, this::buildAsyncClient, createAuthInterceptors(), responseTimeout);
+    }
 
+    private CloseableHttpAsyncClient buildAsyncClient() {
+        // Connection pool manager, leasing HTTP/2 connections to concurrent requests
+        final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setDefaultConnectionConfig(getConnectionConfig())
+                .setTlsStrategy(ClientTlsStrategyBuilder.create()
+                        .setSslContext(getSslContext())
+                        .buildAsync())
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        .setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+                        .build())
+                .setMessageMultiplexing(true)
+                .setMaxConnTotal(HTTP_POOL_DEFAULT_MAX_CONNECTION)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .build();
+
+        final CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(getRequestConfig())
+                .setRetryStrategy(RETRY_STRATEGY)
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive)
+                .build();
+        client.start();
+        return client;
+    }
+
+    private ConnectionConfig getConnectionConfig() {
+        // Configure per-connection timeouts
+        return ConnectionConfig.custom()
+                .setSocketTimeout(getTimeout())
+                .setConnectTimeout(getTimeout())
+                .build();
+    }
+
+    private Timeout getTimeout() {
+        return Optional.ofNullable(timeout).orElse(HTTP_CLIENT_DEFAULT_CONNECT_TIMEOUT);
+    }
+
+    private RequestConfig getRequestConfig() {
+        // Keep idle connections alive for as long as the server allows, up to keepAlive when it does not tell,
+        // and wait for a pooled connection for at most the timeout
+        return RequestConfig.custom()
+                .setConnectionKeepAlive(keepAlive)
+                .setConnectionRequestTimeout(getTimeout())
+                .build();
+    }
+
+    private List<HttpRequestInterceptor> createAuthInterceptors() {
+        final List<HttpRequestInterceptor> interceptors = new ArrayList<>();
         // Add Basic Auth
         if (SupportedAuthType.BASIC.equals(authType)) {
             if(username != null && password != null) {
-                clientBuilder.addRequestInterceptorLast((request, entity, context) -> {
+                interceptors.add((request, entity, context) -> {
                     final String auth = username + ":" + new String(password);
                     final String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
                     request.addHeader("Authorization", "Basic " + encodedAuth);
@@ -84,7 +192,7 @@ public class HttpClientFactory {
         } else if (SupportedAuthType.OAUTH2.equals(authType)) {
             // Add OAuth 2.0 Bearer token interceptor
             if (oauth2TokenManager != null) {
-                clientBuilder.addRequestInterceptorLast((request, entity, context) -> {
+                interceptors.add((request, entity, context) -> {
                     try {
                         final String token = oauth2TokenManager.getAccessToken();
                         request.addHeader("Authorization", "Bearer " + token);
@@ -96,7 +204,7 @@ public class HttpClientFactory {
                 throw new IllegalArgumentException(RestMsgs.MISSING_OAUTH2_CONFIGURATION.format("OAuth2TokenManager"));
             }
         }
-        return clientBuilder.build();
+        return interceptors;
     }
 
     private SSLContext getSslContext() {
@@ -116,6 +224,8 @@ public class HttpClientFactory {
         private String username;
         private char[] password;
         private OAuth2TokenManager oauth2TokenManager;
+        private int maxConnectionsPerRoute = HTTP_POOL_DEFAULT_MAX_CONNECTION_PER_ROUTE;
+        private TimeValue keepAlive = HTTP_CLIENT_DEFAULT_KEEP_ALIVE;
 
         public Builder withTimeoutSeconds(Timeout timeout) {
             this.timeout = timeout;
@@ -140,6 +250,16 @@ public class HttpClientFactory {
             return this;
         }
 
+        public Builder withMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        public Builder withKeepAlive(TimeValue keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
         public HttpClientFactory buildFactory() {
             return new HttpClientFactory(this);
         }
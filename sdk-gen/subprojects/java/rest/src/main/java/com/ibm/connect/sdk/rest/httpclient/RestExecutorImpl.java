@@ -6,12 +6,19 @@
 package com.ibm.connect.sdk.rest.httpclient;
 
 import static com.ibm.connect.sdk.rest.RestMsgs.SERVER_NOT_REACHABLE;
+import static org.slf4j.LoggerFactory.getLogger;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.apache.hc.client5.http.HttpResponseException;
@@ -23,19 +30,78 @@ import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpPut;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
 import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.slf4j.Logger;
+
+import com.ibm.connect.sdk.rest.httpclient.ConditionalResponseCache.CachedResponse;
+import com.ibm.connect.sdk.util.HostRateLimiter;
+import com.ibm.connect.sdk.util.RetryBackoff;
 
 /**
  * Generic REST API Connector using Apache HttpClient 5.
  * Supports all HTTP methods, headers, query parameters, payloads.
  */
 public class RestExecutorImpl {
+    private static final Logger LOGGER = getLogger(RestExecutorImpl.class);
+
+    private static final RetryBackoff RETRY_BACKOFF = RetryBackoff.DEFAULT;
+
     private final CloseableHttpClient httpClient;
+    private final Integer maxRequestsPerSecond;
+    private final int maxConcurrency;
+    private final String identity;
+    private final String rateLimiterKey;
 
     public RestExecutorImpl(CloseableHttpClient httpClient) {
+        this(httpClient, null);
+    }
+
+    /**
+     * @param httpClient           HTTP client sending the requests
+     * @param maxRequestsPerSecond Maximum number of requests per second sent to the host, or null for no limit
+     */
+    public RestExecutorImpl(CloseableHttpClient httpClient, Integer maxRequestsPerSecond) {
+        this(httpClient, maxRequestsPerSecond, null);
+    }
+
+    /**
+     * @param httpClient           HTTP client sending the requests
+     * @param maxRequestsPerSecond Maximum number of requests per second sent to the host, or null for no limit
+     * @param identity             Identity of the connection and its credentials, such as a hash of the connection
+     *                             properties, under which responses are cached for conditional requests;
+     *                             or null for responses cached only for this executor
+     */
+    public RestExecutorImpl(CloseableHttpClient httpClient, Integer maxRequestsPerSecond, String identity) {
+        this(httpClient, maxRequestsPerSecond, null, identity);
+    }
+
+    /**
+     * @param httpClient           HTTP client sending the requests
+     * @param maxRequestsPerSecond Maximum number of requests per second sent to the host, or null for no limit
+     * @param maxConcurrency       Maximum number of concurrent requests to the host, such as the maximum number of
+     *                             connections per route of the client; or null for the default
+     * @param identity             Identity of the connection and its credentials, such as a hash of the connection
+     *                             properties, under which responses are cached for conditional requests and the limits
+     *                             of the host are shared; or null for responses cached only for this executor
+     */
+    public RestExecutorImpl(CloseableHttpClient httpClient, Integer maxRequestsPerSecond, Integer maxConcurrency,
+            String identity) {
         this.httpClient = httpClient;
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+        this.maxConcurrency = maxConcurrency != null ? maxConcurrency : HostRateLimiter.DEFAULT_MAX_CONCURRENCY;
+        this.identity = identity != null ? identity : UUID.randomUUID().toString();
+        // Executors without an identity share the limits of the host with those of the same configuration
+        this.rateLimiterKey = identity;
     }
 
     /**
@@ -79,15 +145,172 @@ public class RestExecutorImpl {
             Map<String, String> queryParams,
             String bodyPayload,
             HttpClientResponseHandler<T> responseHandler
+    ) throws IOException {
+        return executeRequest(method, url, headers, queryParams, bodyPayload, false, responseHandler);
+    }
+
+    /**
+     * Executes a generic REST API request, using responseHandler to process the response and return the result.
+     * <p>
+     * A conditional GET request is sent with the entity tag of the response last received for the same identity, URL and
+     * headers, and the response handler is given that response again if the server answers that it was not modified.
+     * This is meant for requests which are repeated and mostly return the same content, such as discovery requests.
+     * <p>
+     * Requests to a host are limited by its {@link HostRateLimiter}, shared by the executors with the same identity and
+     * limits. GET and HEAD requests which the server throttled
+     * or could not serve for a while (429, 502, 503, 504) are sent again after a delay, the one given by
+     * {@code Retry-After} if any.
+     *
+     * @param method       HTTP method (GET, POST, PUT, DELETE, PATCH)
+     * @param url          Base URL
+     * @param headers      Request headers
+     * @param queryParams  Query parameters
+     * @param bodyPayload  Request body (JSON, XML, etc.)
+     * @param conditional  Whether to revalidate the cached response of a GET request instead of fetching it again
+     * @param responseHandler Handler to handle response object
+     * @return
+     * @param <T>
+     * @throws IOException in case of network or I/O errors
+     */
+    public <T> T executeRequest(
+            String method,
+            String url,
+            Map<String, String> headers,
+            Map<String, String> queryParams,
+            String bodyPayload,
+            boolean conditional,
+            HttpClientResponseHandler<T> responseHandler
     ) throws IOException {
         final String finalUrl = buildUrlWithParams(url, queryParams);
-        final ClassicHttpRequest request = createRequest(method, finalUrl, bodyPayload);
+        ClassicHttpRequest request = createRequest(method, finalUrl, bodyPayload);
+        final HostRateLimiter rateLimiter = HostRateLimiter.forHost(String.valueOf(request.getAuthority()), rateLimiterKey,
+                maxConcurrency, maxRequestsPerSecond != null ? maxRequestsPerSecond : 0);
+
+        for (int retry = 0; ; retry++) {
+            if (retry > 0) {
+                request = createRequest(method, finalUrl, bodyPayload);
+            }
+            if (headers != null) {
+                headers.forEach(request::addHeader);
+            }
+            HttpClientResponseHandler<T> handler = responseHandler;
+            if (conditional && "GET".equals(request.getMethod())) {
+                handler = conditionalHandler(request, ConditionalResponseCache.key(identity, finalUrl, headers), responseHandler);
+            }
+            // Only requests without side effects are sent again
+            final boolean idempotent = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+            if (idempotent && retry < RETRY_BACKOFF.getMaxRetries()) {
+                handler = retrying(handler);
+            }
 
-        if (headers != null) {
-            headers.forEach(request::addHeader);
+            final HostRateLimiter.Permit permit = acquire(rateLimiter);
+            try {
+                return httpClient.execute(request, handler);
+            } catch (RetryableResponseException e) {
+                permit.release(true);
+                final long delay = RETRY_BACKOFF.delayMillis(retry, e.retryAfterMillis);
+                if (e.retryAfterMillis != null) {
+                    rateLimiter.pauseFor(delay);
+                }
+                LOGGER.warn("{} {} returned status {}, retrying in {} ms", method, finalUrl, e.status, delay);
+                sleep(delay);
+            } finally {
+                permit.release(false);
+            }
         }
+    }
 
-        return httpClient.execute(request, responseHandler);
+    /**
+     * Sends the request with the entity tag of the cached response, and gives the handler that response
+     * again if the server answers that it was not modified.
+     */
+    private static <T> HttpClientResponseHandler<T> conditionalHandler(ClassicHttpRequest request, String cacheKey,
+            HttpClientResponseHandler<T> responseHandler) {
+        final CachedResponse cachedResponse = ConditionalResponseCache.get(cacheKey);
+        if (cachedResponse != null) {
+            request.setHeader(HttpHeaders.IF_NONE_MATCH, cachedResponse.getEntityTag());
+        }
+        return response -> {
+            if (cachedResponse != null && response.getCode() == HttpStatus.SC_NOT_MODIFIED) {
+                EntityUtils.consume(response.getEntity());
+                return responseHandler.handleResponse(cachedResponse.toResponse());
+            }
+            final Header entityTag = response.getFirstHeader(HttpHeaders.ETAG);
+            final HttpEntity entity = response.getEntity();
+            if (response.getCode() != HttpStatus.SC_OK || entityTag == null || entity == null
+                    || entity.getContentLength() > ConditionalResponseCache.MAX_CACHED_BODY_SIZE) {
+                ConditionalResponseCache.invalidate(cacheKey);
+                return responseHandler.handleResponse(response);
+            }
+            // A body of unknown length is only cached if it ends within the limit
+            final InputStream content = entity.getContent();
+            final byte[] head = readAtMost(content, ConditionalResponseCache.MAX_CACHED_BODY_SIZE + 1);
+            if (head.length > ConditionalResponseCache.MAX_CACHED_BODY_SIZE) {
+                ConditionalResponseCache.invalidate(cacheKey);
+                return responseHandler.handleResponse(withBody(response, entity,
+                        new SequenceInputStream(new ByteArrayInputStream(head), content)));
+            }
+            final CachedResponse newResponse = new CachedResponse(entityTag.getValue(), response, head);
+            ConditionalResponseCache.put(cacheKey, newResponse);
+            return responseHandler.handleResponse(newResponse.toResponse());
+        };
+    }
+
+    /**
+     * @return the first bytes of a stream, at most maxSize
+     */
+    private static byte[] readAtMost(InputStream in, int maxSize) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while (out.size() < maxSize && (read = in.read(buffer, 0, Math.min(buffer.length, maxSize - out.size()))) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @return a copy of the response whose body is read from the given stream
+     */
+    private static ClassicHttpResponse withBody(ClassicHttpResponse response, HttpEntity entity, InputStream body) {
+        final BasicClassicHttpResponse copy = new BasicClassicHttpResponse(response.getCode(), response.getReasonPhrase());
+        copy.setHeaders(response.getHeaders());
+        copy.setEntity(new InputStreamEntity(body, -1, entity.getContentType() != null
+                ? ContentType.parseLenient(entity.getContentType()) : null, entity.getContentEncoding()));
+        return copy;
+    }
+
+    /**
+     * Fails with {@link RetryableResponseException} instead of handling a response which asks to send the request later.
+     */
+    private static <T> HttpClientResponseHandler<T> retrying(HttpClientResponseHandler<T> responseHandler) {
+        return response -> {
+            if (!RetryBackoff.isRetryableStatus(response.getCode())) {
+                return responseHandler.handleResponse(response);
+            }
+            EntityUtils.consume(response.getEntity());
+            final Header retryAfter = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+            throw new RetryableResponseException(response.getCode(),
+                    RetryBackoff.parseRetryAfter(retryAfter != null ? retryAfter.getValue() : null));
+        };
+    }
+
+    private static HostRateLimiter.Permit acquire(HostRateLimiter rateLimiter) throws InterruptedIOException {
+        try {
+            return rateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
     }
 
     private ClassicHttpRequest createRequest(String method, String url, String body) {
@@ -140,5 +363,20 @@ public class RestExecutorImpl {
             httpClient.close();
         }
     }
-}
 
+    /**
+     * Response which the server asked to send again later, such as 429 Too Many Requests.
+     */
+    private static final class RetryableResponseException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+        private final Long retryAfterMillis;
+
+        RetryableResponseException(int status, Long retryAfterMillis) {
+            super("HTTP status " + status);
+            this.status = status;
+            this.retryAfterMillis = retryAfterMillis;
+        }
+    }
+}
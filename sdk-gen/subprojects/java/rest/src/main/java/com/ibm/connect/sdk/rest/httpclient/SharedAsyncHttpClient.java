@@ -0,0 +1,190 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.rest.httpclient;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.apache.hc.client5.http.ClientProtocolException;
+import org.apache.hc.client5.http.entity.BrotliDecompressingEntity;
+import org.apache.hc.client5.http.entity.DeflateDecompressingEntity;
+import org.apache.hc.client5.http.entity.GzipDecompressingEntity;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequestInterceptor;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * A classic client which executes its requests on an async client shared by all connectors of the same origin,
+ * so that concurrent extracts against one API share a few connections, multiplexed when HTTP/2 is negotiated.
+ * <p>
+ * The shared async client is reference counted and closed when the last connector using it is closed.
+ * Request interceptors, such as authentication, belong to each connector and are applied per request,
+ * as connectors sharing an origin may use different credentials.
+ * <p>
+ * Like the classic client, it asks for compressed responses and decompresses them while they are read.
+ */
+final class SharedAsyncHttpClient extends CloseableHttpClient {
+    // Content codings which can be decompressed, br only if a Brotli decoder is on the classpath
+    private static final String ACCEPT_ENCODING = BrotliDecompressingEntity.isAvailable() ? "gzip, x-gzip, deflate, br" : "gzip, x-gzip, deflate";
+
+    // Async clients in use, by origin and connection settings
+    private static final Map<List<Object>, SharedClient> SHARED_CLIENTS = new HashMap<>();
+
+    private final List<Object> key;
+    private final CloseableHttpAsyncClient asyncClient;
+    private final List<HttpRequestInterceptor> requestInterceptors;
+    private final Timeout responseTimeout;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private SharedAsyncHttpClient(List<Object> key, CloseableHttpAsyncClient asyncClient, List<HttpRequestInterceptor> requestInterceptors,
+                                  Timeout responseTimeout) {
+        this.key = key;
+        this.asyncClient = asyncClient;
+        this.requestInterceptors = requestInterceptors;
+        this.responseTimeout = responseTimeout;
+    }
+
+    /**
+     * Returns a client executing requests on the async client shared for the given key, which is created if not in use.
+     *
+     * @param key Origin and connection settings of the async client
+     * @param asyncClientFactory Creates and starts the async client
+     * @param requestInterceptors Interceptors applied to the requests of this client only
+     * @param responseTimeout Longest time to wait for the head of a response
+     */
+    static SharedAsyncHttpClient acquire(List<Object> key, Supplier<CloseableHttpAsyncClient> asyncClientFactory,
+                                         List<HttpRequestInterceptor> requestInterceptors, Timeout responseTimeout) {
+        synchronized (SHARED_CLIENTS) {
+            final SharedClient sharedClient = SHARED_CLIENTS.computeIfAbsent(key, k -> new SharedClient(asyncClientFactory.get()));
+            sharedClient.references++;
+            return new SharedAsyncHttpClient(key, sharedClient.client, requestInterceptors, responseTimeout);
+        }
+    }
+
+    /**
+     * @return the number of async clients in use
+     */
+    static int sharedClientCount() {
+        synchronized (SHARED_CLIENTS) {
+            return SHARED_CLIENTS.size();
+        }
+    }
+
+    @Override
+    protected CloseableHttpResponse doExecute(HttpHost target, ClassicHttpRequest request, HttpContext context) throws IOException {
+        if (closed.get()) {
+            throw new IllegalStateException("Client is closed");
+        }
+        final HttpClientContext clientContext = context != null ? HttpClientContext.castOrCreate(context) : HttpClientContext.create();
+        final HttpEntity entity = request.getEntity();
+        try {
+            for (final HttpRequestInterceptor interceptor : requestInterceptors) {
+                interceptor.process(request, entity, clientContext);
+            }
+        } catch (HttpException e) {
+            throw new ClientProtocolException(e.getMessage(), e);
+        }
+        if (!request.containsHeader(HttpHeaders.ACCEPT_ENCODING)) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, ACCEPT_ENCODING);
+        }
+
+        // Request bodies are small JSON payloads, hence buffered
+        final AsyncEntityProducer entityProducer = entity != null
+                ? AsyncEntityProducers.create(EntityUtils.toByteArray(entity),
+                        entity.getContentType() != null ? ContentType.parseLenient(entity.getContentType()) : null)
+                : null;
+        final ClassicResponseConsumer responseConsumer = new ClassicResponseConsumer();
+        final Future<Void> exchange = asyncClient.execute(new BasicRequestProducer(request, entityProducer), responseConsumer,
+                null, clientContext, null);
+        try {
+            return CloseableHttpResponse.adapt(decompress(responseConsumer.awaitResponse(responseTimeout)));
+        } catch (IOException e) {
+            exchange.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces a compressed entity by one decompressing it while it is read, as the classic client does.
+     */
+    private static ClassicHttpResponse decompress(ClassicHttpResponse response) throws ClientProtocolException {
+        final HttpEntity entity = response.getEntity();
+        if (entity == null || entity.getContentLength() == 0 || entity.getContentEncoding() == null) {
+            return response;
+        }
+        final String contentEncoding = entity.getContentEncoding().trim().toLowerCase(Locale.ROOT);
+        switch (contentEncoding) {
+            case "gzip":
+            case "x-gzip":
+                response.setEntity(new GzipDecompressingEntity(entity));
+                break;
+            case "deflate":
+                response.setEntity(new DeflateDecompressingEntity(entity));
+                break;
+            case "br":
+                response.setEntity(new BrotliDecompressingEntity(entity));
+                break;
+            case "identity":
+                return response;
+            default:
+                throw new ClientProtocolException("Unsupported Content-Encoding: " + contentEncoding);
+        }
+        response.removeHeaders(HttpHeaders.CONTENT_LENGTH);
+        response.removeHeaders(HttpHeaders.CONTENT_ENCODING);
+        response.removeHeaders(HttpHeaders.CONTENT_MD5);
+        return response;
+    }
+
+    @Override
+    public void close(CloseMode closeMode) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (SHARED_CLIENTS) {
+            final SharedClient sharedClient = SHARED_CLIENTS.get(key);
+            if (sharedClient != null && --sharedClient.references == 0) {
+                SHARED_CLIENTS.remove(key);
+                sharedClient.client.close(closeMode);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        close(CloseMode.GRACEFUL);
+    }
+
+    private static final class SharedClient {
+        private final CloseableHttpAsyncClient client;
+        private int references;
+
+        private SharedClient(CloseableHttpAsyncClient client) {
+            this.client = client;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.rest.pagination;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.hc.core5.http.Header;
+
+/**
+ * The position reached while paging through the items of an entity type: the offset of the next page,
+ * and the response headers of the page before it, from which LINK_HEADER pagination takes the link to the next page.
+ * <p>
+ * Carrying the cursor from one page request to the next lets each page be fetched exactly once,
+ * instead of walking the links again from the first page.
+ */
+public class PaginationCursor {
+    private int offset;
+    private List<Header> responseHeaders;
+
+    /**
+     * Creates a cursor at the first page.
+     */
+    public PaginationCursor() {
+        this(0, Collections.emptyList());
+    }
+
+    /**
+     * Creates a cursor at the given offset.
+     *
+     * @param offset Offset of the next page
+     * @param responseHeaders Response headers of the previous page, or empty if not known
+     */
+    public PaginationCursor(int offset, List<Header> responseHeaders) {
+        this.offset = offset;
+        this.responseHeaders = responseHeaders != null ? responseHeaders : Collections.emptyList();
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public List<Header> getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    /**
+     * Moves the cursor past a fetched page.
+     *
+     * @param nextOffset Offset of the page after the fetched page
+     * @param pageResponseHeaders Response headers of the fetched page
+     */
+    public void advance(int nextOffset, List<Header> pageResponseHeaders) {
+        this.offset = nextOffset;
+        this.responseHeaders = pageResponseHeaders != null ? pageResponseHeaders : Collections.emptyList();
+    }
+}
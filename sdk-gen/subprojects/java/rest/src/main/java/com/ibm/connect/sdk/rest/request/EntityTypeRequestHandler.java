@@ -14,6 +14,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -22,7 +23,10 @@ import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.ibm.connect.sdk.rest.httpclient.RestExecutorImpl;
+import com.ibm.connect.sdk.rest.pagination.PaginationCursor;
 import com.ibm.connect.sdk.rest.pagination.PaginationHelper;
 import com.ibm.connect.sdk.rest.response.EntityTypeResponseHandler;
 import com.ibm.connect.sdk.rest.response.impl.EntityTypeResponseHandlerFactory;
@@ -34,13 +38,25 @@ import com.ibm.connect.sdk.rest.utils.models.RequestQueryParams;
 
 public class EntityTypeRequestHandler {
     private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\$\\{([^}]+)}");
+    // Response headers of LINK_HEADER pages, by connection, endpoint, page size and the offset of the next page
+    private static final Cache<String, List<Header>> LINK_HEADER_CURSORS = CacheBuilder.newBuilder().maximumSize(1000).expireAfterWrite(10, TimeUnit.MINUTES).build();
 
     private final RestExecutorImpl restExecutor;
     private final RestConnectionProperties restConnectionProperties;
+    private final boolean conditionalRequests;
 
     public EntityTypeRequestHandler(RestExecutorImpl restExecutor, RestConnectionProperties restConnectionProperties) {
+        this(restExecutor, restConnectionProperties, false);
+    }
+
+    /**
+     * @param conditionalRequests Whether to revalidate the responses of previous GET requests with their entity tags
+     *                            instead of fetching them again, for requests which mostly return the same content
+     */
+    public EntityTypeRequestHandler(RestExecutorImpl restExecutor, RestConnectionProperties restConnectionProperties, boolean conditionalRequests) {
         this.restExecutor = restExecutor;
         this.restConnectionProperties = restConnectionProperties;
+        this.conditionalRequests = conditionalRequests;
     }
 
     /**
@@ -75,9 +91,30 @@ public class EntityTypeRequestHandler {
     public List<EntityTypeResponseHandler> executeRequest(EntityType discoverEntityType,
                                                           Map<String, String> entityNameAndSelectedAssetIdMap,
                                                           Integer offset, Integer limit, List<Header> prevPageResponseHeader) throws IOException {
+        final PaginationCursor cursor = offset != null ? new PaginationCursor(offset, prevPageResponseHeader) : null;
+        return executeRequest(discoverEntityType, entityNameAndSelectedAssetIdMap, limit, cursor);
+    }
+
+    /**
+     * Execute Rest API defined in the `EntityType` for the page at the cursor, and move the cursor past the page.
+     * Passing the same cursor for consecutive pages fetches each page exactly once, also for LINK_HEADER pagination.
+     * This method also capable to do sub pagination if the underlying REST API not support to fetch the `limit` you provided.
+     *
+     * @param discoverEntityType Definition of REST API request
+     * @param entityNameAndSelectedAssetIdMap Values required to replace the placeholder on `endpointPath` and `QueryParam` in `discoverEntityType`
+     * @param limit Pagination limit (optional)
+     * @param cursor Offset and previous page response header of the page to fetch (optional)
+     *
+     * @return List ofResponse handler {@link EntityTypeResponseHandler}
+     * @throws IOException
+     */
+    public List<EntityTypeResponseHandler> executeRequest(EntityType discoverEntityType,
+                                                          Map<String, String> entityNameAndSelectedAssetIdMap,
+                                                          Integer limit, PaginationCursor cursor) throws IOException {
 
-        if(RestUtils.isPaginationSupported(discoverEntityType.getPagination()) && offset != null && limit != null) {
-            List<Header> previousResponseHeaders = calculatePreviousPageResponseHeaderIfRequired(discoverEntityType, entityNameAndSelectedAssetIdMap, offset, limit, prevPageResponseHeader);
+        if(RestUtils.isPaginationSupported(discoverEntityType.getPagination()) && cursor != null && limit != null) {
+            final int offset = cursor.getOffset();
+            List<Header> previousResponseHeaders = calculatePreviousPageResponseHeaderIfRequired(discoverEntityType, entityNameAndSelectedAssetIdMap, offset, limit, cursor.getResponseHeaders());
 
             final int maxPageLimitAllowsByAPI = Optional.ofNullable(discoverEntityType.getPagination()).map(Pagination::getSupportedMaxLimit).orElse(limit);
             if(limit > maxPageLimitAllowsByAPI) {
@@ -95,13 +132,15 @@ public class EntityTypeRequestHandler {
                     responseHandlers.add(responseHandler);
 
                     final int numOfItems = responseHandler.getFieldValueMap().size();
+                    previousResponseHeaders = responseHandler.getHeaders();
+                    currentOffset += numOfItems;
+                    rememberLinkHeaderCursor(discoverEntityType, entityNameAndSelectedAssetIdMap, currentLimit, currentOffset, previousResponseHeaders);
                     if (numOfItems < currentLimit) { // If we got fewer items than requested, we've reached the end
                         break;
                     }
-                    previousResponseHeaders = responseHandler.getHeaders();
                     remainingItemsToFetch -= numOfItems;
-                    currentOffset += numOfItems;
                 }
+                cursor.advance(currentOffset, previousResponseHeaders);
                 return responseHandlers;
             }
 
@@ -111,6 +150,11 @@ public class EntityTypeRequestHandler {
             if(RestUtils.isLinkHeaderPagination(discoverEntityType.getPagination()) && !canExecuteRestAPI) {
                 return Collections.emptyList();
             }
+
+            final EntityTypeResponseHandler responseHandler = executeRequest(discoverEntityType, entityNameAndSelectedAssetIdMap);
+            cursor.advance(offset + limit, responseHandler.getHeaders());
+            rememberLinkHeaderCursor(discoverEntityType, entityNameAndSelectedAssetIdMap, limit, cursor.getOffset(), cursor.getResponseHeaders());
+            return List.of(responseHandler);
         }
 
         return List.of(executeRequest(discoverEntityType, entityNameAndSelectedAssetIdMap));
@@ -126,24 +170,36 @@ public class EntityTypeRequestHandler {
 
             if(offset != null && limit != null && offset > 0 && limit > 0) {
                 // For Link Header pagination, we cannot fetch Nth page randomly
-                // We need to start from page 0 and iterate to find the appropriate response header
-                final int maxPageLimitAllowsByAPI = Optional.ofNullable(discoverEntityType.getPagination())
-                        .map(Pagination::getSupportedMaxLimit)
-                        .orElse(limit);
+                // We need to iterate from an earlier page to find the appropriate response header
+                final int maxPageLimitAllowsByAPI = linkHeaderPageSize(discoverEntityType, limit);
                 
                 // Calculate how many pages we need to fetch to reach the desired offset
                 final int numberOfPagesToFetch = (int) Math.ceil((double) offset / maxPageLimitAllowsByAPI);
-                List<Header> currentResponseHeaders = Collections.emptyList();
-                int currentOffset = 0;
+
+                // Resume from the furthest page whose response header another request already has, e.g. another partition
+                int pageIndex = numberOfPagesToFetch;
+                List<Header> currentResponseHeaders = null;
+                while (pageIndex > 0 && currentResponseHeaders == null) {
+                    currentResponseHeaders = LINK_HEADER_CURSORS.getIfPresent(
+                            linkHeaderCursorKey(discoverEntityType, entityNameAndSelectedAssetIdMap, maxPageLimitAllowsByAPI, pageIndex * maxPageLimitAllowsByAPI));
+                    if (currentResponseHeaders == null) {
+                        pageIndex--;
+                    }
+                }
+                if (currentResponseHeaders == null) {
+                    currentResponseHeaders = Collections.emptyList();
+                }
+                int currentOffset = pageIndex * maxPageLimitAllowsByAPI;
                 
-                // Iterate through pages starting from offset 0
-                for (int pageIndex = 0; pageIndex < numberOfPagesToFetch; pageIndex++) {
+                // Iterate through the remaining pages
+                for (; pageIndex < numberOfPagesToFetch; pageIndex++) {
                     // Apply pagination parameters for the current page
                     PaginationHelper.mapParametersForPagination(currentOffset, maxPageLimitAllowsByAPI, discoverEntityType, currentResponseHeaders);
                     // Execute request to get the response headers for this page
                     final EntityTypeResponseHandler responseHandler = executeRequest(discoverEntityType,entityNameAndSelectedAssetIdMap);
                     currentResponseHeaders = responseHandler.getHeaders(); // Update headers for next iteration
                     currentOffset += maxPageLimitAllowsByAPI; // Move to next page
+                    rememberLinkHeaderCursor(discoverEntityType, entityNameAndSelectedAssetIdMap, maxPageLimitAllowsByAPI, currentOffset, currentResponseHeaders);
                 }
                 
                 return currentResponseHeaders;
@@ -152,6 +208,34 @@ public class EntityTypeRequestHandler {
         return Collections.emptyList(); //No header required as it assume there is no pagination required or its fetching first page
     }
 
+    /**
+     * Page size with which the pages before an offset are walked for LINK_HEADER pagination.
+     */
+    private static int linkHeaderPageSize(EntityType discoverEntityType, int limit) {
+        return Optional.ofNullable(discoverEntityType.getPagination()).map(Pagination::getSupportedMaxLimit).orElse(limit);
+    }
+
+    /**
+     * Remembers the response header of the page ending at `nextOffset` for LINK_HEADER pagination,
+     * so that a later request for the next page, such as from another partition, does not walk the pages again.
+     * Only pages of the size with which pages are walked are remembered, as the next link of a shorter page may ask for fewer items.
+     */
+    private void rememberLinkHeaderCursor(EntityType discoverEntityType, Map<String, String> entityNameAndSelectedAssetIdMap,
+                                          int pageLimit, int nextOffset, List<Header> responseHeaders) {
+        if (RestUtils.isLinkHeaderPagination(discoverEntityType.getPagination()) && responseHeaders != null && !responseHeaders.isEmpty()
+                && pageLimit == linkHeaderPageSize(discoverEntityType, pageLimit)) {
+            LINK_HEADER_CURSORS.put(linkHeaderCursorKey(discoverEntityType, entityNameAndSelectedAssetIdMap, pageLimit, nextOffset), responseHeaders);
+        }
+    }
+
+    private String linkHeaderCursorKey(EntityType discoverEntityType, Map<String, String> entityNameAndSelectedAssetIdMap, int pageSize, int offset) {
+        final String formattedEndpointPath = replaceDynamicParams(discoverEntityType.getEndpointPath(), entityNameAndSelectedAssetIdMap);
+        // The next page links of one user must not be followed with the credentials of another
+        return this.restConnectionProperties.getPropertiesHash() + ' '
+                + RestUtils.buildUrl(this.restConnectionProperties.getBasicUrl(), formattedEndpointPath)
+                + ' ' + entityNameAndSelectedAssetIdMap + ' ' + pageSize + ' ' + offset;
+    }
+
     /**
      * Execute Rest API defined in the `EntityType` (without pagination)
      *
@@ -184,7 +268,7 @@ public class EntityTypeRequestHandler {
         return this.restExecutor.executeRequest(discoverEntityType.getMethod(),
                 absoluteEndpointUrl, discoverEntityType.getHeader(),
                 formattedQueryParams,
-                null, responseHandler);
+                null, conditionalRequests, responseHandler);
     }
 
     /**
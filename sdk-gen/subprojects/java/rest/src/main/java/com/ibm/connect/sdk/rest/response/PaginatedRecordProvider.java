@@ -6,33 +6,74 @@
 package com.ibm.connect.sdk.rest.response;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.ibm.connect.sdk.api.Record;
 
-public class PaginatedRecordProvider {
+/**
+ * Provides the records of the pages returned by a page fetcher, one page after another.
+ * <p>
+ * While the rows of a page are read, the next pages can be fetched ahead in the background,
+ * so that the latency of the API overlaps with reading rows. If pages are independent, such as
+ * with offset or page number pagination, up to `prefetchPages` pages are fetched in parallel.
+ * Otherwise, such as with link header pagination where a page links to the next one, only the
+ * next page is fetched ahead.
+ */
+public class PaginatedRecordProvider implements AutoCloseable {
+    // Shared by all providers; threads are only kept while pages are being fetched
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("rest-page-prefetch-%d").setDaemon(true).build());
+
     // Current page data
     private Iterator<Map<String, Object>> currentIterator;
 
     // Function to fetch next page given the current page number
     private final Function<Integer, List<Map<String, Object>>> pageFetcher;
+    // Maximum number of pages fetched ahead of the current page
+    private final int maxPrefetchedPages;
+    // Pages fetched ahead, in page order
+    private final Deque<Future<List<Map<String, Object>>>> prefetchedPages = new ArrayDeque<>();
     // Current page index
     private int currentPage;
+    // Last page index fetched or being fetched
+    private int lastRequestedPage;
     // Flag for end-of-data
     private boolean hasMore = true;
 
     public PaginatedRecordProvider(Function<Integer, List<Map<String, Object>>> pageFetcher) {
+        this(pageFetcher, 0, false);
+    }
+
+    /**
+     * @param pageFetcher Function to fetch a page given its number, starting with 1
+     * @param prefetchPages Number of pages to fetch ahead of the current page, 0 to fetch a page only when it is read
+     * @param independentPages Whether pages can be fetched in any order and in parallel.
+     *                         If false, at most one page is fetched ahead, after the current page is fetched.
+     */
+    public PaginatedRecordProvider(Function<Integer, List<Map<String, Object>>> pageFetcher, int prefetchPages, boolean independentPages) {
         this.pageFetcher = pageFetcher;
+        this.maxPrefetchedPages = independentPages ? Math.max(prefetchPages, 0) : Math.min(Math.max(prefetchPages, 0), 1);
         loadNextPage();
     }
 
     public Record getRecord() {
+        // Start fetching ahead only once records are read, the first page is fetched before
+        prefetch();
+
         // If no more data, return null
         while ((currentIterator == null || !currentIterator.hasNext()) && hasMore) {
             loadNextPage();
+            prefetch();
         }
 
         if (currentIterator == null || !currentIterator.hasNext()) {
@@ -55,14 +96,57 @@ public class PaginatedRecordProvider {
         return recordObj;
     }
 
+    private void prefetch() {
+        while (hasMore && prefetchedPages.size() < maxPrefetchedPages) {
+            final int page = ++lastRequestedPage;
+            prefetchedPages.add(PREFETCH_EXECUTOR.submit(() -> pageFetcher.apply(page)));
+        }
+    }
+
     private void loadNextPage() {
         currentPage++;
-        final List<Map<String, Object>> rows = pageFetcher.apply(currentPage);
+        final List<Map<String, Object>> rows = fetchPage(currentPage);
         if (rows == null || rows.isEmpty()) {
             hasMore = false;
             currentIterator = null;
+            cancelPrefetchedPages();
         } else {
             currentIterator = rows.iterator();
         }
     }
+
+    private List<Map<String, Object>> fetchPage(int page) {
+        final Future<List<Map<String, Object>>> prefetchedPage = prefetchedPages.poll();
+        if (prefetchedPage == null) {
+            lastRequestedPage = page;
+            return pageFetcher.apply(page);
+        }
+        try {
+            return prefetchedPage.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while fetching page " + page, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Failed to fetch page " + page, e.getCause());
+        }
+    }
+
+    private void cancelPrefetchedPages() {
+        for (final Future<List<Map<String, Object>>> prefetchedPage : prefetchedPages) {
+            prefetchedPage.cancel(true);
+        }
+        prefetchedPages.clear();
+    }
+
+    /**
+     * Stops fetching pages ahead.
+     */
+    @Override
+    public void close() {
+        hasMore = false;
+        cancelPrefetchedPages();
+    }
 }
@@ -13,6 +13,7 @@ import org.slf4j.LoggerFactory;
 
 import com.ibm.connect.sdk.rest.response.EntityTypeResponseHandler;
 import com.ibm.connect.sdk.rest.response.ResponseType;
+import com.ibm.connect.sdk.rest.response.util.JsonExtractionPlan;
 import com.ibm.connect.sdk.rest.utils.models.EntityType;
 
 public class EntityTypeResponseHandlerFactory {
@@ -24,6 +25,10 @@ public class EntityTypeResponseHandlerFactory {
         LOGGER.debug("Detected Response Type: {}", detectedTypeDtl.getContentTypeValue());
 
         if(ResponseType.JSON.equals(detectedTypeDtl.getResponseType())) {
+            if (JsonExtractionPlan.forEntityType(entityType).isStreamable()) {
+                // Rows come from one array, so parse them one element at a time
+                return new StreamingJsonResponseHandler(response, entityType);
+            }
             return new JsonResponseHandler(response, entityType);
         } else {
             throw new IllegalArgumentException("Unsupported ResponseType: " + detectedTypeDtl.getResponseType());
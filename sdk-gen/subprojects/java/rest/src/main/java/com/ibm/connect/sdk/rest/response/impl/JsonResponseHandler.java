@@ -8,6 +8,8 @@ package com.ibm.connect.sdk.rest.response.impl;
 import static com.ibm.connect.sdk.rest.response.util.JsonUtils.isNotEmptyArray;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -17,22 +19,24 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
-import org.apache.hc.core5.http.ParseException;
-import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.HttpEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import com.ibm.connect.sdk.rest.response.EntityTypeResponseHandler;
+import com.ibm.connect.sdk.rest.response.util.JsonExtractionPlan;
 import com.ibm.connect.sdk.rest.response.util.JsonFieldValueExtractorByAutoDiscovery;
 import com.ibm.connect.sdk.rest.response.util.JsonFieldValueExtractorByFieldConfig;
 import com.ibm.connect.sdk.rest.response.util.JsonUtils;
 import com.ibm.connect.sdk.rest.utils.ObjectMapperUtils;
 import com.ibm.connect.sdk.rest.utils.models.EntityType;
 import com.ibm.connect.sdk.rest.utils.models.FieldDefinition;
-import com.ibm.connect.sdk.rest.utils.models.ResponseFieldConfig;
-import com.jayway.jsonpath.JsonPath;
 
 
 public class JsonResponseHandler implements EntityTypeResponseHandler {
@@ -44,18 +48,36 @@ public class JsonResponseHandler implements EntityTypeResponseHandler {
     private List<FieldDefinition> fieldDefinitions;
 
     public JsonResponseHandler(ClassicHttpResponse response, EntityType entityType) throws IOException {
-        try {
-            final String responseBody = response.getEntity() != null
-                    ? EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8)
-                    : null;
-            this.response = response;
-            this.responseJsonNode = ObjectMapperUtils.parse(responseBody);
-            this.entityType = entityType;
-        } catch (ParseException e) {
-            throw new RuntimeException("Unable to parse the json response", e);
+        this.response = response;
+        this.responseJsonNode = readTree(response.getEntity());
+        this.entityType = entityType;
+    }
+
+    /**
+     * Parses the body straight from the entity stream, without first reading it into a String.
+     */
+    private static JsonNode readTree(HttpEntity entity) throws IOException {
+        if (entity == null) {
+            return MissingNode.getInstance();
+        }
+        try (JsonParser parser = createParser(entity)) {
+            return Optional.ofNullable((JsonNode) ObjectMapperUtils.getMapper().readTree(parser)).orElse(MissingNode.getInstance());
         }
     }
 
+    /**
+     * Creates a parser of the entity stream in the charset of the entity, or UTF-8 if it has none.
+     */
+    static JsonParser createParser(HttpEntity entity) throws IOException {
+        final ContentType contentType = ContentType.parseLenient(entity.getContentType());
+        final Charset charset = contentType != null && contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        final JsonFactory factory = ObjectMapperUtils.getMapper().getFactory();
+        // Jackson decodes UTF-8 bytes itself, faster than through a reader
+        return StandardCharsets.UTF_8.equals(charset)
+                ? factory.createParser(entity.getContent())
+                : factory.createParser(new InputStreamReader(entity.getContent(), charset));
+    }
+
     @Override
     public List<FieldDefinition> getFieldDefinitions() {
         calculateFieldDefinition();
@@ -64,11 +86,11 @@ public class JsonResponseHandler implements EntityTypeResponseHandler {
 
     @Override
     public List<Map<String, Object>> getFieldValueMap() throws IOException {
-        final List<ResponseFieldConfig> fieldConfigs = Optional.ofNullable(this.entityType.getResponseFieldConfigs()).orElse(Collections.emptyList());
+        final JsonExtractionPlan plan = JsonExtractionPlan.forEntityType(this.entityType);
         final List<FieldDefinition> fieldDefs = this.getFieldDefinitions();
-        if(!fieldConfigs.isEmpty()) {
+        if(!plan.isEmpty()) {
             final JsonFieldValueExtractorByFieldConfig extractor = new JsonFieldValueExtractorByFieldConfig();
-            return extractor.extractRows(this.responseJsonNode, fieldConfigs, fieldDefs);
+            return extractor.extractRows(this.responseJsonNode, plan, fieldDefs);
         } else {
             final JsonFieldValueExtractorByAutoDiscovery extractor = new JsonFieldValueExtractorByAutoDiscovery();
             return extractor.extractRows(this.responseJsonNode, fieldDefs);
@@ -86,24 +108,23 @@ public class JsonResponseHandler implements EntityTypeResponseHandler {
     private void calculateFieldDefinition() {
         if(this.fieldDefinitions == null) {
             final Map<String, FieldDefinition> uniqueFieldsAndDefinitionMap = new LinkedHashMap<>();
-            final List<ResponseFieldConfig> fieldConfigs = Optional.ofNullable(this.entityType.getResponseFieldConfigs()).orElse(Collections.emptyList());
+            final JsonExtractionPlan plan = JsonExtractionPlan.forEntityType(this.entityType);
 
-            if(fieldConfigs.isEmpty()) {
+            if(plan.isEmpty()) {
                 // Auto discovery of fields available in JSON
                 collectUniqueFieldsRecursive("",  responseJsonNode, uniqueFieldsAndDefinitionMap);
             } else {
                 // Discovery based on the field configured in Yaml configuration
-                for (final ResponseFieldConfig fieldConfig : fieldConfigs) {
+                for (final JsonExtractionPlan.Field field : plan.getFields()) {
                     try {
                         // Extract subnode based on jsonPath
-                        final Object extracted = JsonPath.read(ObjectMapperUtils.toJsonString(responseJsonNode), fieldConfig.getJsonPath());
-                        final JsonNode targetNode = ObjectMapperUtils.toJsonNode(extracted);
+                        final JsonNode targetNode = field.read(responseJsonNode);
 
                         // Perform discovery from that node
-                        collectUniqueFieldsRecursive(fieldConfig.getName(), targetNode, uniqueFieldsAndDefinitionMap);
+                        collectUniqueFieldsRecursive(field.getName(), targetNode, uniqueFieldsAndDefinitionMap);
                     } catch (Exception e) {
                         // Gracefully skip invalid or missing paths
-                        LOGGER.warn("Skipping field config: {} due to error: {}", fieldConfig.getName(), e.getMessage());
+                        LOGGER.warn("Skipping field config: {} due to error: {}", field.getName(), e.getMessage());
                     }
                 }
             }
@@ -112,7 +133,7 @@ public class JsonResponseHandler implements EntityTypeResponseHandler {
         }
     }
 
-    private void collectUniqueFieldsRecursive(String prefix, JsonNode node, Map<String, FieldDefinition>  uniqueFields) {
+    static void collectUniqueFieldsRecursive(String prefix, JsonNode node, Map<String, FieldDefinition>  uniqueFields) {
         if (node.isObject()) {
             node.fieldNames().forEachRemaining(field -> {
                 final JsonNode child = node.get(field);
@@ -0,0 +1,207 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.rest.response.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.ibm.connect.sdk.rest.response.EntityTypeResponseHandler;
+import com.ibm.connect.sdk.rest.response.util.JsonExtractionPlan;
+import com.ibm.connect.sdk.rest.response.util.JsonFieldValueExtractorByFieldConfig;
+import com.ibm.connect.sdk.rest.utils.models.EntityType;
+import com.ibm.connect.sdk.rest.utils.models.FieldDefinition;
+import com.jayway.jsonpath.PathNotFoundException;
+
+/**
+ * Handles a JSON response whose configured fields all iterate over one array,
+ * see {@link JsonExtractionPlan#isStreamable()}.
+ * <p>
+ * The body is parsed straight from the entity stream: the parser skips to the
+ * array and reads one element at a time, which is turned into rows and then
+ * dropped. Neither the body nor a tree of the whole response is held, only the
+ * rows and a summary of the types of each configured field. The rows and field
+ * definitions are the same as those of {@link JsonResponseHandler}.
+ */
+public class StreamingJsonResponseHandler implements EntityTypeResponseHandler {
+
+    private final ClassicHttpResponse response;
+    private final List<FieldDefinition> fieldDefinitions;
+    private final List<Map<String, Object>> fieldValueMap;
+    private RuntimeException missingArrayError;
+
+    public StreamingJsonResponseHandler(ClassicHttpResponse response, EntityType entityType) throws IOException {
+        this.response = response;
+        final JsonExtractionPlan plan = JsonExtractionPlan.forEntityType(entityType);
+        final List<JsonExtractionPlan.Field> fields = plan.getFields();
+        final JsonFieldValueExtractorByFieldConfig extractor = new JsonFieldValueExtractorByFieldConfig();
+
+        // Types of the values of each field across the elements, as its full jsonPath would return them from the whole response
+        final List<FieldSummary> fieldSummaries = new ArrayList<>();
+        for (final JsonExtractionPlan.Field field : fields) {
+            fieldSummaries.add(new FieldSummary(field.getName()));
+        }
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        if (response.getEntity() != null) {
+            try (JsonParser parser = JsonResponseHandler.createParser(response.getEntity())) {
+                final JsonToken arrayToken = moveTo(parser, plan.getStreamedArrayPath());
+                if (arrayToken == null) {
+                    // Fail reading rows as the jsonPath of the array would
+                    missingArrayError = new PathNotFoundException("Missing property in path " + plan.getGroups().get(0).getParentPath());
+                } else if (arrayToken == JsonToken.START_ARRAY || arrayToken == JsonToken.START_OBJECT) {
+                    for (JsonToken token = parser.nextToken(); token != null && !token.isStructEnd(); token = parser.nextToken()) {
+                        if (token == JsonToken.FIELD_NAME) {
+                            // [*] on an object iterates over its values
+                            parser.nextToken();
+                        }
+                        final JsonNode element = parser.readValueAsTree();
+                        summarizeFieldValues(fields, element, fieldSummaries);
+                        // Rows are completed with the field definitions once all elements are read
+                        rows.addAll(extractor.extractElementRows(element, fields, Collections.emptyList()));
+                    }
+                }
+            }
+        }
+
+        // Discovery based on the field configured in Yaml configuration
+        final Map<String, FieldDefinition> uniqueFieldsAndDefinitionMap = new LinkedHashMap<>();
+        for (final FieldSummary fieldSummary : fieldSummaries) {
+            fieldSummary.addDefinitions(uniqueFieldsAndDefinitionMap);
+        }
+        this.fieldDefinitions = new ArrayList<>(uniqueFieldsAndDefinitionMap.values());
+
+        // Each row replaces its element row, which can then be dropped
+        for (final ListIterator<Map<String, Object>> iterator = rows.listIterator(); iterator.hasNext();) {
+            final Map<String, Object> row = initialiseRowWithFixedField(this.fieldDefinitions);
+            row.putAll(iterator.next());
+            iterator.set(row);
+        }
+        this.fieldValueMap = Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * Advances the parser through the given property names to the value they lead to.
+     *
+     * @return the first token of the value, or null if the response has no such property
+     */
+    private static JsonToken moveTo(JsonParser parser, List<String> names) throws IOException {
+        JsonToken token = parser.nextToken();
+        for (final String name : names) {
+            if (token != JsonToken.START_OBJECT) {
+                return null;
+            }
+            token = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                final JsonToken valueToken = parser.nextToken();
+                if (name.equals(fieldName)) {
+                    token = valueToken;
+                    break;
+                }
+                parser.skipChildren();
+            }
+        }
+        return token;
+    }
+
+    private static void summarizeFieldValues(List<JsonExtractionPlan.Field> fields, JsonNode element, List<FieldSummary> fieldSummaries) {
+        for (int i = 0; i < fields.size(); i++) {
+            final JsonExtractionPlan.Field field = fields.get(i);
+            final JsonNode extracted;
+            try {
+                extracted = field.readFromElement(element);
+            } catch (final Exception e) {
+                // Missing in this element, so the full jsonPath skips it too
+                continue;
+            }
+            if (!field.isDefiniteInElement() && extracted instanceof ArrayNode) {
+                for (final JsonNode value : extracted) {
+                    fieldSummaries.get(i).add(value);
+                }
+            } else {
+                fieldSummaries.get(i).add(extracted);
+            }
+        }
+    }
+
+    private static Map<String, Object> initialiseRowWithFixedField(final List<FieldDefinition> fieldDefinitions) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (final FieldDefinition fd : fieldDefinitions) {
+            if (fd.getName() != null) {
+                map.put(fd.getName(), null);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Summarizes the values of a field, so that its definitions are those which
+     * {@link JsonResponseHandler#collectUniqueFieldsRecursive} finds in the array of
+     * all its values, without keeping the values.
+     */
+    private static final class FieldSummary {
+        private final String name;
+        private boolean hasValues;
+        private boolean onlyValueNodes = true;
+        // Definitions found in the values which are objects or arrays
+        private final Map<String, FieldDefinition> nestedDefinitions = new LinkedHashMap<>();
+
+        FieldSummary(String name) {
+            this.name = name;
+        }
+
+        void add(JsonNode value) {
+            hasValues = true;
+            if (!value.isValueNode()) {
+                onlyValueNodes = false;
+                JsonResponseHandler.collectUniqueFieldsRecursive(name + "[]", value, nestedDefinitions);
+            }
+        }
+
+        void addDefinitions(Map<String, FieldDefinition> definitions) {
+            if (hasValues && onlyValueNodes) {
+                // An array of primitives is a field of its own
+                definitions.putIfAbsent(name, new FieldDefinition(name, JsonNodeType.ARRAY.name()));
+            } else {
+                nestedDefinitions.forEach(definitions::putIfAbsent);
+            }
+        }
+    }
+
+    @Override
+    public List<FieldDefinition> getFieldDefinitions() {
+        return this.fieldDefinitions;
+    }
+
+    @Override
+    public List<Map<String, Object>> getFieldValueMap() {
+        if (missingArrayError != null) {
+            throw missingArrayError;
+        }
+        return this.fieldValueMap;
+    }
+
+    @Override
+    public List<Header> getHeaders() {
+        return Optional.of(this.response)
+                .map(ClassicHttpResponse::getHeaders)
+                .map(List::of)
+                .orElse(Collections.emptyList());
+    }
+}
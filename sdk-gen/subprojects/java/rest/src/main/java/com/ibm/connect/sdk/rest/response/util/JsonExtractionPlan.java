@@ -0,0 +1,287 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.rest.response.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.ibm.connect.sdk.rest.utils.ObjectMapperUtils;
+import com.ibm.connect.sdk.rest.utils.models.EntityType;
+import com.ibm.connect.sdk.rest.utils.models.ResponseFieldConfig;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
+
+/**
+ * The JSON paths of the field configs of an entity type, compiled once and
+ * grouped by the array they iterate over.
+ * <p>
+ * Paths are evaluated directly against the parsed Jackson tree of a response,
+ * so a response is never serialized and parsed again to extract its fields.
+ * Plans are cached per entity type and recompiled if its field configs change.
+ * <p>
+ * A plan whose fields all iterate over one array reached by plain property
+ * names, such as "$.data.items[*]", can be evaluated while the response is
+ * streamed, one array element at a time.
+ */
+public final class JsonExtractionPlan {
+
+    private static final String ARRAY_WILDCARD = "[*]";
+    private static final Pattern STREAMABLE_PARENT_PATH = Pattern.compile("\\$((?:\\.[A-Za-z_][A-Za-z0-9_-]*)*)\\[\\*\\]");
+
+    // Evaluates paths against JsonNode trees and returns JsonNode results
+    private static final Configuration JSON_NODE_CONFIGURATION = Configuration.builder()
+            .jsonProvider(new JacksonJsonNodeJsonProvider(ObjectMapperUtils.getMapper()))
+            .mappingProvider(new JacksonMappingProvider(ObjectMapperUtils.getMapper()))
+            .build();
+
+    private static final Cache<EntityType, JsonExtractionPlan> PLANS = CacheBuilder.newBuilder().weakKeys().build();
+
+    private final List<ResponseFieldConfig> fieldConfigs;
+    private final List<Field> fields = new ArrayList<>();
+    private final List<Group> groups = new ArrayList<>();
+    private final List<String> streamedArrayPath;
+
+    /**
+     * A field config with its compiled paths.
+     */
+    public static final class Field {
+        private final ResponseFieldConfig config;
+        private final CompiledPath path;
+        private final CompiledPath tailPath;
+        private final String tail;
+
+        private Field(ResponseFieldConfig config, String parentPath) {
+            this.config = config;
+            this.path = new CompiledPath(config.getJsonPath());
+            if (parentPath.isEmpty()) {
+                this.tail = null;
+                this.tailPath = null;
+            } else {
+                // e.g. full="$.users[*].addresses[*].postcode", parent="$.users[*]" -> "$.addresses[*].postcode"
+                this.tail = config.getJsonPath().substring(parentPath.length());
+                this.tailPath = new CompiledPath(tail.isEmpty() ? "$" : (tail.startsWith("$") ? tail : "$" + tail));
+            }
+        }
+
+        public ResponseFieldConfig getConfig() {
+            return config;
+        }
+
+        public String getName() {
+            return config.getName();
+        }
+
+        /**
+         * Evaluates the full path of the field against a response.
+         */
+        public JsonNode read(JsonNode responseJsonNode) {
+            return path.read(responseJsonNode);
+        }
+
+        /**
+         * Evaluates the path of the field relative to an element of the array of
+         * its group.
+         */
+        public JsonNode readFromElement(JsonNode element) {
+            return tailPath.read(element);
+        }
+
+        /**
+         * Returns whether the path relative to an element of the array of its
+         * group returns a single value rather than a list of values.
+         */
+        public boolean isDefiniteInElement() {
+            return tailPath.path != null && tailPath.path.isDefinite();
+        }
+    }
+
+    /**
+     * The fields whose paths iterate over the same array, or the fields whose
+     * paths do not iterate over an array.
+     */
+    public static final class Group {
+        private final String parentPath;
+        private final CompiledPath compiledParentPath;
+        private final List<Field> fields = new ArrayList<>();
+
+        private Group(String parentPath) {
+            this.parentPath = parentPath;
+            this.compiledParentPath = parentPath.isEmpty() ? null : new CompiledPath(parentPath);
+        }
+
+        /**
+         * Returns the path of the array, such as "$.users[*]", or an empty string
+         * if the fields do not iterate over an array.
+         */
+        public String getParentPath() {
+            return parentPath;
+        }
+
+        public boolean hasParent() {
+            return compiledParentPath != null;
+        }
+
+        /**
+         * Evaluates the path of the array against a response.
+         */
+        public JsonNode readParent(JsonNode responseJsonNode) {
+            return compiledParentPath.read(responseJsonNode);
+        }
+
+        public List<Field> getFields() {
+            return Collections.unmodifiableList(fields);
+        }
+    }
+
+    /**
+     * A compiled path, or the error compiling it, which is thrown when the path
+     * is evaluated as it was before paths were compiled.
+     */
+    private static final class CompiledPath {
+        private final JsonPath path;
+        private final RuntimeException error;
+
+        private CompiledPath(String jsonPath) {
+            JsonPath compiled = null;
+            RuntimeException compileError = null;
+            try {
+                compiled = JsonPath.compile(jsonPath);
+            } catch (final RuntimeException e) {
+                compileError = e;
+            }
+            this.path = compiled;
+            this.error = compileError;
+        }
+
+        private JsonNode read(JsonNode node) {
+            if (error != null) {
+                throw error;
+            }
+            final Object result = path.read(node, JSON_NODE_CONFIGURATION);
+            // Functions such as length() return plain values
+            return result instanceof JsonNode ? (JsonNode) result : ObjectMapperUtils.toJsonNode(result);
+        }
+    }
+
+    private JsonExtractionPlan(List<ResponseFieldConfig> fieldConfigs) {
+        this.fieldConfigs = new ArrayList<>(fieldConfigs);
+        final Map<String, Group> groupsByParent = new LinkedHashMap<>();
+        for (final ResponseFieldConfig cfg : this.fieldConfigs) {
+            final String parent = getArrayParentPath(cfg.getJsonPath());
+            final Field field = new Field(cfg, parent);
+            fields.add(field);
+            groupsByParent.computeIfAbsent(parent, Group::new).fields.add(field);
+        }
+        groups.addAll(groupsByParent.values());
+        this.streamedArrayPath = findStreamedArrayPath();
+    }
+
+    /**
+     * Returns the property names leading to the array that all fields iterate
+     * over, or null if the fields cannot be evaluated one array element at a
+     * time with the same result as against the whole response.
+     */
+    private List<String> findStreamedArrayPath() {
+        if (groups.size() != 1 || !groups.get(0).hasParent()) {
+            return null;
+        }
+        final Matcher matcher = STREAMABLE_PARENT_PATH.matcher(groups.get(0).getParentPath());
+        if (!matcher.matches()) {
+            return null;
+        }
+        for (final Field field : fields) {
+            // Functions and references to the root evaluate differently against an element
+            if (field.tailPath.error != null || field.tail.contains("()") || field.tail.indexOf('$', 1) >= 0) {
+                return null;
+            }
+        }
+        final List<String> names = new ArrayList<>();
+        for (final String name : matcher.group(1).split("\\.")) {
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Compiles the paths of field configs.
+     */
+    public static JsonExtractionPlan compile(List<ResponseFieldConfig> fieldConfigs) {
+        return new JsonExtractionPlan(Optional.ofNullable(fieldConfigs).orElse(Collections.emptyList()));
+    }
+
+    /**
+     * Returns the compiled paths of the field configs of an entity type.
+     */
+    public static JsonExtractionPlan forEntityType(EntityType entityType) {
+        final List<ResponseFieldConfig> fieldConfigs = Optional.ofNullable(entityType.getResponseFieldConfigs()).orElse(Collections.emptyList());
+        final JsonExtractionPlan cached = PLANS.getIfPresent(entityType);
+        if (cached != null && cached.fieldConfigs.equals(fieldConfigs)) {
+            return cached;
+        }
+        final JsonExtractionPlan plan = compile(fieldConfigs);
+        PLANS.put(entityType, plan);
+        return plan;
+    }
+
+    public boolean isEmpty() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * Returns whether the fields can be evaluated one element at a time of the
+     * array they all iterate over.
+     */
+    public boolean isStreamable() {
+        return streamedArrayPath != null;
+    }
+
+    /**
+     * Returns the property names leading from the root of a response to the
+     * array that all fields iterate over, such as ["data", "items"] for
+     * "$.data.items[*]".
+     */
+    public List<String> getStreamedArrayPath() {
+        return streamedArrayPath;
+    }
+
+    /**
+     * Returns the fields in the order of their configs.
+     */
+    public List<Field> getFields() {
+        return Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * Returns the groups of fields in the order their first field is configured.
+     */
+    public List<Group> getGroups() {
+        return Collections.unmodifiableList(groups);
+    }
+
+    /**
+     * Returns "$.xxx[*]" if jsonPath contains an array segment; empty string if none.
+     */
+    private static String getArrayParentPath(final String jsonPath) {
+        if (jsonPath == null || jsonPath.isBlank()) {
+            return "";
+        }
+        final int idx = jsonPath.indexOf(ARRAY_WILDCARD);
+        return idx == -1 ? "" : jsonPath.substring(0, idx + ARRAY_WILDCARD.length());
+    }
+}
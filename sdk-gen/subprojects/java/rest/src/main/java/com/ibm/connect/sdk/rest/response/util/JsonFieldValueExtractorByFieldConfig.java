@@ -19,7 +19,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.ibm.connect.sdk.rest.utils.ObjectMapperUtils;
 import com.ibm.connect.sdk.rest.utils.models.FieldDefinition;
 import com.ibm.connect.sdk.rest.utils.models.ResponseFieldConfig;
-import com.jayway.jsonpath.JsonPath;
 
 public class JsonFieldValueExtractorByFieldConfig {
 
@@ -29,67 +28,39 @@ public class JsonFieldValueExtractorByFieldConfig {
     public List<Map<String, Object>> extractRows(final JsonNode responseJsonNode,
                                                  final List<ResponseFieldConfig> fieldConfigs,
                                                  List<FieldDefinition> fieldDefinitions) throws JsonProcessingException {
-        // Group configs by their array-parent path, e.g. "$.users[*]" or "" for none
-        final Map<String, List<ResponseFieldConfig>> groups = new LinkedHashMap<>();
-        for (final ResponseFieldConfig cfg : fieldConfigs) {
-            final String parent = getArrayParentPath(cfg.getJsonPath()); // "" if no array parent
-            groups.computeIfAbsent(parent, k -> new ArrayList<>()).add(cfg);
-        }
+        return extractRows(responseJsonNode, JsonExtractionPlan.compile(fieldConfigs), fieldDefinitions);
+    }
 
+    /**
+     * Build rows from JsonNode based on the compiled paths of FieldConfigs.
+     */
+    public List<Map<String, Object>> extractRows(final JsonNode responseJsonNode,
+                                                 final JsonExtractionPlan plan,
+                                                 List<FieldDefinition> fieldDefinitions) {
         List<Map<String, Object>> allRows = new ArrayList<>();
 
-        // Process each group independently
-        for (final Map.Entry<String, List<ResponseFieldConfig>> groupEntry : groups.entrySet()) {
-            final String groupParent = groupEntry.getKey();
-            final List<ResponseFieldConfig> configsInGroup = groupEntry.getValue();
-
+        // Process each group of configs sharing an array-parent path, e.g. "$.users[*]", independently
+        for (final JsonExtractionPlan.Group group : plan.getGroups()) {
             final List<Map<String, Object>> groupRows;
-            if (groupParent.isEmpty()) {
+            if (!group.hasParent()) {
                 // No array parent: each config operates on independent nodes -> extract then merge (cartesian)
                 groupRows = new ArrayList<>();
-                for (final ResponseFieldConfig cfg : configsInGroup) {
-                    final Object extracted = JsonPath.read(ObjectMapperUtils.toJsonString(responseJsonNode), cfg.getJsonPath());
-                    final JsonNode extractedNode = ObjectMapperUtils.toJsonNode(extracted);
-                    final List<Map<String, Object>> cfgRows = extractFieldValues(cfg.getName(), extractedNode);
+                for (final JsonExtractionPlan.Field field : group.getFields()) {
+                    final JsonNode extractedNode = field.read(responseJsonNode);
+                    final List<Map<String, Object>> cfgRows = extractFieldValues(field.getName(), extractedNode);
                     groupRows.addAll(cfgRows); // configs without an array parent typically are singletons or simple maps
                 }
             } else {
                 // Group parent is an array path like "$.users[*]".
                 // For each element in that array, extract values for every config in the group relative to that element,
                 // then combine per-element rows (cartesian within element).
-                final Object parentArrayObj = JsonPath.read(ObjectMapperUtils.toJsonString(responseJsonNode), groupParent);
-                final JsonNode parentArrayNode = ObjectMapperUtils.toJsonNode(parentArrayObj);
+                final JsonNode parentArrayNode = group.readParent(responseJsonNode);
 
                 final List<Map<String, Object>> rowsForGroup = new ArrayList<>();
                 if (parentArrayNode != null && parentArrayNode.isArray()) {
                     for (final JsonNode element : parentArrayNode) {
-                        // For this element, extract rows for each config (relative to the element)
-                        List<Map<String, Object>> elementRows = Collections.singletonList(initialiseRowWithFixedField(fieldDefinitions));
-
-                        for (final ResponseFieldConfig cfg : configsInGroup) {
-                            // Compute relative path (tail) after the groupParent
-                            final String tail = getTailPath(cfg.getJsonPath(), groupParent);
-                            final String tailForElement = tail.isEmpty() ? "$" : (tail.startsWith("$") ? tail : "$" + tail);
-
-                            final Object extractedForElement;
-                            try {
-                                // Evaluate tail path against the element JSON
-                                extractedForElement = JsonPath.read(ObjectMapperUtils.toJsonString(element), tailForElement);
-                            } catch (final Exception e) {
-                                // if tail path is invalid for this element, treat as missing
-                                continue;
-                            }
-
-                            final JsonNode extractedNode = ObjectMapperUtils.toJsonNode(extractedForElement);
-                            final String prefix = (extractedNode != null && extractedNode.isValueNode()) ? cfg.getName() : cfg.getName() + "[]" ;
-                            final List<Map<String, Object>> cfgRowsForElement = extractFieldValues(prefix, extractedNode);
-
-                            // Merge rows within this element (cartesian among configs for this element)
-                            elementRows = mergeRows(elementRows, cfgRowsForElement);
-                        }
-
                         // Append elementRows (may be multiple rows per element if nested arrays exist)
-                        rowsForGroup.addAll(elementRows);
+                        rowsForGroup.addAll(extractElementRows(element, group.getFields(), fieldDefinitions));
                     }
                 }
                 groupRows = rowsForGroup;
@@ -108,34 +79,33 @@ public class JsonFieldValueExtractorByFieldConfig {
         return allRows;
     }
 
-
     /**
-     * Returns "$.xxx[*]" if jsonPath contains an array segment; empty string if none.
+     * Build the rows of one element of the array that a group of FieldConfigs iterates over.
+     * For this element, extract rows for each config (relative to the element),
+     * then combine them (cartesian within element).
      */
-    private String getArrayParentPath(final String jsonPath) {
-        if (jsonPath == null || jsonPath.isBlank()) {
-            return "";
-        }
-        final int idx = jsonPath.indexOf("[*]");
-        return idx == -1 ? "" : jsonPath.substring(0, idx + 3);
-    }
+    public List<Map<String, Object>> extractElementRows(final JsonNode element,
+                                                        final List<JsonExtractionPlan.Field> fields,
+                                                        List<FieldDefinition> fieldDefinitions) {
+        List<Map<String, Object>> elementRows = Collections.singletonList(initialiseRowWithFixedField(fieldDefinitions));
+
+        for (final JsonExtractionPlan.Field field : fields) {
+            final JsonNode extractedNode;
+            try {
+                // Evaluate tail path against the element
+                extractedNode = field.readFromElement(element);
+            } catch (final Exception e) {
+                // if tail path is invalid for this element, treat as missing
+                continue;
+            }
 
-    /**
-     * Given fullPath and parentPath (which is a prefix), returns the tail part after parentPath.
-     * Example: full="$.users[*].addresses[*].postcode", parent="$.users[*]" -> tail=".addresses[*].postcode"
-     * If parentPath is not a prefix, returns the fullPath.
-     */
-    private String getTailPath(final String fullPath, final String parentPath) {
-        if (fullPath == null) {
-            return "";
-        }
-        if (parentPath == null || parentPath.isEmpty()) {
-            return fullPath;
-        }
-        if (fullPath.startsWith(parentPath)) {
-            return fullPath.substring(parentPath.length()); // may start with "." or "["
+            final String prefix = (extractedNode != null && extractedNode.isValueNode()) ? field.getName() : field.getName() + "[]" ;
+            final List<Map<String, Object>> cfgRowsForElement = extractFieldValues(prefix, extractedNode);
+
+            // Merge rows within this element (cartesian among configs for this element)
+            elementRows = mergeRows(elementRows, cfgRowsForElement);
         }
-        return fullPath;
+        return elementRows;
     }
 
     /**
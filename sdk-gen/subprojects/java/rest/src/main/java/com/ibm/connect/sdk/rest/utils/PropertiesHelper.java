@@ -61,6 +61,15 @@ public class PropertiesHelper {
         return value;
     }
 
+    /**
+     * @return a hash of the properties, which identifies a connection and its credentials in caches without
+     * keeping the credentials
+     */
+    public String getPropertiesHash()
+    {
+        return RestUtils.hashConnectionProperties(properties);
+    }
+
     protected String findProperty(String name)
     {
         if (name == null) {
@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.Locale;
 import java.util.stream.Collectors;
 
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 
 import com.ibm.connect.sdk.rest.RestMsgs;
@@ -16,6 +17,7 @@ import com.ibm.connect.sdk.rest.RestMsgs;
 public class RestApiConstants {
     //Rest Connector Constants
     public static final Timeout HTTP_CLIENT_DEFAULT_CONNECT_TIMEOUT = Timeout.ofMinutes(3);
+    public static final TimeValue HTTP_CLIENT_DEFAULT_KEEP_ALIVE = TimeValue.ofMinutes(1);
     public static final int HTTP_POOL_DEFAULT_MAX_CONNECTION = 100;
     public static final int HTTP_POOL_DEFAULT_MAX_CONNECTION_PER_ROUTE = 10;
 
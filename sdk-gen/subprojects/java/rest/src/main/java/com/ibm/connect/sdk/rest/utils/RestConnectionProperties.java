@@ -27,6 +27,9 @@ public class RestConnectionProperties extends PropertiesHelper {
     public static final String PROPERTY_AUTH_PASSWORD = "password";
     public static final String PROPERTY_PREDEFINED_REST_CONFIG_IDENTIFIER = "predefined_rest_config_yaml_identifier";
     public static final String PROPERTY_CUSTOM_REST_CONFIG_YAML = "rest_config_yaml";
+    public static final String PROPERTY_MAX_CONNECTIONS_PER_ROUTE = "max_connections_per_route";
+    public static final String PROPERTY_KEEP_ALIVE_SECONDS = "keep_alive_seconds";
+    public static final String PROPERTY_MAX_REQUESTS_PER_SECOND = "max_requests_per_second";
     
     // OAuth 2.0 properties
     public static final String PROPERTY_OAUTH2_TOKEN_URL = "oauth2_token_url";
@@ -58,6 +61,53 @@ public class RestConnectionProperties extends PropertiesHelper {
         return getProperty(PROPERTY_SSL_CERTIFICATE);
     }
 
+    /**
+     * @return the maximum number of connections to the API host, or null for the default.
+     *
+     * @throws IllegalArgumentException if the property is not a positive integer.
+     */
+    public Integer getMaxConnectionsPerRoute()
+    {
+        return getPositiveIntegerProperty(PROPERTY_MAX_CONNECTIONS_PER_ROUTE);
+    }
+
+    /**
+     * @return how long idle connections to the API host are kept open in seconds, or null for the default.
+     *
+     * @throws IllegalArgumentException if the property is not a positive integer.
+     */
+    public Integer getKeepAliveSeconds()
+    {
+        return getPositiveIntegerProperty(PROPERTY_KEEP_ALIVE_SECONDS);
+    }
+
+    /**
+     * @return the maximum number of requests per second sent to the API host, or null for no limit.
+     *
+     * @throws IllegalArgumentException if the property is not a positive integer.
+     */
+    public Integer getMaxRequestsPerSecond()
+    {
+        return getPositiveIntegerProperty(PROPERTY_MAX_REQUESTS_PER_SECOND);
+    }
+
+    private Integer getPositiveIntegerProperty(String name)
+    {
+        final String value = getProperty(name);
+        if (RestUtils.isNullOrEmpty(value)) {
+            return null;
+        }
+        try {
+            final int intValue = Integer.parseInt(value.trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(RestMsgs.INVALID_CONNECTION_PROPERTIES.format(name));
+    }
+
     /**
      * @return <code>true</code> if basic authentication is to be used.
      *
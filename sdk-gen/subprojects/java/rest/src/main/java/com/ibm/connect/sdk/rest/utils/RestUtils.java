@@ -16,12 +16,16 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import com.google.common.hash.Hashing;
 import com.ibm.connect.sdk.rest.pagination.PaginationType;
 import com.ibm.connect.sdk.rest.utils.models.FieldDefinition;
 import com.ibm.connect.sdk.rest.utils.models.Pagination;
@@ -36,6 +40,18 @@ public class RestUtils {
         return str == null || str.isBlank();
     }
 
+    /**
+     * @return a hash of connection properties, which identifies a connection and its credentials in caches without
+     * keeping the credentials
+     */
+    public static String hashConnectionProperties(Properties connectionProperties) {
+        final Map<String, String> sortedProperties = new TreeMap<>();
+        if (connectionProperties != null) {
+            connectionProperties.stringPropertyNames().forEach(name -> sortedProperties.put(name, connectionProperties.getProperty(name)));
+        }
+        return Hashing.sha256().hashString(sortedProperties.toString(), StandardCharsets.UTF_8).toString();
+    }
+
     public static int determineNextLevelToDiscover(String path) {
         if(isNullOrEmpty(path) || "/".equals(path)) {
             return 1; //Root level
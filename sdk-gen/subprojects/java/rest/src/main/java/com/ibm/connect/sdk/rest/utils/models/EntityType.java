@@ -42,6 +42,12 @@ public class EntityType {
     @JsonProperty("pagination")
     private Pagination pagination;
 
+    @JsonProperty("schemaCacheSeconds")
+    private Integer schemaCacheSeconds;
+
+    @JsonProperty("inferSchemaFromData")
+    private Boolean inferSchemaFromData;
+
     @SuppressWarnings("PMD.UnnecessaryConstructor")
     public EntityType() {
         // no-arg constructor
@@ -126,4 +132,20 @@ public class EntityType {
     public void setPagination(Pagination pagination) {
         this.pagination = pagination;
     }
+
+    public Integer getSchemaCacheSeconds() {
+        return schemaCacheSeconds;
+    }
+
+    public void setSchemaCacheSeconds(Integer schemaCacheSeconds) {
+        this.schemaCacheSeconds = schemaCacheSeconds;
+    }
+
+    public Boolean getInferSchemaFromData() {
+        return inferSchemaFromData;
+    }
+
+    public void setInferSchemaFromData(Boolean inferSchemaFromData) {
+        this.inferSchemaFromData = inferSchemaFromData;
+    }
 }
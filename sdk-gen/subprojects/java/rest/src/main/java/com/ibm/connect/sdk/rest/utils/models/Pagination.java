@@ -33,6 +33,9 @@ public class Pagination {
     @JsonProperty("supportedMaxLimit")
     private Integer supportedMaxLimit;
 
+    @JsonProperty("prefetchPages")
+    private Integer prefetchPages;
+
     public String getType() {
         return type;
     }
@@ -96,4 +99,12 @@ public class Pagination {
     public void setSupportedMaxLimit(Integer supportedMaxLimit) {
         this.supportedMaxLimit = supportedMaxLimit;
     }
+
+    public Integer getPrefetchPages() {
+        return prefetchPages;
+    }
+
+    public void setPrefetchPages(Integer prefetchPages) {
+        this.prefetchPages = prefetchPages;
+    }
 }
@@ -35,6 +35,7 @@ import org.apache.hc.core5.http.io.HttpClientResponseHandler;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 
 import com.ibm.connect.sdk.rest.httpclient.RestExecutorImpl;
@@ -44,6 +45,7 @@ import com.ibm.connect.sdk.test.helper.MockConnectionProperties;
 import com.ibm.connect.sdk.test.helper.RestTestUtils;
 import com.ibm.wdp.connect.common.sdk.api.models.ConnectionProperties;
 import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetDescriptor;
+import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetField;
 import com.ibm.wdp.connect.common.sdk.api.models.CustomFlightAssetsCriteria;
 import com.ibm.wdp.connect.common.sdk.api.models.DiscoveredAssetInteractionProperties;
 
@@ -209,6 +211,60 @@ public class RestConnectorTest {
         }
     }
 
+    @Test
+    public void testFieldsCachedAcrossInteractions() throws Exception {
+        // Credentials of their own, so that no other test cached the fields of this connection
+        properties.put(PROPERTY_AUTH_USERNAME, "schema-cache-user");
+        properties.put(PROPERTY_CUSTOM_REST_CONFIG_YAML, RestTestUtils.readResourceFile("com/ibm/connect/sdk/rest/config/github/github_repos.yml"));
+        setupMockHttpClient();
+
+        try (RestConnector connector = createMockedConnector(MockConnectionProperties.getConnectionProperties(properties))) {
+            connector.connect();
+            final CustomFlightAssetDescriptor asset = createRepositoryAsset();
+            final List<CustomFlightAssetField> fields;
+            try (RestSourceInteraction sourceInteraction = connector.getSourceInteraction(asset, null)) {
+                final int requestCount = getRequestCount();
+                fields = sourceInteraction.getFields();
+                Assert.assertEquals(106, fields.size());
+                Assert.assertEquals(requestCount + 1, getRequestCount());
+            }
+            try (RestSourceInteraction sourceInteraction = connector.getSourceInteraction(createRepositoryAsset(), null)) {
+                final int requestCount = getRequestCount();
+                Assert.assertEquals(fields, sourceInteraction.getFields());
+                Assert.assertEquals(requestCount, getRequestCount());
+            }
+        }
+    }
+
+    @Test
+    public void testFieldsInferredFromFirstPage() throws Exception {
+        properties.put(PROPERTY_AUTH_USERNAME, "infer-schema-user");
+        properties.put(PROPERTY_CUSTOM_REST_CONFIG_YAML, RestTestUtils.readResourceFile("com/ibm/connect/sdk/rest/config/github/github_repos.yml").stripTrailing()
+                + "\n    inferSchemaFromData: true\n");
+        setupMockHttpClient();
+
+        try (RestConnector connector = createMockedConnector(MockConnectionProperties.getConnectionProperties(properties))) {
+            connector.connect();
+            try (RestSourceInteraction sourceInteraction = connector.getSourceInteraction(createRepositoryAsset(), null)) {
+                final int requestCount = getRequestCount();
+                Assert.assertEquals(106, sourceInteraction.getFields().size());
+                Assert.assertEquals(requestCount, getRequestCount());
+            }
+        }
+    }
+
+    private static CustomFlightAssetDescriptor createRepositoryAsset() {
+        final CustomFlightAssetDescriptor asset = new CustomFlightAssetDescriptor();
+        final DiscoveredAssetInteractionProperties interactionProperties = new DiscoveredAssetInteractionProperties();
+        interactionProperties.put(RestSourceInteractionProperties.PROPERTIES_SELECTED_PARENT_ENTITY_VALUES, "{\"organization\":\"TestOrg\"}");
+        asset.setInteractionProperties(interactionProperties);
+        return asset;
+    }
+
+    private int getRequestCount() {
+        return Mockito.mockingDetails(mockHttpClient).getInvocations().size();
+    }
+
     /**
      * Setup mock HTTP client to return predefined responses based on URL patterns
      */
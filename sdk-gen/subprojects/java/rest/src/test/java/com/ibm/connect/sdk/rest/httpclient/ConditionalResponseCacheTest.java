@@ -0,0 +1,202 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.rest.httpclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests that conditional requests reuse the cached response when the server answers 304 Not Modified.
+ */
+public class ConditionalResponseCacheTest {
+    private HttpServer server;
+    private String baseUrl;
+    // If-None-Match header of each request, null if not sent
+    private final List<String> ifNoneMatchHeaders = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger version = new AtomicInteger(1);
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/items", exchange -> {
+            final String entityTag = "\"v" + version.get() + "\"";
+            final String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            ifNoneMatchHeaders.add(ifNoneMatch);
+            exchange.getResponseHeaders().add("ETag", entityTag);
+            if (entityTag.equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            final byte[] bytes = ("[{\"version\":" + version.get() + "}]").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        // Returns the user's own items, with an entity tag that does not depend on the user
+        server.createContext("/mine", exchange -> {
+            final String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            ifNoneMatchHeaders.add(ifNoneMatch);
+            exchange.getResponseHeaders().add("ETag", "\"same\"");
+            if ("\"same\"".equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            final byte[] bytes = String.valueOf(exchange.getRequestHeaders().getFirst("Authorization")).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        // Sends a body of the size given by the query, without a Content-Length
+        server.createContext("/chunked", exchange -> {
+            final String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            ifNoneMatchHeaders.add(ifNoneMatch);
+            exchange.getResponseHeaders().add("ETag", "\"chunked\"");
+            if ("\"chunked\"".equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            final int size = Integer.parseInt(exchange.getRequestURI().getQuery().substring("size=".length()));
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                final byte[] chunk = new byte[64 * 1024];
+                Arrays.fill(chunk, (byte) 'x');
+                for (int written = 0; written < size; written += chunk.length) {
+                    out.write(chunk, 0, Math.min(chunk.length, size - written));
+                }
+            }
+        });
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testNotModifiedResponseReused() throws IOException {
+        final RestExecutorImpl executor = new RestExecutorImpl(new HttpClientFactory.Builder().buildFactory().build());
+        try {
+            assertEquals("[{\"version\":1}]", get(executor, true));
+            assertEquals("[{\"version\":1}]", get(executor, true));
+            version.incrementAndGet();
+            assertEquals("[{\"version\":2}]", get(executor, true));
+            assertEquals("[{\"version\":2}]", get(executor, true));
+        } finally {
+            executor.close();
+        }
+        assertEquals(List.of("", "\"v1\"", "\"v1\"", "\"v2\""), nullAsEmpty(ifNoneMatchHeaders));
+    }
+
+    @Test
+    public void testNotConditionalByDefault() throws IOException {
+        final RestExecutorImpl executor = new RestExecutorImpl(new HttpClientFactory.Builder().buildFactory().buildShared(baseUrl));
+        try {
+            get(executor, false);
+            get(executor, false);
+        } finally {
+            executor.close();
+        }
+        assertNull(ifNoneMatchHeaders.get(0));
+        assertNull(ifNoneMatchHeaders.get(1));
+    }
+
+    @Test
+    public void testResponsesNotSharedAcrossCredentials() throws IOException {
+        final RestExecutorImpl alice = new RestExecutorImpl(new HttpClientFactory.Builder()
+                .withBasicAuth("alice", "a".toCharArray()).buildFactory().buildShared(baseUrl), null, "alice-connection");
+        final RestExecutorImpl bob = new RestExecutorImpl(new HttpClientFactory.Builder()
+                .withBasicAuth("bob", "b".toCharArray()).buildFactory().buildShared(baseUrl), null, "bob-connection");
+        final RestExecutorImpl anonymous = new RestExecutorImpl(new HttpClientFactory.Builder().buildFactory().buildShared(baseUrl));
+        try {
+            final String aliceItems = getMine(alice);
+            final String bobItems = getMine(bob);
+            assertEquals(aliceItems, getMine(alice));
+            assertEquals(bobItems, getMine(bob));
+            assertEquals("null", getMine(anonymous));
+            assertTrue(aliceItems.startsWith("Basic "));
+            assertTrue(bobItems.startsWith("Basic "));
+            assertNotEquals(aliceItems, bobItems);
+        } finally {
+            alice.close();
+            bob.close();
+            anonymous.close();
+        }
+        // Only the second requests of each user were conditional
+        assertEquals(List.of("", "", "\"same\"", "\"same\"", ""), nullAsEmpty(ifNoneMatchHeaders));
+    }
+
+    @Test
+    public void testChunkedBodyCachedUpToLimit() throws IOException {
+        final RestExecutorImpl executor = new RestExecutorImpl(new HttpClientFactory.Builder().buildFactory().buildShared(baseUrl));
+        final int smallSize = 1000;
+        final int largeSize = ConditionalResponseCache.MAX_CACHED_BODY_SIZE + 100;
+        try {
+            assertEquals(smallSize, getChunked(executor, smallSize));
+            assertEquals(smallSize, getChunked(executor, smallSize));
+            // The whole body is still given to the handler, but not cached
+            assertEquals(largeSize, getChunked(executor, largeSize));
+            assertEquals(largeSize, getChunked(executor, largeSize));
+        } finally {
+            executor.close();
+        }
+        assertEquals(List.of("", "\"chunked\"", "", ""), nullAsEmpty(ifNoneMatchHeaders));
+    }
+
+    private int getChunked(RestExecutorImpl executor, int size) throws IOException {
+        return executor.executeRequest("GET", baseUrl + "/chunked", Collections.emptyMap(),
+                Collections.singletonMap("size", String.valueOf(size)), null, true,
+                response -> {
+                    assertEquals(200, response.getCode());
+                    return EntityUtils.toByteArray(response.getEntity()).length;
+                });
+    }
+
+    private String getMine(RestExecutorImpl executor) throws IOException {
+        return executor.executeRequest("GET", baseUrl + "/mine", Collections.emptyMap(), Collections.emptyMap(), null, true,
+                response -> EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8));
+    }
+
+    private String get(RestExecutorImpl executor, boolean conditional) throws IOException {
+        // Query parameters keep entries of the tests apart, as the cache is shared
+        return executor.executeRequest("GET", baseUrl + "/items", Collections.emptyMap(),
+                Collections.singletonMap("conditional", String.valueOf(conditional)), null, conditional,
+                response -> EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8));
+    }
+
+    private static List<String> nullAsEmpty(List<String> values) {
+        final List<String> result = new ArrayList<>();
+        values.forEach(value -> result.add(value == null ? "" : value));
+        return result;
+    }
+}
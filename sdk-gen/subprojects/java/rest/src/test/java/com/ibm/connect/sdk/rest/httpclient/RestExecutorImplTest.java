@@ -6,16 +6,82 @@
 package com.ibm.connect.sdk.rest.httpclient;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.After;
 import org.junit.Assert;
+import org.junit.Before;
 import org.junit.Test;
 
+import com.sun.net.httpserver.HttpServer;
+
 public class RestExecutorImplTest {
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private HttpServer server;
+    private String baseUrl;
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        // Throttles every other request
+        server.createContext("/throttled", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (requestCount.incrementAndGet() % 2 == 1) {
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                exchange.sendResponseHeaders(429, -1);
+                exchange.close();
+                return;
+            }
+            final byte[] bytes = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testThrottledGetRetried() throws IOException {
+        final RestExecutorImpl connector = new RestExecutorImpl(new HttpClientFactory.Builder().buildFactory().buildShared(baseUrl), 100);
+        try {
+            final String response = connector.executeRequest("GET", baseUrl + "/throttled", Collections.emptyMap(), Collections.emptyMap(), null,
+                    r -> r.getCode() + " " + EntityUtils.toString(r.getEntity(), StandardCharsets.UTF_8));
+            Assert.assertEquals("200 ok", response);
+            Assert.assertEquals(2, requestCount.get());
+        } finally {
+            connector.close();
+        }
+    }
+
+    @Test
+    public void testThrottledPostNotRetried() throws IOException {
+        final RestExecutorImpl connector = new RestExecutorImpl(new HttpClientFactory.Builder().buildFactory().buildShared(baseUrl));
+        try {
+            final int status = connector.executeRequest("POST", baseUrl + "/throttled", Collections.emptyMap(), Collections.emptyMap(), "{}",
+                    r -> r.getCode());
+            Assert.assertEquals(429, status);
+            Assert.assertEquals(1, requestCount.get());
+        } finally {
+            connector.close();
+        }
+    }
+
     @Test
     public void testGetHttpCall() throws IOException {
         final HttpClientFactory.Builder httpBuilder = new HttpClientFactory.Builder();
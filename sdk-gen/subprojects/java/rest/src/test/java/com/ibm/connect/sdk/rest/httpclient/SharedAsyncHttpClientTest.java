@@ -0,0 +1,184 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.rest.httpclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests that connectors of the same origin share one async client, while keeping their own credentials.
+ */
+public class SharedAsyncHttpClientTest {
+    private static final int LARGE_BODY_SIZE = 1024 * 1024;
+
+    private final CountDownLatch slowResponseReleased = new CountDownLatch(1);
+    private HttpServer server;
+    private String baseUrl;
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        // Echoes the authorization header and the request body
+        server.createContext("/echo", exchange -> {
+            final String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            final byte[] requestBody;
+            try (InputStream in = exchange.getRequestBody()) {
+                requestBody = in.readAllBytes();
+            }
+            final byte[] bytes = (authorization + "|" + new String(requestBody, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.createContext("/gzip", exchange -> {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.getResponseHeaders().add("X-Accept-Encoding", String.valueOf(exchange.getRequestHeaders().getFirst("Accept-Encoding")));
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody())) {
+                out.write("{\"compressed\":true}".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.createContext("/large", exchange -> {
+            final byte[] chunk = new byte[8192];
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int written = 0; written < LARGE_BODY_SIZE; written += chunk.length) {
+                    out.write(chunk);
+                }
+            }
+        });
+        // Answers once the test is over
+        server.createContext("/slow", exchange -> {
+            try {
+                slowResponseReleased.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @After
+    public void stopServer() {
+        slowResponseReleased.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    public void testSameOriginSharesAsyncClient() throws IOException {
+        final int sharedClients = SharedAsyncHttpClient.sharedClientCount();
+        final RestExecutorImpl first = new RestExecutorImpl(new HttpClientFactory.Builder().buildFactory().buildShared(baseUrl + "/echo"));
+        final RestExecutorImpl second = new RestExecutorImpl(new HttpClientFactory.Builder().buildFactory().buildShared(baseUrl + "/large"));
+        assertEquals(sharedClients + 1, SharedAsyncHttpClient.sharedClientCount());
+
+        first.close();
+        assertEquals(sharedClients + 1, SharedAsyncHttpClient.sharedClientCount());
+        assertTrue(second.checkConnection(baseUrl + "/echo"));
+        second.close();
+        assertEquals(sharedClients, SharedAsyncHttpClient.sharedClientCount());
+    }
+
+    @Test
+    public void testCredentialsAppliedPerConnector() throws IOException {
+        final RestExecutorImpl alice = new RestExecutorImpl(new HttpClientFactory.Builder()
+                .withBasicAuth("alice", "a".toCharArray()).buildFactory().buildShared(baseUrl));
+        final RestExecutorImpl bob = new RestExecutorImpl(new HttpClientFactory.Builder()
+                .withBasicAuth("bob", "b".toCharArray()).buildFactory().buildShared(baseUrl));
+        try {
+            assertEquals(basicAuth("alice:a") + "|", execute(alice, "GET", null));
+            assertEquals(basicAuth("bob:b") + "|{\"id\":1}", execute(bob, "POST", "{\"id\":1}"));
+        } finally {
+            alice.close();
+            bob.close();
+        }
+    }
+
+    @Test
+    public void testLargeBodyStreamed() throws IOException {
+        final RestExecutorImpl executor = new RestExecutorImpl(new HttpClientFactory.Builder().buildFactory().buildShared(baseUrl));
+        try {
+            final HttpClientResponseHandler<Integer> responseHandler = response -> EntityUtils.toByteArray(response.getEntity()).length;
+            for (int i = 0; i < 3; i++) {
+                assertEquals(Integer.valueOf(LARGE_BODY_SIZE), executor.executeRequest("GET", baseUrl + "/large",
+                        Collections.emptyMap(), Collections.emptyMap(), null, responseHandler));
+            }
+        } finally {
+            executor.close();
+        }
+    }
+
+    @Test
+    public void testCompressedResponseDecompressed() throws IOException {
+        final RestExecutorImpl executor = new RestExecutorImpl(new HttpClientFactory.Builder().buildFactory().buildShared(baseUrl));
+        try {
+            final String[] acceptEncoding = new String[1];
+            final String body = executor.executeRequest("GET", baseUrl + "/gzip", Collections.emptyMap(), Collections.emptyMap(), null,
+                    response -> {
+                        acceptEncoding[0] = response.getFirstHeader("X-Accept-Encoding").getValue();
+                        assertNull(response.getFirstHeader("Content-Encoding"));
+                        return EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+                    });
+            assertEquals("{\"compressed\":true}", body);
+            assertTrue(acceptEncoding[0], acceptEncoding[0].contains("gzip"));
+        } finally {
+            executor.close();
+        }
+    }
+
+    @Test
+    public void testSlowResponseTimesOut() throws IOException {
+        final RestExecutorImpl executor = new RestExecutorImpl(new HttpClientFactory.Builder()
+                .withTimeoutSeconds(Timeout.ofMilliseconds(500)).buildFactory().buildShared(baseUrl));
+        final long start = System.nanoTime();
+        try {
+            executor.executeRequest("GET", baseUrl + "/slow", Collections.emptyMap(), Collections.emptyMap(), null,
+                    response -> response.getCode());
+            fail("Timeout expected");
+        } catch (SocketTimeoutException e) {
+            assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+        } finally {
+            executor.close();
+        }
+    }
+
+    private String execute(RestExecutorImpl executor, String method, String body) throws IOException {
+        return executor.executeRequest(method, baseUrl + "/echo", Map.of("Accept", "text/plain"), Collections.emptyMap(), body,
+                response -> EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8));
+    }
+
+    private static String basicAuth(String credentials) {
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,159 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.rest.request;
+
+import static com.ibm.connect.sdk.rest.utils.RestConnectionProperties.PROPERTY_AUTH_USERNAME;
+import static com.ibm.connect.sdk.rest.utils.RestConnectionProperties.PROPERTY_BASE_URL;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.message.BasicHeader;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.connect.sdk.rest.httpclient.RestExecutorImpl;
+import com.ibm.connect.sdk.rest.pagination.PaginationCursor;
+import com.ibm.connect.sdk.rest.response.EntityTypeResponseHandler;
+import com.ibm.connect.sdk.rest.utils.RestConnectionProperties;
+import com.ibm.connect.sdk.rest.utils.models.EntityType;
+import com.ibm.connect.sdk.rest.utils.models.Pagination;
+
+/**
+ * Tests that LINK_HEADER pages are fetched once when paging with a {@link PaginationCursor}.
+ */
+public class EntityTypeRequestHandlerTest {
+    private static final int PAGE_SIZE = 2;
+
+    // Page numbers in the order they were requested
+    private final List<Integer> requestedPages = new ArrayList<>();
+    private RestExecutorImpl restExecutor;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() throws IOException {
+        restExecutor = mock(RestExecutorImpl.class);
+        when(restExecutor.executeRequest(anyString(), anyString(), any(), anyMap(), isNull(), anyBoolean(), any(HttpClientResponseHandler.class)))
+            .thenAnswer(invocation -> {
+                final Map<String, String> queryParams = invocation.getArgument(3);
+                final int page = Integer.parseInt(queryParams.getOrDefault("page", "1"));
+                requestedPages.add(page);
+                return createPage(invocation.getArgument(1), page);
+            });
+    }
+
+    @Test
+    public void testConsecutivePagesFetchedOnce() throws IOException {
+        final EntityTypeRequestHandler requestHandler = createRequestHandler("https://consecutive.example.com");
+        final EntityType entityType = createEntityTypeWithLinkHeaderPagination();
+        final PaginationCursor cursor = new PaginationCursor();
+
+        for (int page = 1; page <= 4; page++) {
+            final List<EntityTypeResponseHandler> responseHandlers = requestHandler.executeRequest(entityType, Collections.emptyMap(), PAGE_SIZE, cursor);
+            assertEquals(1, responseHandlers.size());
+            assertEquals(page * PAGE_SIZE, cursor.getOffset());
+        }
+        assertEquals(List.of(1, 2, 3, 4), requestedPages);
+    }
+
+    @Test
+    public void testSubPaginationAdvancesCursor() throws IOException {
+        final EntityTypeRequestHandler requestHandler = createRequestHandler("https://subpagination.example.com");
+        final EntityType entityType = createEntityTypeWithLinkHeaderPagination();
+        final PaginationCursor cursor = new PaginationCursor();
+
+        assertEquals(2, requestHandler.executeRequest(entityType, Collections.emptyMap(), 2 * PAGE_SIZE, cursor).size());
+        assertEquals(2 * PAGE_SIZE, cursor.getOffset());
+        assertEquals(2, requestHandler.executeRequest(entityType, Collections.emptyMap(), 2 * PAGE_SIZE, cursor).size());
+        assertEquals(List.of(1, 2, 3, 4), requestedPages);
+    }
+
+    @Test
+    public void testPagesWalkedOnceAcrossCursors() throws IOException {
+        final EntityTypeRequestHandler requestHandler = createRequestHandler("https://partitions.example.com");
+        final EntityType entityType = createEntityTypeWithLinkHeaderPagination();
+
+        // The first cursor at the fourth page has to walk the pages before it
+        requestHandler.executeRequest(entityType, Collections.emptyMap(), PAGE_SIZE, new PaginationCursor(3 * PAGE_SIZE, null));
+        assertEquals(List.of(1, 2, 3, 4), requestedPages);
+
+        // Another cursor, such as of another partition, resumes from the pages already walked
+        requestedPages.clear();
+        requestHandler.executeRequest(entityType, Collections.emptyMap(), PAGE_SIZE, new PaginationCursor(2 * PAGE_SIZE, null));
+        requestHandler.executeRequest(entityType, Collections.emptyMap(), PAGE_SIZE, new PaginationCursor(4 * PAGE_SIZE, null));
+        assertEquals(List.of(3, 5), requestedPages);
+    }
+
+    @Test
+    public void testSubPagesWalkedOnceAcrossCursors() throws IOException {
+        final EntityTypeRequestHandler requestHandler = createRequestHandler("https://subpartitions.example.com");
+        final EntityType entityType = createEntityTypeWithLinkHeaderPagination();
+
+        // The pages fetched to fulfill a limit above the supported one are remembered with the page size they are walked with
+        requestHandler.executeRequest(entityType, Collections.emptyMap(), 2 * PAGE_SIZE, new PaginationCursor());
+        requestHandler.executeRequest(entityType, Collections.emptyMap(), PAGE_SIZE, new PaginationCursor(2 * PAGE_SIZE, null));
+        assertEquals(List.of(1, 2, 3), requestedPages);
+    }
+
+    @Test
+    public void testPagesNotSharedAcrossConnections() throws IOException {
+        final EntityTypeRequestHandler alice = createRequestHandler("https://users.example.com", "alice");
+        final EntityTypeRequestHandler bob = createRequestHandler("https://users.example.com", "bob");
+        alice.executeRequest(createEntityTypeWithLinkHeaderPagination(), Collections.emptyMap(), PAGE_SIZE, new PaginationCursor(2 * PAGE_SIZE, null));
+        assertEquals(List.of(1, 2, 3), requestedPages);
+
+        // The pages walked with the credentials of another connection are not reused
+        requestedPages.clear();
+        bob.executeRequest(createEntityTypeWithLinkHeaderPagination(), Collections.emptyMap(), PAGE_SIZE, new PaginationCursor(3 * PAGE_SIZE, null));
+        assertEquals(List.of(1, 2, 3, 4), requestedPages);
+    }
+
+    private EntityTypeRequestHandler createRequestHandler(String baseUrl) {
+        return createRequestHandler(baseUrl, null);
+    }
+
+    private EntityTypeRequestHandler createRequestHandler(String baseUrl, String username) {
+        final Properties properties = new Properties();
+        properties.put(PROPERTY_BASE_URL, baseUrl);
+        if (username != null) {
+            properties.put(PROPERTY_AUTH_USERNAME, username);
+        }
+        return new EntityTypeRequestHandler(restExecutor, new RestConnectionProperties(properties));
+    }
+
+    private static EntityTypeResponseHandler createPage(String url, int page) throws IOException {
+        final EntityTypeResponseHandler responseHandler = mock(EntityTypeResponseHandler.class);
+        when(responseHandler.getFieldValueMap()).thenReturn(Collections.nCopies(PAGE_SIZE, Collections.emptyMap()));
+        when(responseHandler.getHeaders()).thenReturn(List.of(new BasicHeader("Link", "<" + url + "?page=" + (page + 1) + ">; rel=\"next\"")));
+        return responseHandler;
+    }
+
+    private static EntityType createEntityTypeWithLinkHeaderPagination() {
+        final EntityType entityType = new EntityType();
+        entityType.setMethod("GET");
+        entityType.setEndpointPath("/items");
+        final Pagination pagination = new Pagination();
+        pagination.setType("LINK_HEADER");
+        pagination.setLocation("query");
+        pagination.setLinkHeader("Link");
+        pagination.setSupportedMaxLimit(PAGE_SIZE);
+        entityType.setPagination(pagination);
+        return entityType;
+    }
+}
@@ -21,6 +21,8 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import com.ibm.connect.sdk.rest.response.impl.JsonResponseHandler;
+import com.ibm.connect.sdk.rest.response.impl.StreamingJsonResponseHandler;
+import com.ibm.connect.sdk.rest.response.util.JsonExtractionPlan;
 import com.ibm.connect.sdk.rest.utils.models.EntityType;
 import com.ibm.connect.sdk.rest.utils.models.FieldDefinition;
 import com.ibm.connect.sdk.rest.utils.models.ResponseFieldConfig;
@@ -167,6 +169,63 @@ public class JsonResponseHandlerTest {
         Assert.assertEquals("102, John, 25, 456 Market St, San Francisco, 37.7749, -122.4194, viewer, false, null, null, null", fieldValueMap.get(2).values().stream().map(String::valueOf).collect(Collectors.joining(", ")));
     }
 
+    @Test
+    public void testStreamingJsonResponseHandlerMatchesJsonResponseHandler() throws IOException {
+        final String responseBody = RestTestUtils.readResourceFile("com/ibm/connect/sdk/rest/response/object_array.json");
+        final EntityType entityType = new EntityType();
+        entityType.setName("entityName");
+        entityType.setResponseFieldConfigs(List.of(new ResponseFieldConfig("user_id","$.users[*].id"),
+                                                   new ResponseFieldConfig("projects","$.users[*].projects"),
+                                                   new ResponseFieldConfig("city","$.users[*].address.city")));
+        Assert.assertTrue(JsonExtractionPlan.forEntityType(entityType).isStreamable());
+
+        final JsonResponseHandler jsonResponseHandler = new JsonResponseHandler(createHttpResponse(responseBody), entityType);
+        final StreamingJsonResponseHandler streamingResponseHandler = new StreamingJsonResponseHandler(createHttpResponse(responseBody), entityType);
+
+        Assert.assertEquals("user_id, projects[][].id, projects[][].name, projects[][].budget, city", streamingResponseHandler.getFieldDefinitions().stream()
+                .map(FieldDefinition::getName)
+                .collect(Collectors.joining(", ")));
+        Assert.assertEquals(jsonResponseHandler.getFieldDefinitions().stream().map(fd -> fd.getName() + ":" + fd.getType()).collect(Collectors.toList()),
+                streamingResponseHandler.getFieldDefinitions().stream().map(fd -> fd.getName() + ":" + fd.getType()).collect(Collectors.toList()));
+
+        final List<Map<String, Object>> fieldValueMap = streamingResponseHandler.getFieldValueMap();
+        Assert.assertEquals(3, fieldValueMap.size()); //Subarrays present on project
+        Assert.assertEquals(jsonResponseHandler.getFieldValueMap(), fieldValueMap);
+        Assert.assertEquals("101, P100, Project A, 5000.75, New York", fieldValueMap.get(0).values().stream().map(String::valueOf).collect(Collectors.joining(", ")));
+        Assert.assertEquals("102, null, null, null, San Francisco", fieldValueMap.get(2).values().stream().map(String::valueOf).collect(Collectors.joining(", ")));
+    }
+
+    @Test
+    public void testStreamingJsonResponseHandlerMixedFieldValues() throws IOException {
+        final String responseBody = "{\"items\":[{\"id\":1,\"tags\":[\"a\",\"b\"],\"owner\":\"x\"},"
+                + "{\"id\":2,\"tags\":[],\"owner\":{\"name\":\"y\",\"teams\":[{\"id\":7}]}},"
+                + "{\"id\":\"3\",\"owner\":{\"name\":\"z\",\"email\":\"z@example.com\"}}]}";
+        final EntityType entityType = new EntityType();
+        entityType.setName("entityName");
+        entityType.setResponseFieldConfigs(List.of(new ResponseFieldConfig("id","$.items[*].id"),
+                                                   new ResponseFieldConfig("tags","$.items[*].tags"),
+                                                   new ResponseFieldConfig("owner","$.items[*].owner")));
+        Assert.assertTrue(JsonExtractionPlan.forEntityType(entityType).isStreamable());
+
+        final JsonResponseHandler jsonResponseHandler = new JsonResponseHandler(createHttpResponse(responseBody), entityType);
+        final StreamingJsonResponseHandler streamingResponseHandler = new StreamingJsonResponseHandler(createHttpResponse(responseBody), entityType);
+
+        Assert.assertEquals(jsonResponseHandler.getFieldDefinitions().stream().map(fd -> fd.getName() + ":" + fd.getType()).collect(Collectors.toList()),
+                streamingResponseHandler.getFieldDefinitions().stream().map(fd -> fd.getName() + ":" + fd.getType()).collect(Collectors.toList()));
+        Assert.assertEquals(jsonResponseHandler.getFieldValueMap(), streamingResponseHandler.getFieldValueMap());
+    }
+
+    @Test
+    public void testJsonExtractionPlanNotStreamable() {
+        Assert.assertFalse(JsonExtractionPlan.compile(List.of(new ResponseFieldConfig("count", "$.metadata.count"))).isStreamable());
+        Assert.assertFalse(JsonExtractionPlan.compile(List.of(new ResponseFieldConfig("name", "$.users[*].name"),
+                                                              new ResponseFieldConfig("count", "$.metadata.count"))).isStreamable());
+        Assert.assertFalse(JsonExtractionPlan.compile(List.of(new ResponseFieldConfig("name", "$.users[?(@.age > 20)].name"))).isStreamable());
+        Assert.assertFalse(JsonExtractionPlan.compile(List.of(new ResponseFieldConfig("roles", "$.users[*].roles.length()"))).isStreamable());
+        Assert.assertEquals(List.of("data", "users"),
+                JsonExtractionPlan.compile(List.of(new ResponseFieldConfig("name", "$.data.users[*].name"))).getStreamedArrayPath());
+    }
+
     public static ClassicHttpResponse createHttpResponse(String body) throws IOException {
         final BasicClassicHttpResponse response = new BasicClassicHttpResponse(200, "OK");
         try(HttpEntity entity = new StringEntity(body, StandardCharsets.UTF_8)) {
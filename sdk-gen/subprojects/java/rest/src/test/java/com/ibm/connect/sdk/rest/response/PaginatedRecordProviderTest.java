@@ -0,0 +1,141 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.rest.response;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import com.ibm.connect.sdk.api.Record;
+
+/**
+ * Tests that prefetched pages are returned in page order and that dependent pages are never fetched concurrently.
+ */
+public class PaginatedRecordProviderTest {
+    private static final int PAGE_SIZE = 3;
+    private static final int PAGE_COUNT = 5;
+
+    @Test
+    public void testWithoutPrefetchReturnsAllRecords() {
+        final List<Integer> fetchedPages = Collections.synchronizedList(new ArrayList<>());
+        assertEquals(expectedRows(), readAll(new PaginatedRecordProvider(pages(fetchedPages, null))));
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), fetchedPages);
+    }
+
+    @Test
+    public void testIndependentPagesPrefetchedInParallel() throws InterruptedException {
+        final List<Integer> fetchedPages = Collections.synchronizedList(new ArrayList<>());
+        // Pages 2 and 3 are only returned once both are being fetched
+        final CountDownLatch bothFetching = new CountDownLatch(2);
+        final Function<Integer, List<Map<String, Object>>> fetcher = pages(fetchedPages, page -> {
+            if (page == 2 || page == 3) {
+                bothFetching.countDown();
+                try {
+                    assertTrue("Pages 2 and 3 were not fetched in parallel", bothFetching.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        try (PaginatedRecordProvider provider = new PaginatedRecordProvider(fetcher, 2, true)) {
+            assertEquals(expectedRows(), readAll(provider));
+        }
+        assertTrue(bothFetching.await(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testDependentPagesFetchedOneAtATime() {
+        final List<Integer> fetchedPages = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger fetching = new AtomicInteger();
+        final List<Integer> overlaps = Collections.synchronizedList(new ArrayList<>());
+        final Function<Integer, List<Map<String, Object>>> fetcher = pages(fetchedPages, page -> {
+            if (fetching.incrementAndGet() > 1) {
+                overlaps.add(page);
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            fetching.decrementAndGet();
+        });
+
+        try (PaginatedRecordProvider provider = new PaginatedRecordProvider(fetcher, 4, false)) {
+            assertEquals(expectedRows(), readAll(provider));
+        }
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), fetchedPages);
+        assertTrue("Pages fetched concurrently: " + overlaps, overlaps.isEmpty());
+    }
+
+    @Test
+    public void testPrefetchErrorThrownWhenPageIsRead() {
+        final Function<Integer, List<Map<String, Object>>> fetcher = page -> {
+            if (page == 3) {
+                throw new IllegalStateException("page 3");
+            }
+            return pageRows(page);
+        };
+
+        try (PaginatedRecordProvider provider = new PaginatedRecordProvider(fetcher, 2, true)) {
+            for (int i = 0; i < 2 * PAGE_SIZE; i++) {
+                assertNotNull(provider.getRecord());
+            }
+            provider.getRecord();
+            throw new AssertionError("Expected the error fetching page 3");
+        } catch (IllegalStateException e) {
+            assertEquals("page 3", e.getMessage());
+        }
+    }
+
+    private static Function<Integer, List<Map<String, Object>>> pages(List<Integer> fetchedPages, Consumer<Integer> onFetch) {
+        return page -> {
+            fetchedPages.add(page);
+            if (onFetch != null) {
+                onFetch.accept(page);
+            }
+            return page <= PAGE_COUNT ? pageRows(page) : Collections.emptyList();
+        };
+    }
+
+    private static List<Map<String, Object>> pageRows(int page) {
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            rows.add(Map.of("id", (page - 1) * PAGE_SIZE + i));
+        }
+        return rows;
+    }
+
+    private static List<Object> expectedRows() {
+        final List<Object> rows = new ArrayList<>();
+        for (int i = 0; i < PAGE_COUNT * PAGE_SIZE; i++) {
+            rows.add(i);
+        }
+        return rows;
+    }
+
+    private static List<Object> readAll(PaginatedRecordProvider provider) {
+        final List<Object> values = new ArrayList<>();
+        for (Record recordObj = provider.getRecord(); recordObj != null; recordObj = provider.getRecord()) {
+            values.add(recordObj.getValues().get(0));
+        }
+        assertNull(provider.getRecord());
+        return values;
+    }
+}
@@ -0,0 +1,152 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.rest.response.util;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ibm.connect.sdk.rest.utils.ObjectMapperUtils;
+import com.ibm.connect.sdk.rest.utils.models.EntityType;
+import com.ibm.connect.sdk.rest.utils.models.ResponseFieldConfig;
+import com.jayway.jsonpath.InvalidPathException;
+
+public class JsonExtractionPlanTest {
+
+    private static final String RESPONSE = "{\"users\":[{\"id\":1,\"address\":{\"city\":\"Paris\"},\"projects\":[{\"id\":\"P1\"},{\"id\":\"P2\"}]},"
+            + "{\"id\":2,\"address\":{\"city\":\"Rome\"},\"projects\":[]}],\"metadata\":{\"count\":2}}";
+
+    private static JsonExtractionPlan compile(String... namesAndPaths) {
+        final List<ResponseFieldConfig> fieldConfigs = new ArrayList<>();
+        for (int i = 0; i < namesAndPaths.length; i += 2) {
+            fieldConfigs.add(new ResponseFieldConfig(namesAndPaths[i], namesAndPaths[i + 1]));
+        }
+        return JsonExtractionPlan.compile(fieldConfigs);
+    }
+
+    private static EntityType createEntityType(String name, String jsonPath) {
+        final EntityType entityType = new EntityType();
+        entityType.setName("users");
+        entityType.setResponseFieldConfigs(List.of(new ResponseFieldConfig(name, jsonPath)));
+        return entityType;
+    }
+
+    @Test
+    public void testFieldsGroupedByArray() {
+        final JsonExtractionPlan plan = compile("id", "$.users[*].id", "count", "$.metadata.count",
+                "city", "$.users[*].address.city", "total", "$.orders[*].total");
+
+        Assert.assertFalse(plan.isEmpty());
+        Assert.assertEquals(List.of("id", "count", "city", "total"),
+                plan.getFields().stream().map(JsonExtractionPlan.Field::getName).collect(Collectors.toList()));
+        Assert.assertEquals(List.of("$.users[*]", "", "$.orders[*]"),
+                plan.getGroups().stream().map(JsonExtractionPlan.Group::getParentPath).collect(Collectors.toList()));
+        Assert.assertEquals(List.of("id", "city"),
+                plan.getGroups().get(0).getFields().stream().map(JsonExtractionPlan.Field::getName).collect(Collectors.toList()));
+        Assert.assertTrue(plan.getGroups().get(0).hasParent());
+        Assert.assertFalse(plan.getGroups().get(1).hasParent());
+        Assert.assertTrue(compile().isEmpty());
+        Assert.assertTrue(JsonExtractionPlan.compile(null).isEmpty());
+    }
+
+    @Test
+    public void testCompiledPathsRead() throws JsonProcessingException {
+        final JsonNode response = ObjectMapperUtils.parse(RESPONSE);
+        final JsonExtractionPlan plan = compile("id", "$.users[*].id", "project_id", "$.users[*].projects[*].id",
+                "count", "$.metadata.count");
+        final JsonExtractionPlan.Field id = plan.getFields().get(0);
+        final JsonExtractionPlan.Field projectId = plan.getFields().get(1);
+        final JsonNode users = plan.getGroups().get(0).readParent(response);
+
+        Assert.assertEquals("[1,2]", id.read(response).toString());
+        Assert.assertEquals("[\"P1\",\"P2\"]", projectId.read(response).toString());
+        Assert.assertEquals("2", plan.getFields().get(2).read(response).toString());
+        Assert.assertEquals(2, users.size());
+
+        // Paths relative to an element of the array of the group
+        Assert.assertTrue(id.isDefiniteInElement());
+        Assert.assertEquals("1", id.readFromElement(users.get(0)).toString());
+        Assert.assertFalse(projectId.isDefiniteInElement());
+        Assert.assertEquals("[\"P1\",\"P2\"]", projectId.readFromElement(users.get(0)).toString());
+    }
+
+    @Test
+    public void testInvalidPathFailsWhenRead() throws JsonProcessingException {
+        final JsonExtractionPlan plan = compile("id", "$.users[*].id..");
+        Assert.assertFalse(plan.isStreamable());
+        try {
+            plan.getFields().get(0).read(ObjectMapperUtils.parse(RESPONSE));
+            Assert.fail("Exception expected");
+        } catch (InvalidPathException e) {
+            // The error compiling the path is thrown when it is read
+        }
+    }
+
+    @Test
+    public void testEntityTypePlanCached() {
+        final EntityType entityType = createEntityType("id", "$.users[*].id");
+        final JsonExtractionPlan plan = JsonExtractionPlan.forEntityType(entityType);
+        Assert.assertSame(plan, JsonExtractionPlan.forEntityType(entityType));
+
+        // Plans are cached per entity type instance
+        Assert.assertNotSame(plan, JsonExtractionPlan.forEntityType(createEntityType("id", "$.users[*].id")));
+
+        // A plan is compiled again once the field configs of its entity type change
+        entityType.setResponseFieldConfigs(List.of(new ResponseFieldConfig("city", "$.users[*].address.city")));
+        final JsonExtractionPlan changedPlan = JsonExtractionPlan.forEntityType(entityType);
+        Assert.assertNotSame(plan, changedPlan);
+        Assert.assertEquals("city", changedPlan.getFields().get(0).getName());
+        Assert.assertSame(changedPlan, JsonExtractionPlan.forEntityType(entityType));
+    }
+
+    @Test
+    public void testEntityTypeNotKeptByCache() throws InterruptedException {
+        EntityType entityType = createEntityType("id", "$.users[*].id");
+        JsonExtractionPlan.forEntityType(entityType);
+        final WeakReference<EntityType> reference = new WeakReference<>(entityType);
+        entityType = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(reference.get());
+    }
+
+    @Test
+    public void testStreamable() {
+        final JsonExtractionPlan plan = compile("id", "$.users[*].id", "city", "$.users[*].address.city",
+                "project_id", "$.users[*].projects[*].id");
+        Assert.assertTrue(plan.isStreamable());
+        Assert.assertEquals(List.of("users"), plan.getStreamedArrayPath());
+        Assert.assertEquals(List.of("data", "items"), compile("name", "$.data.items[*].name").getStreamedArrayPath());
+        Assert.assertEquals(List.of(), compile("name", "$[*].name").getStreamedArrayPath());
+        Assert.assertTrue(compile("item", "$.data.items[*]").isStreamable());
+    }
+
+    @Test
+    public void testNotStreamable() {
+        // No array
+        Assert.assertFalse(compile("count", "$.metadata.count").isStreamable());
+        Assert.assertFalse(compile().isStreamable());
+        Assert.assertNull(compile("count", "$.metadata.count").getStreamedArrayPath());
+        // Fields of several arrays, or of an array and the root
+        Assert.assertFalse(compile("id", "$.users[*].id", "total", "$.orders[*].total").isStreamable());
+        Assert.assertFalse(compile("id", "$.users[*].id", "count", "$.metadata.count").isStreamable());
+        // Arrays not reached by plain property names
+        Assert.assertFalse(compile("id", "$.users[?(@.age > 20)][*].id").isStreamable());
+        Assert.assertFalse(compile("id", "$['users'][*].id").isStreamable());
+        Assert.assertFalse(compile("id", "$..users[*].id").isStreamable());
+        // Functions and references to the root evaluate differently against an element
+        Assert.assertFalse(compile("roles", "$.users[*].roles.length()").isStreamable());
+        Assert.assertFalse(compile("id", "$.users[*].projects[?(@.id == $.metadata.count)].id").isStreamable());
+    }
+}
@@ -0,0 +1,220 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.util;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the requests sent to a host, shared by everything sending requests to it with the same configuration, such as
+ * the connections with the same credentials.
+ * <p>
+ * A token bucket limits the request rate if one was configured. The number of concurrent requests adapts to the host:
+ * it grows by one request for each window of successful requests, and halves when the host throttles a request
+ * (additive increase, multiplicative decrease). When the host tells how long to wait, no request is sent to it until then.
+ */
+public final class HostRateLimiter
+{
+    /**
+     * Maximum number of concurrent requests to a host, unless configured otherwise.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 32;
+
+    /**
+     * Maximum number of limiters kept. The least recently used limiter is dropped beyond it; requests holding it still
+     * release their permits to it.
+     */
+    static final int MAX_LIMITERS = 1024;
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final Map<String, HostRateLimiter> LIMITERS = new LinkedHashMap<String, HostRateLimiter>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, HostRateLimiter> eldest)
+        {
+            return size() > MAX_LIMITERS;
+        }
+    };
+
+    private final int maxConcurrency;
+    private double concurrencyLimit;
+    private int inFlight;
+    private long lastDecreaseNanos;
+    private double requestsPerSecond = Double.POSITIVE_INFINITY;
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    HostRateLimiter(int maxConcurrency, double maxRequestsPerSecond)
+    {
+        this.maxConcurrency = maxConcurrency;
+        this.concurrencyLimit = maxConcurrency;
+        this.lastRefillNanos = System.nanoTime();
+        this.lastDecreaseNanos = lastRefillNanos;
+        this.pausedUntilNanos = lastRefillNanos;
+        if (maxRequestsPerSecond > 0) {
+            requestsPerSecond = maxRequestsPerSecond;
+            // Start with a full bucket, holding the requests of one second
+            tokens = getBurst();
+        }
+    }
+
+    /**
+     * Returns the limiter of a host without a configured limit.
+     *
+     * @param host
+     *            host name and port, as in the authority of a URL
+     * @return the limiter shared by all requests to the host without a configured limit
+     */
+    public static HostRateLimiter forHost(String host)
+    {
+        return forHost(host, null, DEFAULT_MAX_CONCURRENCY, 0);
+    }
+
+    /**
+     * Returns the limiter of a host for a configuration.
+     *
+     * @param host
+     *            host name and port, as in the authority of a URL
+     * @param key
+     *            identifies the requesters which share their limits, such as a hash of the connection properties; or
+     *            null to share them with all requesters of the same limits
+     * @param maxConcurrency
+     *            maximum number of concurrent requests
+     * @param maxRequestsPerSecond
+     *            maximum number of requests per second, or no limit if not positive
+     * @return the limiter shared by all requests to the host with the same key and limits
+     */
+    public static HostRateLimiter forHost(String host, String key, int maxConcurrency, double maxRequestsPerSecond)
+    {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        final String limiterKey = String.valueOf(host).toLowerCase(Locale.ENGLISH) + ' ' + maxConcurrency + ' '
+                + Math.max(maxRequestsPerSecond, 0) + (key != null ? ' ' + key : "");
+        synchronized (LIMITERS) {
+            return LIMITERS.computeIfAbsent(limiterKey, k -> new HostRateLimiter(maxConcurrency, maxRequestsPerSecond));
+        }
+    }
+
+    /**
+     * Waits until a request can be sent to the host.
+     *
+     * @return the permit to release once the request completed
+     * @throws InterruptedException
+     *             if interrupted while waiting
+     */
+    public synchronized Permit acquire() throws InterruptedException
+    {
+        while (true) {
+            final long now = System.nanoTime();
+            final long pausedNanos = pausedUntilNanos - now;
+            if (pausedNanos > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, pausedNanos);
+                continue;
+            }
+            if (inFlight >= (int) concurrencyLimit) {
+                wait();
+                continue;
+            }
+            if (isRateLimited()) {
+                refill(now);
+                if (tokens < 1) {
+                    TimeUnit.NANOSECONDS.timedWait(this, (long) Math.ceil((1 - tokens) * NANOS_PER_SECOND / requestsPerSecond));
+                    continue;
+                }
+                tokens--;
+            }
+            inFlight++;
+            return new Permit(now);
+        }
+    }
+
+    /**
+     * Stops sending requests to the host for a while, such as when it answered with a {@code Retry-After} header.
+     *
+     * @param millis
+     *            how long to wait before sending the next request
+     */
+    public synchronized void pauseFor(long millis)
+    {
+        final long pausedUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(millis, 0));
+        if (pausedUntil - pausedUntilNanos > 0) {
+            pausedUntilNanos = pausedUntil;
+        }
+    }
+
+    /**
+     * @return the current maximum number of concurrent requests
+     */
+    public synchronized int getConcurrencyLimit()
+    {
+        return (int) concurrencyLimit;
+    }
+
+    private synchronized void release(long acquiredNanos, boolean throttled)
+    {
+        inFlight--;
+        if (!throttled) {
+            concurrencyLimit = Math.min(maxConcurrency, concurrencyLimit + 1 / concurrencyLimit);
+        } else if (acquiredNanos - lastDecreaseNanos >= 0) {
+            // Requests sent before the last decrease were throttled at the previous limit, only decrease once for them
+            concurrencyLimit = Math.max(1, concurrencyLimit / 2);
+            lastDecreaseNanos = System.nanoTime();
+        }
+        notifyAll();
+    }
+
+    private boolean isRateLimited()
+    {
+        return requestsPerSecond != Double.POSITIVE_INFINITY;
+    }
+
+    private double getBurst()
+    {
+        return Math.max(1, requestsPerSecond);
+    }
+
+    private void refill(long now)
+    {
+        tokens = Math.min(getBurst(), tokens + (now - lastRefillNanos) * requestsPerSecond / NANOS_PER_SECOND);
+        lastRefillNanos = now;
+    }
+
+    /**
+     * Allows one request to be sent to the host.
+     */
+    public final class Permit
+    {
+        private final long acquiredNanos;
+        private boolean released;
+
+        private Permit(long acquiredNanos)
+        {
+            this.acquiredNanos = acquiredNanos;
+        }
+
+        /**
+         * Releases the permit once its request completed. Releasing it again has no effect.
+         *
+         * @param throttled
+         *            whether the host throttled the request, such as with status 429 or 503
+         */
+        public void release(boolean throttled)
+        {
+            synchronized (HostRateLimiter.this) {
+                if (!released) {
+                    released = true;
+                    HostRateLimiter.this.release(acquiredNanos, throttled);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delays between the retries of a request which the server throttled or could not serve for a while.
+ * <p>
+ * The delay grows exponentially with each retry, with random jitter so that clients throttled together do not
+ * retry together. A delay given by the server with a {@code Retry-After} header is used instead.
+ */
+public final class RetryBackoff
+{
+    /**
+     * Retries of a request with default settings: 5 retries, starting from half a second up to 30 seconds.
+     */
+    public static final RetryBackoff DEFAULT = new RetryBackoff(5, 500, TimeUnit.SECONDS.toMillis(30));
+
+    // Longest delay waited for when the server asks for more with Retry-After
+    private static final long MAX_RETRY_AFTER_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final int maxRetries;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    /**
+     * @param maxRetries
+     *            maximum number of retries of a request
+     * @param baseDelayMillis
+     *            delay before the first retry, doubled for each retry
+     * @param maxDelayMillis
+     *            maximum delay between retries
+     */
+    public RetryBackoff(int maxRetries, long baseDelayMillis, long maxDelayMillis)
+    {
+        this.maxRetries = maxRetries;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public int getMaxRetries()
+    {
+        return maxRetries;
+    }
+
+    /**
+     * Whether a response status means that the request can succeed when sent again later:
+     * 429 Too Many Requests, 502 Bad Gateway, 503 Service Unavailable or 504 Gateway Timeout.
+     *
+     * @param status
+     *            HTTP response status
+     * @return true if the request can be retried
+     */
+    public static boolean isRetryableStatus(int status)
+    {
+        return status == 429 || status == 502 || status == 503 || status == 504;
+    }
+
+    /**
+     * Returns the delay before a retry.
+     *
+     * @param retry
+     *            number of the retry, starting with 0
+     * @param retryAfterMillis
+     *            delay asked for by the server, or null
+     * @return the delay in milliseconds
+     */
+    public long delayMillis(int retry, Long retryAfterMillis)
+    {
+        if (retryAfterMillis != null) {
+            return Math.min(Math.max(retryAfterMillis, 0), MAX_RETRY_AFTER_MILLIS);
+        }
+        final long exponentialDelay = Math.min(maxDelayMillis, baseDelayMillis << Math.min(retry, 30));
+        // Equal jitter: at least half of the delay, so that retries still back off
+        final long halfDelay = exponentialDelay / 2;
+        return halfDelay + ThreadLocalRandom.current().nextLong(exponentialDelay - halfDelay + 1);
+    }
+
+    /**
+     * Parses the value of a {@code Retry-After} header, either a number of seconds or an HTTP date.
+     *
+     * @param value
+     *            header value
+     * @return the delay in milliseconds, or null if the value is not valid
+     */
+    public static Long parseRetryAfter(String value)
+    {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        final String trimmedValue = value.trim();
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(trimmedValue));
+        }
+        catch (NumberFormatException e) {
+            // Not a number of seconds, try a date
+        }
+        try {
+            final Instant retryAt = ZonedDateTime.parse(trimmedValue, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return Math.max(0, Duration.between(Instant.now(), retryAt).toMillis());
+        }
+        catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Test the per-host rate limiter.
+ */
+public class TestHostRateLimiter
+{
+
+    /**
+     * Test that a throttled request halves the concurrency limit, once for the requests in flight.
+     */
+    @Test
+    public void testThrottledHalvesConcurrency() throws InterruptedException
+    {
+        final HostRateLimiter limiter = new HostRateLimiter(16, 0);
+        final HostRateLimiter.Permit first = limiter.acquire();
+        final HostRateLimiter.Permit second = limiter.acquire();
+        first.release(true);
+        assertEquals(8, limiter.getConcurrencyLimit());
+        // Sent before the decrease, so it does not decrease the limit again
+        second.release(true);
+        assertEquals(8, limiter.getConcurrencyLimit());
+        limiter.acquire().release(true);
+        assertEquals(4, limiter.getConcurrencyLimit());
+    }
+
+    /**
+     * Test that successful requests increase the concurrency limit by one per window.
+     */
+    @Test
+    public void testSuccessIncreasesConcurrency() throws InterruptedException
+    {
+        final HostRateLimiter limiter = new HostRateLimiter(16, 0);
+        limiter.acquire().release(true);
+        assertEquals(8, limiter.getConcurrencyLimit());
+        for (int i = 0; i < 9; i++) {
+            limiter.acquire().release(false);
+        }
+        assertEquals(9, limiter.getConcurrencyLimit());
+        // Releasing again has no effect
+        final HostRateLimiter.Permit permit = limiter.acquire();
+        permit.release(true);
+        permit.release(true);
+        assertEquals(4, limiter.getConcurrencyLimit());
+    }
+
+    /**
+     * Test that requests are spread out to the configured rate once the bucket is empty.
+     */
+    @Test
+    public void testLimitRate() throws InterruptedException
+    {
+        final HostRateLimiter limiter = new HostRateLimiter(16, 20);
+        final long start = System.nanoTime();
+        // 20 requests from the bucket, then 10 more at 20 per second
+        for (int i = 0; i < 30; i++) {
+            limiter.acquire().release(false);
+        }
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue("Elapsed " + elapsedMillis, elapsedMillis >= 400);
+    }
+
+    /**
+     * Test that no request is sent while the host asked to wait.
+     */
+    @Test
+    public void testPause() throws InterruptedException
+    {
+        final HostRateLimiter limiter = new HostRateLimiter(16, 0);
+        limiter.pauseFor(200);
+        final long start = System.nanoTime();
+        limiter.acquire().release(false);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 190);
+    }
+
+    /**
+     * Test that hosts are matched regardless of case.
+     */
+    @Test
+    public void testForHost()
+    {
+        assertSame(HostRateLimiter.forHost("API.example.com:443"), HostRateLimiter.forHost("api.example.com:443"));
+        assertSame(HostRateLimiter.forHost("api.example.com:443"),
+                HostRateLimiter.forHost("api.example.com:443", null, HostRateLimiter.DEFAULT_MAX_CONCURRENCY, 0));
+    }
+
+    /**
+     * Test that requesters share a limiter only with the same key and limits, so that each connection can raise its
+     * own limits.
+     */
+    @Test
+    public void testForHostConfiguration()
+    {
+        final HostRateLimiter limiter = HostRateLimiter.forHost("config.example.com", "alice", 10, 5);
+        assertSame(limiter, HostRateLimiter.forHost("CONFIG.example.com", "alice", 10, 5));
+        assertNotSame(limiter, HostRateLimiter.forHost("config.example.com", "bob", 10, 5));
+        assertNotSame(limiter, HostRateLimiter.forHost("config.example.com", "alice", 10, 50));
+        assertNotSame(limiter, HostRateLimiter.forHost("config.example.com", "alice", 20, 5));
+        assertEquals(10, limiter.getConcurrencyLimit());
+        assertEquals(20, HostRateLimiter.forHost("config.example.com", "alice", 20, 5).getConcurrencyLimit());
+    }
+
+    /**
+     * Test that the least recently used limiters are dropped beyond the maximum number.
+     */
+    @Test
+    public void testLimitersBounded()
+    {
+        final HostRateLimiter first = HostRateLimiter.forHost("first.example.com", "bounded", 1, 0);
+        final HostRateLimiter used = HostRateLimiter.forHost("used.example.com", "bounded", 1, 0);
+        for (int i = 0; i < HostRateLimiter.MAX_LIMITERS - 1; i++) {
+            HostRateLimiter.forHost("host" + i + ".example.com", "bounded", 1, 0);
+            assertSame(used, HostRateLimiter.forHost("used.example.com", "bounded", 1, 0));
+        }
+        assertSame(used, HostRateLimiter.forHost("used.example.com", "bounded", 1, 0));
+        assertNotSame(first, HostRateLimiter.forHost("first.example.com", "bounded", 1, 0));
+    }
+
+}
@@ -0,0 +1,79 @@
+/* *************************************************** */
+/*                                                     */
+/* (C) Copyright IBM Corp. 2026                        */
+/*                                                     */
+/* *************************************************** */
+package com.ibm.connect.sdk.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.Test;
+
+/**
+ * Test the delays between retries.
+ */
+public class TestRetryBackoff
+{
+
+    /**
+     * Test that delays grow exponentially with jitter, up to the maximum.
+     */
+    @Test
+    public void testExponentialDelay()
+    {
+        final RetryBackoff backoff = new RetryBackoff(5, 100, 1000);
+        for (int i = 0; i < 100; i++) {
+            final long first = backoff.delayMillis(0, null);
+            assertTrue(first >= 50 && first <= 100);
+            final long third = backoff.delayMillis(2, null);
+            assertTrue(third >= 200 && third <= 400);
+            final long last = backoff.delayMillis(40, null);
+            assertTrue(last >= 500 && last <= 1000);
+        }
+    }
+
+    /**
+     * Test that the delay asked for by the server is used, up to a limit.
+     */
+    @Test
+    public void testRetryAfterDelay()
+    {
+        assertEquals(3000, RetryBackoff.DEFAULT.delayMillis(0, 3000L));
+        assertEquals(300000, RetryBackoff.DEFAULT.delayMillis(0, 3600000L));
+    }
+
+    /**
+     * Test parsing Retry-After headers.
+     */
+    @Test
+    public void testParseRetryAfter()
+    {
+        assertEquals(Long.valueOf(120000), RetryBackoff.parseRetryAfter(" 120 "));
+        final String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(60));
+        final long millis = RetryBackoff.parseRetryAfter(date);
+        assertTrue(millis > 50000 && millis <= 60000);
+        assertEquals(Long.valueOf(0), RetryBackoff.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+        assertNull(RetryBackoff.parseRetryAfter("soon"));
+        assertNull(RetryBackoff.parseRetryAfter(null));
+    }
+
+    /**
+     * Test the statuses which can be retried.
+     */
+    @Test
+    public void testRetryableStatus()
+    {
+        assertTrue(RetryBackoff.isRetryableStatus(429));
+        assertTrue(RetryBackoff.isRetryableStatus(503));
+        assertFalse(RetryBackoff.isRetryableStatus(500));
+        assertFalse(RetryBackoff.isRetryableStatus(404));
+    }
+
+}